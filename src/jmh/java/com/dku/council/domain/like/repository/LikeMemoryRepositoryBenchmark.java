@@ -0,0 +1,104 @@
+package com.dku.council.domain.like.repository;
+
+import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.LikeToggleResult;
+import com.dku.council.domain.like.repository.impl.LikeLocalRepository;
+import com.dku.council.domain.like.repository.impl.LikeRedisRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Redis 구현체와 메모리 구현체의 '좋아요' 처리량을 비교한다.
+ * Redis는 Testcontainers로 띄우므로 docker가 필요하다.
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LikeMemoryRepositoryBenchmark {
+
+    private static final int ELEMENTS = 1_000;
+    private static final int USERS = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Duration COUNT_CACHE_TIME = Duration.ofHours(1);
+
+    @Param({"local", "redis"})
+    private String implementation;
+
+    private GenericContainer<?> redis;
+    private LettuceConnectionFactory connectionFactory;
+    private LikeMemoryRepository repository;
+
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (implementation.equals("redis")) {
+            redis = new GenericContainer<>("redis:6-alpine").withExposedPorts(6379);
+            redis.start();
+
+            connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+            repository = new LikeRedisRepository(new StringRedisTemplate(connectionFactory));
+        } else {
+            repository = new LikeLocalRepository(Clock.systemDefaultZone(), Duration.ofHours(1));
+        }
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (long elementId = 0; elementId < ELEMENTS; elementId++) {
+            counts.put(elementId, 0);
+        }
+        repository.setLikeCounts(counts, LikeTarget.POST, COUNT_CACHE_TIME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @Benchmark
+    public LikeToggleResult toggle() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long elementId = random.nextLong(ELEMENTS);
+        long userId = random.nextLong(USERS);
+        LikeState state = random.nextBoolean() ? LikeState.LIKED : LikeState.CANCELLED;
+        return repository.toggleLike(elementId, userId, LikeTarget.POST, state, false);
+    }
+
+    @Benchmark
+    public Map<Long, Integer> listPageCounts() {
+        return repository.getCachedLikeCounts(randomPage(), LikeTarget.POST);
+    }
+
+    @Benchmark
+    public Map<Long, Boolean> listPageLiked() {
+        long userId = ThreadLocalRandom.current().nextLong(USERS);
+        return repository.getCachedIsLiked(randomPage(), userId, LikeTarget.POST);
+    }
+
+    private static List<Long> randomPage() {
+        long start = ThreadLocalRandom.current().nextLong(ELEMENTS - PAGE_SIZE);
+        return LongStream.range(start, start + PAGE_SIZE)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+}
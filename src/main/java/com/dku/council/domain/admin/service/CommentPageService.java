@@ -4,6 +4,7 @@ import com.dku.council.domain.comment.exception.CommentNotFoundException;
 import com.dku.council.domain.comment.model.CommentStatus;
 import com.dku.council.domain.comment.model.entity.Comment;
 import com.dku.council.domain.comment.repository.CommentRepository;
+import com.dku.council.domain.comment.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CommentPageService {
     private final CommentRepository commentRepository;
+    private final CommentService commentService;
 
     public Comment findOne(Long id){
         return commentRepository.findById(id).orElseThrow(CommentNotFoundException::new);
@@ -20,11 +22,11 @@ public class CommentPageService {
 
     public void active(Long id){
         Comment comment = findOne(id);
-        comment.updateStatus(CommentStatus.ACTIVE);
+        commentService.updateStatus(comment, CommentStatus.ACTIVE);
     }
 
     public void delete(Long id){
         Comment comment = findOne(id);
-        comment.updateStatus(CommentStatus.DELETED_BY_ADMIN);
+        commentService.updateStatus(comment, CommentStatus.DELETED_BY_ADMIN);
     }
 }
@@ -2,10 +2,17 @@ package com.dku.council.domain.admin.service;
 
 import com.dku.council.domain.admin.dto.PostPageDto;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.PostStatus;
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
+import com.dku.council.domain.post.model.entity.posttype.Voc;
 import com.dku.council.domain.post.repository.post.*;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -21,22 +28,30 @@ public class PostPageService {
     private final VocRepository vocRepository;
     private final PetitionRepository petitionRepository;
     private final GeneralForumRepository generalForumRepository;
+    private final PostSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<PostPageDto> list(String keyword, String type, String status, Pageable pageable) {
         if (type != null) {
             if (type.equalsIgnoreCase("Voc")) {
-                return listPost(vocRepository, keyword, status, pageable);
+                return listPost(vocRepository, Voc.class, keyword, status, pageable);
             } else if (type.equalsIgnoreCase("Petition")) {
-                return listPost(petitionRepository, keyword, status, pageable);
+                return listPost(petitionRepository, Petition.class, keyword, status, pageable);
             } else if (type.equalsIgnoreCase("GeneralForum")) {
-                return listPost(generalForumRepository, keyword, status, pageable);
+                return listPost(generalForumRepository, GeneralForum.class, keyword, status, pageable);
             }
         }
-        return listPost(genericPostRepository, keyword, status, pageable);
+        return listPost(genericPostRepository, null, keyword, status, pageable);
     }
 
-    private <T extends Post> Page<PostPageDto> listPost(GenericPostRepository<T> repository, String keyword, String status, Pageable pageable) {
-        Specification<T> spec = PostSpec.withTitleOrBody(keyword);
+    private <T extends Post> Page<PostPageDto> listPost(GenericPostRepository<T> repository, Class<T> type,
+                                                        String keyword, String status, Pageable pageable) {
+        PostStatus postStatus = null;
+        if (status != null && !status.equals("null")) {
+            postStatus = PostStatus.valueOf(status);
+        }
+
+        Specification<T> spec = searchService.withKeyword(keyword, type, postStatus);
         spec = spec.and(PostSpec.withStatus(status));
         return repository.findAll(spec, pageable).map(PostPageDto::new);
     }
@@ -48,16 +63,22 @@ public class PostPageService {
     public void delete(Long id) {
         Post post = findOne(id);
         post.markAsDeleted(true);
+        searchService.updateStatus(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
     public void blind(Long id) {
         Post post = findOne(id);
         post.blind();
+        searchService.updateStatus(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
     public void active(Long id) {
         Post post = findOne(id);
         post.unblind();
+        searchService.updateStatus(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
 }
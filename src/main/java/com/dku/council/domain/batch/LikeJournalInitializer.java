@@ -0,0 +1,26 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.service.LikeDumpService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경 기록(journal) 도입 이전에 캐싱된 '좋아요'를 서버가 뜰 때 변경 기록으로 옮긴다.
+ * 옮긴 뒤에는 다음 dump 주기에 DB로 반영되고 캐시에서도 지워진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeJournalInitializer {
+
+    private final LikeDumpService service;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void journalLegacyLikes() {
+        for (LikeTarget target : LikeTarget.values()) {
+            service.journalLegacyLikes(target);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.like.repository.impl.LikeLocalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.post.like.memory-repository", havingValue = "local")
+public class LikeLocalEvictScheduler {
+
+    private final LikeLocalRepository repository;
+
+    @Scheduled(fixedDelayString = "${app.post.like.local.evict-delay:PT10M}")
+    public void evictExpired() {
+        repository.evictExpired();
+    }
+}
@@ -0,0 +1,18 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.mainpage.service.MainPageSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MainPageSnapshotScheduler {
+
+    private final MainPageSnapshotService service;
+
+    @Scheduled(fixedDelayString = "${app.main-page.snapshot-refresh-delay:PT5M}")
+    public void refresh() {
+        service.refreshAsync();
+    }
+}
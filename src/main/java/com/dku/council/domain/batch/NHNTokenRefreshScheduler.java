@@ -0,0 +1,18 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.infra.nhn.service.NHNTokenManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NHNTokenRefreshScheduler {
+
+    private final NHNTokenManager tokenManager;
+
+    @Scheduled(fixedDelayString = "${nhn.auth.token.check-delay:PT1M}")
+    public void refreshIfExpiring() {
+        tokenManager.refreshIfExpiring();
+    }
+}
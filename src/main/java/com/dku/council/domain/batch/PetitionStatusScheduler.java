@@ -1,8 +1,11 @@
 package com.dku.council.domain.batch;
 
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
 import com.dku.council.domain.post.repository.post.PetitionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +18,7 @@ import java.time.LocalDateTime;
 public class PetitionStatusScheduler {
 
     private final PetitionRepository petitionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.post.petition.expires}")
     private final Duration petitionExpires;
@@ -25,5 +29,6 @@ public class PetitionStatusScheduler {
     public void schedule() {
         LocalDateTime time = LocalDateTime.now().minus(petitionExpires);
         petitionRepository.updateExpiredPetition(time);
+        eventPublisher.publishEvent(new PostChangedEvent(Petition.class));
     }
 }
@@ -0,0 +1,18 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.service.PostAttachmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostAttachmentRetryScheduler {
+
+    private final PostAttachmentService service;
+
+    @Scheduled(fixedDelayString = "${app.post.attachment.retry-delay:PT1M}")
+    public void retryPending() {
+        service.retryPending();
+    }
+}
@@ -0,0 +1,64 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.comment.model.dto.CommentCount;
+import com.dku.council.domain.comment.repository.CommentRepository;
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.dto.LikeCount;
+import com.dku.council.domain.like.repository.LikePersistenceRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+import static com.dku.council.global.config.redis.RedisKeys.POST_COUNTERS_BACKFILLED_KEY;
+
+/**
+ * 좋아요 수/댓글 수 컬럼이 생기기 전에 작성된 게시글과 댓글의 값을 채운다.
+ * 댓글과 좋아요 테이블에서 다시 세어 덮어쓰므로 여러 번 실행해도 결과가 같다. 한 번 끝나면 Redis에 기록해두고 다시 실행하지 않는다.
+ * 댓글 수는 서비스 중에도 증감분으로 바뀌므로, 게시글마다 lock을 건 뒤에 세어 그 사이에 달린 댓글을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterInitializer {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikePersistenceRepository likeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCounters() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(POST_COUNTERS_BACKFILLED_KEY))) {
+            return;
+        }
+
+        for (CommentCount count : commentRepository.countAllActiveGroupByPost()) {
+            Long postId = count.getPostId();
+            transactionTemplate.executeWithoutResult(status -> {
+                postRepository.findByIdForUpdate(postId);
+                Long locked = commentRepository.countActiveByPostId(postId);
+                postRepository.updateCommentCount(postId, locked.intValue());
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (LikeCount count : likeRepository.countAllByTarget(LikeTarget.POST)) {
+                postRepository.updateLikeCount(count.getElementId(), count.getCount().intValue());
+            }
+            for (LikeCount count : likeRepository.countAllByTarget(LikeTarget.COMMENT)) {
+                commentRepository.updateLikeCount(count.getElementId(), count.getCount().intValue());
+            }
+        });
+
+        redisTemplate.opsForValue().set(POST_COUNTERS_BACKFILLED_KEY, Instant.now().toString());
+        log.info("Post and comment counters are backfilled");
+    }
+}
@@ -0,0 +1,25 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.service.PostDedupStoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostDedupStoreScheduler {
+
+    private final PostDedupStoreService service;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyStores() {
+        service.migrateLegacyStores();
+    }
+
+    @Scheduled(fixedDelayString = "${app.post.dedup.measure-delay:PT5M}")
+    public void measure() {
+        service.measure();
+    }
+}
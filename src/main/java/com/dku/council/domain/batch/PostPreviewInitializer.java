@@ -0,0 +1,30 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 미리보기 컬럼이 생기기 전에 작성된 게시글의 미리보기를 채운다. 이미 채워진 게시글은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPreviewInitializer {
+
+    private final PostRepository postRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void fillEmptyPreviews() {
+        int updated = postRepository.fillEmptyPreviews(Post.PREVIEW_LENGTH);
+        if (updated > 0) {
+            log.info("Filled previews of {} posts", updated);
+        }
+    }
+}
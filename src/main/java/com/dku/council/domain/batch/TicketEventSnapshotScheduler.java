@@ -0,0 +1,18 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.ticket.service.TicketEventSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TicketEventSnapshotScheduler {
+
+    private final TicketEventSnapshotService service;
+
+    @Scheduled(fixedDelayString = "${app.ticket.event-snapshot.check-interval:PT10S}")
+    public void checkVersion() {
+        service.refreshIfChanged();
+    }
+}
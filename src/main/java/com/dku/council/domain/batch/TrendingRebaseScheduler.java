@@ -0,0 +1,18 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingRebaseScheduler {
+
+    private final TrendingService service;
+
+    @Scheduled(fixedDelayString = "${app.post.trending.rebase-delay:PT1H}")
+    public void rebase() {
+        service.rebase();
+    }
+}
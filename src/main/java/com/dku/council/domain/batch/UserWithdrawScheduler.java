@@ -3,13 +3,16 @@ package com.dku.council.domain.batch;
 import com.dku.council.domain.comment.model.CommentStatus;
 import com.dku.council.domain.comment.model.entity.Comment;
 import com.dku.council.domain.comment.repository.CommentRepository;
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.error.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -27,6 +32,8 @@ public class UserWithdrawScheduler {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final PostSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.user.default-user-id}")
     private final Long defaultUserId;
@@ -41,6 +48,7 @@ public class UserWithdrawScheduler {
         List<User> inactiveUsers = userRepository.findAllWithDeleted(inactiveDate, defaultUserId);
 
         User defaultUser = userRepository.findByIdWithNotActive(defaultUserId).orElseThrow(UserNotFoundException::new);
+        Set<Long> commentedPostIds = new HashSet<>();
 
         for (User user : inactiveUsers) {
             user.emptyOutUserInfo();
@@ -49,13 +57,23 @@ public class UserWithdrawScheduler {
             for (Post post : posts) {
                 post.changeUser(defaultUser);
                 post.markAsDeleted(false);
+                searchService.updateStatus(post);
+                eventPublisher.publishEvent(PostChangedEvent.of(post));
             }
 
             List<Comment> comments = commentRepository.findAllByUserId(user.getId());
             for (Comment comment : comments) {
                 comment.changeUser(defaultUser);
                 comment.updateStatus(CommentStatus.DELETED);
+                commentedPostIds.add(comment.getPost().getId());
             }
         }
+
+        // 동시에 달리는 댓글과 엇갈리지 않도록 게시글에 lock을 건 뒤에 다시 센다.
+        for (Long postId : commentedPostIds) {
+            postRepository.findByIdForUpdate(postId);
+            Long count = commentRepository.countActiveByPostId(postId);
+            postRepository.updateCommentCount(postId, count.intValue());
+        }
     }
 }
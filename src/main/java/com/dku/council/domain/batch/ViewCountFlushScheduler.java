@@ -0,0 +1,18 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.post.service.ViewCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountService service;
+
+    @Scheduled(fixedDelayString = "${app.post.view-flush-delay:PT1M}")
+    public void flushToDB() {
+        service.flushToDB();
+    }
+}
@@ -2,29 +2,28 @@ package com.dku.council.domain.bus.repository.impl;
 
 import com.dku.council.domain.bus.model.CachedBusArrivals;
 import com.dku.council.domain.bus.repository.BusArrivalRepository;
-import com.dku.council.global.base.AbstractKeyValueCacheRepository;
+import com.dku.council.global.base.AbstractCacheRepository;
+import com.dku.council.global.cache.CacheSupport;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.dku.council.global.model.CacheObject;
 import com.dku.council.infra.bus.model.BusArrival;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public class BusArrivalRedisRepository extends AbstractKeyValueCacheRepository implements BusArrivalRepository {
+public class BusArrivalRedisRepository extends AbstractCacheRepository implements BusArrivalRepository {
 
-    protected BusArrivalRedisRepository(StringRedisTemplate redisTemplate,
-                                        ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, RedisKeys.BUS_ARRIVAL_KEY);
+    protected BusArrivalRedisRepository(CacheSupport support,
+                                        @Value("${bus.local-cache-time:PT5S}") Duration localCacheTime) {
+        super(support, RedisKeys.BUS_ARRIVAL_KEY, localCacheTime, 100);
     }
 
     public Optional<CachedBusArrivals> getArrivals(String stationId, Instant now) {
-        Optional<CacheObject<CachedBusArrivals>> cacheObject = getCacheObject(stationId, CachedBusArrivals.class, now);
-        return cacheObject.map(CacheObject::getValue);
+        return get(stationId, CachedBusArrivals.class, now);
     }
 
     public CachedBusArrivals cacheArrivals(String stationId, List<BusArrival> arrivals, Instant now) {
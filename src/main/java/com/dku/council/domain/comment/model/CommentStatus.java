@@ -22,4 +22,11 @@ public enum CommentStatus {
     DELETED_BY_ADMIN;
 
     public static final String ACTIVE_NAME = "ACTIVE";
+
+    /**
+     * 게시글의 댓글 수에 포함되는 상태인지 확인합니다.
+     */
+    public boolean isActive() {
+        return this == ACTIVE || this == EDITED;
+    }
 }
@@ -0,0 +1,11 @@
+package com.dku.council.domain.comment.model.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CommentCount {
+    private final Long postId;
+    private final Long count;
+}
@@ -7,6 +7,7 @@ import com.dku.council.global.base.BaseEntity;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 
@@ -16,6 +17,7 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = PROTECTED)
 public class Comment extends BaseEntity {
 
@@ -38,6 +40,11 @@ public class Comment extends BaseEntity {
     @Lob
     private String text;
 
+    /**
+     * 좋아요 수. '좋아요' dump 시점에 갱신된다.
+     */
+    private int likes;
+
 
     @Builder
     private Comment(User user, String text) {
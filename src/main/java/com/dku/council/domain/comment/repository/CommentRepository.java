@@ -1,10 +1,12 @@
 package com.dku.council.domain.comment.repository;
 
+import com.dku.council.domain.comment.model.dto.CommentCount;
 import com.dku.council.domain.comment.model.entity.Comment;
 import com.dku.council.domain.post.model.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -49,4 +51,28 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("select c from Comment c where c.user.id=:userId")
     List<Comment> findAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 게시글에 달린 활성 상태의 댓글 개수를 가져옵니다.
+     */
+    @Query("select count(c) from Comment c " +
+            "where c.post.id=:postId " +
+            "and (c.status='ACTIVE' or c.status='EDITED') ")
+    Long countActiveByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글별 활성 상태의 댓글 개수를 가져옵니다. 댓글이 없는 게시글은 결과에 포함되지 않습니다.
+     */
+    @Query("select new com.dku.council.domain.comment.model.dto.CommentCount(c.post.id, count(c)) " +
+            "from Comment c " +
+            "where c.status='ACTIVE' or c.status='EDITED' " +
+            "group by c.post.id")
+    List<CommentCount> countAllActiveGroupByPost();
+
+    /**
+     * 댓글의 좋아요 수를 갱신합니다.
+     */
+    @Modifying
+    @Query("update Comment c set c.likes=:count where c.id=:id")
+    void updateLikeCount(@Param("id") Long id, @Param("count") int count);
 }
@@ -10,8 +10,10 @@ import com.dku.council.domain.comment.repository.CommentRepository;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.TrendingEvent;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.service.TrendingService;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.error.exception.NotGrantedException;
@@ -22,6 +24,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -32,6 +38,7 @@ public class CommentService {
     private final LikeService likeService;
     private final CommentRepository commentRepository;
     private final CommentLogRepository commentLogRepository;
+    private final TrendingService trendingService;
 
 
     /**
@@ -59,14 +66,21 @@ public class CommentService {
      */
     public Page<CommentDto> list(Long postId, Long userId, Pageable pageable, CommentMapper mapper) {
         postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
-        return commentRepository.findAllByPostId(postId, pageable)
-                .map(e -> {
-                    CommentDto dto = new CommentDto(e, User.ANONYMITY,
-                            likeService.getCountOfLikes(e.getId(), LikeTarget.COMMENT),
-                            e.getUser().getId().equals(userId),
-                            likeService.isLiked(e.getId(), userId, LikeTarget.COMMENT));
-                    return mapper == null ? dto : mapper.map(e, dto);
-                });
+        Page<Comment> comments = commentRepository.findAllByPostId(postId, pageable);
+
+        List<Long> ids = comments.stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> likes = likeService.getCountsOfLikes(ids, LikeTarget.COMMENT);
+        Map<Long, Boolean> liked = likeService.areLiked(ids, userId, LikeTarget.COMMENT);
+
+        return comments.map(e -> {
+            CommentDto dto = new CommentDto(e, User.ANONYMITY,
+                    likes.getOrDefault(e.getId(), 0),
+                    e.getUser().getId().equals(userId),
+                    liked.getOrDefault(e.getId(), false));
+            return mapper == null ? dto : mapper.map(e, dto);
+        });
     }
 
     /**
@@ -87,6 +101,8 @@ public class CommentService {
 
         comment.changePost(post);
         comment = commentRepository.save(comment);
+        postRepository.increaseCommentCount(postId, 1);
+        trendingService.record(post, TrendingEvent.COMMENT);
         return comment.getId();
     }
 
@@ -129,9 +145,9 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId).orElseThrow(CommentNotFoundException::new);
 
         if (isAdmin) {
-            comment.updateStatus(CommentStatus.DELETED_BY_ADMIN);
+            updateStatus(comment, CommentStatus.DELETED_BY_ADMIN);
         } else if (comment.getUser().getId().equals(userId)) {
-            comment.updateStatus(CommentStatus.DELETED);
+            updateStatus(comment, CommentStatus.DELETED);
         } else {
             throw new NotGrantedException();
         }
@@ -139,6 +155,21 @@ public class CommentService {
         return commentId;
     }
 
+    /**
+     * 댓글의 상태를 바꾸고, 댓글 수에 포함되는지가 달라졌다면 게시글의 댓글 수를 1만큼 조정합니다.
+     *
+     * @param comment 댓글
+     * @param status  바꿀 상태
+     */
+    public void updateStatus(Comment comment, CommentStatus status) {
+        boolean wasActive = comment.getStatus().isActive();
+        comment.updateStatus(status);
+
+        if (wasActive != status.isActive()) {
+            postRepository.increaseCommentCount(comment.getPost().getId(), status.isActive() ? 1 : -1);
+        }
+    }
+
     @FunctionalInterface
     public interface CommentMapper {
         CommentDto map(Comment entity, CommentDto parent);
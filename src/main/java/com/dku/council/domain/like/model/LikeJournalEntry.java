@@ -0,0 +1,21 @@
+package com.dku.council.domain.like.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB에 반영되기를 기다리는 '좋아요' 변경 기록
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class LikeJournalEntry {
+    /**
+     * 저장소에서 기록을 식별하는 ID. 반영 완료(acknowledge) 처리에 사용된다.
+     */
+    private final String id;
+    private final Long elementId;
+    private final Long userId;
+    private final LikeState state;
+}
@@ -0,0 +1,42 @@
+package com.dku.council.domain.like.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * '좋아요' 상태 변경 결과.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LikeToggleResult {
+
+    /**
+     * 메모리에 좋아요 여부가 캐싱되어 있었는지.
+     * false라면 상태가 변경되지 않았으며, 현재 상태를 알려주고 다시 요청해야 한다.
+     */
+    private final boolean cached;
+
+    /**
+     * 실제로 상태가 변경되었는지.
+     */
+    private final boolean changed;
+
+    /**
+     * 요청 처리 후의 좋아요 상태
+     */
+    private final LikeState state;
+
+    /**
+     * 요청 처리 후의 캐싱된 좋아요 개수. 캐싱되어있지 않다면 -1.
+     */
+    private final int count;
+
+    public static LikeToggleResult notCached() {
+        return new LikeToggleResult(false, false, null, -1);
+    }
+
+    public static LikeToggleResult of(boolean changed, LikeState state, int count) {
+        return new LikeToggleResult(true, changed, state, count);
+    }
+}
@@ -1,9 +1,13 @@
 package com.dku.council.domain.like.repository;
 
 import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeJournalEntry;
+import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.LikeToggleResult;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +32,21 @@ public interface LikeMemoryRepository {
      */
     void cancelLike(Long elementId, Long userId, LikeTarget target);
 
+    /**
+     * '좋아요' 상태를 원자적으로 변경한다. 좋아요 여부 확인, 상태 마킹, dump 대상 사용자 등록,
+     * 좋아요 개수 증감을 한 번의 요청으로 처리한다. 이미 같은 상태라면 아무것도 변경하지 않는다.
+     * 좋아요 개수는 캐싱되어있는 경우에만 증감한다.
+     *
+     * @param elementId 요소 ID
+     * @param userId    사용자 ID
+     * @param target    요소 타입
+     * @param state     변경할 상태
+     * @param isLiked   좋아요 여부가 캐싱되어있지 않을 때 사용할 현재 좋아요 여부.
+     *                  null이라면 캐싱되어있지 않은 경우 아무것도 변경하지 않는다.
+     * @return 변경 결과
+     */
+    LikeToggleResult toggleLike(Long elementId, Long userId, LikeTarget target, LikeState state, Boolean isLiked);
+
     /**
      * 메모리에서 사용자가 '좋아요'를 눌렀는지 확인한다.
      * 캐싱되어있는 경우에는 true/false로 반환하지만, 캐싱되어있지 않다면 null을
@@ -40,6 +59,16 @@ public interface LikeMemoryRepository {
      */
     Boolean isLiked(Long elementId, Long userId, LikeTarget target);
 
+    /**
+     * 메모리에서 사용자가 여러 요소에 '좋아요'를 눌렀는지 한 번에 확인한다.
+     *
+     * @param elementIds 요소 ID 목록
+     * @param userId     사용자 ID
+     * @param target     요소 타입
+     * @return 요소 ID별 좋아요 여부. 캐싱되어있지 않은 요소는 포함하지 않는다.
+     */
+    Map<Long, Boolean> getCachedIsLiked(Collection<Long> elementIds, Long userId, LikeTarget target);
+
     /**
      * 좋아요 여부를 메모리에 캐싱한다.
      *
@@ -50,6 +79,16 @@ public interface LikeMemoryRepository {
      */
     void setIsLiked(Long elementId, Long userId, LikeTarget target, boolean isLiked);
 
+    /**
+     * 여러 요소의 좋아요 여부를 한 번에 메모리에 캐싱한다.
+     * 그 사이에 이미 캐싱된 요소는 덮어쓰지 않는다.
+     *
+     * @param likes  요소 ID별 좋아요 여부
+     * @param userId 사용자 ID
+     * @param target 요소 타입
+     */
+    void setIsLiked(Map<Long, Boolean> likes, Long userId, LikeTarget target);
+
     /**
      * 메모리에 캐싱된 좋아요 개수 확인.
      *
@@ -59,6 +98,15 @@ public interface LikeMemoryRepository {
      */
     int getCachedLikeCount(Long elementId, LikeTarget target);
 
+    /**
+     * 메모리에 캐싱된 여러 요소의 좋아요 개수를 한 번에 확인.
+     *
+     * @param elementIds 요소 ID 목록
+     * @param target     요소 타입
+     * @return 요소 ID별 캐싱된 좋아요 개수. 캐싱되어있지 않은 요소는 포함하지 않는다.
+     */
+    Map<Long, Integer> getCachedLikeCounts(Collection<Long> elementIds, LikeTarget target);
+
     /**
      * 좋아요 개수 캐싱
      *
@@ -68,6 +116,14 @@ public interface LikeMemoryRepository {
      */
     void setLikeCount(Long elementId, int count, LikeTarget target, Duration expiresAfter);
 
+    /**
+     * 여러 요소의 좋아요 개수를 한 번에 캐싱
+     *
+     * @param counts 요소 ID별 좋아요 개수
+     * @param target 요소 타입
+     */
+    void setLikeCounts(Map<Long, Integer> counts, LikeTarget target, Duration expiresAfter);
+
     /**
      * 좋아요 개수 1 증가
      *
@@ -100,4 +156,72 @@ public interface LikeMemoryRepository {
      * @return '좋아요' entities
      */
     Map<Long, List<LikeEntry>> getAllLikesAndClear(LikeTarget target);
+
+    /**
+     * DB에 반영되지 않은 '좋아요' 변경 기록을 가져온다. 가져간 기록은 acknowledge 되기 전까지 다른 consumer에게
+     * 전달되지 않는다. 다만 claimIdleTime 이상 acknowledge 되지 않은 기록은 consumer가 죽은 것으로 보고
+     * 다시 가져올 수 있다. 따라서 같은 기록이 두 번 이상 반영될 수 있다.
+     *
+     * @param target        요소 타입
+     * @param consumer      기록을 가져가는 consumer 이름
+     * @param count         최대로 가져올 기록 개수
+     * @param claimIdleTime 다른 consumer의 기록을 가져오기 위한 최소 대기 시간
+     * @return 변경 기록 목록. 기록된 순서대로 정렬되어있다.
+     */
+    List<LikeJournalEntry> readJournal(LikeTarget target, String consumer, int count, Duration claimIdleTime);
+
+    /**
+     * DB에 반영한 변경 기록을 완료 처리하고 삭제한다.
+     *
+     * @param target  요소 타입
+     * @param entries 반영한 변경 기록
+     */
+    void acknowledge(LikeTarget target, List<LikeJournalEntry> entries);
+
+    /**
+     * 변경 기록을 사용하기 전에 쌓인 dump 대기 항목을 변경 기록으로 옮긴다. 항목은 지우지 않으며,
+     * 이미 변경 기록이 있는 항목이 다시 기록되더라도 dump 결과는 같다. 한 번 옮긴 뒤에는 다시 옮기지 않는다.
+     *
+     * @param target 요소 타입
+     * @return 변경 기록으로 옮긴 항목 개수
+     */
+    long journalLegacyLikes(LikeTarget target);
+
+    /**
+     * idleTime 이상 기록을 가져가지 않았고, acknowledge 되지 않은 기록도 없는 consumer를 삭제한다.
+     * 재시작 등으로 사라진 consumer가 계속 쌓이지 않도록 사용한다.
+     *
+     * @param target   요소 타입
+     * @param consumer 현재 consumer 이름. 이 consumer는 삭제하지 않는다.
+     * @param idleTime 삭제할 consumer의 최소 대기 시간
+     * @return 삭제한 consumer 수
+     */
+    int removeIdleConsumers(LikeTarget target, String consumer, Duration idleTime);
+
+    /**
+     * DB에 반영되지 않은 변경 기록 개수를 가져온다.
+     *
+     * @param target 요소 타입
+     * @return 변경 기록 개수
+     */
+    long countJournal(LikeTarget target);
+
+    /**
+     * 여러 사용자의 DB에 반영되지 않은 '좋아요' 데이터를 한 번에 가져온다. 삭제하지는 않는다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @param target  요소 타입
+     * @return 사용자 ID별 '좋아요' entities
+     */
+    Map<Long, List<LikeEntry>> getLikes(Collection<Long> userIds, LikeTarget target);
+
+    /**
+     * DB에 반영한 '좋아요' 데이터를 메모리에서 삭제한다. 그 사이에 상태가 바뀐 데이터는
+     * 삭제하지 않으며, 남은 데이터가 없다면 dump 대상 사용자에서 제외한다.
+     *
+     * @param userId 사용자 ID
+     * @param target 요소 타입
+     * @param dumped DB에 반영한 '좋아요' entities
+     */
+    void clearDumpedLikes(Long userId, LikeTarget target, List<LikeEntry> dumped);
 }
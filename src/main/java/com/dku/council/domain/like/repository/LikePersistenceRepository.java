@@ -1,6 +1,7 @@
 package com.dku.council.domain.like.repository;
 
 import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.dto.LikeCount;
 import com.dku.council.domain.like.model.entity.LikeElement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikePersistenceRepository extends JpaRepository<LikeElement, Long> {
@@ -23,6 +26,37 @@ public interface LikePersistenceRepository extends JpaRepository<LikeElement, Lo
 
     int countByElementIdAndTarget(Long elementId, LikeTarget target);
 
+    /**
+     * 여러 요소의 좋아요 개수를 한 번에 가져옵니다. 좋아요가 없는 요소는 결과에 포함되지 않습니다.
+     */
+    @Query("select new com.dku.council.domain.like.model.dto.LikeCount(l.elementId, count(l)) " +
+            "from LikeElement l " +
+            "where l.elementId in :elementIds " +
+            "and l.target = :target " +
+            "group by l.elementId")
+    List<LikeCount> countAllByElementIds(@Param("elementIds") Collection<Long> elementIds,
+                                         @Param("target") LikeTarget target);
+
+    /**
+     * 모든 요소의 좋아요 개수를 가져옵니다. 좋아요가 없는 요소는 결과에 포함되지 않습니다.
+     */
+    @Query("select new com.dku.council.domain.like.model.dto.LikeCount(l.elementId, count(l)) " +
+            "from LikeElement l " +
+            "where l.target = :target " +
+            "group by l.elementId")
+    List<LikeCount> countAllByTarget(@Param("target") LikeTarget target);
+
+    /**
+     * 주어진 요소들 중 사용자가 좋아요를 누른 요소의 ID만 가져옵니다.
+     */
+    @Query("select l.elementId from LikeElement l " +
+            "where l.elementId in :elementIds " +
+            "and l.user.id = :userId " +
+            "and l.target = :target")
+    List<Long> findLikedElementIds(@Param("elementIds") Collection<Long> elementIds,
+                                   @Param("userId") Long userId,
+                                   @Param("target") LikeTarget target);
+
     @Modifying
     @Query("delete from LikeElement l " +
             "where l.elementId = :elementId " +
@@ -32,6 +66,15 @@ public interface LikePersistenceRepository extends JpaRepository<LikeElement, Lo
                                     @Param("userId") Long userId,
                                     @Param("target") LikeTarget target);
 
+    @Modifying
+    @Query("delete from LikeElement l " +
+            "where l.elementId in :elementIds " +
+            "and l.user.id = :userId " +
+            "and l.target = :target")
+    int deleteAllByElementIdsAndUserId(@Param("elementIds") Collection<Long> elementIds,
+                                       @Param("userId") Long userId,
+                                       @Param("target") LikeTarget target);
+
     @Query("select l from LikeElement l " +
             "where l.user.id = :userId and l.target = :target")
     Page<LikeElement> findAllByUserId(@Param("userId") Long userId,
@@ -0,0 +1,405 @@
+package com.dku.council.domain.like.repository.impl;
+
+import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeJournalEntry;
+import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.LikeToggleResult;
+import com.dku.council.domain.like.repository.LikeMemoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 없이 애플리케이션 메모리에 '좋아요' 데이터를 저장하는 구현체.
+ * 단일 노드 배포나 로컬 실행에서 사용한다. app.post.like.memory-repository=local 로 선택할 수 있다.
+ * <p>
+ * 같은 요소에 대한 상태 변경은 요소 ID로 나뉜 lock 중 하나로 직렬화하고, 좋아요 개수는 {@link LongAdder}로 집계한다.
+ * 좋아요 여부 캐시는 일정 시간이 지나면 만료되지만, DB에 반영되지 않은 상태는 dump 전까지 유지된다.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.post.like.memory-repository", havingValue = "local")
+public class LikeLocalRepository implements LikeMemoryRepository {
+
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = new Object[STRIPES];
+    private final Map<LikeTarget, Store> stores = new EnumMap<>(LikeTarget.class);
+
+    private final Clock clock;
+    private final Duration likedCacheTime;
+
+    public LikeLocalRepository(Clock clock,
+                               @Value("${app.post.like.local.liked-cache-time:PT1H}") Duration likedCacheTime) {
+        this.clock = clock;
+        this.likedCacheTime = likedCacheTime;
+
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        for (LikeTarget target : LikeTarget.values()) {
+            stores.put(target, new Store());
+        }
+    }
+
+    @Override
+    public void like(Long elementId, Long userId, LikeTarget target) {
+        synchronized (lock(elementId)) {
+            Store store = stores.get(target);
+            markDirty(store, elementId, userId, LikeState.LIKED);
+            cacheLiked(store, elementId, userId, true);
+        }
+    }
+
+    @Override
+    public void cancelLike(Long elementId, Long userId, LikeTarget target) {
+        synchronized (lock(elementId)) {
+            Store store = stores.get(target);
+            markDirty(store, elementId, userId, LikeState.CANCELLED);
+            cacheLiked(store, elementId, userId, false);
+        }
+    }
+
+    @Override
+    public LikeToggleResult toggleLike(Long elementId, Long userId, LikeTarget target, LikeState state,
+                                       Boolean isLiked) {
+        Store store = stores.get(target);
+        synchronized (lock(elementId)) {
+            Boolean current = findLiked(store, elementId, userId);
+            if (current == null) {
+                if (isLiked == null) {
+                    return LikeToggleResult.notCached();
+                }
+                current = isLiked;
+                cacheLiked(store, elementId, userId, current);
+            }
+
+            Count count = findCount(store, elementId);
+            boolean desired = state == LikeState.LIKED;
+            if (current == desired) {
+                return LikeToggleResult.of(false, state, count == null ? -1 : count.intValue());
+            }
+
+            cacheLiked(store, elementId, userId, desired);
+            markDirty(store, elementId, userId, state);
+
+            if (count == null) {
+                return LikeToggleResult.of(true, state, -1);
+            }
+            if (desired) {
+                count.value.increment();
+            } else {
+                count.value.decrement();
+            }
+            return LikeToggleResult.of(true, state, count.intValue());
+        }
+    }
+
+    @Override
+    public Boolean isLiked(Long elementId, Long userId, LikeTarget target) {
+        return findLiked(stores.get(target), elementId, userId);
+    }
+
+    @Override
+    public Map<Long, Boolean> getCachedIsLiked(Collection<Long> elementIds, Long userId, LikeTarget target) {
+        Store store = stores.get(target);
+        Map<Long, Boolean> result = new HashMap<>();
+        for (Long elementId : elementIds) {
+            Boolean liked = findLiked(store, elementId, userId);
+            if (liked != null) {
+                result.put(elementId, liked);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setIsLiked(Long elementId, Long userId, LikeTarget target, boolean isLiked) {
+        cacheLiked(stores.get(target), elementId, userId, isLiked);
+    }
+
+    @Override
+    public void setIsLiked(Map<Long, Boolean> likes, Long userId, LikeTarget target) {
+        Store store = stores.get(target);
+        for (Map.Entry<Long, Boolean> entry : likes.entrySet()) {
+            synchronized (lock(entry.getKey())) {
+                if (findLiked(store, entry.getKey(), userId) == null) {
+                    cacheLiked(store, entry.getKey(), userId, entry.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getCachedLikeCount(Long elementId, LikeTarget target) {
+        Count count = findCount(stores.get(target), elementId);
+        return count == null ? -1 : count.intValue();
+    }
+
+    @Override
+    public Map<Long, Integer> getCachedLikeCounts(Collection<Long> elementIds, LikeTarget target) {
+        Store store = stores.get(target);
+        Map<Long, Integer> result = new HashMap<>();
+        for (Long elementId : elementIds) {
+            Count count = findCount(store, elementId);
+            if (count != null) {
+                result.put(elementId, count.intValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setLikeCount(Long elementId, int count, LikeTarget target, Duration expiresAfter) {
+        long expiresAt = clock.millis() + expiresAfter.toMillis();
+        stores.get(target).counts.put(elementId, new Count(count, expiresAt));
+    }
+
+    @Override
+    public void setLikeCounts(Map<Long, Integer> counts, LikeTarget target, Duration expiresAfter) {
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            setLikeCount(entry.getKey(), entry.getValue(), target, expiresAfter);
+        }
+    }
+
+    @Override
+    public void increaseLikeCount(Long elementId, LikeTarget target) {
+        Count count = findCount(stores.get(target), elementId);
+        if (count != null) {
+            count.value.increment();
+        }
+    }
+
+    @Override
+    public void decreaseLikeCount(Long elementId, LikeTarget target) {
+        Count count = findCount(stores.get(target), elementId);
+        if (count != null) {
+            count.value.decrement();
+        }
+    }
+
+    @Override
+    public List<LikeEntry> getAllLikesAndClear(Long userId, LikeTarget target) {
+        Map<Long, LikeState> likes = stores.get(target).dirty.remove(userId);
+        return toLikeEntries(likes);
+    }
+
+    @Override
+    public Map<Long, List<LikeEntry>> getAllLikesAndClear(LikeTarget target) {
+        Store store = stores.get(target);
+        Map<Long, List<LikeEntry>> result = new HashMap<>();
+        for (Long userId : store.dirty.keySet()) {
+            Map<Long, LikeState> likes = store.dirty.remove(userId);
+            if (likes != null) {
+                result.put(userId, toLikeEntries(likes));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단일 노드에서만 사용하므로 consumer 구분 없이 DB에 반영되지 않은 상태를 그대로 변경 기록으로 사용한다.
+     * 같은 요소에 대한 여러 번의 변경은 마지막 상태 하나로 합쳐진다.
+     */
+    @Override
+    public List<LikeJournalEntry> readJournal(LikeTarget target, String consumer, int count,
+                                              Duration claimIdleTime) {
+        List<LikeJournalEntry> result = new ArrayList<>();
+        for (Map.Entry<Long, ConcurrentMap<Long, LikeState>> user : stores.get(target).dirty.entrySet()) {
+            for (Map.Entry<Long, LikeState> like : user.getValue().entrySet()) {
+                if (result.size() >= count) {
+                    return result;
+                }
+                Long userId = user.getKey();
+                Long elementId = like.getKey();
+                result.add(new LikeJournalEntry(userId + ":" + elementId, elementId, userId, like.getValue()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void acknowledge(LikeTarget target, List<LikeJournalEntry> entries) {
+        Store store = stores.get(target);
+        for (LikeJournalEntry entry : entries) {
+            store.dirty.computeIfPresent(entry.getUserId(), (id, likes) -> {
+                likes.remove(entry.getElementId(), entry.getState());
+                return likes.isEmpty() ? null : likes;
+            });
+        }
+    }
+
+    @Override
+    public long journalLegacyLikes(LikeTarget target) {
+        // 메모리의 dump 대기 항목을 그대로 변경 기록으로 사용하므로 옮길 항목이 없다.
+        return 0;
+    }
+
+    @Override
+    public int removeIdleConsumers(LikeTarget target, String consumer, Duration idleTime) {
+        return 0;
+    }
+
+    @Override
+    public long countJournal(LikeTarget target) {
+        return stores.get(target).dirty.values().stream()
+                .mapToLong(Map::size)
+                .sum();
+    }
+
+    @Override
+    public Map<Long, List<LikeEntry>> getLikes(Collection<Long> userIds, LikeTarget target) {
+        Store store = stores.get(target);
+        Map<Long, List<LikeEntry>> result = new HashMap<>();
+        for (Long userId : userIds) {
+            result.put(userId, toLikeEntries(store.dirty.get(userId)));
+        }
+        return result;
+    }
+
+    @Override
+    public void clearDumpedLikes(Long userId, LikeTarget target, List<LikeEntry> dumped) {
+        stores.get(target).dirty.computeIfPresent(userId, (id, likes) -> {
+            for (LikeEntry entry : dumped) {
+                likes.remove(entry.getElementId(), entry.getState());
+            }
+            return likes.isEmpty() ? null : likes;
+        });
+    }
+
+    /**
+     * 만료된 좋아요 여부 캐시와 좋아요 개수 캐시를 정리한다.
+     */
+    public void evictExpired() {
+        long now = clock.millis();
+        for (Store store : stores.values()) {
+            store.counts.values().removeIf(count -> count.expiresAt <= now);
+            for (Long userId : store.liked.keySet()) {
+                store.liked.computeIfPresent(userId, (id, likes) -> {
+                    likes.values().removeIf(liked -> liked.expiresAt <= now);
+                    return likes.isEmpty() ? null : likes;
+                });
+            }
+        }
+    }
+
+    private Object lock(Long elementId) {
+        return locks[Long.hashCode(elementId) & (STRIPES - 1)];
+    }
+
+    private Boolean findLiked(Store store, Long elementId, Long userId) {
+        Map<Long, LikeState> dirty = store.dirty.get(userId);
+        if (dirty != null) {
+            LikeState state = dirty.get(elementId);
+            if (state != null) {
+                return state == LikeState.LIKED;
+            }
+        }
+
+        Map<Long, Liked> likes = store.liked.get(userId);
+        if (likes == null) {
+            return null;
+        }
+
+        Liked liked = likes.get(elementId);
+        if (liked == null) {
+            return null;
+        }
+        if (liked.expiresAt <= clock.millis()) {
+            likes.remove(elementId, liked);
+            return null;
+        }
+        return liked.value;
+    }
+
+    private void cacheLiked(Store store, Long elementId, Long userId, boolean isLiked) {
+        Liked liked = new Liked(isLiked, clock.millis() + likedCacheTime.toMillis());
+        store.liked.compute(userId, (id, likes) -> {
+            if (likes == null) {
+                likes = new ConcurrentHashMap<>();
+            }
+            likes.put(elementId, liked);
+            return likes;
+        });
+    }
+
+    private static void markDirty(Store store, Long elementId, Long userId, LikeState state) {
+        store.dirty.compute(userId, (id, likes) -> {
+            if (likes == null) {
+                likes = new ConcurrentHashMap<>();
+            }
+            likes.put(elementId, state);
+            return likes;
+        });
+    }
+
+    private Count findCount(Store store, Long elementId) {
+        Count count = store.counts.get(elementId);
+        if (count == null) {
+            return null;
+        }
+        if (count.expiresAt <= clock.millis()) {
+            store.counts.remove(elementId, count);
+            return null;
+        }
+        return count;
+    }
+
+    private static List<LikeEntry> toLikeEntries(Map<Long, LikeState> likes) {
+        if (likes == null) {
+            return new ArrayList<>();
+        }
+        return likes.entrySet().stream()
+                .map(entry -> new LikeEntry(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static class Store {
+        /**
+         * 사용자 ID별 DB에 반영되지 않은 '좋아요' 상태 (요소 ID -> 상태)
+         */
+        private final ConcurrentMap<Long, ConcurrentMap<Long, LikeState>> dirty = new ConcurrentHashMap<>();
+
+        /**
+         * 사용자 ID별 좋아요 여부 캐시 (요소 ID -> 여부)
+         */
+        private final ConcurrentMap<Long, ConcurrentMap<Long, Liked>> liked = new ConcurrentHashMap<>();
+
+        /**
+         * 요소 ID별 좋아요 개수 캐시
+         */
+        private final ConcurrentMap<Long, Count> counts = new ConcurrentHashMap<>();
+    }
+
+    private static class Liked {
+        private final boolean value;
+        private final long expiresAt;
+
+        private Liked(boolean value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Count {
+        private final LongAdder value = new LongAdder();
+        private final long expiresAt;
+
+        private Count(int count, long expiresAt) {
+            this.value.add(count);
+            this.expiresAt = expiresAt;
+        }
+
+        private int intValue() {
+            return value.intValue();
+        }
+    }
+}
@@ -1,27 +1,50 @@
 package com.dku.council.domain.like.repository.impl;
 
 import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeJournalEntry;
 import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.LikeToggleResult;
 import com.dku.council.domain.like.repository.LikeMemoryRepository;
 import com.dku.council.global.config.redis.RedisKeys;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.dku.council.global.config.redis.RedisKeys.combine;
 
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.post.like.memory-repository", havingValue = "redis", matchIfMissing = true)
 public class LikeRedisRepository implements LikeMemoryRepository {
 
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-toggle.lua"), List.class);
+
+    private static final RedisScript<Long> CLEAR_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-clear.lua"), Long.class);
+
+    /**
+     * '좋아요' 변경 기록을 DB에 반영하는 consumer group
+     */
+    public static final String DUMP_GROUP = "likeDump";
+
     private final StringRedisTemplate redisTemplate;
 
     @Override
@@ -44,6 +67,36 @@ public class LikeRedisRepository implements LikeMemoryRepository {
         setIsLiked(elementId, userId, target, false);
     }
 
+    @Override
+    public LikeToggleResult toggleLike(Long elementId, Long userId, LikeTarget target, LikeState state,
+                                       Boolean isLiked) {
+        List<String> keys = List.of(
+                combine(RedisKeys.LIKE_POSTS_KEY, target, userId),
+                combine(RedisKeys.LIKE_KEY, target, userId),
+                combine(RedisKeys.LIKE_USERS_KEY, target),
+                combine(RedisKeys.LIKE_COUNT_KEY, target, elementId),
+                combine(RedisKeys.LIKE_STREAM_KEY, target)
+        );
+
+        String currentState = "";
+        if (isLiked != null) {
+            currentState = (isLiked ? LikeState.LIKED : LikeState.CANCELLED).name();
+        }
+
+        List<?> result = redisTemplate.execute(TOGGLE_SCRIPT, keys,
+                elementId.toString(), userId.toString(), state.name(), currentState, DUMP_GROUP);
+        if (result == null) {
+            throw new IllegalStateException("Can't execute like toggle script");
+        }
+
+        int code = ((Number) result.get(0)).intValue();
+        int count = ((Number) result.get(1)).intValue();
+        if (code == -1) {
+            return LikeToggleResult.notCached();
+        }
+        return LikeToggleResult.of(code == 1, state, count);
+    }
+
     @Override
     public void setIsLiked(Long elementId, Long userId, LikeTarget target, boolean isLiked) {
         String key = combine(RedisKeys.LIKE_POSTS_KEY, target, userId);
@@ -64,6 +117,46 @@ public class LikeRedisRepository implements LikeMemoryRepository {
         return value.equals(LikeState.LIKED.name());
     }
 
+    @Override
+    public Map<Long, Boolean> getCachedIsLiked(Collection<Long> elementIds, Long userId, LikeTarget target) {
+        Map<Long, Boolean> result = new HashMap<>();
+        if (elementIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = new ArrayList<>(elementIds);
+        List<Object> fields = ids.stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+
+        String key = combine(RedisKeys.LIKE_POSTS_KEY, target, userId);
+        List<Object> values = redisTemplate.opsForHash().multiGet(key, fields);
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                result.put(ids.get(i), value.equals(LikeState.LIKED.name()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setIsLiked(Map<Long, Boolean> likes, Long userId, LikeTarget target) {
+        if (likes.isEmpty()) {
+            return;
+        }
+
+        String key = combine(RedisKeys.LIKE_POSTS_KEY, target, userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Boolean> entry : likes.entrySet()) {
+                LikeState state = entry.getValue() ? LikeState.LIKED : LikeState.CANCELLED;
+                conn.hSetNX(key, entry.getKey().toString(), state.name());
+            }
+            return null;
+        });
+    }
+
     @Override
     public int getCachedLikeCount(Long elementId, LikeTarget target) {
         String key = combine(RedisKeys.LIKE_COUNT_KEY, target, elementId);
@@ -81,6 +174,48 @@ public class LikeRedisRepository implements LikeMemoryRepository {
         redisTemplate.expire(key, expiresAfter);
     }
 
+    @Override
+    public Map<Long, Integer> getCachedLikeCounts(Collection<Long> elementIds, LikeTarget target) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (elementIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = new ArrayList<>(elementIds);
+        List<String> keys = ids.stream()
+                .map(id -> combine(RedisKeys.LIKE_COUNT_KEY, target, id))
+                .collect(Collectors.toList());
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                result.put(ids.get(i), Integer.parseInt(value));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setLikeCounts(Map<Long, Integer> counts, LikeTarget target, Duration expiresAfter) {
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+                String key = combine(RedisKeys.LIKE_COUNT_KEY, target, entry.getKey());
+                conn.setEx(key, expiresAfter.getSeconds(), String.valueOf(entry.getValue()));
+            }
+            return null;
+        });
+    }
+
     @Override
     public void increaseLikeCount(Long elementId, LikeTarget target) {
         String key = combine(RedisKeys.LIKE_COUNT_KEY, target, elementId);
@@ -127,4 +262,217 @@ public class LikeRedisRepository implements LikeMemoryRepository {
                         userId -> getAllLikesAndClear(userId, target)
                 ));
     }
+
+    @Override
+    public List<LikeJournalEntry> readJournal(LikeTarget target, String consumer, int count,
+                                              Duration claimIdleTime) {
+        String key = combine(RedisKeys.LIKE_STREAM_KEY, target);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return new ArrayList<>();
+        }
+
+        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
+        List<MapRecord<String, String, String>> records = claimIdleRecords(ops, key, consumer, count, claimIdleTime);
+        if (records.isEmpty()) {
+            records = ops.read(Consumer.from(DUMP_GROUP, consumer),
+                    StreamReadOptions.empty().count(count),
+                    StreamOffset.create(key, ReadOffset.lastConsumed()));
+        }
+        if (records == null) {
+            return new ArrayList<>();
+        }
+
+        return records.stream()
+                .filter(Objects::nonNull)
+                .map(LikeRedisRepository::toJournalEntry)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * claimIdleTime 이상 acknowledge 되지 않은 기록을 가져온다. 죽은 consumer가 가져갔던 기록이나,
+     * 반영에 실패한 기록을 다시 처리하기 위해 사용한다. 대기 중인 기록이 많더라도 count개를 찾을 때까지 나누어 확인한다.
+     */
+    private List<MapRecord<String, String, String>> claimIdleRecords(StreamOperations<String, String, String> ops,
+                                                                      String key, String consumer, int count,
+                                                                      Duration claimIdleTime) {
+        List<RecordId> idleIds = new ArrayList<>();
+        Range<String> range = Range.unbounded();
+        String lastId = null;
+
+        while (idleIds.size() < count) {
+            PendingMessages pending = ops.pending(key, DUMP_GROUP, range, (long) count);
+            int read = 0;
+            for (PendingMessage message : pending) {
+                String id = message.getIdAsString();
+                if (id.equals(lastId)) {
+                    continue;
+                }
+                read++;
+                lastId = id;
+                if (idleIds.size() < count &&
+                        message.getElapsedTimeSinceLastDelivery().compareTo(claimIdleTime) >= 0) {
+                    idleIds.add(message.getId());
+                }
+            }
+            if (read == 0 || pending.size() < count) {
+                break;
+            }
+            range = Range.rightUnbounded(Range.Bound.inclusive(lastId));
+        }
+
+        if (idleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return ops.claim(key, DUMP_GROUP, consumer, claimIdleTime, idleIds.toArray(RecordId[]::new));
+    }
+
+    @Override
+    public long journalLegacyLikes(LikeTarget target) {
+        String markerKey = combine(RedisKeys.LIKE_JOURNAL_MIGRATED_KEY, target);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(markerKey))) {
+            return 0;
+        }
+
+        String streamKey = combine(RedisKeys.LIKE_STREAM_KEY, target);
+        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
+        long journaled = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().count(500).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(combine(RedisKeys.LIKE_USERS_KEY, target), options)) {
+            while (cursor.hasNext()) {
+                String userId = cursor.next();
+                Map<Object, Object> likes = redisTemplate.opsForHash().entries(combine(RedisKeys.LIKE_KEY, target, userId));
+                for (Map.Entry<Object, Object> like : likes.entrySet()) {
+                    ops.add(StreamRecords.string(Map.of(
+                            "elementId", (String) like.getKey(),
+                            "userId", userId,
+                            "state", (String) like.getValue()
+                    )).withStreamKey(streamKey));
+                    journaled++;
+                }
+            }
+        }
+
+        if (journaled > 0) {
+            createGroupIfAbsent(ops, streamKey);
+        }
+        redisTemplate.opsForValue().set(markerKey, String.valueOf(journaled));
+        return journaled;
+    }
+
+    private static void createGroupIfAbsent(StreamOperations<String, String, String> ops, String key) {
+        try {
+            ops.createGroup(key, ReadOffset.from("0"), DUMP_GROUP);
+        } catch (DataAccessException e) {
+            // 상태를 변경하면서 이미 consumer group을 만든 경우
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public int removeIdleConsumers(LikeTarget target, String consumer, Duration idleTime) {
+        String key = combine(RedisKeys.LIKE_STREAM_KEY, target);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return 0;
+        }
+
+        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
+        int removed = 0;
+        List<StreamInfo.XInfoConsumer> consumers = ops.consumers(key, DUMP_GROUP).stream()
+                .collect(Collectors.toList());
+        for (StreamInfo.XInfoConsumer info : consumers) {
+            if (info.consumerName().equals(consumer) || info.pendingCount() > 0 ||
+                    info.idleTimeMs() < idleTime.toMillis()) {
+                continue;
+            }
+            ops.deleteConsumer(key, Consumer.from(DUMP_GROUP, info.consumerName()));
+            removed++;
+        }
+        return removed;
+    }
+
+    @Override
+    public void acknowledge(LikeTarget target, List<LikeJournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        String key = combine(RedisKeys.LIKE_STREAM_KEY, target);
+        String[] ids = entries.stream()
+                .map(LikeJournalEntry::getId)
+                .toArray(String[]::new);
+
+        StreamOperations<String, String, String> ops = redisTemplate.opsForStream();
+        ops.acknowledge(key, DUMP_GROUP, ids);
+        ops.delete(key, ids);
+    }
+
+    @Override
+    public long countJournal(LikeTarget target) {
+        String key = combine(RedisKeys.LIKE_STREAM_KEY, target);
+        Long size = redisTemplate.opsForStream().size(key);
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public Map<Long, List<LikeEntry>> getLikes(Collection<Long> userIds, LikeTarget target) {
+        Map<Long, List<LikeEntry>> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = new ArrayList<>(userIds);
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long userId : ids) {
+                conn.hGetAll(combine(RedisKeys.LIKE_KEY, target, userId));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> entries = (Map<String, String>) hashes.get(i);
+            result.put(ids.get(i), toLikeEntries(entries));
+        }
+        return result;
+    }
+
+    @Override
+    public void clearDumpedLikes(Long userId, LikeTarget target, List<LikeEntry> dumped) {
+        List<String> keys = List.of(
+                combine(RedisKeys.LIKE_KEY, target, userId),
+                combine(RedisKeys.LIKE_USERS_KEY, target)
+        );
+
+        String[] args = new String[dumped.size() * 2 + 1];
+        args[0] = userId.toString();
+        for (int i = 0; i < dumped.size(); i++) {
+            LikeEntry entry = dumped.get(i);
+            args[i * 2 + 1] = entry.getElementId().toString();
+            args[i * 2 + 2] = entry.getState().name();
+        }
+
+        redisTemplate.execute(CLEAR_SCRIPT, keys, (Object[]) args);
+    }
+
+    private static LikeJournalEntry toJournalEntry(MapRecord<String, String, String> record) {
+        Map<String, String> value = record.getValue();
+        return new LikeJournalEntry(record.getId().getValue(),
+                Long.valueOf(value.get("elementId")),
+                Long.valueOf(value.get("userId")),
+                LikeState.of(value.get("state")));
+    }
+
+    private static List<LikeEntry> toLikeEntries(Map<String, String> entries) {
+        if (entries == null) {
+            return new ArrayList<>();
+        }
+        return entries.entrySet().stream()
+                .map(entry -> new LikeEntry(Long.valueOf(entry.getKey()), LikeState.of(entry.getValue())))
+                .collect(Collectors.toList());
+    }
 }
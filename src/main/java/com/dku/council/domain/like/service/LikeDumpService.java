@@ -0,0 +1,240 @@
+package com.dku.council.domain.like.service;
+
+import com.dku.council.domain.comment.repository.CommentRepository;
+import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeJournalEntry;
+import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.dto.LikeCount;
+import com.dku.council.domain.like.model.entity.LikeElement;
+import com.dku.council.domain.like.repository.LikeMemoryRepository;
+import com.dku.council.domain.like.repository.LikePersistenceRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.user.model.entity.User;
+import com.dku.council.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에 쌓인 '좋아요' 변경 기록(journal)을 읽어 DB로 반영한다.
+ * 변경 기록은 consumer group으로 나누어 읽으므로 여러 서버에서 동시에 실행해도 같은 기록을 중복해서 처리하지 않는다.
+ * 일정 개수(chunk) 단위로 커밋하고, 커밋이 끝난 기록만 acknowledge 한다. 도중에 서버가 죽더라도
+ * acknowledge 되지 않은 기록은 일정 시간 뒤 다른 consumer가 가져가 다시 반영한다.
+ * <p>
+ * 같은 사용자의 기록은 사용자 row lock으로 직렬화하고, 기록 순서와 상관없이 현재 캐싱된 좋아요 여부(없다면 가장 마지막 기록)를
+ * 반영하므로 여러 번 반영되더라도 결과가 같다. 반영된 요소의 좋아요 수는 같은 트랜잭션에서 게시글/댓글에 함께 갱신한다.
+ */
+@Slf4j
+@Service
+public class LikeDumpService {
+
+    private final LikeMemoryRepository memoryRepository;
+    private final LikePersistenceRepository persistenceRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final int chunkSize;
+    private final Duration claimIdleTime;
+    private final String consumer = defaultConsumerName();
+
+    private final Map<LikeTarget, AtomicLong> backlogs = new EnumMap<>(LikeTarget.class);
+
+    public LikeDumpService(LikeMemoryRepository memoryRepository,
+                           LikePersistenceRepository persistenceRepository,
+                           UserRepository userRepository,
+                           PostRepository postRepository,
+                           CommentRepository commentRepository,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.post.like.dump-chunk-size:500}") int chunkSize,
+                           @Value("${app.post.like.dump-claim-idle:PT5M}") Duration claimIdleTime) {
+        this.memoryRepository = memoryRepository;
+        this.persistenceRepository = persistenceRepository;
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.claimIdleTime = claimIdleTime;
+
+        for (LikeTarget target : LikeTarget.values()) {
+            AtomicLong backlog = new AtomicLong();
+            backlogs.put(target, backlog);
+            Gauge.builder("like.dump.backlog", backlog, AtomicLong::get)
+                    .description("Number of like journal entries not dumped to DB yet")
+                    .tag("target", target.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 영속성 DB에 실제로 데이터를 반영한다.
+     *
+     * @param target 요소 타입
+     * @return 반영한 '좋아요' 데이터 개수
+     */
+    public long dumpToDB(LikeTarget target) {
+        AtomicLong backlog = backlogs.get(target);
+        backlog.set(memoryRepository.countJournal(target));
+
+        long startedAt = System.nanoTime();
+        long dumped = 0;
+
+        while (true) {
+            List<LikeJournalEntry> entries = memoryRepository.readJournal(target, consumer, chunkSize, claimIdleTime);
+            if (entries.isEmpty()) {
+                break;
+            }
+            dumped += writeChunk(entries, target);
+            if (entries.size() < chunkSize) {
+                break;
+            }
+        }
+
+        backlog.set(memoryRepository.countJournal(target));
+
+        int removed = memoryRepository.removeIdleConsumers(target, consumer, claimIdleTime);
+        if (removed > 0) {
+            log.info("Removed {} idle {} like dump consumers.", removed, target);
+        }
+
+        if (dumped > 0) {
+            double seconds = Math.max(System.nanoTime() - startedAt, 1) / 1e9;
+            log.info("{} {} likes in memory dump to DB. ({} rows/sec, backlog: {} entries)",
+                    dumped, target, Math.round(dumped / seconds), backlog.get());
+        }
+        return dumped;
+    }
+
+    /**
+     * 변경 기록(journal) 도입 이전에 사용자별로만 캐싱되어 있던 '좋아요'를 변경 기록으로 옮긴다.
+     * 옮겨진 기록은 이후 {@link #dumpToDB(LikeTarget)}에서 다른 기록과 똑같이 반영된다. 이미 옮겼다면 아무것도 하지 않는다.
+     *
+     * @param target 요소 타입
+     * @return 변경 기록으로 옮긴 '좋아요' 개수
+     */
+    public long journalLegacyLikes(LikeTarget target) {
+        long journaled = memoryRepository.journalLegacyLikes(target);
+        if (journaled > 0) {
+            log.info("{} legacy {} likes in memory moved to the journal.", journaled, target);
+        }
+        return journaled;
+    }
+
+    private long writeChunk(List<LikeJournalEntry> entries, LikeTarget target) {
+        Map<Long, Map<Long, LikeState>> latest = new LinkedHashMap<>();
+        for (LikeJournalEntry entry : entries) {
+            latest.computeIfAbsent(entry.getUserId(), id -> new LinkedHashMap<>())
+                    .put(entry.getElementId(), entry.getState());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> users = userRepository.findAllByIdInForUpdate(latest.keySet());
+            for (User user : users) {
+                Map<Long, LikeState> likes = latest.get(user.getId());
+                memoryRepository.getCachedIsLiked(likes.keySet(), user.getId(), target)
+                        .forEach((elementId, liked) ->
+                                likes.put(elementId, liked ? LikeState.LIKED : LikeState.CANCELLED));
+                writeUserLikes(user, likes, target);
+            }
+            updateLikeCounts(elementIds(latest), target);
+        });
+        sample.stop(meterRegistry.timer("like.dump.chunk", "target", target.name()));
+
+        memoryRepository.acknowledge(target, entries);
+        for (Map.Entry<Long, Map<Long, LikeState>> ent : latest.entrySet()) {
+            memoryRepository.clearDumpedLikes(ent.getKey(), target, toLikeEntries(ent.getValue()));
+        }
+
+        long rows = latest.values().stream()
+                .mapToLong(Map::size)
+                .sum();
+        Counter.builder("like.dump.rows")
+                .tag("target", target.name())
+                .register(meterRegistry)
+                .increment(rows);
+        return rows;
+    }
+
+    private void writeUserLikes(User user, Map<Long, LikeState> likes, LikeTarget target) {
+        List<Long> liked = filterElementIds(likes, LikeState.LIKED);
+        List<Long> cancelled = filterElementIds(likes, LikeState.CANCELLED);
+
+        if (!cancelled.isEmpty()) {
+            persistenceRepository.deleteAllByElementIdsAndUserId(cancelled, user.getId(), target);
+        }
+
+        if (!liked.isEmpty()) {
+            Set<Long> existing = new HashSet<>(persistenceRepository.findLikedElementIds(liked, user.getId(), target));
+            List<LikeElement> newLikes = liked.stream()
+                    .filter(id -> !existing.contains(id))
+                    .map(id -> new LikeElement(user, id, target))
+                    .collect(Collectors.toList());
+            persistenceRepository.saveAll(newLikes);
+        }
+    }
+
+    private void updateLikeCounts(Set<Long> elementIds, LikeTarget target) {
+        Map<Long, Long> counts = persistenceRepository.countAllByElementIds(elementIds, target).stream()
+                .collect(Collectors.toMap(LikeCount::getElementId, LikeCount::getCount));
+
+        for (Long elementId : elementIds) {
+            int count = counts.getOrDefault(elementId, 0L).intValue();
+            if (target == LikeTarget.POST) {
+                postRepository.updateLikeCount(elementId, count);
+            } else {
+                commentRepository.updateLikeCount(elementId, count);
+            }
+        }
+    }
+
+    /**
+     * 서버가 재시작되어도 같은 consumer 이름을 쓰도록 호스트 이름을 사용한다.
+     * 이름이 바뀌지 않아야 consumer group에 죽은 consumer가 계속 쌓이지 않는다.
+     */
+    private static String defaultConsumerName() {
+        try {
+            return "like-dump-" + InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.warn("Failed to resolve the local host name. Use a random like dump consumer name.", e);
+            return "like-dump-" + UUID.randomUUID();
+        }
+    }
+
+    private static Set<Long> elementIds(Map<Long, Map<Long, LikeState>> likes) {
+        return likes.values().stream()
+                .flatMap(m -> m.keySet().stream())
+                .collect(Collectors.toSet());
+    }
+
+    private static List<Long> filterElementIds(Map<Long, LikeState> likes, LikeState state) {
+        return likes.entrySet().stream()
+                .filter(e -> e.getValue() == state)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static List<LikeEntry> toLikeEntries(Map<Long, LikeState> likes) {
+        return likes.entrySet().stream()
+                .map(e -> new LikeEntry(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
+    }
+}
@@ -3,6 +3,8 @@ package com.dku.council.domain.like.service.impl;
 import com.dku.council.domain.like.model.LikeEntry;
 import com.dku.council.domain.like.model.LikeState;
 import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.LikeToggleResult;
+import com.dku.council.domain.like.model.dto.LikeCount;
 import com.dku.council.domain.like.model.entity.LikeElement;
 import com.dku.council.domain.like.repository.LikeMemoryRepository;
 import com.dku.council.domain.like.repository.LikePersistenceRepository;
@@ -15,10 +17,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,20 +38,27 @@ public class CachedLikeServiceImpl implements LikeService {
 
     @Override
     @Transactional(readOnly = true)
-    public void like(Long elementId, Long userId, LikeTarget target) {
-        if (!isLiked(elementId, userId, target)) {
-            memoryRepository.like(elementId, userId, target);
-            memoryRepository.increaseLikeCount(elementId, target);
-        }
+    public boolean like(Long elementId, Long userId, LikeTarget target) {
+        return toggleLike(elementId, userId, target, LikeState.LIKED).isChanged();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public void cancelLike(Long elementId, Long userId, LikeTarget target) {
-        if (isLiked(elementId, userId, target)) {
-            memoryRepository.cancelLike(elementId, userId, target);
-            memoryRepository.decreaseLikeCount(elementId, target);
+    public boolean cancelLike(Long elementId, Long userId, LikeTarget target) {
+        return toggleLike(elementId, userId, target, LikeState.CANCELLED).isChanged();
+    }
+
+    /**
+     * 좋아요 상태를 변경한다. 메모리에 좋아요 여부가 캐싱되어있지 않은 경우에만
+     * DB에서 현재 상태를 조회하여 한 번 더 요청한다.
+     */
+    private LikeToggleResult toggleLike(Long elementId, Long userId, LikeTarget target, LikeState state) {
+        LikeToggleResult result = memoryRepository.toggleLike(elementId, userId, target, state, null);
+        if (!result.isCached()) {
+            boolean liked = persistenceRepository.findByElementIdAndUserId(elementId, userId, target).isPresent();
+            result = memoryRepository.toggleLike(elementId, userId, target, state, liked);
         }
+        return result;
     }
 
     @Override
@@ -61,6 +72,33 @@ public class CachedLikeServiceImpl implements LikeService {
         return liked;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> areLiked(Collection<Long> elementIds, Long userId, LikeTarget target) {
+        Map<Long, Boolean> result = new HashMap<>();
+        if (userId == null) {
+            elementIds.forEach(id -> result.put(id, false));
+            return result;
+        }
+        if (elementIds.isEmpty()) {
+            return result;
+        }
+
+        result.putAll(memoryRepository.getCachedIsLiked(elementIds, userId, target));
+
+        List<Long> missed = findMissedIds(elementIds, result);
+        if (!missed.isEmpty()) {
+            Map<Long, Boolean> loaded = new HashMap<>();
+            missed.forEach(id -> loaded.put(id, false));
+            persistenceRepository.findLikedElementIds(missed, userId, target)
+                    .forEach(id -> loaded.put(id, true));
+
+            memoryRepository.setIsLiked(loaded, userId, target);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
     @Override
     @Transactional
     public Page<Long> getLikedElementIds(Long userId, Pageable pageable, LikeTarget target) {
@@ -76,17 +114,56 @@ public class CachedLikeServiceImpl implements LikeService {
         return persistenceRepository.countPostByUserId(userId, target);
     }
 
+    /**
+     * 사용자의 DB에 반영되지 않은 '좋아요' 데이터를 DB에 반영한다.
+     * 메모리의 데이터는 트랜잭션이 커밋된 뒤에만 지우므로, 도중에 실패하더라도 데이터가 사라지지 않는다.
+     * 같은 데이터가 나중에 dump 될 때 다시 반영되더라도 결과가 같도록, 이미 있는 좋아요는 다시 저장하지 않는다.
+     */
     private void dumpByUserId(Long userId, LikeTarget target) {
-        List<LikeEntry> allLikes = memoryRepository.getAllLikesAndClear(userId, target);
-
-        User user = userRepository.getReferenceById(userId);
-        for (LikeEntry ent : allLikes) {
-            if (ent.getState() == LikeState.LIKED) {
-                persistenceRepository.save(new LikeElement(user, ent.getElementId(), target));
-            } else {
-                persistenceRepository.deleteByElementIdAndUserId(ent.getElementId(), userId, target);
-            }
+        List<LikeEntry> likes = memoryRepository.getLikes(List.of(userId), target).getOrDefault(userId, List.of());
+        if (likes.isEmpty()) {
+            return;
+        }
+
+        List<Long> liked = filterElementIds(likes, LikeState.LIKED);
+        List<Long> cancelled = filterElementIds(likes, LikeState.CANCELLED);
+
+        if (!cancelled.isEmpty()) {
+            persistenceRepository.deleteAllByElementIdsAndUserId(cancelled, userId, target);
         }
+
+        if (!liked.isEmpty()) {
+            User user = userRepository.getReferenceById(userId);
+            Set<Long> existing = new HashSet<>(persistenceRepository.findLikedElementIds(liked, userId, target));
+            List<LikeElement> newLikes = liked.stream()
+                    .filter(id -> !existing.contains(id))
+                    .map(id -> new LikeElement(user, id, target))
+                    .collect(Collectors.toList());
+            persistenceRepository.saveAll(newLikes);
+        }
+
+        runAfterCommit(() -> memoryRepository.clearDumpedLikes(userId, target, likes));
+    }
+
+    private static List<Long> filterElementIds(List<LikeEntry> likes, LikeState state) {
+        return likes.stream()
+                .filter(e -> e.getState() == state)
+                .map(LikeEntry::getElementId)
+                .collect(Collectors.toList());
+    }
+
+    private static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 
     @Override
@@ -100,25 +177,34 @@ public class CachedLikeServiceImpl implements LikeService {
         return count;
     }
 
-    /**
-     * 영속성 DB에 실제로 데이터를 반영한다.
-     *
-     * @return 처리한 entity 개수
-     */
-    @Transactional
-    public long dumpToDB(LikeTarget target) {
-        Map<Long, List<LikeEntry>> allLikes = memoryRepository.getAllLikesAndClear(target);
-        for (Map.Entry<Long, List<LikeEntry>> ent : allLikes.entrySet()) {
-            User user = userRepository.getReferenceById(ent.getKey());
-            for (LikeEntry likeEntry : ent.getValue()) {
-                if (likeEntry.getState() == LikeState.LIKED) {
-                    persistenceRepository.save(new LikeElement(user, likeEntry.getElementId(), target));
-                } else if (likeEntry.getState() == LikeState.CANCELLED) {
-                    persistenceRepository.deleteByElementIdAndUserId(likeEntry.getElementId(), ent.getKey(), target);
-                }
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getCountsOfLikes(Collection<Long> elementIds, LikeTarget target) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (elementIds.isEmpty()) {
+            return result;
+        }
+
+        result.putAll(memoryRepository.getCachedLikeCounts(elementIds, target));
+
+        List<Long> missed = findMissedIds(elementIds, result);
+        if (!missed.isEmpty()) {
+            Map<Long, Integer> loaded = new HashMap<>();
+            missed.forEach(id -> loaded.put(id, 0));
+            for (LikeCount count : persistenceRepository.countAllByElementIds(missed, target)) {
+                loaded.put(count.getElementId(), count.getCount().intValue());
             }
+
+            memoryRepository.setLikeCounts(loaded, target, countCacheTime);
+            result.putAll(loaded);
         }
+        return result;
+    }
 
-        return allLikes.size();
+    private static List<Long> findMissedIds(Collection<Long> elementIds, Map<Long, ?> cached) {
+        return elementIds.stream()
+                .filter(id -> !cached.containsKey(id))
+                .distinct()
+                .collect(Collectors.toList());
     }
 }
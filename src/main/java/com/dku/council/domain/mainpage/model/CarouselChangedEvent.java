@@ -0,0 +1,7 @@
+package com.dku.council.domain.mainpage.model;
+
+/**
+ * 캐러셀 이미지가 등록, 삭제되거나 수정되었음을 알리는 이벤트
+ */
+public class CarouselChangedEvent {
+}
@@ -0,0 +1,55 @@
+package com.dku.council.domain.mainpage.model;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+
+/**
+ * 미리 직렬화해 둔 메인 페이지 응답. 생성된 뒤에는 변경되지 않는다.
+ */
+@Getter
+public class MainPageSnapshot {
+
+    /**
+     * JSON으로 직렬화된 메인 페이지 응답
+     */
+    private final byte[] body;
+
+    /**
+     * 응답 내용으로 만든 ETag. 내용이 같으면 다시 만들어도 같은 값이 된다.
+     */
+    private final String etag;
+
+    private final Instant builtAt;
+
+    public MainPageSnapshot(byte[] body, Instant builtAt) {
+        this.body = body;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        this.builtAt = builtAt;
+    }
+
+    /**
+     * If-None-Match 헤더에 이 응답의 ETag가 포함되어 있는지 확인한다.
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값. 없으면 null
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
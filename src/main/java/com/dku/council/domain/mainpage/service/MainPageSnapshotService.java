@@ -0,0 +1,161 @@
+package com.dku.council.domain.mainpage.service;
+
+import com.dku.council.domain.mainpage.model.CarouselChangedEvent;
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.Conference;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.dku.council.global.config.redis.RedisKeys.MAIN_PAGE_CHANNEL;
+
+/**
+ * 메인 페이지 응답을 미리 JSON으로 직렬화해서 서버 메모리에 보관한다. 앱을 실행할 때마다 DB를 조회하지 않도록 한다.
+ * 청원, 총학소식, 회의록이나 캐러셀이 바뀌면 별도 스레드에서 다시 만들고, Redis pub/sub으로 다른 서버에도 알린다.
+ * 알림을 놓친 경우에는 주기적으로 다시 만들어서 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MainPageSnapshotService implements MessageListener {
+
+    private static final Set<Class<? extends Post>> MAIN_PAGE_BOARDS = Set.of(Petition.class, News.class, Conference.class);
+
+    /**
+     * 이 서버의 식별자. 자신이 보낸 알림을 구분하기 위해 사용한다.
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "main-page-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 아직 실행되지 않은 갱신 작업이 있는지. 짧은 시간에 여러 번 바뀌어도 한 번만 다시 만든다.
+     */
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private volatile MainPageSnapshot snapshot;
+
+    private final MainPageService mainPageService;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Clock clock;
+
+    @PostConstruct
+    private void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(MAIN_PAGE_CHANNEL));
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 현재 메인 페이지 응답을 가져온다. 아직 만들어지지 않았다면 바로 만든다.
+     */
+    public MainPageSnapshot get() {
+        MainPageSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return refresh();
+    }
+
+    /**
+     * DB에서 메인 페이지 데이터를 읽어 응답을 다시 만든다.
+     * 내용이 이전과 같으면 ETag가 바뀌지 않도록 이전 응답을 그대로 유지한다.
+     */
+    public synchronized MainPageSnapshot refresh() {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(mainPageService.mainPageInfo());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        MainPageSnapshot current = snapshot;
+        if (current != null && Arrays.equals(current.getBody(), body)) {
+            return current;
+        }
+
+        MainPageSnapshot built = new MainPageSnapshot(body, Instant.now(clock));
+        snapshot = built;
+        return built;
+    }
+
+    /**
+     * 별도 스레드에서 응답을 다시 만든다. 이미 대기 중인 갱신 작업이 있으면 새로 추가하지 않는다.
+     */
+    public void refreshAsync() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            refreshPending.set(false);
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Failed to refresh main page snapshot", e);
+            }
+        });
+    }
+
+    /**
+     * 메인 페이지에 보이는 게시판의 글이 바뀌면 트랜잭션이 끝난 뒤 응답을 다시 만든다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (MAIN_PAGE_BOARDS.contains(event.getType())) {
+            changed();
+        }
+    }
+
+    /**
+     * 캐러셀이 바뀌면 트랜잭션이 끝난 뒤 응답을 다시 만든다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarouselChanged(CarouselChangedEvent event) {
+        changed();
+    }
+
+    private void changed() {
+        refreshAsync();
+        redisTemplate.convertAndSend(MAIN_PAGE_CHANNEL, nodeId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            refreshAsync();
+        }
+    }
+}
@@ -5,11 +5,15 @@ import com.dku.council.domain.comment.model.dto.RequestCreateCommentDto;
 import com.dku.council.domain.comment.service.CommentService;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
+import com.dku.council.domain.post.model.TrendingBoard;
+import com.dku.council.domain.post.model.TrendingEvent;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateGeneralForumDto;
 import com.dku.council.domain.post.model.dto.response.GeneralForumCommentDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseGeneralForumDto;
 import com.dku.council.domain.post.model.dto.response.ResponsePage;
+import com.dku.council.domain.post.service.TrendingService;
 import com.dku.council.domain.post.service.post.GeneralForumService;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.global.auth.jwt.AppAuthentication;
@@ -38,13 +42,14 @@ public class GeneralForumController {
     private final CommentService commentService;
     private final GeneralForumService forumService;
     private final LikeService likeService;
+    private final TrendingService trendingService;
 
     /**
      * 게시글 목록 및 태그 조회
      *
      * @param keyword  제목이나 내용에 포함된 검색어. 지정하지 않으면 모든 게시글 조회.
      * @param tagIds   조회할 태그 목록. or 조건으로 검색된다. 지정하지않으면 모든 게시글 조회.
-     * @param pageable 페이징 size, sort, page
+     * @param pageable 페이징 size, sort, page. 인기순 정렬은 sort=likes,desc (views, commentCount도 가능)
      * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
      * @return 페이징된 자유게시판 목록
      */
@@ -57,6 +62,25 @@ public class GeneralForumController {
         return new ResponsePage<>(list);
     }
 
+    /**
+     * 게시글 목록을 커서 방식으로 조회. 최신순으로 정렬되며 전체 개수는 알려주지 않는다.
+     *
+     * @param keyword  제목이나 내용에 포함된 검색어. 지정하지 않으면 모든 게시글 조회.
+     * @param tagIds   조회할 태그 목록. or 조건으로 검색된다. 지정하지않으면 모든 게시글 조회.
+     * @param cursor   이전 페이지에서 받은 nextCursor. 지정하지 않으면 처음부터 조회.
+     * @param size     가져올 게시글 수. (1~100) 지정하지 않으면 20개.
+     * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
+     * @return 커서 방식으로 페이징 된 자유게시판 목록
+     */
+    @GetMapping("/cursor")
+    public ResponseCursorPage<SummarizedGenericPostDto> listByCursor(@RequestParam(required = false) String keyword,
+                                                                     @RequestParam(required = false) List<Long> tagIds,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size,
+                                                                     @RequestParam(defaultValue = "50") int bodySize) {
+        return forumService.listByCursor(keyword, tagIds, cursor, size, bodySize);
+    }
+
     /**
      * 내가 쓴 글 조회
      */
@@ -204,7 +228,9 @@ public class GeneralForumController {
     @PostMapping("/like/{id}")
     @UserAuth
     public void like(AppAuthentication auth, @PathVariable Long id) {
-        likeService.like(id, auth.getUserId(), LikeTarget.POST);
+        if (likeService.like(id, auth.getUserId(), LikeTarget.POST)) {
+            trendingService.record(TrendingBoard.GENERAL_FORUM, id, TrendingEvent.LIKE);
+        }
     }
 
     /**
@@ -216,6 +242,7 @@ public class GeneralForumController {
     @DeleteMapping("/like/{id}")
     @UserAuth
     public void cancelLike(AppAuthentication auth, @PathVariable Long id) {
+        // 취소 시점의 가중치로 빼면 좋아요를 더할 때보다 크게 빠지므로, 트렌딩 점수는 건드리지 않는다.
         likeService.cancelLike(id, auth.getUserId(), LikeTarget.POST);
     }
 }
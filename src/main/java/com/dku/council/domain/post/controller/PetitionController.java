@@ -2,11 +2,15 @@ package com.dku.council.domain.post.controller;
 
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.PetitionStatus;
+import com.dku.council.domain.post.model.TrendingBoard;
+import com.dku.council.domain.post.model.TrendingEvent;
 import com.dku.council.domain.post.model.dto.list.SummarizedPetitionDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreatePetitionDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateReplyDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponsePage;
 import com.dku.council.domain.post.model.dto.response.ResponsePetitionDto;
+import com.dku.council.domain.post.service.TrendingService;
 import com.dku.council.domain.post.service.post.PetitionService;
 import com.dku.council.global.auth.jwt.AppAuthentication;
 import com.dku.council.global.auth.role.AdminAuth;
@@ -35,6 +39,7 @@ public class PetitionController {
 
     private final PetitionService petitionService;
     private final LikeService likeService;
+    private final TrendingService trendingService;
 
     /**
      * 게시글 목록으로 조회
@@ -43,7 +48,7 @@ public class PetitionController {
      * @param tagIds   조회할 태그 목록. or 조건으로 검색된다. 지정하지않으면 모든 게시글 조회.
      * @param status   조회할 청원 상태. 지정하지 않으면 모든 게시글 조회.
      * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
-     * @param pageable 페이징 size, sort, page
+     * @param pageable 페이징 size, sort, page. 인기순 정렬은 sort=likes,desc (views, commentCount도 가능)
      * @return 페이징 된 청원 목록
      */
     @GetMapping
@@ -57,6 +62,27 @@ public class PetitionController {
         return new ResponsePage<>(list);
     }
 
+    /**
+     * 게시글 목록을 커서 방식으로 조회. 최신순으로 정렬되며 전체 개수는 알려주지 않는다.
+     *
+     * @param keyword  제목이나 내용에 포함된 검색어. 지정하지 않으면 모든 게시글 조회.
+     * @param tagIds   조회할 태그 목록. or 조건으로 검색된다. 지정하지않으면 모든 게시글 조회.
+     * @param status   조회할 청원 상태. 지정하지 않으면 모든 게시글 조회.
+     * @param cursor   이전 페이지에서 받은 nextCursor. 지정하지 않으면 처음부터 조회.
+     * @param size     가져올 게시글 수. (1~100) 지정하지 않으면 20개.
+     * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
+     * @return 커서 방식으로 페이징 된 청원 목록
+     */
+    @GetMapping("/cursor")
+    public ResponseCursorPage<SummarizedPetitionDto> listByCursor(@RequestParam(required = false) String keyword,
+                                                                  @RequestParam(required = false) List<Long> tagIds,
+                                                                  @RequestParam(required = false) PetitionStatus status,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "20") int size,
+                                                                  @RequestParam(defaultValue = "50") int bodySize) {
+        return petitionService.listPetitionByCursor(keyword, tagIds, status, cursor, size, bodySize);
+    }
+
     /**
      * 내가 쓴 글 조회
      */
@@ -156,7 +182,9 @@ public class PetitionController {
     @PostMapping("/like/{id}")
     @UserAuth
     public void like(AppAuthentication auth, @PathVariable Long id) {
-        likeService.like(id, auth.getUserId(), POST);
+        if (likeService.like(id, auth.getUserId(), POST)) {
+            trendingService.record(TrendingBoard.PETITION, id, TrendingEvent.LIKE);
+        }
     }
 
     /**
@@ -168,6 +196,7 @@ public class PetitionController {
     @DeleteMapping("/like/{id}")
     @UserAuth
     public void cancelLike(AppAuthentication auth, @PathVariable Long id) {
+        // 취소 시점의 가중치로 빼면 좋아요를 더할 때보다 크게 빠지므로, 트렌딩 점수는 건드리지 않는다.
         likeService.cancelLike(id, auth.getUserId(), POST);
     }
 }
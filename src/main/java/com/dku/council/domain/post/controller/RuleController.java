@@ -2,6 +2,7 @@ package com.dku.council.domain.post.controller;
 
 import com.dku.council.domain.post.model.dto.list.SummarizedRuleDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateRuleDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponsePage;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
 import com.dku.council.domain.post.service.post.RuleService;
@@ -44,6 +45,23 @@ public class RuleController {
         return new ResponsePage<>(list);
     }
 
+    /**
+     * 게시글 목록을 커서 방식으로 조회. 최신순으로 정렬되며 전체 개수는 알려주지 않는다.
+     *
+     * @param keyword  제목이나 내용에 포함된 검색어. 지정하지 않으면 모든 게시글 조회.
+     * @param cursor   이전 페이지에서 받은 nextCursor. 지정하지 않으면 처음부터 조회.
+     * @param size     가져올 게시글 수. (1~100) 지정하지 않으면 20개.
+     * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
+     * @return 커서 방식으로 페이징 된 회칙 목록
+     */
+    @GetMapping("/cursor")
+    public ResponseCursorPage<SummarizedRuleDto> listByCursor(@RequestParam(required = false) String keyword,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size,
+                                                              @RequestParam(defaultValue = "50") int bodySize) {
+        return postService.listByCursor(keyword, cursor, size, bodySize);
+    }
+
     /**
      * 게시글 등록 (Admin)
      *
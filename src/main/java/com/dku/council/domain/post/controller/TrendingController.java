@@ -0,0 +1,41 @@
+package com.dku.council.domain.post.controller;
+
+import com.dku.council.domain.post.model.TrendingBoard;
+import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.dto.response.ResponsePage;
+import com.dku.council.domain.post.service.TrendingService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.api.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "트렌딩", description = "게시판별 최근 인기글 api")
+@RestController
+@RequestMapping("/post/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    /**
+     * 최근 인기글 목록 조회.
+     * 좋아요, 조회수, 댓글, 청원 동의를 시간 감쇠를 적용하여 집계한 점수 순으로 정렬된다.
+     *
+     * @param board    조회할 게시판 (GENERAL_FORUM, PETITION, NEWS)
+     * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
+     * @param pageable 페이징 size, page. sort는 무시된다.
+     * @return 페이징된 인기글 목록
+     */
+    @GetMapping
+    public ResponsePage<SummarizedGenericPostDto> list(@RequestParam TrendingBoard board,
+                                                       @RequestParam(defaultValue = "50") int bodySize,
+                                                       @ParameterObject Pageable pageable) {
+        Page<SummarizedGenericPostDto> list = trendingService.list(board, pageable, bodySize);
+        return new ResponsePage<>(list);
+    }
+}
@@ -5,6 +5,7 @@ import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.dto.list.SummarizedVocDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateReplyDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateVocDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponsePage;
 import com.dku.council.domain.post.model.dto.response.ResponseVocDto;
 import com.dku.council.domain.post.service.post.VocService;
@@ -52,6 +53,25 @@ public class VocController {
         return new ResponsePage<>(list);
     }
 
+    /**
+     * 게시글 목록을 커서 방식으로 조회. 최신순으로 정렬되며 전체 개수는 알려주지 않는다.
+     *
+     * @param keyword  제목이나 내용에 포함된 검색어. 지정하지 않으면 모든 게시글 조회.
+     * @param tagIds   조회할 태그 목록. or 조건으로 검색된다. 지정하지않으면 모든 게시글 조회.
+     * @param cursor   이전 페이지에서 받은 nextCursor. 지정하지 않으면 처음부터 조회.
+     * @param size     가져올 게시글 수. (1~100) 지정하지 않으면 20개.
+     * @param bodySize 게시글 본문 길이. (글자 단위) 지정하지 않으면 50 글자.
+     * @return 커서 방식으로 페이징 된 VOC 목록
+     */
+    @GetMapping("/cursor")
+    public ResponseCursorPage<SummarizedVocDto> listByCursor(@RequestParam(required = false) String keyword,
+                                                             @RequestParam(required = false) List<Long> tagIds,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             @RequestParam(defaultValue = "50") int bodySize) {
+        return vocService.listByCursor(keyword, tagIds, cursor, size, bodySize);
+    }
+
     /**
      * 내가 쓴 게시글 목록 조회
      *
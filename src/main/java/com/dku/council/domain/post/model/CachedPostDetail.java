@@ -0,0 +1,87 @@
+package com.dku.council.domain.post.model;
+
+import com.dku.council.domain.post.model.dto.PostFileDto;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
+import com.dku.council.domain.post.model.entity.posttype.Voc;
+import com.dku.council.domain.tag.model.dto.TagDto;
+import com.dku.council.infra.nhn.service.ObjectUploadContext;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시에 저장되는 게시글 단건 조회 결과. 조회하는 사용자와 관계없는 정보만 담는다.
+ * 좋아요 수, 내 게시글인지, 좋아요를 눌렀는지는 조회할 때마다 따로 계산한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class CachedPostDetail {
+
+    /**
+     * 게시글 타입 (게시판)
+     */
+    private final String type;
+
+    private final Long id;
+    private final Long userId;
+    private final String title;
+    private final String body;
+    private final String author;
+    private final String authorMajor;
+    private final List<TagDto> tag;
+    private final LocalDateTime createdAt;
+    private final List<PostFileDto> files;
+    private final int views;
+    private final boolean blinded;
+
+    /**
+     * 청원, VOC의 상태. 그 외 게시글은 null
+     */
+    private final String status;
+
+    /**
+     * 청원, VOC의 운영진 답변. 그 외 게시글은 null
+     */
+    private final String answer;
+
+
+    public CachedPostDetail(ObjectUploadContext context, Post post) {
+        this.type = Hibernate.getClass(post).getSimpleName();
+        this.id = post.getId();
+        this.userId = post.getUser().getId();
+        this.title = post.getTitle();
+        this.body = post.getBody();
+        this.author = post.getDisplayingUsername();
+        this.authorMajor = post.getUser().getMajor().getDepartment();
+        this.tag = post.getPostTags().stream()
+                .map(e -> new TagDto(e.getTag()))
+                .collect(Collectors.toList());
+        this.createdAt = post.getCreatedAt();
+        this.files = PostFileDto.listOf(context, post.getFiles());
+        this.views = post.getViews();
+        this.blinded = post.isBlinded();
+
+        if (post instanceof Petition) {
+            Petition petition = (Petition) post;
+            this.status = petition.getExtraStatus().name();
+            this.answer = petition.getAnswer();
+        } else if (post instanceof Voc) {
+            Voc voc = (Voc) post;
+            this.status = voc.getExtraStatus().name();
+            this.answer = voc.getAnswer();
+        } else {
+            this.status = null;
+            this.answer = null;
+        }
+    }
+
+    public boolean isTypeOf(Class<? extends Post> domainClass) {
+        return domainClass.getSimpleName().equals(type);
+    }
+}
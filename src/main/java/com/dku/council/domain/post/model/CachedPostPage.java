@@ -0,0 +1,16 @@
+package com.dku.council.domain.post.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 캐시에 저장되는 게시글 목록 한 페이지
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedPostPage<T> {
+    private final List<T> content;
+    private final long totalElements;
+}
@@ -0,0 +1,27 @@
+package com.dku.council.domain.post.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+/**
+ * 첨부 이미지로 만든 파생 이미지들의 object id. 이미지가 아니거나 만들지 못했다면 null이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageDerivatives {
+
+    public static final ImageDerivatives NONE = new ImageDerivatives(null, null);
+
+    /**
+     * 목록에서 보여줄 작은 썸네일
+     */
+    @Nullable
+    private final String thumbnailId;
+
+    /**
+     * 상세 화면에서 보여줄 미리보기
+     */
+    @Nullable
+    private final String previewId;
+}
@@ -0,0 +1,35 @@
+package com.dku.council.domain.post.model;
+
+import com.dku.council.domain.post.model.entity.Post;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.lang.Nullable;
+
+/**
+ * 게시글이 작성, 삭제되거나 상태가 바뀌어 게시판 목록이 달라졌음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    /**
+     * 게시글 타입 (게시판)
+     */
+    private final Class<? extends Post> type;
+
+    /**
+     * 바뀐 게시글 id. 여러 게시글이 한 번에 바뀐 경우 null
+     */
+    @Nullable
+    private final Long postId;
+
+    public PostChangedEvent(Class<? extends Post> type) {
+        this(type, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static PostChangedEvent of(Post post) {
+        return new PostChangedEvent((Class<? extends Post>) Hibernate.getClass(post), post.getId());
+    }
+}
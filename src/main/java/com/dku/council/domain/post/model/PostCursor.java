@@ -0,0 +1,62 @@
+package com.dku.council.domain.post.model;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.global.error.exception.BadRequestException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록의 커서. (작성 시각, id) 순으로 정렬된 목록에서 마지막으로 조회한 게시글의 위치를 나타낸다.
+ * 클라이언트에는 내용을 알 수 없는 문자열로 전달한다.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    /**
+     * 커서 문자열을 해석한다.
+     *
+     * @param cursor 커서 문자열. 비어있다면 처음부터 조회한다.
+     * @return 커서. 처음부터 조회하는 경우 null
+     * @throws BadRequestException 잘못된 커서인 경우
+     */
+    @Nullable
+    public static PostCursor decode(@Nullable String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, index));
+            Long id = Long.valueOf(decoded.substring(index + 1));
+            return new PostCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException(e);
+        }
+    }
+
+    public String encode() {
+        String value = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,18 @@
+package com.dku.council.domain.post.model;
+
+public enum PostFileStatus {
+    /**
+     * 서버 디스크에 임시 저장되어 업로드를 기다리는 상태
+     */
+    PENDING,
+
+    /**
+     * 업로드가 끝나서 보여줄 수 있는 상태
+     */
+    READY,
+
+    /**
+     * 여러 번 재시도했지만 업로드하지 못한 상태
+     */
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.dku.council.domain.post.model;
+
+import com.dku.council.domain.post.model.entity.PostFile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 첨부파일이 서버 디스크에 임시 저장되어 업로드를 기다리고 있음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostFilesStagedEvent {
+    private final List<PostFile> files;
+}
@@ -0,0 +1,37 @@
+package com.dku.council.domain.post.model;
+
+import com.dku.council.domain.post.model.entity.Post;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+
+/**
+ * 검색 색인에 등록할 게시글 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostSearchDocument {
+
+    private final Long id;
+
+    /**
+     * 게시글 타입 (게시판)
+     */
+    private final Class<? extends Post> type;
+
+    private final PostStatus status;
+    private final String title;
+    private final String body;
+
+    /**
+     * 게시글과 따로 조회한 본문으로 만든다. 본문이 지연 로딩되지 않도록 쿼리에서 사용한다.
+     */
+    @SuppressWarnings("unchecked")
+    public PostSearchDocument(Post post, String body) {
+        this(post.getId(), (Class<? extends Post>) Hibernate.getClass(post), post.getStatus(), post.getTitle(), body);
+    }
+
+    public static PostSearchDocument of(Post post) {
+        return new PostSearchDocument(post, post.getBody());
+    }
+}
@@ -0,0 +1,45 @@
+package com.dku.council.domain.post.model;
+
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
+import org.hibernate.Hibernate;
+
+/**
+ * 트렌딩 랭킹을 집계하는 게시판
+ */
+public enum TrendingBoard {
+    GENERAL_FORUM,
+    PETITION,
+    NEWS;
+
+    /**
+     * 게시글이 속한 게시판을 가져온다.
+     *
+     * @param post 게시글
+     * @return 게시판. 트렌딩을 집계하지 않는 게시글이면 null
+     */
+    public static TrendingBoard of(Post post) {
+        return of(Hibernate.getClass(post));
+    }
+
+    /**
+     * 게시글 타입에 해당하는 게시판을 가져온다.
+     *
+     * @param type 게시글 타입
+     * @return 게시판. 트렌딩을 집계하지 않는 게시글 타입이면 null
+     */
+    public static TrendingBoard of(Class<?> type) {
+        if (GeneralForum.class.isAssignableFrom(type)) {
+            return GENERAL_FORUM;
+        }
+        if (Petition.class.isAssignableFrom(type)) {
+            return PETITION;
+        }
+        if (News.class.isAssignableFrom(type)) {
+            return NEWS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dku.council.domain.post.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트렌딩 점수에 반영되는 이벤트와 가중치
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingEvent {
+    VIEW(1),
+    COMMENT(3),
+    LIKE(5),
+    AGREE(5);
+
+    private final double weight;
+}
@@ -3,7 +3,9 @@ package com.dku.council.domain.post.model.dto;
 import com.dku.council.domain.post.model.entity.PostFile;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.springframework.http.MediaType;
 
 import java.util.List;
@@ -11,6 +13,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class PostFileDto {
 
     @Schema(description = "파일 아이디", example = "1")
@@ -22,6 +25,9 @@ public class PostFileDto {
     @Schema(description = "썸네일 url (없으면 기본 이미지)", example = "http://1.2.3.4/thumb-1ddee68d-6afb-48d0-9cb6-04a8d8fea4ae.png")
     private final String thumbnailUrl;
 
+    @Schema(description = "상세 화면용 미리보기 url (없으면 원본 파일 url)", example = "http://1.2.3.4/preview-1ddee68d-6afb-48d0-9cb6-04a8d8fea4ae.jpg")
+    private final String previewUrl;
+
     @Schema(description = "원본파일 이름", example = "my_image.png")
     private final String originalName;
 
@@ -33,14 +39,19 @@ public class PostFileDto {
         this.id = file.getId();
         this.url = context.getObjectUrl(file.getFileId());
         this.thumbnailUrl = context.getThumbnailUrl(file.getThumbnailId());
+        this.previewUrl = file.getPreviewId() == null ? this.url : context.getObjectUrl(file.getPreviewId());
         this.originalName = file.getFileName();
 
         String fileMimeType = file.getMimeType();
         this.mimeType = Objects.requireNonNullElse(fileMimeType, MediaType.APPLICATION_OCTET_STREAM_VALUE);
     }
 
+    /**
+     * 업로드가 끝난 파일만 dto로 변환한다.
+     */
     public static List<PostFileDto> listOf(ObjectUploadContext context, List<PostFile> entities) {
         return entities.stream()
+                .filter(PostFile::isReady)
                 .map(file -> new PostFileDto(context, file))
                 .collect(Collectors.toList());
     }
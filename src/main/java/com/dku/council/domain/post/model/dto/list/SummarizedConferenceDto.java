@@ -2,9 +2,12 @@ package com.dku.council.domain.post.model.dto.list;
 
 import com.dku.council.domain.post.model.entity.posttype.Conference;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class SummarizedConferenceDto extends SummarizedGenericPostDto {
 
     @Schema(description = "회차", example = "4")
@@ -2,16 +2,19 @@ package com.dku.council.domain.post.model.dto.list;
 
 import com.dku.council.domain.post.model.dto.PostFileDto;
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.PostFile;
 import com.dku.council.domain.tag.model.dto.TagDto;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED, force = true)
 public class SummarizedGenericPostDto {
 
     @Schema(description = "게시글 아이디", example = "1")
@@ -33,7 +36,7 @@ public class SummarizedGenericPostDto {
     private final List<PostFileDto> files;
 
     @Schema(description = "좋아요 수", example = "26")
-    private final int likes;
+    private int likes;
 
     @Schema(description = "조회수", example = "16")
     private final int views;
@@ -45,23 +48,26 @@ public class SummarizedGenericPostDto {
     private final List<TagDto> tag;
 
     @Schema(description = "블라인드 여부", example = "false")
-    private final boolean isBlinded;
+    private final boolean blinded;
 
 
-    public SummarizedGenericPostDto(ObjectUploadContext context, int bodySize, int likes, Post post) {
+    /**
+     * 목록 조회용 dto를 만든다. 본문은 게시글 미리보기에서 잘라내므로 최대 {@link Post#PREVIEW_LENGTH}자까지만 보여준다.
+     * 파일과 태그는 게시글마다 조회하지 않도록 페이지 단위로 한 번에 가져와서 넘겨준다.
+     */
+    public SummarizedGenericPostDto(ObjectUploadContext context, int bodySize, int likes, Post post,
+                                    List<PostFile> files, List<TagDto> tags) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.author = post.getDisplayingUsername();
-        this.body = slice(post.getBody(), bodySize);
+        this.body = slice(post.getPreview(), bodySize);
         this.createdAt = post.getCreatedAt();
         this.likes = likes;
-        this.files = PostFileDto.listOf(context, post.getFiles());
+        this.files = PostFileDto.listOf(context, files);
         this.views = post.getViews();
-        this.commentCount = post.getComments().size(); // 댓글 개수 캐싱 필요
-        this.tag = post.getPostTags().stream()
-                .map(e -> new TagDto(e.getTag()))
-                .collect(Collectors.toList());
-        this.isBlinded = post.isBlinded();
+        this.commentCount = post.getCommentCount();
+        this.tag = tags;
+        this.blinded = post.isBlinded();
     }
 
     public SummarizedGenericPostDto(SummarizedGenericPostDto copy) {
@@ -75,7 +81,14 @@ public class SummarizedGenericPostDto {
         this.views = copy.getViews();
         this.commentCount = copy.getCommentCount();
         this.tag = copy.getTag();
-        this.isBlinded = copy.isBlinded();
+        this.blinded = copy.isBlinded();
+    }
+
+    /**
+     * 캐시된 목록에 최신 좋아요 수를 덮어쓴다.
+     */
+    public void overlayLikes(int likes) {
+        this.likes = likes;
     }
 
     private static String slice(String text, int maxLen) {
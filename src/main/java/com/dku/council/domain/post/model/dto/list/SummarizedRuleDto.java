@@ -2,9 +2,12 @@ package com.dku.council.domain.post.model.dto.list;
 
 import com.dku.council.domain.post.model.entity.posttype.Rule;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class SummarizedRuleDto extends SummarizedGenericPostDto {
 
     @Schema(description = "부서명 (소속대학)", example = "공과대학")
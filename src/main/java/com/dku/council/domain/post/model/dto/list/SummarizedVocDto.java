@@ -3,9 +3,12 @@ package com.dku.council.domain.post.model.dto.list;
 import com.dku.council.domain.post.model.VocStatus;
 import com.dku.council.domain.post.model.entity.posttype.Voc;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class SummarizedVocDto extends SummarizedGenericPostDto {
 
     @Schema(description = "VOC 상태", example = "WAITING")
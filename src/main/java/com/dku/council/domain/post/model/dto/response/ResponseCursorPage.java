@@ -0,0 +1,31 @@
+package com.dku.council.domain.post.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+public class ResponseCursorPage<T> implements Serializable {
+
+    @Schema(description = "컨텐츠")
+    private final List<T> content;
+
+    @Schema(description = "다음 페이지가 있는지?", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "페이지 컨텐츠 개수", example = "20")
+    private final int size;
+
+    @Schema(description = "다음 페이지를 조회할 때 사용할 커서. 마지막 페이지라면 null", example = "MjAyMy0wMy0wM1QwMzowMzowM18xMjM")
+    private final String nextCursor;
+
+    public ResponseCursorPage(Slice<T> slice, String nextCursor) {
+        this.content = slice.getContent();
+        this.hasNext = slice.hasNext();
+        this.size = slice.getSize();
+        this.nextCursor = nextCursor;
+    }
+}
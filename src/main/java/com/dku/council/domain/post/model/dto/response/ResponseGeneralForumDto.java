@@ -1,6 +1,6 @@
 package com.dku.council.domain.post.model.dto.response;
 
-import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.model.CachedPostDetail;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -10,8 +10,8 @@ public class ResponseGeneralForumDto extends ResponseSingleGenericPostDto {
     @Schema(description = "작성자 학과", example = "컴퓨터공학과")
     private final String authorMajor;
 
-    public ResponseGeneralForumDto(ResponseSingleGenericPostDto dto, GeneralForum post) {
+    public ResponseGeneralForumDto(ResponseSingleGenericPostDto dto, CachedPostDetail post) {
         super(dto);
-        this.authorMajor = post.getUser().getMajor().getDepartment();
+        this.authorMajor = post.getAuthorMajor();
     }
 }
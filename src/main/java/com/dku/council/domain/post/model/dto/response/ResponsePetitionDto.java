@@ -1,7 +1,7 @@
 package com.dku.council.domain.post.model.dto.response;
 
+import com.dku.council.domain.post.model.CachedPostDetail;
 import com.dku.council.domain.post.model.PetitionStatus;
-import com.dku.council.domain.post.model.entity.posttype.Petition;
 import com.dku.council.domain.statistic.model.dto.PetitionStatisticDto;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -34,9 +34,9 @@ public class ResponsePetitionDto extends ResponseSingleGenericPostDto {
     private final int likes = 0;
     private final boolean isAgree;
 
-    public ResponsePetitionDto(ResponseSingleGenericPostDto dto, Petition post, Duration expiresTime, int agreeCount, List<PetitionStatisticDto> statisticList, boolean isAgree) {
+    public ResponsePetitionDto(ResponseSingleGenericPostDto dto, CachedPostDetail post, Duration expiresTime, int agreeCount, List<PetitionStatisticDto> statisticList, boolean isAgree) {
         super(dto);
-        this.status = post.getExtraStatus();
+        this.status = PetitionStatus.valueOf(post.getStatus());
         this.answer = post.getAnswer();
         this.expiresAt = post.getCreatedAt().plus(expiresTime).toLocalDate();
         this.agreeCount = agreeCount;
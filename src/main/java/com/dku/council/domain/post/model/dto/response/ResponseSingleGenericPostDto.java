@@ -1,15 +1,13 @@
 package com.dku.council.domain.post.model.dto.response;
 
+import com.dku.council.domain.post.model.CachedPostDetail;
 import com.dku.council.domain.post.model.dto.PostFileDto;
-import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.tag.model.dto.TagDto;
-import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 public class ResponseSingleGenericPostDto {
@@ -50,21 +48,19 @@ public class ResponseSingleGenericPostDto {
     @Schema(description = "블라인드 여부", example = "false")
     private final boolean isBlinded;
 
-    public ResponseSingleGenericPostDto(ObjectUploadContext context, int likes, boolean isMine, boolean isLiked, Post post) {
-        this.id = post.getId();
-        this.title = post.getTitle();
-        this.body = post.getBody();
-        this.author = post.getDisplayingUsername();
-        this.tag = post.getPostTags().stream()
-                .map(e -> new TagDto(e.getTag()))
-                .collect(Collectors.toList());
+    public ResponseSingleGenericPostDto(CachedPostDetail detail, int likes, boolean isMine, boolean isLiked) {
+        this.id = detail.getId();
+        this.title = detail.getTitle();
+        this.body = detail.getBody();
+        this.author = detail.getAuthor();
+        this.tag = detail.getTag();
         this.likes = likes;
-        this.views = post.getViews();
-        this.createdAt = post.getCreatedAt();
-        this.files = PostFileDto.listOf(context, post.getFiles());
+        this.views = detail.getViews();
+        this.createdAt = detail.getCreatedAt();
+        this.files = detail.getFiles();
         this.isMine = isMine;
         this.isLiked = isLiked;
-        this.isBlinded = post.isBlinded();
+        this.isBlinded = detail.isBlinded();
     }
 
     public ResponseSingleGenericPostDto(ResponseSingleGenericPostDto copy) {
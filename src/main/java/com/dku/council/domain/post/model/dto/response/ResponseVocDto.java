@@ -1,7 +1,7 @@
 package com.dku.council.domain.post.model.dto.response;
 
+import com.dku.council.domain.post.model.CachedPostDetail;
 import com.dku.council.domain.post.model.VocStatus;
-import com.dku.council.domain.post.model.entity.posttype.Voc;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -14,9 +14,9 @@ public class ResponseVocDto extends ResponseSingleGenericPostDto {
     @Schema(description = "운영진 답변", example = "안녕하세요", nullable = true)
     private final String answer;
 
-    public ResponseVocDto(ResponseSingleGenericPostDto dto, Voc post) {
+    public ResponseVocDto(ResponseSingleGenericPostDto dto, CachedPostDetail post) {
         super(dto);
-        this.status = post.getExtraStatus();
+        this.status = VocStatus.valueOf(post.getStatus());
         this.answer = post.getAnswer();
     }
 }
@@ -29,11 +29,19 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_post_created_at", columnList = "createdAt, post_id")
+})
 @Inheritance(strategy = SINGLE_TABLE)
 @DiscriminatorColumn(name = "type")
 @NoArgsConstructor(access = PROTECTED)
 public abstract class Post extends BaseEntity {
 
+    /**
+     * 목록에 보여줄 본문 미리보기의 최대 길이
+     */
+    public static final int PREVIEW_LENGTH = 200;
+
     @Id
     @GeneratedValue
     @Column(name = "post_id")
@@ -48,9 +56,19 @@ public abstract class Post extends BaseEntity {
 
     private String title;
 
+    /**
+     * 본문. 목록 조회시에는 읽지 않도록 지연 로딩한다.
+     */
     @Lob
+    @Basic(fetch = LAZY)
     private String body;
 
+    /**
+     * 본문 앞부분. 게시글 작성 시점에 만들어진다.
+     */
+    @Column(length = PREVIEW_LENGTH)
+    private String preview;
+
     @Enumerated(STRING)
     private PostStatus status;
 
@@ -64,19 +82,36 @@ public abstract class Post extends BaseEntity {
     @OneToMany(mappedBy = "post", cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<Report> reports = new ArrayList<>();
 
+    /**
+     * 조회수. 조회수 증가분이 메모리에 쌓였다가 주기적으로 반영된다.
+     */
     private int views;
 
+    /**
+     * 좋아요 수. '좋아요' dump 시점에 갱신된다.
+     */
+    private int likes;
+
+    /**
+     * 활성 상태인 댓글 수. 댓글 작성/삭제 시점에 갱신된다.
+     */
+    private int commentCount;
+
 
     protected Post(User user, String title, String body, int views) {
         this.user = user;
         this.title = title;
         this.body = body;
+        this.preview = makePreview(body);
         this.views = views;
         this.status = PostStatus.ACTIVE;
     }
 
-    public void increaseViewCount() {
-        views++;
+    public static String makePreview(String body) {
+        if (body == null) {
+            return null;
+        }
+        return body.substring(0, Math.min(body.length(), PREVIEW_LENGTH));
     }
 
     public void markAsDeleted(boolean byAdmin) {
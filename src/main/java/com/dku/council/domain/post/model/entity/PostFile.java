@@ -1,12 +1,16 @@
 package com.dku.council.domain.post.model.entity;
 
+import com.dku.council.domain.post.model.ImageDerivatives;
+import com.dku.council.domain.post.model.PostFileStatus;
 import com.dku.council.global.base.BaseEntity;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.util.Objects;
 
+import static javax.persistence.EnumType.STRING;
 import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
@@ -28,16 +32,81 @@ public class PostFile extends BaseEntity {
 
     private String thumbnailId;
 
+    /**
+     * 상세 화면용 미리보기 이미지 id
+     */
+    private String previewId;
+
     private String mimeType;
 
     private String fileName;
 
+    /**
+     * 업로드 상태. 상태가 없는 파일은 이 값이 추가되기 전에 업로드된 파일이다.
+     */
+    @Enumerated(STRING)
+    private PostFileStatus status;
+
+    /**
+     * 업로드를 기다리는 동안 파일이 임시 저장된 서버 디스크 경로
+     */
+    private String stagedPath;
+
+    /**
+     * 파일을 임시 저장한 서버 이름. 임시 파일은 이 서버에서만 다시 업로드할 수 있다.
+     */
+    private String ownerNode;
+
+    /**
+     * 업로드에 실패한 횟수
+     */
+    private int attempts;
+
     @Builder
-    private PostFile(String fileId, String thumbnailId, String fileName, String mimeType) {
+    private PostFile(String fileId, String thumbnailId, String fileName, String mimeType,
+                     PostFileStatus status, String stagedPath, String ownerNode) {
         this.fileId = fileId;
         this.thumbnailId = thumbnailId;
         this.fileName = fileName;
         this.mimeType = mimeType;
+        this.status = Objects.requireNonNullElse(status, PostFileStatus.READY);
+        this.stagedPath = stagedPath;
+        this.ownerNode = ownerNode;
+    }
+
+    public boolean isReady() {
+        return status == null || status == PostFileStatus.READY;
+    }
+
+    public void markAsReady(String fileId, ImageDerivatives derivatives) {
+        this.fileId = fileId;
+        this.thumbnailId = derivatives.getThumbnailId();
+        this.previewId = derivatives.getPreviewId();
+        this.status = PostFileStatus.READY;
+        this.stagedPath = null;
+    }
+
+    /**
+     * 업로드 실패 횟수를 올린다. 최대 횟수에 도달하면 실패 상태로 바꾼다.
+     *
+     * @return 실패 상태가 되었는지
+     */
+    public boolean failUpload(int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = PostFileStatus.FAILED;
+            this.stagedPath = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 임시 저장된 파일이 사라져 더 이상 업로드할 수 없는 경우 실패 상태로 바꾼다.
+     */
+    public void failMissingStaged() {
+        this.status = PostFileStatus.FAILED;
+        this.stagedPath = null;
     }
 
     public void changePost(Post post) {
@@ -9,11 +9,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import javax.persistence.Basic;
 import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.Lob;
 
 import static javax.persistence.EnumType.STRING;
+import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
 /**
@@ -29,6 +31,7 @@ public class Petition extends Post {
     private PetitionStatus extraStatus;
 
     @Lob
+    @Basic(fetch = LAZY)
     private String answer;
 
     @Builder
@@ -8,11 +8,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import javax.persistence.Basic;
 import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.Lob;
 
 import static javax.persistence.EnumType.STRING;
+import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
 /**
@@ -27,6 +29,7 @@ public class Voc extends Post {
     private VocStatus extraStatus;
 
     @Lob
+    @Basic(fetch = LAZY)
     private String answer;
 
     @Builder
@@ -0,0 +1,15 @@
+package com.dku.council.domain.post.repository;
+
+import com.dku.council.domain.post.model.CachedPostDetail;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface PostDetailMemoryRepository {
+
+    Optional<CachedPostDetail> get(Long postId, Instant now);
+
+    void set(Long postId, CachedPostDetail detail, Instant now);
+
+    void remove(Long postId);
+}
@@ -0,0 +1,54 @@
+package com.dku.council.domain.post.repository;
+
+import com.dku.council.domain.post.model.PostSearchDocument;
+import com.dku.council.domain.post.model.PostStatus;
+import com.dku.council.domain.post.model.entity.Post;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+public interface PostSearchIndex {
+
+    /**
+     * 게시글을 색인에 등록한다. 이미 등록된 게시글이라면 새로 색인한다.
+     *
+     * @param document 게시글 정보
+     */
+    void save(PostSearchDocument document);
+
+    /**
+     * 색인된 게시글의 상태를 변경한다. 색인되지 않은 게시글이라면 무시한다.
+     *
+     * @param postId 게시글 ID
+     * @param status 변경된 상태
+     */
+    void updateStatus(Long postId, PostStatus status);
+
+    /**
+     * 게시글을 색인에서 삭제한다.
+     *
+     * @param postId 게시글 ID
+     */
+    void delete(Long postId);
+
+    /**
+     * 색인을 모두 비운다.
+     */
+    void clear();
+
+    /**
+     * @return 색인된 게시글 수
+     */
+    int count();
+
+    /**
+     * 제목이나 본문에 검색어가 포함된 게시글을 찾는다. 검색어를 공백으로 나누었을 때 모든 단어가 포함되어야 한다.
+     *
+     * @param keyword 검색어
+     * @param type    게시글 타입. 하위 타입도 포함된다. null이면 모든 게시글에서 찾는다.
+     * @param status  게시글 상태. null이면 상태와 상관없이 찾는다.
+     * @param limit   최대 결과 수
+     * @return 관련도가 높은 순으로 정렬된 게시글 ID 목록
+     */
+    List<Long> search(String keyword, @Nullable Class<? extends Post> type, @Nullable PostStatus status, int limit);
+}
@@ -0,0 +1,61 @@
+package com.dku.council.domain.post.repository;
+
+import com.dku.council.domain.post.model.TrendingBoard;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface TrendingMemoryRepository {
+
+    /**
+     * 게시글의 트렌딩 점수를 증가시킨다. 가중치는 현재 시각을 기준으로 시간 감쇠가 적용된다.
+     *
+     * @param board    게시판
+     * @param postId   게시글 ID
+     * @param weight   가중치. 감쇠 때문에 같은 크기의 음수로 이전 이벤트를 되돌릴 수 없으므로 양수만 넘긴다.
+     * @param now      현재 시각
+     * @param halfLife 점수가 절반으로 줄어드는 시간
+     */
+    void increase(TrendingBoard board, Long postId, double weight, Instant now, Duration halfLife);
+
+    /**
+     * 점수가 높은 순서대로 게시글 ID를 가져온다.
+     *
+     * @param board  게시판
+     * @param offset 시작 위치
+     * @param size   가져올 개수
+     * @return 게시글 ID 목록
+     */
+    List<Long> getRanking(TrendingBoard board, long offset, int size);
+
+    /**
+     * 랭킹에 포함된 게시글 개수를 가져온다.
+     *
+     * @param board 게시판
+     * @return 게시글 개수
+     */
+    long count(TrendingBoard board);
+
+    /**
+     * 게시글을 랭킹에서 제거한다.
+     *
+     * @param board   게시판
+     * @param postIds 게시글 ID 목록
+     */
+    void remove(TrendingBoard board, Collection<Long> postIds);
+
+    /**
+     * 점수의 기준 시각을 현재로 옮기고 점수를 감쇠시킨다. 최소 점수보다 작아진 게시글과
+     * 최대 크기를 넘는 하위 게시글은 랭킹에서 제거된다.
+     *
+     * @param board    게시판
+     * @param now      현재 시각
+     * @param halfLife 점수가 절반으로 줄어드는 시간
+     * @param minScore 최소 점수
+     * @param maxSize  랭킹 최대 크기
+     * @return 남아있는 게시글 개수
+     */
+    long rebase(TrendingBoard board, Instant now, Duration halfLife, double minScore, int maxSize);
+}
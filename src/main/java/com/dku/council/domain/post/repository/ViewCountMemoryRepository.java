@@ -2,26 +2,33 @@ package com.dku.council.domain.post.repository;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 
 public interface ViewCountMemoryRepository {
 
     /**
-     * 조회수 셋에 이미 존재하는지 확인한다.
+     * 게시글 조회자를 기록한다. 조회자는 window 단위 구간으로 나누어 기록되며, 구간이 끝나면 한꺼번에 만료된다.
+     * 이번 구간에서 처음 조회한 경우에만 게시글의 조회수 증가분을 1 올린다.
      *
      * @param postId         게시글 ID
      * @param userIdentifier 유저 식별자(remoteAddress, Id 등..)
+     * @param window         중복 조회를 막는 구간 길이
      * @param now            현재 시각
-     * @return 이미 존재하면 true, 아니면 false반환.
+     * @return 이번 구간에서 처음 조회했다면 true, 아니면 false반환.
      */
-    boolean isAlreadyContains(Long postId, String userIdentifier, Instant now);
+    boolean addViewer(Long postId, String userIdentifier, Duration window, Instant now);
 
     /**
-     * 조회수 셋에 새로 추가한다. 추가하고나서 expiresAfter분 뒤에 삭제된다.
+     * 쌓인 조회수 증가분을 모두 가져오고 메모리에서 삭제한다.
      *
-     * @param postId         게시글 ID
-     * @param userIdentifier 유저 식별자(remoteAddress, Id 등..)
-     * @param expiresAfter   캐시 유지시간.
-     * @param now            현재 시각
+     * @return 게시글 ID -> 조회수 증가분
+     */
+    Map<Long, Long> drainViews();
+
+    /**
+     * DB에 반영하지 못한 조회수 증가분을 되돌려 놓는다. 다음 반영 때 다시 반영된다.
+     *
+     * @param views 게시글 ID -> 조회수 증가분
      */
-    void put(Long postId, String userIdentifier, Duration expiresAfter, Instant now);
+    void restoreViews(Map<Long, Long> views);
 }
@@ -0,0 +1,62 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.PostCursor;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.post.PostCursorRepository;
+import com.dku.council.domain.post.repository.spec.PostSpec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostCursorRepositoryImpl<T extends Post> implements PostCursorRepository<T> {
+
+    private static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<T> findAllByCursor(Class<T> domainClass, Specification<T> spec, @Nullable PostCursor cursor, int size) {
+        Specification<T> where = Specification.where(spec).and(PostSpec.beforeCursor(cursor));
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = where.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root)
+                .orderBy(builder.desc(root.get("createdAt")), builder.desc(root.get("id")));
+
+        EntityGraph<T> graph = entityManager.createEntityGraph(domainClass);
+        graph.addSubgraph("user").addAttributeNodes("major");
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 가져온다.
+        List<T> posts = entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH_HINT, graph)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        return new SliceImpl<>(posts, PageRequest.of(0, size, sort), hasNext);
+    }
+}
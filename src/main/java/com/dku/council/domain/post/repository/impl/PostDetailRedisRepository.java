@@ -0,0 +1,42 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.CachedPostDetail;
+import com.dku.council.domain.post.repository.PostDetailMemoryRepository;
+import com.dku.council.global.base.AbstractCacheRepository;
+import com.dku.council.global.cache.CacheSupport;
+import com.dku.council.global.config.redis.RedisKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public class PostDetailRedisRepository extends AbstractCacheRepository implements PostDetailMemoryRepository {
+
+    private final Duration cacheDuration;
+
+    protected PostDetailRedisRepository(CacheSupport support,
+                                        @Value("${app.post.detail-cache.ttl:PT1M}") Duration cacheDuration,
+                                        @Value("${app.post.detail-cache.local-ttl:PT10S}") Duration localCacheTime,
+                                        @Value("${app.post.detail-cache.local-size:1000}") int localCacheSize) {
+        super(support, RedisKeys.POST_DETAIL_CACHE_KEY, localCacheTime, localCacheSize);
+        this.cacheDuration = cacheDuration;
+    }
+
+    @Override
+    public Optional<CachedPostDetail> get(Long postId, Instant now) {
+        return get(postId.toString(), CachedPostDetail.class, now);
+    }
+
+    @Override
+    public void set(Long postId, CachedPostDetail detail, Instant now) {
+        set(postId.toString(), detail, now, cacheDuration);
+    }
+
+    @Override
+    public void remove(Long postId) {
+        remove(postId.toString());
+    }
+}
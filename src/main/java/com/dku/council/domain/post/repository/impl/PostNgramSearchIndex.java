@@ -0,0 +1,261 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.PostSearchDocument;
+import com.dku.council.domain.post.model.PostStatus;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.PostSearchIndex;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 서버 메모리에 두는 n-gram 역색인. 형태소 분석 없이 한글을 검색할 수 있도록 단어를 글자 단위 bigram으로 나누어 색인한다.
+ * 한 글자 검색어를 위해 unigram도 함께 색인한다. 결과는 BM25 점수로 정렬하며, 제목에 포함된 경우 가중치를 더 준다.
+ */
+@Repository
+public class PostNgramSearchIndex implements PostSearchIndex {
+
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * n-gram -> (게시글 ID -> 가중치가 적용된 출현 횟수)
+     */
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+    private long totalLength = 0;
+
+    @Override
+    public void save(PostSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = countGrams(document.getTitle(), TITLE_WEIGHT, frequencies)
+                + countGrams(document.getBody(), 1, frequencies);
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            deleteInternal(document.getId());
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>())
+                        .put(document.getId(), entry.getValue());
+            }
+            posts.put(document.getId(), new IndexedPost(document.getType(), document.getStatus(),
+                    frequencies.keySet().toArray(new String[0]), length));
+            totalLength += length;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateStatus(Long postId, PostStatus status) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            IndexedPost post = posts.get(postId);
+            if (post != null) {
+                post.status = status;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Long postId) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            deleteInternal(postId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void deleteInternal(Long postId) {
+        IndexedPost post = posts.remove(postId);
+        if (post == null) {
+            return;
+        }
+
+        for (String gram : post.grams) {
+            Map<Long, Integer> postIds = postings.get(gram);
+            if (postIds != null) {
+                postIds.remove(postId);
+                if (postIds.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        totalLength -= post.length;
+    }
+
+    @Override
+    public void clear() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            postings.clear();
+            posts.clear();
+            totalLength = 0;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return posts.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String keyword, @Nullable Class<? extends Post> type, @Nullable PostStatus status,
+                             int limit) {
+        Set<String> grams = queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Map<Long, Integer> postIds = postings.get(gram);
+                if (postIds == null) {
+                    return List.of();
+                }
+                lists.add(postIds);
+            }
+            // 가장 적게 등장한 n-gram부터 교집합을 구한다.
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            double averageLength = posts.isEmpty() ? 1 : (double) totalLength / posts.size();
+            List<ScoredPost> results = new ArrayList<>();
+            for (Long postId : lists.get(0).keySet()) {
+                IndexedPost post = posts.get(postId);
+                if (!post.matches(type, status) || !containsAll(lists, postId)) {
+                    continue;
+                }
+                results.add(new ScoredPost(postId, score(lists, postId, post.length, averageLength)));
+            }
+
+            return results.stream()
+                    .sorted(Comparator.comparingDouble(ScoredPost::getScore).reversed()
+                            .thenComparing(ScoredPost::getPostId, Comparator.reverseOrder()))
+                    .limit(limit)
+                    .map(ScoredPost::getPostId)
+                    .collect(Collectors.toList());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private static boolean containsAll(List<Map<Long, Integer>> lists, Long postId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).containsKey(postId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double score(List<Map<Long, Integer>> lists, Long postId, int length, double averageLength) {
+        double norm = K1 * (1 - B + B * length / averageLength);
+        double score = 0;
+        for (Map<Long, Integer> postIds : lists) {
+            int df = postIds.size();
+            double idf = Math.log(1 + (posts.size() - df + 0.5) / (df + 0.5));
+            int tf = postIds.get(postId);
+            score += idf * tf * (K1 + 1) / (tf + norm);
+        }
+        return score;
+    }
+
+    private static int countGrams(String text, int weight, Map<String, Integer> frequencies) {
+        int count = 0;
+        for (String token : tokenize(text)) {
+            for (int i = 0; i < token.length(); i++) {
+                frequencies.merge(token.substring(i, i + 1), weight, Integer::sum);
+                if (i + 1 < token.length()) {
+                    frequencies.merge(token.substring(i, i + 2), weight, Integer::sum);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 검색어의 n-gram. 한 글자 단어는 unigram, 나머지는 bigram으로 나눈다.
+     */
+    private static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokenize(keyword)) {
+            if (token.length() == 1) {
+                grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(DELIMITER.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static class IndexedPost {
+        private final Class<? extends Post> type;
+        private final String[] grams;
+        private final int length;
+        private PostStatus status;
+
+        private IndexedPost(Class<? extends Post> type, PostStatus status, String[] grams, int length) {
+            this.type = type;
+            this.status = status;
+            this.grams = grams;
+            this.length = length;
+        }
+
+        private boolean matches(@Nullable Class<? extends Post> type, @Nullable PostStatus status) {
+            return (type == null || type.isAssignableFrom(this.type))
+                    && (status == null || status == this.status);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class ScoredPost {
+        private final Long postId;
+        private final double score;
+    }
+}
@@ -1,32 +1,38 @@
 package com.dku.council.domain.post.repository.impl;
 
 import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
-import com.dku.council.global.base.AbstractKeyValueCacheRepository;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.time.Instant;
 
+/**
+ * 사용자별 글 작성 시각을 (postType, userId)마다 별도의 키로 저장한다. 키는 만료 시각이 되면 Redis에서 바로 삭제된다.
+ * 값으로는 만료 시각을 저장해 두고, 만료 여부는 전달받은 현재 시각과 비교해서 판단한다.
+ */
 @Repository
-public class PostTimeRedisRepository extends AbstractKeyValueCacheRepository implements PostTimeMemoryRepository {
+@RequiredArgsConstructor
+public class PostTimeRedisRepository implements PostTimeMemoryRepository {
 
-    public PostTimeRedisRepository(StringRedisTemplate redisTemplate,
-                                   ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, RedisKeys.POST_WRITE_KEY);
-    }
+    private final StringRedisTemplate redisTemplate;
 
     @Override
     public boolean isAlreadyContains(String postType, Long userId, Instant now) {
         String key = RedisKeys.combine(RedisKeys.POST_WRITE_KEY, postType, userId);
-        return get(key, String.class, now).isPresent();
+        String expiresAt = redisTemplate.opsForValue().get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        return !now.isAfter(Instant.ofEpochMilli(Long.parseLong(expiresAt)));
     }
 
     @Override
     public void put(String postType, Long userId, Duration expiresAfter, Instant now) {
         String key = RedisKeys.combine(RedisKeys.POST_WRITE_KEY, postType, userId);
-        set(key, "", now, expiresAfter);
+        Instant expiresAt = now.plus(expiresAfter);
+        redisTemplate.opsForValue().set(key, String.valueOf(expiresAt.toEpochMilli()), expiresAfter);
     }
 }
@@ -0,0 +1,89 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.TrendingBoard;
+import com.dku.council.domain.post.repository.TrendingMemoryRepository;
+import com.dku.council.global.config.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.dku.council.global.config.redis.RedisKeys.combine;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendingRedisRepository implements TrendingMemoryRepository {
+
+    private static final RedisScript<String> INCREASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/trending-incr.lua"), String.class);
+
+    private static final RedisScript<Long> REBASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/trending-rebase.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void increase(TrendingBoard board, Long postId, double weight, Instant now, Duration halfLife) {
+        redisTemplate.execute(INCREASE_SCRIPT, keys(board),
+                postId.toString(),
+                String.valueOf(weight),
+                String.valueOf(now.getEpochSecond()),
+                String.valueOf(halfLife.toSeconds()));
+    }
+
+    @Override
+    public List<Long> getRanking(TrendingBoard board, long offset, int size) {
+        String key = combine(RedisKeys.TRENDING_KEY, board);
+        Set<String> ids = redisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(TrendingBoard board) {
+        String key = combine(RedisKeys.TRENDING_KEY, board);
+        Long count = redisTemplate.opsForZSet().zCard(key);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void remove(TrendingBoard board, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        String key = combine(RedisKeys.TRENDING_KEY, board);
+        Object[] members = postIds.stream()
+                .map(Object::toString)
+                .toArray();
+        redisTemplate.opsForZSet().remove(key, members);
+    }
+
+    @Override
+    public long rebase(TrendingBoard board, Instant now, Duration halfLife, double minScore, int maxSize) {
+        Long count = redisTemplate.execute(REBASE_SCRIPT, keys(board),
+                String.valueOf(now.getEpochSecond()),
+                String.valueOf(halfLife.toSeconds()),
+                String.valueOf(minScore),
+                String.valueOf(maxSize));
+        return count == null ? 0 : count;
+    }
+
+    private static List<String> keys(TrendingBoard board) {
+        return List.of(
+                combine(RedisKeys.TRENDING_KEY, board),
+                combine(RedisKeys.TRENDING_BASE_KEY, board)
+        );
+    }
+}
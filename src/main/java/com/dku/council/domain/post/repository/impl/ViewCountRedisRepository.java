@@ -1,32 +1,64 @@
 package com.dku.council.domain.post.repository.impl;
 
 import com.dku.council.domain.post.repository.ViewCountMemoryRepository;
-import com.dku.council.global.base.AbstractKeyValueCacheRepository;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.dku.council.global.config.redis.RedisKeys.POST_VIEWERS_KEY;
+import static com.dku.council.global.config.redis.RedisKeys.POST_VIEW_DELTA_KEY;
 
 @Repository
-public class ViewCountRedisRepository extends AbstractKeyValueCacheRepository implements ViewCountMemoryRepository {
+@RequiredArgsConstructor
+public class ViewCountRedisRepository implements ViewCountMemoryRepository {
+
+    private static final RedisScript<Long> VIEW_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/post-view.lua"), Long.class);
+
+    private static final RedisScript<List> DRAIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/post-view-drain.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean addViewer(Long postId, String userIdentifier, Duration window, Instant now) {
+        long windowMillis = window.toMillis();
+        long bucket = now.toEpochMilli() / windowMillis;
+        Instant expiresAt = Instant.ofEpochMilli((bucket + 1) * windowMillis);
 
-    public ViewCountRedisRepository(StringRedisTemplate redisTemplate,
-                                    ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, RedisKeys.POST_VIEW_COUNT_SET_KEY);
+        String viewersKey = RedisKeys.combine(POST_VIEWERS_KEY, bucket, postId);
+        Long added = redisTemplate.execute(VIEW_SCRIPT, List.of(viewersKey, POST_VIEW_DELTA_KEY),
+                userIdentifier,
+                postId.toString(),
+                String.valueOf(expiresAt.getEpochSecond() + 1));
+        return added != null && added == 1;
     }
 
     @Override
-    public boolean isAlreadyContains(Long postId, String userIdentifier, Instant now) {
-        String key = RedisKeys.combine(postId, userIdentifier);
-        return get(key, String.class, now).isPresent();
+    public Map<Long, Long> drainViews() {
+        List<?> values = redisTemplate.execute(DRAIN_SCRIPT, List.of(POST_VIEW_DELTA_KEY));
+        Map<Long, Long> views = new HashMap<>();
+        if (values == null) {
+            return views;
+        }
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            views.put(Long.valueOf(values.get(i).toString()), Long.valueOf(values.get(i + 1).toString()));
+        }
+        return views;
     }
 
     @Override
-    public void put(Long postId, String userIdentifier, Duration expiresAfter, Instant now) {
-        String key = RedisKeys.combine(postId, userIdentifier);
-        set(key, "", now, expiresAfter);
+    public void restoreViews(Map<Long, Long> views) {
+        views.forEach((postId, delta) ->
+                redisTemplate.opsForHash().increment(POST_VIEW_DELTA_KEY, postId.toString(), delta));
     }
 }
@@ -12,7 +12,8 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface GenericPostRepository<T extends Post> extends JpaRepository<T, Long>, JpaSpecificationExecutor<T> {
+public interface GenericPostRepository<T extends Post> extends JpaRepository<T, Long>, JpaSpecificationExecutor<T>,
+        PostCursorRepository<T> {
 
     /**
      * ACTIVE상태인 post만 가져옵니다.
@@ -0,0 +1,22 @@
+package com.dku.council.domain.post.repository.post;
+
+import com.dku.council.domain.post.model.PostCursor;
+import com.dku.council.domain.post.model.entity.Post;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+public interface PostCursorRepository<T extends Post> {
+
+    /**
+     * 커서 다음의 게시글을 최신순((작성 시각, id) 내림차순)으로 가져온다.
+     * 전체 개수는 세지 않으며, 다음 페이지가 있는지만 알려준다.
+     *
+     * @param domainClass 게시글 타입
+     * @param spec        조회 조건
+     * @param cursor      마지막으로 조회한 게시글의 위치. null이면 처음부터 조회한다.
+     * @param size        가져올 게시글 수
+     * @return 게시글 목록
+     */
+    Slice<T> findAllByCursor(Class<T> domainClass, Specification<T> spec, @Nullable PostCursor cursor, int size);
+}
@@ -0,0 +1,37 @@
+package com.dku.council.domain.post.repository.post;
+
+import com.dku.council.domain.post.model.PostFileStatus;
+import com.dku.council.domain.post.model.entity.PostFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public interface PostFileRepository extends JpaRepository<PostFile, Long> {
+
+    @Query("select f from PostFile f join fetch f.post where f.id = :id")
+    Optional<PostFile> findWithPostById(@Param("id") Long id);
+
+    List<PostFile> findAllByStatusAndOwnerNode(PostFileStatus status, String ownerNode);
+
+    @Query("select f from PostFile f where f.post.id in :postIds order by f.id")
+    List<PostFile> findAllByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 여러 게시글의 파일을 한 번에 가져옵니다.
+     *
+     * @return 게시글 ID -> 파일 목록. 파일이 없는 게시글은 포함되지 않는다.
+     */
+    default Map<Long, List<PostFile>> findAllGroupByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return findAllByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(file -> file.getPost().getId()));
+    }
+}
@@ -1,12 +1,20 @@
 package com.dku.council.domain.post.repository.post;
 
+import com.dku.council.domain.post.model.PostSearchDocument;
 import com.dku.council.domain.post.model.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -25,12 +33,30 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "and p.status='ACTIVE'")
     Page<Post> findPageById(@Param("ids") Iterable<Long> ids, Pageable pageable);
 
+    /**
+     * ID 목록에 해당하는 ACTIVE상태인 post를 작성자와 함께 가져옵니다. 순서는 보장되지 않습니다.
+     */
+    @EntityGraph(attributePaths = {"user", "user.major"})
+    @Query("select p from Post p " +
+            "where p.id in (:ids) " +
+            "and p.status='ACTIVE'")
+    List<Post> findAllActiveByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 활성화 여부와 상관없이 게시글을 가져옵니다. 관리자만 사용할 수 있습니다.
      */
     @Query("select p from Post p where p.id=:id")
     Optional<Post> findByIdWithAdmin(@Param("id") Long id);
 
+    /**
+     * 활성화 여부와 상관없이 ID 순으로 게시글을 가져옵니다. 검색 색인을 만들 때 사용합니다.
+     * 본문은 지연 로딩되므로 게시글마다 따로 조회하지 않도록 함께 가져옵니다.
+     */
+    @Query("select new com.dku.council.domain.post.model.PostSearchDocument(p, p.body) from Post p " +
+            "where p.id > :id " +
+            "order by p.id asc")
+    List<PostSearchDocument> findSearchDocumentsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
     /**
      * 활성화 여부와 상관없이 작성자의 모든 게시글을 가져옵니다. 관리자만 사용할 수 있습니다.
      */
@@ -46,4 +72,50 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "and p.status='ACTIVE'")
     Long countAllByUserId(@Param("userId") Long userId);
 
+    /**
+     * 댓글 수를 다시 세기 전에 게시글에 lock을 걸고 조회합니다. 상태와 상관없이 가져옵니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Post p where p.id = :id")
+    Optional<Post> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 게시글의 댓글 수를 증감분만큼 바꿉니다. 현재 값을 DB에서 읽어 더하므로 동시에 호출해도 값이 어긋나지 않습니다.
+     */
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    void increaseCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 게시글의 댓글 수를 갱신합니다. 다시 센 값으로 덮어쓰므로 {@link #findByIdForUpdate}로 lock을 건 뒤에 세어야 합니다.
+     */
+    @Modifying
+    @Query("update Post p set p.commentCount=:count where p.id=:id")
+    void updateCommentCount(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 게시글의 좋아요 수를 갱신합니다.
+     */
+    @Modifying
+    @Query("update Post p set p.likes=:count where p.id=:id")
+    void updateLikeCount(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 게시글들의 조회수를 같은 증가분만큼 올립니다.
+     *
+     * @return 갱신된 게시글 수
+     */
+    @Modifying
+    @Query("update Post p set p.views=p.views + :delta where p.id in :ids")
+    int increaseViews(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * 미리보기가 없는 게시글의 미리보기를 본문으로 채웁니다.
+     *
+     * @return 갱신된 게시글 수
+     */
+    @Modifying
+    @Query("update Post p set p.preview=substring(p.body, 1, :length) where p.preview is null")
+    int fillEmptyPreviews(@Param("length") int length);
+
 }
\ No newline at end of file
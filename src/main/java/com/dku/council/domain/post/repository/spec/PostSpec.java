@@ -1,12 +1,16 @@
 package com.dku.council.domain.post.repository.spec;
 
 import com.dku.council.domain.post.model.PetitionStatus;
+import com.dku.council.domain.post.model.PostCursor;
 import com.dku.council.domain.post.model.PostStatus;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.tag.model.entity.PostTag;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -43,6 +47,17 @@ public class PostSpec {
                 );
     }
 
+    /**
+     * 검색어를 공백으로 나누었을 때 모든 단어가 제목이나 본문에 포함된 게시글을 찾는다.
+     */
+    public static <T extends Post> Specification<T> withAllWords(String keyword) {
+        Specification<T> spec = Specification.where(null);
+        for (String word : keyword.trim().split("\\s+")) {
+            spec = spec.and(withTitleOrBody(word));
+        }
+        return spec;
+    }
+
     public static <T extends Post> Specification<T> withActive() {
         return (root, query, builder) ->
                 builder.equal(root.get("status"), PostStatus.ACTIVE);
@@ -81,5 +96,46 @@ public class PostSpec {
         return spec;
     }
 
+    /**
+     * 커서보다 먼저 작성된 게시글만 조회한다. 작성 시각이 같다면 id로 구분한다.
+     */
+    public static <T extends Post> Specification<T> beforeCursor(PostCursor cursor) {
+        if (cursor == null) {
+            return Specification.where(null);
+        }
 
+        return (root, query, builder) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            return builder.or(
+                    builder.lessThan(createdAt, cursor.getCreatedAt()),
+                    builder.and(
+                            builder.equal(createdAt, cursor.getCreatedAt()),
+                            builder.lessThan(root.<Long>get("id"), cursor.getId())
+                    )
+            );
+        };
+    }
+
+    /**
+     * 주어진 ID의 게시글만 조회한다. 정렬 조건이 따로 없다면 ID 목록의 순서대로 정렬한다.
+     *
+     * @param ids 검색 결과와 같이 순서가 있는 게시글 ID 목록
+     */
+    public static <T extends Post> Specification<T> withIdsInOrder(List<Long> ids) {
+        return (root, query, builder) -> {
+            if (ids.isEmpty()) {
+                return builder.disjunction();
+            }
+
+            Path<Long> id = root.get("id");
+            if (query.getOrderList().isEmpty()) {
+                CriteriaBuilder.SimpleCase<Long, Integer> rank = builder.<Long, Integer>selectCase(id);
+                for (int i = 0; i < ids.size(); i++) {
+                    rank = rank.when(ids.get(i), i);
+                }
+                query.orderBy(builder.asc(rank.otherwise(ids.size())));
+            }
+            return id.in(ids);
+        };
+    }
 }
@@ -0,0 +1,257 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.ImageDerivatives;
+import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadedFile;
+import com.dku.council.infra.nhn.service.FileUploadService;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨부 이미지로 목록용 썸네일과 상세 화면용 미리보기를 만든다.
+ * 이미지 변환은 크기가 제한된 전용 작업 스레드에서만 진행하며, 동시에 디코딩하는 이미지들의 예상 메모리 크기가
+ * 정해진 한도를 넘지 않도록 한다. 원본은 필요한 크기에 맞춰 줄여가며(subsampling) 읽고,
+ * 변환된 이미지는 JPEG로 임시 파일에 쓴 뒤 업로드하므로 메모리에 원본 크기의 이미지나 인코딩된 바이트를 올려두지 않는다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final String FORMAT = "jpg";
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final int thumbnailSize;
+    private final int previewSize;
+    private final float quality;
+
+    private final Semaphore memoryBudget;
+    private final int memoryBudgetKb;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(@Value("${app.post.derivative.thumbnail-size:${app.post.thumbnail.size}}") int thumbnailSize,
+                                  @Value("${app.post.derivative.preview-size:1280}") int previewSize,
+                                  @Value("${app.post.derivative.quality:0.8}") float quality,
+                                  @Value("${app.post.derivative.workers:2}") int workers,
+                                  @Value("${app.post.derivative.queue-size:100}") int queueSize,
+                                  @Value("${app.post.derivative.memory-budget:64MB}") DataSize memoryBudget) {
+        this.thumbnailSize = thumbnailSize;
+        this.previewSize = previewSize;
+        this.quality = quality;
+        this.memoryBudgetKb = (int) Math.max(1, memoryBudget.toKilobytes());
+        this.memoryBudget = new Semaphore(memoryBudgetKb, true);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+            Thread thread = new Thread(r, "image-derivative-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 업로드된 이미지로 파생 이미지들을 만들어 업로드한다. 이미지가 아니거나 만들지 못하면 아무것도 만들지 않는다.
+     *
+     * @param uploadCtx 업로드 context
+     * @param file      업로드된 원본 파일
+     * @return 만든 파생 이미지들
+     */
+    public ImageDerivatives create(FileUploadService.Context uploadCtx, UploadedFile file) {
+        if (!file.getMimeType().getType().equalsIgnoreCase("image")) {
+            return ImageDerivatives.NONE;
+        }
+
+        Rendered rendered = null;
+        try {
+            Future<Rendered> future = executor.submit(() -> render(file.getFile()));
+            rendered = future.get();
+            if (rendered == null) {
+                return ImageDerivatives.NONE;
+            }
+
+            String thumbnailId = upload(uploadCtx, rendered.thumbnail, "thumb");
+            String previewId = upload(uploadCtx, rendered.preview, "preview");
+            return new ImageDerivatives(thumbnailId, previewId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while creating derivatives of {}", file.getFileId());
+        } catch (ExecutionException | RejectedExecutionException e) {
+            log.warn("Can't create derivatives of {}", file.getFileId(), e);
+        } finally {
+            if (rendered != null) {
+                rendered.delete();
+            }
+        }
+        return ImageDerivatives.NONE;
+    }
+
+    private String upload(FileUploadService.Context uploadCtx, Path path, String prefix) {
+        FileRequest req = new FileRequest(prefix + "." + FORMAT, MediaType.IMAGE_JPEG, () -> Files.newInputStream(path));
+        return uploadCtx.uploadFile(req, prefix).getFileId();
+    }
+
+    private Rendered render(FileRequest file) throws IOException, InterruptedException {
+        Dimension size = readSize(file);
+        if (size == null) {
+            return null;
+        }
+
+        int permits = permitsFor(size);
+        memoryBudget.acquire(permits);
+        try {
+            // 가장 큰 크기로 한 번만 디코딩하고, 작은 크기는 디코딩한 이미지에서 만든다.
+            BufferedImage preview;
+            try (InputStream in = file.getInputStream()) {
+                preview = flatten(resize(Thumbnails.of(in), size, previewSize).asBufferedImage());
+            }
+            Dimension previewDimension = new Dimension(preview.getWidth(), preview.getHeight());
+
+            Path previewPath = write(resize(Thumbnails.of(preview), previewDimension, previewSize));
+            try {
+                Path thumbnailPath = write(resize(Thumbnails.of(preview), previewDimension, thumbnailSize));
+                return new Rendered(thumbnailPath, previewPath);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(previewPath);
+                throw e;
+            }
+        } finally {
+            memoryBudget.release(permits);
+        }
+    }
+
+    /**
+     * 원본을 디코딩하지 않고 헤더에서 이미지 크기만 읽는다.
+     */
+    private static Dimension readSize(FileRequest file) throws IOException {
+        try (InputStream in = file.getInputStream();
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            if (imageIn == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 이미지를 변환하는 동안 필요한 메모리를 예상한다.
+     * 원본은 미리보기 크기에 가깝게 줄여서 읽으므로, 줄여서 읽은 이미지와 미리보기 이미지의 크기를 더한다.
+     * 한도보다 큰 이미지는 한도 전체를 사용해서 혼자 변환한다.
+     */
+    private int permitsFor(Dimension size) {
+        long longest = Math.max(size.width, size.height);
+        long subsampling = Math.max(1, longest / previewSize);
+        long decoded = (size.width / subsampling + 1) * (size.height / subsampling + 1);
+        long target = Math.min(longest, previewSize);
+        long bytes = (decoded + target * target) * BYTES_PER_PIXEL;
+        return (int) Math.min(memoryBudgetKb, Math.max(1, bytes / 1024));
+    }
+
+    /**
+     * 주어진 크기 안에 들어오도록 줄인다. 원본이 더 작으면 키우지 않는다.
+     */
+    private static <T> Thumbnails.Builder<T> resize(Thumbnails.Builder<T> builder, Dimension source, int size) {
+        if (source.width <= size && source.height <= size) {
+            return builder.scale(1.0);
+        }
+        return builder.size(size, size);
+    }
+
+    /**
+     * JPEG는 투명도를 지원하지 않으므로, 투명한 부분은 흰색 배경으로 채운다.
+     */
+    private static BufferedImage flatten(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private Path write(Thumbnails.Builder<?> builder) throws IOException {
+        Path path = Files.createTempFile("derivative-", "." + FORMAT);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            builder.outputFormat(FORMAT)
+                    .outputQuality(quality)
+                    .toOutputStream(out);
+            return path;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    private static class Rendered {
+        private final Path thumbnail;
+        private final Path preview;
+
+        private Rendered(Path thumbnail, Path preview) {
+            this.thumbnail = thumbnail;
+            this.preview = preview;
+        }
+
+        private void delete() {
+            deleteQuietly(thumbnail);
+            deleteQuietly(preview);
+        }
+
+        private static void deleteQuietly(Path path) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Can't delete derivative file: {}", path, e);
+            }
+        }
+    }
+}
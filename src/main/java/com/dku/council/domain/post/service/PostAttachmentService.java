@@ -0,0 +1,347 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.ImageDerivatives;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.PostFileStatus;
+import com.dku.council.domain.post.model.PostFilesStagedEvent;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
+import com.dku.council.infra.nhn.exception.CannotGetInputStreamException;
+import com.dku.council.infra.nhn.exception.InvalidFileContentTypeException;
+import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadResult;
+import com.dku.council.infra.nhn.model.UploadedFile;
+import com.dku.council.infra.nhn.service.FileUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 첨부파일을 요청 스레드 밖에서 업로드한다.
+ * 게시글을 작성할 때는 파일을 서버 디스크에 임시 저장하고 업로드 대기(PENDING) 상태로 첨부만 해둔다.
+ * 트랜잭션이 끝나면 크기가 제한된 작업 스레드가 게시글의 파일들을 동시에 업로드하고 썸네일과 미리보기를 만든 뒤 READY 상태로 바꾼다.
+ * 업로드에 실패한 파일은 {@link #retryPending()}이 주기적으로 다시 시도하며, 최대 횟수를 넘기면 FAILED 상태가 된다.
+ * 임시 파일은 저장한 서버의 디스크에만 있으므로, 파일마다 저장한 서버를 기록해두고 각 서버는 자신이 저장한 파일만 다시 시도한다.
+ * 저장한 서버에서도 임시 파일이 사라졌다면 다시 시도하지 않고 FAILED 상태로 바꾼다.
+ * <p>
+ * 임시 파일은 재시작 후에도 남아있어야 하므로 임시 저장 경로({@code app.post.attachment.staging-dir})는 반드시 지정해야 한다.
+ */
+@Slf4j
+@Service
+public class PostAttachmentService {
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final PostFileRepository fileRepository;
+    private final FileUploadService fileUploadService;
+    private final ImageDerivativeService derivativeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    private final Path stagingDir;
+    private final String nodeName;
+    private final int maxAttempts;
+
+    public PostAttachmentService(PostFileRepository fileRepository,
+                                 FileUploadService fileUploadService,
+                                 ImageDerivativeService derivativeService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.post.attachment.staging-dir}") String stagingDir,
+                                 @Value("${app.post.attachment.node-name:}") String nodeName,
+                                 @Value("${app.post.attachment.workers:4}") int workers,
+                                 @Value("${app.post.attachment.queue-size:200}") int queueSize,
+                                 @Value("${app.post.attachment.max-attempts:5}") int maxAttempts) {
+        this.fileRepository = fileRepository;
+        this.fileUploadService = fileUploadService;
+        this.derivativeService = derivativeService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stagingDir = Path.of(stagingDir);
+        this.nodeName = nodeName.isBlank() ? localHostName() : nodeName;
+        this.maxAttempts = maxAttempts;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+            Thread thread = new Thread(r, "post-attachment-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 파일을 서버 디스크에 임시 저장하고, 업로드 대기 상태로 게시글에 첨부한다.
+     * 실제 업로드는 트랜잭션이 끝난 뒤 작업 스레드에서 진행된다.
+     *
+     * @param post  첨부할 게시글
+     * @param files 첨부할 파일 목록
+     */
+    public void stage(Post post, List<MultipartFile> files) {
+        List<PostFile> postFiles = new ArrayList<>();
+        try {
+            Files.createDirectories(stagingDir);
+            for (MultipartFile file : files) {
+                FileRequest request;
+                try {
+                    request = new FileRequest(file);
+                } catch (InvalidFileContentTypeException e) {
+                    log.warn("Skip attachment with invalid content type: {}", file.getOriginalFilename(), e);
+                    continue;
+                }
+
+                // multipart 임시 파일을 옮기므로 메모리에 복사하지 않는다.
+                Path path = stagingDir.resolve(UUID.randomUUID().toString());
+                file.transferTo(path);
+
+                PostFile postFile = PostFile.builder()
+                        .fileName(request.getOriginalFilename())
+                        .mimeType(request.getContentType().toString())
+                        .status(PostFileStatus.PENDING)
+                        .stagedPath(path.toString())
+                        .ownerNode(nodeName)
+                        .build();
+                postFile.changePost(post);
+                postFiles.add(postFile);
+            }
+        } catch (IOException e) {
+            postFiles.forEach(file -> deleteStaged(file.getStagedPath()));
+            throw new CannotGetInputStreamException(e);
+        }
+
+        if (!postFiles.isEmpty()) {
+            eventPublisher.publishEvent(new PostFilesStagedEvent(postFiles));
+        }
+    }
+
+    /**
+     * 게시글이 저장되면 첨부파일 업로드를 시작한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStaged(PostFilesStagedEvent event) {
+        List<Long> postFileIds = event.getFiles().stream()
+                .map(PostFile::getId)
+                .collect(Collectors.toList());
+        submit(postFileIds);
+    }
+
+    /**
+     * 게시글이 저장되지 않았다면 임시 저장한 파일을 지운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onRollback(PostFilesStagedEvent event) {
+        for (PostFile file : event.getFiles()) {
+            deleteStaged(file.getStagedPath());
+        }
+    }
+
+    /**
+     * 이 서버에 임시 저장된 업로드 대기 파일들을 다시 업로드한다. 임시 파일이 사라진 경우 FAILED 상태로 바꾼다.
+     *
+     * @return 업로드를 시작한 파일 수
+     */
+    public int retryPending() {
+        Map<Long, List<Long>> postFileIds = new LinkedHashMap<>();
+        for (PostFile file : fileRepository.findAllByStatusAndOwnerNode(PostFileStatus.PENDING, nodeName)) {
+            if (inFlight.contains(file.getId())) {
+                continue;
+            }
+            if (!isStaged(file.getStagedPath())) {
+                failMissing(file.getId());
+                continue;
+            }
+            postFileIds.computeIfAbsent(file.getPost().getId(), id -> new ArrayList<>())
+                    .add(file.getId());
+        }
+
+        int submitted = 0;
+        for (List<Long> ids : postFileIds.values()) {
+            submitted += submit(ids);
+        }
+        return submitted;
+    }
+
+    private void failMissing(Long postFileId) {
+        transactionTemplate.executeWithoutResult(status -> fileRepository.findById(postFileId)
+                // 조회한 뒤 업로드가 끝나 임시 파일이 지워졌을 수 있으므로 다시 확인한다.
+                .filter(entity -> entity.getStatus() == PostFileStatus.PENDING && !isStaged(entity.getStagedPath()))
+                .ifPresent(entity -> {
+                    log.error("Staged file of post file {} is missing: {}", postFileId, entity.getStagedPath());
+                    entity.failMissingStaged();
+                }));
+    }
+
+    private static boolean isStaged(String stagedPath) {
+        return stagedPath != null && Files.exists(Path.of(stagedPath));
+    }
+
+    /**
+     * 같은 게시글의 파일들을 하나의 작업으로 업로드하도록 맡긴다.
+     *
+     * @return 업로드를 시작한 파일 수
+     */
+    private int submit(List<Long> postFileIds) {
+        List<Long> ids = postFileIds.stream()
+                .filter(inFlight::add)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    upload(ids);
+                } finally {
+                    ids.forEach(inFlight::remove);
+                }
+            });
+            return ids.size();
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찼다면 다음 재시도 때 업로드한다.
+            ids.forEach(inFlight::remove);
+            log.warn("Attachment upload queue is full. Post files {} will be retried later.", ids);
+            return 0;
+        }
+    }
+
+    /**
+     * 임시 저장된 파일을 업로드하고 썸네일과 미리보기를 만든 뒤 READY 상태로 바꾼다.
+     * 실패하면 실패 횟수를 올리고, 최대 횟수를 넘기면 FAILED 상태로 바꾼다.
+     *
+     * @param postFileId 업로드할 파일 id
+     */
+    public void upload(Long postFileId) {
+        upload(List.of(postFileId));
+    }
+
+    /**
+     * 같은 게시글에 첨부된 파일들을 동시에 업로드한다. 일부 파일이 실패해도 나머지 파일은 READY 상태가 된다.
+     *
+     * @param postFileIds 업로드할 파일 id 목록
+     */
+    public void upload(List<Long> postFileIds) {
+        // FileRequest는 equals를 재정의하지 않으므로 요청 객체 자체로 파일을 찾는다.
+        Map<FileRequest, StagedFile> files = new LinkedHashMap<>();
+        String prefix = null;
+        for (Long postFileId : postFileIds) {
+            PostFile file = fileRepository.findWithPostById(postFileId).orElse(null);
+            if (file == null || file.getStatus() != PostFileStatus.PENDING) {
+                continue;
+            }
+            StagedFile staged = new StagedFile(postFileId, Path.of(file.getStagedPath()));
+            try {
+                files.put(new FileRequest(file.getFileName(), MediaType.parseMediaType(file.getMimeType()),
+                        () -> Files.newInputStream(staged.path)), staged);
+                prefix = Hibernate.getClass(file.getPost()).getSimpleName();
+            } catch (Exception e) {
+                log.warn("Failed to upload post file {}", postFileId, e);
+                failed(staged);
+            }
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+
+        FileUploadService.Context uploadCtx;
+        UploadResult result;
+        try {
+            uploadCtx = fileUploadService.newContext();
+            result = uploadCtx.uploadFiles(new ArrayList<>(files.keySet()), prefix);
+        } catch (Exception e) {
+            log.warn("Failed to upload post files {}", postFileIds, e);
+            files.values().forEach(this::failed);
+            return;
+        }
+
+        for (UploadResult.Failure failure : result.getFailures()) {
+            StagedFile staged = files.get(failure.getFile());
+            log.warn("Failed to upload post file {}", staged.postFileId, failure.getCause());
+            failed(staged);
+        }
+        for (UploadedFile uploaded : result.getUploadedFiles()) {
+            StagedFile staged = files.get(uploaded.getFile());
+            try {
+                complete(uploadCtx, staged.postFileId, uploaded);
+                deleteStaged(staged.path.toString());
+            } catch (Exception e) {
+                log.warn("Failed to upload post file {}", staged.postFileId, e);
+                failed(staged);
+            }
+        }
+    }
+
+    private void complete(FileUploadService.Context uploadCtx, Long postFileId, UploadedFile uploaded) {
+        ImageDerivatives derivatives = derivativeService.create(uploadCtx, uploaded);
+        transactionTemplate.executeWithoutResult(status -> {
+            PostFile entity = fileRepository.findWithPostById(postFileId).orElseThrow();
+            entity.markAsReady(uploaded.getFileId(), derivatives);
+            eventPublisher.publishEvent(PostChangedEvent.of(entity.getPost()));
+        });
+    }
+
+    private void failed(StagedFile staged) {
+        Boolean gaveUp = transactionTemplate.execute(status -> fileRepository.findById(staged.postFileId)
+                .map(entity -> entity.failUpload(maxAttempts))
+                .orElse(true));
+        if (Boolean.TRUE.equals(gaveUp)) {
+            log.error("Gave up uploading post file {}", staged.postFileId);
+            deleteStaged(staged.path.toString());
+        }
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Can't resolve the local host name. Set app.post.attachment.node-name", e);
+        }
+    }
+
+    private void deleteStaged(String stagedPath) {
+        if (stagedPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Path.of(stagedPath));
+        } catch (IOException e) {
+            log.warn("Can't delete staged file: {}", stagedPath, e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class StagedFile {
+        private final Long postFileId;
+        private final Path path;
+    }
+}
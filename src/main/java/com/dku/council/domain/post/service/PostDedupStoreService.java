@@ -0,0 +1,173 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
+import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.global.model.CacheObject;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+
+/**
+ * 조회수/글 작성 중복 방지 기록을 관리한다.
+ * 예전에는 모든 기록을 하나의 hash에 넣고 읽을 때만 만료 여부를 확인했기 때문에, 다시 읽히지 않는 기록이 계속 쌓였다.
+ * 지금은 기록마다(또는 구간마다) 만료되는 키를 사용하므로, 남아있는 예전 hash를 옮기고 지운다.
+ * 각 기록이 차지하는 메모리 크기는 주기적으로 측정해서 지표로 남긴다.
+ */
+@Slf4j
+@Service
+public class PostDedupStoreService {
+
+    private static final RedisScript<Long> MEMORY_USAGE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/memory-usage.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PostTimeMemoryRepository postTimeMemoryRepository;
+    private final Clock clock;
+
+    private final int batchSize;
+
+    private final Map<String, AtomicLong> memoryUsages = Map.of(
+            POST_VIEWERS_KEY, new AtomicLong(),
+            POST_WRITE_KEY, new AtomicLong()
+    );
+
+    private final Map<String, AtomicLong> keyCounts = Map.of(
+            POST_VIEWERS_KEY, new AtomicLong(),
+            POST_WRITE_KEY, new AtomicLong()
+    );
+
+    public PostDedupStoreService(StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 PostTimeMemoryRepository postTimeMemoryRepository,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.post.dedup.scan-batch-size:500}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.postTimeMemoryRepository = postTimeMemoryRepository;
+        this.clock = clock;
+        this.batchSize = batchSize;
+
+        for (String store : memoryUsages.keySet()) {
+            Gauge.builder("post.dedup.memory", memoryUsages.get(store), AtomicLong::get)
+                    .description("Memory used by post dedup store keys")
+                    .baseUnit("bytes")
+                    .tag("store", store)
+                    .register(meterRegistry);
+            Gauge.builder("post.dedup.keys", keyCounts.get(store), AtomicLong::get)
+                    .description("Number of post dedup store keys")
+                    .tag("store", store)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 예전 hash에 남아있는 기록을 옮기고 hash를 지운다. 아직 만료되지 않은 글 작성 기록은 새 저장소로 옮기고,
+     * 조회자 기록은 옮기지 않고 지운다. 여러 서버에서 동시에 실행해도 같은 결과가 된다.
+     *
+     * @return 옮긴 글 작성 기록 수
+     */
+    public long migrateLegacyStores() {
+        long migrated = 0;
+        Instant now = Instant.now(clock);
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(CacheObject.class, String.class);
+
+        // 예전 글 작성 hash의 키는 새 저장소 키의 prefix와 같고, hash의 field는 새 저장소의 키와 같다.
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(POST_WRITE_KEY, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                if (migratePostTime((String) entry.getKey(), (String) entry.getValue(), type, now)) {
+                    migrated++;
+                }
+            }
+        }
+
+        boolean deleted = Boolean.TRUE.equals(redisTemplate.unlink(POST_WRITE_KEY));
+        deleted |= Boolean.TRUE.equals(redisTemplate.unlink(POST_VIEW_COUNT_SET_KEY));
+        if (deleted) {
+            log.info("Legacy post dedup hashes removed. ({} post write records migrated)", migrated);
+        }
+        return migrated;
+    }
+
+    private boolean migratePostTime(String field, String value, JavaType type, Instant now) {
+        String[] keys = field.split(KEY_DELIMITER);
+        if (keys.length != 3 || !keys[0].equals(POST_WRITE_KEY)) {
+            return false;
+        }
+
+        try {
+            CacheObject<String> cached = objectMapper.readValue(value, type);
+            if (!now.isBefore(cached.getExpiresAt())) {
+                return false;
+            }
+            Long userId = Long.valueOf(keys[2]);
+            postTimeMemoryRepository.put(keys[1], userId, Duration.between(now, cached.getExpiresAt()), now);
+            return true;
+        } catch (JsonProcessingException | NumberFormatException e) {
+            log.warn("Can't migrate legacy post write record: {}", field, e);
+            return false;
+        }
+    }
+
+    /**
+     * 중복 방지 기록이 차지하는 메모리 크기와 키 개수를 측정한다.
+     */
+    public void measure() {
+        for (String store : memoryUsages.keySet()) {
+            long bytes = 0;
+            long count = 0;
+            List<String> batch = new ArrayList<>(batchSize);
+
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(RedisKeys.combine(store, "*"))
+                    .count(batchSize)
+                    .build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= batchSize) {
+                        bytes += memoryUsage(batch);
+                        count += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            bytes += memoryUsage(batch);
+            count += batch.size();
+
+            memoryUsages.get(store).set(bytes);
+            keyCounts.get(store).set(count);
+        }
+    }
+
+    private long memoryUsage(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long usage = redisTemplate.execute(MEMORY_USAGE_SCRIPT, keys);
+        return usage == null ? 0 : usage;
+    }
+}
@@ -0,0 +1,75 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.CachedPostDetail;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.repository.PostDetailMemoryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 단건 조회 결과 중 사용자와 관계없는 부분을 게시글 id별로 캐싱한다.
+ * 서버 메모리에 크기가 제한된 캐시를 두고, 그 뒤에 서버끼리 공유하는 Redis 캐시를 둔다.
+ * 게시글이 삭제, 블라인드되거나 답변이 등록되면({@link PostChangedEvent}) 해당 게시글의 캐시를 지운다.
+ * 조회수는 캐시 유지시간 동안 갱신되지 않는다.
+ */
+@Service
+public class PostDetailCacheService {
+
+    private final PostDetailMemoryRepository memoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public PostDetailCacheService(PostDetailMemoryRepository memoryRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  Clock clock) {
+        this.memoryRepository = memoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 게시글을 가져온다. 캐시에 없으면 읽기 전용 트랜잭션 안에서 loader로 가져와 캐싱한다.
+     *
+     * @param postId 게시글 id
+     * @param loader 캐시에 없을 때 게시글을 가져오는 함수
+     * @return 캐시된 게시글
+     */
+    public CachedPostDetail get(Long postId, Supplier<CachedPostDetail> loader) {
+        Instant now = Instant.now(clock);
+        Optional<CachedPostDetail> cached = memoryRepository.get(postId, now);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CachedPostDetail detail = transactionTemplate.execute(status -> loader.get());
+        memoryRepository.set(postId, detail, now);
+        return detail;
+    }
+
+    /**
+     * 게시글의 캐시를 지운다. 다른 서버의 메모리 캐시에서도 지워진다.
+     *
+     * @param postId 게시글 id
+     */
+    public void invalidate(Long postId) {
+        memoryRepository.remove(postId);
+    }
+
+    /**
+     * 게시글이 바뀌면 트랜잭션이 끝난 뒤 해당 게시글의 캐시를 지운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getPostId() != null) {
+            invalidate(event.getPostId());
+        }
+    }
+}
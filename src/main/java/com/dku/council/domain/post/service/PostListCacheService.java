@@ -0,0 +1,248 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.service.LikeService;
+import com.dku.council.domain.post.model.CachedPostPage;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.global.model.CacheObject;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+
+/**
+ * 게시판 목록 응답을 캐싱한다. 서버 메모리에 크기가 제한된 캐시를 두고, 그 뒤에 서버끼리 공유하는 Redis 캐시를 둔다.
+ * 게시글이 작성, 삭제되거나 상태가 바뀌면({@link PostChangedEvent}) 해당 게시판의 캐시를 모두 무효화한다.
+ * Redis 캐시는 게시판별 버전을 올려 무효화하고, 다른 서버의 메모리 캐시는 Redis pub/sub으로 알려서 지운다.
+ * 좋아요 수는 자주 바뀌므로 캐시된 목록을 돌려줄 때마다 최신 값으로 덮어쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostListCacheService implements MessageListener {
+
+    /**
+     * 게시판 -> 메모리 캐시 세대. 무효화될 때마다 증가하며, 조회 도중 무효화된 목록을 메모리에 넣지 않기 위해 사용한다.
+     */
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Map<String, CacheObject<String>> localCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheObject<String>> eldest) {
+            return size() > localCacheSize;
+        }
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LikeService likeService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Clock clock;
+
+    @Value("${app.post.list-cache.ttl:PT1M}")
+    private final Duration ttl;
+
+    @Value("${app.post.list-cache.local-size:1000}")
+    private final int localCacheSize;
+
+    /**
+     * 이 페이지 번호부터는 캐싱하지 않는다. 자주 조회되는 앞쪽 페이지만 캐싱한다.
+     */
+    @Value("${app.post.list-cache.max-page:5}")
+    private final int maxPage;
+
+
+    @PostConstruct
+    private void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(POST_LIST_CHANNEL));
+    }
+
+    /**
+     * 게시판 목록을 캐시에서 가져온다. 캐시에 없으면 loader로 조회한 뒤 캐싱한다.
+     *
+     * @param board    게시글 타입 (게시판)
+     * @param keyword  검색어
+     * @param tagIds   태그 ID 목록
+     * @param status   게시판별 상태 조건
+     * @param pageable 페이지
+     * @param bodySize 게시글 본문 길이
+     * @param dtoClass 목록 dto 타입
+     * @param loader   캐시에 없을 때 목록을 조회하는 함수
+     */
+    public <T extends SummarizedGenericPostDto> Page<T> list(Class<? extends Post> board, @Nullable String keyword,
+                                                             @Nullable List<Long> tagIds, @Nullable Object status,
+                                                             Pageable pageable, int bodySize, Class<T> dtoClass,
+                                                             Supplier<Page<T>> loader) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= maxPage) {
+            return loader.get();
+        }
+
+        String boardName = board.getSimpleName();
+        String params = makeParams(keyword, tagIds, status, pageable, bodySize);
+        String key = RedisKeys.combine(boardName, params);
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(CachedPostPage.class, dtoClass);
+        long generation = generation(boardName).get();
+        Instant now = Instant.now(clock);
+
+        Optional<CachedPostPage<T>> cached = getLocal(key, now).flatMap(value -> deserialize(value, type));
+        if (cached.isPresent()) {
+            return toPageWithLikes(cached.get(), pageable);
+        }
+
+        String redisKey = RedisKeys.combine(POST_LIST_CACHE_KEY, boardName, getVersion(boardName), params);
+        String value = redisTemplate.opsForValue().get(redisKey);
+        if (value != null) {
+            cached = deserialize(value, type);
+            if (cached.isPresent()) {
+                putLocal(boardName, generation, key, value, now);
+                return toPageWithLikes(cached.get(), pageable);
+            }
+        }
+
+        Page<T> page = loader.get();
+        value = serialize(new CachedPostPage<>(page.getContent(), page.getTotalElements()));
+        redisTemplate.opsForValue().set(redisKey, value, ttl);
+        putLocal(boardName, generation, key, value, now);
+        return page;
+    }
+
+    /**
+     * 게시글이 바뀌면 트랜잭션이 끝난 뒤 해당 게시판의 캐시를 무효화한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.getType());
+    }
+
+    /**
+     * 게시판의 모든 목록 캐시를 무효화하고, 다른 서버에도 알린다.
+     *
+     * @param board 게시글 타입 (게시판)
+     */
+    public void invalidate(Class<? extends Post> board) {
+        String boardName = board.getSimpleName();
+        invalidateLocal(boardName);
+        redisTemplate.opsForValue().increment(RedisKeys.combine(POST_LIST_VERSION_KEY, boardName));
+        redisTemplate.convertAndSend(POST_LIST_CHANNEL, boardName);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void invalidateLocal(String boardName) {
+        generation(boardName).incrementAndGet();
+        String prefix = boardName + KEY_DELIMITER;
+        synchronized (localCache) {
+            localCache.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    private AtomicLong generation(String boardName) {
+        return generations.computeIfAbsent(boardName, k -> new AtomicLong());
+    }
+
+    private long getVersion(String boardName) {
+        String version = redisTemplate.opsForValue().get(RedisKeys.combine(POST_LIST_VERSION_KEY, boardName));
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    private Optional<String> getLocal(String key, Instant now) {
+        synchronized (localCache) {
+            CacheObject<String> cached = localCache.get(key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            if (now.isAfter(cached.getExpiresAt())) {
+                localCache.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(cached.getValue());
+        }
+    }
+
+    private void putLocal(String boardName, long generation, String key, String value, Instant now) {
+        synchronized (localCache) {
+            // 조회하는 동안 무효화되었다면 이전 목록일 수 있으므로 넣지 않는다.
+            if (generation(boardName).get() == generation) {
+                localCache.put(key, new CacheObject<>(now.plus(ttl), value));
+            }
+        }
+    }
+
+    private <T extends SummarizedGenericPostDto> Page<T> toPageWithLikes(CachedPostPage<T> cached,
+                                                                         Pageable pageable) {
+        List<T> content = cached.getContent();
+        if (!content.isEmpty()) {
+            List<Long> ids = content.stream()
+                    .map(SummarizedGenericPostDto::getId)
+                    .collect(Collectors.toList());
+            Map<Long, Integer> likes = likeService.getCountsOfLikes(ids, LikeTarget.POST);
+            content.forEach(dto -> dto.overlayLikes(likes.getOrDefault(dto.getId(), 0)));
+        }
+        return new PageImpl<>(content, pageable, cached.getTotalElements());
+    }
+
+    private String serialize(CachedPostPage<?> page) {
+        try {
+            return objectMapper.writeValueAsString(page);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <T> Optional<CachedPostPage<T>> deserialize(String value, JavaType type) {
+        try {
+            return Optional.of(objectMapper.readValue(value, type));
+        } catch (JsonProcessingException e) {
+            log.warn("Can't read cached post list. It will be reloaded.", e);
+            return Optional.empty();
+        }
+    }
+
+    private static String makeParams(@Nullable String keyword, @Nullable List<Long> tagIds, @Nullable Object status,
+                                     Pageable pageable, int bodySize) {
+        String tags = tagIds == null ? "" : tagIds.stream()
+                .distinct()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        String normalizedKeyword = keyword == null ? "" : keyword.trim();
+        // 검색어에 구분자가 들어갈 수 있으므로 검색어를 가장 뒤에 둔다.
+        return RedisKeys.combine(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), bodySize,
+                status, tags, normalizedKeyword);
+    }
+}
@@ -0,0 +1,194 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.PostSearchDocument;
+import com.dku.council.domain.post.model.PostStatus;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.PostSearchIndex;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.repository.spec.PostSpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static com.dku.council.global.config.redis.RedisKeys.POST_SEARCH_INDEX_CHANNEL;
+
+/**
+ * 게시글 제목, 본문 검색. 서버마다 메모리에 검색 색인을 두고, 게시글이 등록되거나 상태가 바뀌면
+ * 트랜잭션이 커밋된 뒤 색인을 갱신하고 Redis pub/sub으로 다른 서버에도 알린다.
+ * 서버가 시작되면 DB에서 색인을 새로 만들며, 그 전까지는 LIKE 검색을 사용한다.
+ * <p>
+ * 색인에서 찾은 ID 목록으로 조회하므로, 검색 결과가 {@code app.post.search.max-results}개보다 많으면
+ * 태그 등 다른 조건과 페이징을 적용하기 전에 결과가 잘린다. 이 경우에는 관련도 정렬을 포기하고 LIKE 검색을 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService implements MessageListener {
+
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean ready = false;
+
+    private final PostSearchIndex index;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${app.post.search.max-results:300}")
+    private final int maxResults;
+
+    @Value("${app.post.search.rebuild-batch-size:500}")
+    private final int rebuildBatchSize;
+
+    @PostConstruct
+    private void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(POST_SEARCH_INDEX_CHANNEL));
+    }
+
+    /**
+     * DB의 모든 게시글로 색인을 새로 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ready = false;
+        index.clear();
+
+        long lastId = 0;
+        while (true) {
+            long from = lastId;
+            List<PostSearchDocument> documents = transactionTemplate.execute(status ->
+                    postRepository.findSearchDocumentsByIdGreaterThan(from, PageRequest.of(0, rebuildBatchSize)));
+            if (documents == null || documents.isEmpty()) {
+                break;
+            }
+
+            documents.forEach(index::save);
+            lastId = documents.get(documents.size() - 1).getId();
+        }
+
+        ready = true;
+        log.info("Post search index is rebuilt: {} posts", index.count());
+    }
+
+    /**
+     * 제목이나 본문에 검색어가 포함된 활성화된 게시글을 관련도 순으로 조회하는 조건
+     *
+     * @param keyword 검색어. 지정하지 않으면 모든 게시글을 조회한다.
+     * @param type    게시글 타입
+     */
+    public <T extends Post> Specification<T> withKeyword(String keyword, Class<T> type) {
+        return withKeyword(keyword, type, PostStatus.ACTIVE);
+    }
+
+    /**
+     * 제목이나 본문에 검색어가 포함된 게시글을 관련도 순으로 조회하는 조건. 다른 정렬 조건이 있다면 그 조건을 따른다.
+     * 검색 결과가 너무 많다면 관련도 순으로 정렬하지 않는다.
+     *
+     * @param keyword 검색어. 지정하지 않으면 모든 게시글을 조회한다.
+     * @param type    게시글 타입. null이면 모든 게시글에서 찾는다.
+     * @param status  게시글 상태. null이면 상태와 상관없이 찾는다.
+     */
+    public <T extends Post> Specification<T> withKeyword(String keyword, @Nullable Class<? extends Post> type,
+                                                         @Nullable PostStatus status) {
+        if (keyword == null || keyword.isBlank() || keyword.equals("null")) {
+            return Specification.where(null);
+        }
+        if (!ready) {
+            return PostSpec.withAllWords(keyword);
+        }
+
+        List<Long> ids = index.search(keyword, type, status, maxResults + 1);
+        if (ids.size() > maxResults) {
+            // 잘린 ID 목록으로는 전체 개수와 다른 조건의 결과가 맞지 않는다.
+            log.debug("Too many search results for '{}'. Fall back to LIKE search.", keyword);
+            return PostSpec.withAllWords(keyword);
+        }
+        return PostSpec.withIdsInOrder(ids);
+    }
+
+    /**
+     * 게시글을 색인한다. 트랜잭션 안이라면 커밋된 뒤에 색인한다.
+     */
+    public void index(Post post) {
+        PostSearchDocument document = PostSearchDocument.of(post);
+        runAfterCommit(() -> {
+            index.save(document);
+            publish(document.getId());
+        });
+    }
+
+    /**
+     * 색인된 게시글의 상태를 갱신한다. 트랜잭션 안이라면 커밋된 뒤에 갱신한다.
+     */
+    public void updateStatus(Post post) {
+        Long postId = post.getId();
+        PostStatus status = post.getStatus();
+        runAfterCommit(() -> {
+            index.updateStatus(postId, status);
+            publish(postId);
+        });
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void publish(Long postId) {
+        redisTemplate.convertAndSend(POST_SEARCH_INDEX_CHANNEL, nodeId + MESSAGE_DELIMITER + postId);
+    }
+
+    /**
+     * 다른 서버에서 바뀐 게시글을 DB에서 다시 읽어 색인한다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIndex = body.lastIndexOf(MESSAGE_DELIMITER);
+        if (body.substring(0, delimiterIndex).equals(nodeId)) {
+            return;
+        }
+
+        Long postId = Long.valueOf(body.substring(delimiterIndex + 1));
+        PostSearchDocument document = transactionTemplate.execute(status ->
+                postRepository.findByIdWithAdmin(postId)
+                        .map(PostSearchDocument::of)
+                        .orElse(null));
+
+        if (document == null) {
+            index.delete(postId);
+        } else {
+            index.save(document);
+        }
+    }
+}
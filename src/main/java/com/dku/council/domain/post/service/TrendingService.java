@@ -0,0 +1,152 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.service.LikeService;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.TrendingBoard;
+import com.dku.council.domain.post.model.TrendingEvent;
+import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.domain.post.repository.TrendingMemoryRepository;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.tag.model.dto.TagDto;
+import com.dku.council.domain.tag.service.TagService;
+import com.dku.council.infra.nhn.service.ObjectUploadContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판별 트렌딩(최근 인기글) 랭킹을 관리한다.
+ * 좋아요, 조회, 댓글, 청원 동의가 발생할 때마다 시간 감쇠가 적용된 점수를 누적하며,
+ * 오래된 이벤트일수록 반감기에 따라 점수 비중이 줄어든다.
+ * 게시글이 삭제되거나 블라인드되면({@link PostChangedEvent}) 랭킹에서 제거한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private final TrendingMemoryRepository memoryRepository;
+    private final PostRepository postRepository;
+    private final PostFileRepository fileRepository;
+    private final LikeService likeService;
+    private final TagService tagService;
+    private final ObjectUploadContext uploadContext;
+    private final Clock clock;
+
+    @Value("${app.post.trending.half-life:PT6H}")
+    private final Duration halfLife;
+
+    @Value("${app.post.trending.min-score:0.1}")
+    private final double minScore;
+
+    @Value("${app.post.trending.max-size:1000}")
+    private final int maxSize;
+
+
+    /**
+     * 게시글에 이벤트가 발생했음을 기록한다. 트렌딩을 집계하지 않는 게시판의 게시글이면 무시한다.
+     *
+     * @param post  게시글
+     * @param event 이벤트 종류
+     */
+    public void record(Post post, TrendingEvent event) {
+        TrendingBoard board = TrendingBoard.of(post);
+        if (board != null) {
+            record(board, post.getId(), event);
+        }
+    }
+
+    /**
+     * 게시글에 이벤트가 발생했음을 기록한다.
+     *
+     * @param board  게시판
+     * @param postId 게시글 ID
+     * @param event  이벤트 종류
+     */
+    public void record(TrendingBoard board, Long postId, TrendingEvent event) {
+        memoryRepository.increase(board, postId, event.getWeight(), Instant.now(clock), halfLife);
+    }
+
+    /**
+     * 트렌딩 게시글 목록을 점수 순으로 가져온다. 게시글은 한 번의 쿼리로 가져온다.
+     *
+     * @param board    게시판
+     * @param pageable 페이징 size, page
+     * @param bodySize 게시글 본문 길이
+     * @return 페이징된 트렌딩 게시글 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<SummarizedGenericPostDto> list(TrendingBoard board, Pageable pageable, int bodySize) {
+        List<Long> ids = memoryRepository.getRanking(board, pageable.getOffset(), pageable.getPageSize());
+        long total = memoryRepository.count(board);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<Long, Post> posts = postRepository.findAllActiveByIds(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        // 이벤트를 놓쳐 랭킹에 남아있던 게시글은 여기서 지우고, 전체 개수에서도 뺀다.
+        List<Long> missing = ids.stream()
+                .filter(id -> !posts.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            memoryRepository.remove(board, missing);
+            total -= missing.size();
+        }
+
+        Map<Long, Integer> likes = likeService.getCountsOfLikes(posts.keySet(), LikeTarget.POST);
+        Map<Long, List<PostFile>> files = fileRepository.findAllGroupByPostIds(posts.keySet());
+        Map<Long, List<TagDto>> tags = tagService.getTagsOfPosts(posts.keySet());
+
+        List<SummarizedGenericPostDto> content = ids.stream()
+                .filter(posts::containsKey)
+                .map(posts::get)
+                .map(post -> new SummarizedGenericPostDto(uploadContext, bodySize,
+                        likes.getOrDefault(post.getId(), 0), post,
+                        files.getOrDefault(post.getId(), List.of()), tags.getOrDefault(post.getId(), List.of())))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 게시글이 삭제되거나 블라인드되면 트랜잭션이 끝난 뒤 랭킹에서 제거한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        TrendingBoard board = TrendingBoard.of(event.getType());
+        Long postId = event.getPostId();
+        if (board == null || postId == null) {
+            return;
+        }
+        if (postRepository.findById(postId).isEmpty()) {
+            memoryRepository.remove(board, List.of(postId));
+        }
+    }
+
+    /**
+     * 모든 게시판의 점수 기준 시각을 현재로 옮긴다. 점수가 무한히 커지지 않도록 주기적으로 호출해야 한다.
+     */
+    public void rebase() {
+        Instant now = Instant.now(clock);
+        for (TrendingBoard board : TrendingBoard.values()) {
+            memoryRepository.rebase(board, now, halfLife, minScore, maxSize);
+        }
+    }
+}
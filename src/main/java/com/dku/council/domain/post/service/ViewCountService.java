@@ -1,39 +1,109 @@
 package com.dku.council.domain.post.service;
 
+import com.dku.council.domain.post.model.TrendingBoard;
+import com.dku.council.domain.post.model.TrendingEvent;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.ViewCountMemoryRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+/**
+ * 게시글 조회수를 관리한다. 조회할 때마다 DB를 갱신하지 않고 메모리에 증가분을 쌓아두었다가,
+ * 주기적으로 모아서 DB에 반영한다. 따라서 게시글 조회는 읽기 전용 트랜잭션으로 처리할 수 있다.
+ */
+@Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class ViewCountService {
 
     private final ViewCountMemoryRepository memoryRepository;
+    private final PostRepository postRepository;
+    private final TrendingService trendingService;
+    private final TransactionTemplate transactionTemplate;
     private final Clock clock;
 
     @Value("${app.post.view-counting-expires}")
     private final Duration expiresAfter;
 
+    @Value("${app.post.view-flush-chunk-size:500}")
+    private final int chunkSize;
+
     /**
      * 조회수 증가 처리. 동일성은 (remoteAddress, postId)로 구분하며, n분에 1회씩만 증가시킬 수 있다.
      * n분은 post.view-counting-duration 설정을 통해 분 단위로 조절할 수 있다.
+     * 증가분은 {@link #flushToDB()}가 호출될 때 DB에 반영된다.
      *
      * @param post          증가 대상 post
      * @param remoteAddress client의 remote address
      */
     public void increasePostViews(Post post, String remoteAddress) {
         Instant now = Instant.now(clock);
-        if (!memoryRepository.isAlreadyContains(post.getId(), remoteAddress, now)) {
-            memoryRepository.put(post.getId(), remoteAddress, expiresAfter, now);
-            post.increaseViewCount();
+        if (memoryRepository.addViewer(post.getId(), remoteAddress, expiresAfter, now)) {
+            trendingService.record(post, TrendingEvent.VIEW);
+        }
+    }
+
+    /**
+     * 조회수 증가 처리. 게시글 Entity 없이 타입과 id만으로 증가시킨다.
+     *
+     * @param type          증가 대상 post 타입
+     * @param postId        증가 대상 post id
+     * @param remoteAddress client의 remote address
+     */
+    public void increasePostViews(Class<? extends Post> type, Long postId, String remoteAddress) {
+        Instant now = Instant.now(clock);
+        if (memoryRepository.addViewer(postId, remoteAddress, expiresAfter, now)) {
+            TrendingBoard board = TrendingBoard.of(type);
+            if (board != null) {
+                trendingService.record(board, postId, TrendingEvent.VIEW);
+            }
         }
     }
+
+    /**
+     * 메모리에 쌓인 조회수 증가분을 DB에 반영한다. 증가분이 같은 게시글끼리 묶어서 한 번에 갱신한다.
+     * 반영에 실패하면 증가분을 메모리에 되돌려 놓고, 다음 반영 때 다시 시도한다.
+     *
+     * @return 조회수가 갱신된 게시글 수
+     */
+    public int flushToDB() {
+        Map<Long, Long> views = memoryRepository.drainViews();
+        if (views.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<Long>> postsByDelta = views.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<Long, List<Long>> entry : postsByDelta.entrySet()) {
+                    List<Long> postIds = entry.getValue();
+                    for (int i = 0; i < postIds.size(); i += chunkSize) {
+                        List<Long> chunk = postIds.subList(i, Math.min(i + chunkSize, postIds.size()));
+                        postRepository.increaseViews(chunk, entry.getKey().intValue());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            memoryRepository.restoreViews(views);
+            throw e;
+        }
+
+        log.info("Views of {} posts in memory flushed to DB.", views.size());
+        return views.size();
+    }
 }
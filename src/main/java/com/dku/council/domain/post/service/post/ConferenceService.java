@@ -3,9 +3,12 @@ package com.dku.council.domain.post.service.post;
 
 import com.dku.council.domain.post.model.dto.list.SummarizedConferenceDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateConferenceDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.entity.posttype.Conference;
 import com.dku.council.domain.post.repository.post.ConferenceRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostListCacheService;
+import com.dku.council.domain.post.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,11 +20,23 @@ import org.springframework.stereotype.Service;
 public class ConferenceService {
     private final GenericPostService<Conference> postService;
     private final ConferenceRepository repository;
+    private final PostSearchService searchService;
+    private final PostListCacheService listCache;
 
 
     public Page<SummarizedConferenceDto> list(String keyword, Pageable pageable, int bodySize) {
-        Specification<Conference> spec = PostSpec.withTitleOrBody(keyword);
-        return postService.list(repository, spec, pageable, bodySize, SummarizedConferenceDto::new);
+        return listCache.list(Conference.class, keyword, null, null, pageable, bodySize,
+                SummarizedConferenceDto.class, () -> {
+                    Specification<Conference> spec = searchService.withKeyword(keyword, Conference.class);
+                    return postService.list(repository, spec, pageable, bodySize, SummarizedConferenceDto::new);
+                });
+    }
+
+    public ResponseCursorPage<SummarizedConferenceDto> listByCursor(String keyword, String cursor, int size,
+                                                                    int bodySize) {
+        Specification<Conference> spec = searchService.withKeyword(keyword, Conference.class);
+        return postService.listByCursor(repository, Conference.class, spec, cursor, size, bodySize,
+                SummarizedConferenceDto::new);
     }
 
     public Long create(Long userId, RequestCreateConferenceDto request) {
@@ -3,11 +3,13 @@ package com.dku.council.domain.post.service.post;
 import com.dku.council.domain.post.exception.PostCooltimeException;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateGeneralForumDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseGeneralForumDto;
 import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
 import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
 import com.dku.council.domain.post.repository.post.GeneralForumRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.global.auth.role.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,6 +33,7 @@ public class GeneralForumService {
     private final GenericPostService<GeneralForum> postService;
     private final PostTimeMemoryRepository postTimeMemoryRepository;
     private final GeneralForumRepository repository;
+    private final PostSearchService searchService;
 
     private final Clock clock;
 
@@ -51,12 +54,20 @@ public class GeneralForumService {
     public Page<SummarizedGenericPostDto> list(String keyword, List<Long> tagIds, Pageable pageable,
                                                int bodySize) {
         Specification<GeneralForum> spec = PostSpec.withTags(tagIds);
-        spec = spec.and(PostSpec.withTitleOrBody(keyword));
+        spec = spec.and(searchService.withKeyword(keyword, GeneralForum.class));
         return postService.list(repository, spec, pageable, bodySize);
     }
 
+    public ResponseCursorPage<SummarizedGenericPostDto> listByCursor(String keyword, List<Long> tagIds, String cursor,
+                                                                     int size, int bodySize) {
+        Specification<GeneralForum> spec = PostSpec.withTags(tagIds);
+        spec = spec.and(searchService.withKeyword(keyword, GeneralForum.class));
+        return postService.listByCursor(repository, GeneralForum.class, spec, cursor, size, bodySize);
+    }
+
     public ResponseGeneralForumDto findOne(Long id, Long userId, UserRole role, String address) {
-        return postService.findOne(repository, id, userId, role, address, ResponseGeneralForumDto::new);
+        return postService.findOne(repository, GeneralForum.class, id, userId, role, address,
+                ResponseGeneralForumDto::new);
     }
 
     public void delete(Long id, Long userId, boolean admin) {
@@ -73,7 +84,7 @@ public class GeneralForumService {
 
     @Transactional(readOnly = true)
     public Page<SummarizedGenericPostDto> listMyPosts(Long userId, Pageable pageable, int bodySize) {
-        return repository.findAllByUserId(userId, pageable)
-                .map(post -> postService.makeListDto(bodySize, post));
+        Page<GeneralForum> posts = repository.findAllByUserId(userId, pageable);
+        return postService.makeListDtos(posts, bodySize);
     }
 }
@@ -3,82 +3,159 @@ package com.dku.council.domain.post.service.post;
 import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.CachedPostDetail;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.PostCursor;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateGenericPostDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.model.entity.PostFile;
 import com.dku.council.domain.post.repository.post.GenericPostRepository;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
-import com.dku.council.domain.post.service.ThumbnailService;
+import com.dku.council.domain.post.service.PostAttachmentService;
+import com.dku.council.domain.post.service.PostDetailCacheService;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.domain.post.service.ViewCountService;
+import com.dku.council.domain.tag.model.dto.TagDto;
 import com.dku.council.domain.tag.service.TagService;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.auth.role.UserRole;
 import com.dku.council.global.error.exception.NotGrantedException;
+import com.dku.council.global.error.exception.OutOfRangeException;
 import com.dku.council.global.error.exception.UserNotFoundException;
-import com.dku.council.infra.nhn.model.FileRequest;
-import com.dku.council.infra.nhn.model.UploadedFile;
-import com.dku.council.infra.nhn.service.FileUploadService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GenericPostService<E extends Post> {
 
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     protected final UserRepository userRepository;
     protected final TagService tagService;
     protected final ViewCountService viewCountService;
     protected final LikeService likeService;
 
-    protected final FileUploadService fileUploadService;
+    protected final PostFileRepository fileRepository;
     protected final ObjectUploadContext uploadContext;
-    protected final ThumbnailService thumbnailService;
+    protected final PostAttachmentService attachmentService;
+    protected final PostSearchService searchService;
+    protected final PostDetailCacheService detailCache;
+    protected final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true)
     public Page<SummarizedGenericPostDto> list(GenericPostRepository<E> repository, Specification<E> spec,
                                                Pageable pageable, int bodySize) {
         Page<E> result = list(repository, spec, pageable);
-        return result.map((post) -> makeListDto(bodySize, post));
+        return makeListDtos(result, bodySize);
     }
 
     @Transactional(readOnly = true)
     public <T> Page<T> list(GenericPostRepository<E> repository, Specification<E> spec, Pageable pageable, int bodySize,
                             PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
         Page<E> result = list(repository, spec, pageable);
-        return result.map((post) -> {
-            SummarizedGenericPostDto dto = makeListDto(bodySize, post);
-            return mapper.map(dto, post);
-        });
+        return makeListDtos(result, bodySize, mapper);
     }
 
     private Page<E> list(GenericPostRepository<E> repository, Specification<E> spec, Pageable pageable) {
+        return repository.findAll(withActive(spec), pageable);
+    }
+
+    /**
+     * 커서 방식으로 게시글 목록을 조회합니다. 최신순으로 정렬되며, 전체 개수는 세지 않습니다.
+     *
+     * @param domainClass 게시글 타입
+     * @param cursor      이전 페이지에서 받은 커서. 지정하지 않으면 처음부터 조회한다.
+     * @param size        가져올 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public ResponseCursorPage<SummarizedGenericPostDto> listByCursor(GenericPostRepository<E> repository,
+                                                                     Class<E> domainClass, Specification<E> spec,
+                                                                     @Nullable String cursor, int size, int bodySize) {
+        return listByCursor(repository, domainClass, spec, cursor, size, bodySize, (dto, post) -> dto);
+    }
+
+    @Transactional(readOnly = true)
+    public <T> ResponseCursorPage<T> listByCursor(GenericPostRepository<E> repository, Class<E> domainClass,
+                                                  Specification<E> spec, @Nullable String cursor, int size,
+                                                  int bodySize, PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new OutOfRangeException("1~" + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        Slice<E> posts = repository.findAllByCursor(domainClass, withActive(spec), PostCursor.decode(cursor), size);
+        ListDtoFactory factory = new ListDtoFactory(posts, bodySize);
+        Slice<T> result = posts.map(post -> mapper.map(factory.create(post), post));
+
+        String nextCursor = null;
+        if (posts.hasNext()) {
+            List<E> content = posts.getContent();
+            nextCursor = PostCursor.of(content.get(content.size() - 1)).encode();
+        }
+        return new ResponseCursorPage<>(result, nextCursor);
+    }
+
+    private Specification<E> withActive(Specification<E> spec) {
         if (spec == null) {
             spec = Specification.where(null);
         }
+        return spec.and(PostSpec.withActive());
+    }
 
-        spec = spec.and(PostSpec.withActive());
+    /**
+     * 게시글 목록을 dto로 변환합니다. 좋아요 개수, 파일, 태그는 페이지 단위로 한 번에 가져옵니다.
+     */
+    public Page<SummarizedGenericPostDto> makeListDtos(Page<E> posts, int bodySize) {
+        ListDtoFactory factory = new ListDtoFactory(posts, bodySize);
+        return posts.map(factory::create);
+    }
 
-        return repository.findAll(spec, pageable);
+    public <T> Page<T> makeListDtos(Page<E> posts, int bodySize,
+                                    PostResultMapper<T, SummarizedGenericPostDto, E> mapper) {
+        ListDtoFactory factory = new ListDtoFactory(posts, bodySize);
+        return posts.map(post -> mapper.map(factory.create(post), post));
     }
 
-    public SummarizedGenericPostDto makeListDto(int bodySize, E post) {
-        int likes = likeService.getCountOfLikes(post.getId(), LikeTarget.POST);
-        return new SummarizedGenericPostDto(uploadContext, bodySize, likes, post);
+    private class ListDtoFactory {
+        private final int bodySize;
+        private final Map<Long, Integer> likes;
+        private final Map<Long, List<PostFile>> files;
+        private final Map<Long, List<TagDto>> tags;
+
+        private ListDtoFactory(Slice<E> posts, int bodySize) {
+            List<Long> ids = posts.stream()
+                    .map(Post::getId)
+                    .collect(Collectors.toList());
+            this.bodySize = bodySize;
+            this.likes = likeService.getCountsOfLikes(ids, LikeTarget.POST);
+            this.files = fileRepository.findAllGroupByPostIds(ids);
+            this.tags = tagService.getTagsOfPosts(ids);
+        }
+
+        private SummarizedGenericPostDto create(E post) {
+            Long id = post.getId();
+            return new SummarizedGenericPostDto(uploadContext, bodySize, likes.getOrDefault(id, 0), post,
+                    files.getOrDefault(id, List.of()), tags.getOrDefault(id, List.of()));
+        }
     }
 
     /**
@@ -94,78 +171,56 @@ public class GenericPostService<E extends Post> {
         E post = dto.toEntity(user);
         tagService.addTagsToPost(post, dto.getTagIds());
 
-        attachFiles(dto.getFiles(), post);
+        attachmentService.stage(post, dto.getFiles());
 
         E savedPost = repository.save(post);
+        searchService.index(savedPost);
+        eventPublisher.publishEvent(PostChangedEvent.of(savedPost));
         return savedPost.getId();
     }
 
-    private void attachFiles(List<MultipartFile> dtoFiles, E post) {
-        List<UploadedFile> files = fileUploadService.newContext().uploadFiles(
-                FileRequest.ofList(dtoFiles),
-                post.getClass().getSimpleName());
-
-        FileUploadService.Context uploadCtx = fileUploadService.newContext();
-        List<PostFile> postFiles = new ArrayList<>();
-
-        for (UploadedFile file : files) {
-            PostFile.PostFileBuilder builder = PostFile.builder()
-                    .fileName(file.getOriginalName())
-                    .mimeType(file.getMimeType().toString())
-                    .fileId(file.getFileId());
-
-            String thumbnailId = thumbnailService.createThumbnail(uploadCtx, file);
-            if (thumbnailId != null) {
-                builder.thumbnailId(thumbnailId);
-            }
-            postFiles.add(builder.build());
-        }
-
-        for (PostFile file : postFiles) {
-            file.changePost(post);
-        }
-    }
-
     /**
-     * 게시글 단건 조회
+     * 게시글 단건 조회. 사용자와 관계없는 부분은 캐시에서 가져오고,
+     * 좋아요 수, 내 게시글인지, 좋아요를 눌렀는지만 조회할 때마다 계산한다.
      *
+     * @param domainClass   게시글 타입. 다른 게시판의 게시글이면 찾을 수 없다고 판단한다.
      * @param postId        조회할 게시글 id
      * @param userId        조회하는 사용자 id. 내 게시글인지 판단하는데 사용된다.
      *                      null인 경우 무조건 내 게시글이 아니라고 판단한다.
      * @param remoteAddress 요청자 IP Address. 조회수 카운팅에 사용된다.
      * @return 게시글 정보
      */
-    @Transactional
-    public ResponseSingleGenericPostDto findOne(GenericPostRepository<E> repository, Long postId, @Nullable Long userId,
-                                                UserRole role, String remoteAddress) {
-        E post = viewPost(repository, postId, remoteAddress, role);
-        return makePostDto(userId, post);
+    public ResponseSingleGenericPostDto findOne(GenericPostRepository<E> repository, Class<E> domainClass,
+                                                Long postId, @Nullable Long userId, UserRole role,
+                                                String remoteAddress) {
+        return findOne(repository, domainClass, postId, userId, role, remoteAddress, (dto, detail) -> dto);
     }
 
-    @Transactional
-    public <T> T findOne(GenericPostRepository<E> repository, Long postId, Long userId, UserRole role,
-                         String remoteAddress, PostResultMapper<T, ResponseSingleGenericPostDto, E> mapper) {
-        E post = viewPost(repository, postId, remoteAddress, role);
-        ResponseSingleGenericPostDto dto = makePostDto(userId, post);
-
-        try {
-            return mapper.map(dto, post);
-        } catch (ClassCastException e) {
+    public <T> T findOne(GenericPostRepository<E> repository, Class<E> domainClass, Long postId,
+                         @Nullable Long userId, UserRole role, String remoteAddress, PostDetailMapper<T> mapper) {
+        CachedPostDetail detail = detailCache.get(postId, () ->
+                new CachedPostDetail(uploadContext, findPost(repository, postId, role)));
+
+        // 캐시는 관리자가 조회한 블라인드 게시글도 담고 있으므로 권한을 다시 확인한다.
+        if (!detail.isTypeOf(domainClass) || (detail.isBlinded() && !role.isAdmin())) {
             throw new PostNotFoundException();
         }
+
+        viewCountService.increasePostViews(domainClass, postId, remoteAddress);
+        return mapper.map(makePostDto(userId, detail), detail);
     }
 
-    private ResponseSingleGenericPostDto makePostDto(@Nullable Long userId, E post) {
-        int likes = likeService.getCountOfLikes(post.getId(), LikeTarget.POST);
+    private ResponseSingleGenericPostDto makePostDto(@Nullable Long userId, CachedPostDetail detail) {
+        int likes = likeService.getCountOfLikes(detail.getId(), LikeTarget.POST);
         boolean isMine = false;
         boolean isLiked = false;
 
         if (userId != null) {
-            isMine = post.getUser().getId().equals(userId);
-            isLiked = likeService.isLiked(post.getId(), userId, LikeTarget.POST);
+            isMine = detail.getUserId().equals(userId);
+            isLiked = likeService.isLiked(detail.getId(), userId, LikeTarget.POST);
         }
 
-        return new ResponseSingleGenericPostDto(uploadContext, likes, isMine, isLiked, post);
+        return new ResponseSingleGenericPostDto(detail, likes, isMine, isLiked);
     }
 
     /**
@@ -175,7 +230,7 @@ public class GenericPostService<E extends Post> {
      * @param remoteAddress 요청자 IP Address. 조회수 카운팅에 사용된다.
      * @return 게시글 Entity
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public E viewPost(GenericPostRepository<E> repository, Long postId, String remoteAddress, UserRole role) {
         E post = findPost(repository, postId, role);
         viewCountService.increasePostViews(post, remoteAddress);
@@ -219,6 +274,8 @@ public class GenericPostService<E extends Post> {
         } else {
             throw new NotGrantedException();
         }
+        searchService.updateStatus(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
     /**
@@ -230,6 +287,8 @@ public class GenericPostService<E extends Post> {
     public void blind(GenericPostRepository<E> repository, Long postId) {
         E post = repository.findById(postId).orElseThrow(PostNotFoundException::new);
         post.blind();
+        searchService.updateStatus(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
     /**
@@ -241,6 +300,8 @@ public class GenericPostService<E extends Post> {
     public void unblind(GenericPostRepository<E> repository, Long postId) {
         E post = repository.findBlindedPostById(postId).orElseThrow(PostNotFoundException::new);
         post.unblind();
+        searchService.updateStatus(post);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
 
@@ -248,4 +309,9 @@ public class GenericPostService<E extends Post> {
     public interface PostResultMapper<T, D, E extends Post> {
         T map(D dto, E post);
     }
+
+    @FunctionalInterface
+    public interface PostDetailMapper<T> {
+        T map(ResponseSingleGenericPostDto dto, CachedPostDetail detail);
+    }
 }
@@ -3,10 +3,13 @@ package com.dku.council.domain.post.service.post;
 
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateNewsDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
 import com.dku.council.domain.post.model.entity.posttype.News;
 import com.dku.council.domain.post.repository.post.NewsRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostListCacheService;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.global.auth.role.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,11 +24,23 @@ import java.util.List;
 public class NewsService {
     private final GenericPostService<News> postService;
     private final NewsRepository repository;
+    private final PostSearchService searchService;
+    private final PostListCacheService listCache;
 
     public Page<SummarizedGenericPostDto> list(String keyword, List<Long> tagIds, Pageable pageable, int bodySize) {
-        Specification<News> spec = PostSpec.withTitleOrBody(keyword);
+        return listCache.list(News.class, keyword, tagIds, null, pageable, bodySize, SummarizedGenericPostDto.class,
+                () -> {
+                    Specification<News> spec = searchService.withKeyword(keyword, News.class);
+                    spec = spec.and(PostSpec.withTags(tagIds));
+                    return postService.list(repository, spec, pageable, bodySize);
+                });
+    }
+
+    public ResponseCursorPage<SummarizedGenericPostDto> listByCursor(String keyword, List<Long> tagIds, String cursor,
+                                                                     int size, int bodySize) {
+        Specification<News> spec = searchService.withKeyword(keyword, News.class);
         spec = spec.and(PostSpec.withTags(tagIds));
-        return postService.list(repository, spec, pageable, bodySize);
+        return postService.listByCursor(repository, News.class, spec, cursor, size, bodySize);
     }
 
     public Long create(Long userId, RequestCreateNewsDto request) {
@@ -33,11 +48,11 @@ public class NewsService {
     }
 
     public ResponseSingleGenericPostDto findOneForGuest(Long id, String address) {
-        return postService.findOne(repository, id, null, UserRole.GUEST, address);
+        return postService.findOne(repository, News.class, id, null, UserRole.GUEST, address);
     }
 
     public ResponseSingleGenericPostDto findOne(Long id, Long userId, UserRole role, String address) {
-        return postService.findOne(repository, id, userId, role, address);
+        return postService.findOne(repository, News.class, id, userId, role, address);
     }
 
     public void delete(Long id, Long userId, boolean admin) {
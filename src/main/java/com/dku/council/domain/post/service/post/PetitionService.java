@@ -4,19 +4,25 @@ import com.dku.council.domain.post.exception.DuplicateAgreementException;
 import com.dku.council.domain.post.exception.ExpiredPetitionException;
 import com.dku.council.domain.post.exception.PostCooltimeException;
 import com.dku.council.domain.post.model.PetitionStatus;
-import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.TrendingEvent;
 import com.dku.council.domain.post.model.dto.list.SummarizedPetitionDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreatePetitionDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponsePetitionDto;
 import com.dku.council.domain.post.model.entity.posttype.Petition;
 import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
 import com.dku.council.domain.post.repository.post.PetitionRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostListCacheService;
+import com.dku.council.domain.post.service.PostSearchService;
+import com.dku.council.domain.post.service.TrendingService;
 import com.dku.council.domain.statistic.model.dto.PetitionStatisticDto;
 import com.dku.council.domain.statistic.service.PetitionStatisticService;
 import com.dku.council.global.auth.role.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -39,6 +45,10 @@ public class PetitionService {
     private final PetitionStatisticService statisticService;
     private final PostTimeMemoryRepository postTimeMemoryRepository;
     private final PetitionRepository repository;
+    private final PostSearchService searchService;
+    private final PostListCacheService listCache;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Clock clock;
 
@@ -52,13 +62,26 @@ public class PetitionService {
     private final Duration writeCooltime;
 
 
-    @Transactional(readOnly = true)
     public Page<SummarizedPetitionDto> listPetition(String keyword, List<Long> tagIds, PetitionStatus status,
                                                     int bodySize, Pageable pageable) {
-        Specification<Petition> spec = PostSpec.withTitleOrBody(keyword);
+        return listCache.list(Petition.class, keyword, tagIds, status, pageable, bodySize,
+                SummarizedPetitionDto.class, () -> {
+                    Specification<Petition> spec = searchService.withKeyword(keyword, Petition.class);
+                    spec = spec.and(PostSpec.withPetitionStatus(status));
+                    spec = spec.and(PostSpec.withTags(tagIds));
+                    return postService.list(repository, spec, pageable, bodySize, (dto, post) ->
+                            new SummarizedPetitionDto(dto, post, expiresTime, statisticService.count(post.getId())));
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseCursorPage<SummarizedPetitionDto> listPetitionByCursor(String keyword, List<Long> tagIds,
+                                                                          PetitionStatus status, String cursor,
+                                                                          int size, int bodySize) {
+        Specification<Petition> spec = searchService.withKeyword(keyword, Petition.class);
         spec = spec.and(PostSpec.withPetitionStatus(status));
         spec = spec.and(PostSpec.withTags(tagIds));
-        return postService.list(repository, spec, pageable, bodySize, (dto, post) ->
+        return postService.listByCursor(repository, Petition.class, spec, cursor, size, bodySize, (dto, post) ->
                 new SummarizedPetitionDto(dto, post, expiresTime, statisticService.count(post.getId())));
     }
 
@@ -86,8 +109,8 @@ public class PetitionService {
         }
 
         boolean agreed = statisticService.isAlreadyAgreed(postId, userId);
-        return postService.findOne(repository, postId, userId, role, remoteAddress, (dto, post) ->
-                new ResponsePetitionDto(dto, post, expiresTime, totalCount, top4Department, agreed));
+        return postService.findOne(repository, Petition.class, postId, userId, role, remoteAddress, (dto, detail) ->
+                new ResponsePetitionDto(dto, detail, expiresTime, totalCount, top4Department, agreed));
     }
 
     @Transactional
@@ -95,6 +118,7 @@ public class PetitionService {
         Petition post = postService.findPost(repository, postId, UserRole.ADMIN);
         post.replyAnswer(answer);
         post.updatePetitionStatus(PetitionStatus.ANSWERED);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
     @Transactional
@@ -111,9 +135,11 @@ public class PetitionService {
         int countAgree = statisticService.count(postId);
         if (post.getExtraStatus() == PetitionStatus.ACTIVE && countAgree + 1 >= thresholdCommentCount) {
             post.updatePetitionStatus(PetitionStatus.WAITING);
+            eventPublisher.publishEvent(PostChangedEvent.of(post));
         }
 
         statisticService.save(postId, userId);
+        trendingService.record(post, TrendingEvent.AGREE);
     }
 
     public void blind(Long id) {
@@ -126,10 +152,8 @@ public class PetitionService {
 
     @Transactional(readOnly = true)
     public Page<SummarizedPetitionDto> listMyPosts(Long userId, Pageable pageable, int bodySize) {
-        return repository.findAllByUserId(userId, pageable)
-                .map(post -> {
-                    SummarizedGenericPostDto dto = postService.makeListDto(bodySize, post);
-                    return new SummarizedPetitionDto(dto, post, expiresTime, statisticService.count(post.getId()));
-                });
+        Page<Petition> posts = repository.findAllByUserId(userId, pageable);
+        return postService.makeListDtos(posts, bodySize, (dto, post) ->
+                new SummarizedPetitionDto(dto, post, expiresTime, statisticService.count(post.getId())));
     }
 }
@@ -2,10 +2,13 @@ package com.dku.council.domain.post.service.post;
 
 import com.dku.council.domain.post.model.dto.list.SummarizedRuleDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateRuleDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
 import com.dku.council.domain.post.model.entity.posttype.Rule;
 import com.dku.council.domain.post.repository.post.RuleRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostListCacheService;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.global.auth.role.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,11 +21,20 @@ import org.springframework.stereotype.Service;
 public class RuleService {
     private final GenericPostService<Rule> postService;
     private final RuleRepository repository;
+    private final PostSearchService searchService;
+    private final PostListCacheService listCache;
 
 
     public Page<SummarizedRuleDto> list(String keyword, Pageable pageable, int bodySize) {
-        Specification<Rule> spec = PostSpec.withTitleOrBody(keyword);
-        return postService.list(repository, spec, pageable, bodySize, SummarizedRuleDto::new);
+        return listCache.list(Rule.class, keyword, null, null, pageable, bodySize, SummarizedRuleDto.class, () -> {
+            Specification<Rule> spec = searchService.withKeyword(keyword, Rule.class);
+            return postService.list(repository, spec, pageable, bodySize, SummarizedRuleDto::new);
+        });
+    }
+
+    public ResponseCursorPage<SummarizedRuleDto> listByCursor(String keyword, String cursor, int size, int bodySize) {
+        Specification<Rule> spec = searchService.withKeyword(keyword, Rule.class);
+        return postService.listByCursor(repository, Rule.class, spec, cursor, size, bodySize, SummarizedRuleDto::new);
     }
 
     public Long create(Long userId, RequestCreateRuleDto request) {
@@ -30,7 +42,7 @@ public class RuleService {
     }
 
     public ResponseSingleGenericPostDto findOne(Long id, Long userId, UserRole role, String remoteAddress) {
-        return postService.findOne(repository, id, userId, role, remoteAddress);
+        return postService.findOne(repository, Rule.class, id, userId, role, remoteAddress);
     }
 
     public void delete(Long id, Long userId, boolean admin) {
@@ -1,14 +1,18 @@
 package com.dku.council.domain.post.service.post;
 
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.VocStatus;
 import com.dku.council.domain.post.model.dto.list.SummarizedVocDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateVocDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseVocDto;
 import com.dku.council.domain.post.model.entity.posttype.Voc;
 import com.dku.council.domain.post.repository.post.VocRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.global.auth.role.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -23,24 +27,33 @@ public class VocService {
 
     private final GenericPostService<Voc> postService;
     private final VocRepository repository;
+    private final PostSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public Page<SummarizedVocDto> list(String keyword, List<Long> tagIds, Pageable pageable, int bodySize) {
-        Specification<Voc> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<Voc> spec = searchService.withKeyword(keyword, Voc.class);
         spec = spec.and(PostSpec.withTags(tagIds));
         return postService.list(repository, spec, pageable, bodySize, SummarizedVocDto::new);
     }
 
+    public ResponseCursorPage<SummarizedVocDto> listByCursor(String keyword, List<Long> tagIds, String cursor,
+                                                             int size, int bodySize) {
+        Specification<Voc> spec = searchService.withKeyword(keyword, Voc.class);
+        spec = spec.and(PostSpec.withTags(tagIds));
+        return postService.listByCursor(repository, Voc.class, spec, cursor, size, bodySize, SummarizedVocDto::new);
+    }
+
     public Page<SummarizedVocDto> listMine(String keyword, List<Long> tagIds, Long userId, Pageable pageable,
                                            int bodySize) {
-        Specification<Voc> spec = PostSpec.withTitleOrBody(keyword);
+        Specification<Voc> spec = searchService.withKeyword(keyword, Voc.class);
         spec = spec.and(PostSpec.withTags(tagIds));
         spec = spec.and(PostSpec.withAuthor(userId));
         return postService.list(repository, spec, pageable, bodySize, SummarizedVocDto::new);
     }
 
     public ResponseVocDto findOne(Long postId, Long userId, UserRole role, String address) {
-        return postService.findOne(repository, postId, userId, role, address, ResponseVocDto::new);
+        return postService.findOne(repository, Voc.class, postId, userId, role, address, ResponseVocDto::new);
     }
 
     @Transactional
@@ -48,6 +61,7 @@ public class VocService {
         Voc post = postService.findPost(repository, postId, UserRole.ADMIN);
         post.replyAnswer(answer);
         post.updateVocStatus(VocStatus.ANSWERED);
+        eventPublisher.publishEvent(PostChangedEvent.of(post));
     }
 
     public Long create(Long userId, RequestCreateVocDto request) {
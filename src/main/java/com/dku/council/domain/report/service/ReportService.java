@@ -1,9 +1,11 @@
 package com.dku.council.domain.report.service;
 
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.PostChangedEvent;
 import com.dku.council.domain.post.model.dto.request.RequestCreateReportDto;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.domain.report.exception.AlreadyReportedException;
 import com.dku.council.domain.report.exception.CannotReportMineException;
 import com.dku.council.domain.report.exception.PostedByAdminException;
@@ -19,6 +21,7 @@ import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.error.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +41,8 @@ public class ReportService {
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostSearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
     private final MessageSource messageSource;
 
     @Value("${app.report.count}")
@@ -63,6 +68,8 @@ public class ReportService {
 
         if (reportRepository.countByPostId(postId) >= reportCountThreshold) {
             post.blind();
+            searchService.updateStatus(post);
+            eventPublisher.publishEvent(PostChangedEvent.of(post));
         }
     }
 
@@ -1,9 +1,12 @@
 package com.dku.council.domain.tag.model.dto;
 
 import com.dku.council.domain.tag.model.entity.Tag;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class TagDto {
     private final Long id;
     private final String name;
@@ -2,6 +2,17 @@ package com.dku.council.domain.tag.repository;
 
 import com.dku.council.domain.tag.model.entity.PostTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
+
+    @Query("select pt from PostTag pt " +
+            "join fetch pt.tag " +
+            "where pt.post.id in :postIds " +
+            "order by pt.id")
+    List<PostTag> findAllWithTagByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -14,7 +14,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -80,6 +82,22 @@ public class TagService {
         return tagId;
     }
 
+    /**
+     * 여러 게시글의 태그를 한 번에 가져옵니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID -> 태그 목록. 태그가 없는 게시글은 포함되지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<TagDto>> getTagsOfPosts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postTagRepository.findAllWithTagByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(relation -> relation.getPost().getId(),
+                        Collectors.mapping(relation -> new TagDto(relation.getTag()), Collectors.toList())));
+    }
+
     /**
      * Post에 태그를 추가합니다.
      *
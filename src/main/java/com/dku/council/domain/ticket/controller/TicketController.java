@@ -4,8 +4,10 @@ import com.dku.council.domain.ticket.model.dto.TicketEventDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestEnrollDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestNewTicketEventDto;
 import com.dku.council.domain.ticket.model.dto.response.ResponseCaptchaKeyDto;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
 import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
 import com.dku.council.domain.ticket.service.TicketEventService;
+import com.dku.council.domain.ticket.service.TicketQueueService;
 import com.dku.council.domain.ticket.service.TicketService;
 import com.dku.council.global.auth.jwt.AppAuthentication;
 import com.dku.council.global.auth.role.AdminAuth;
@@ -31,6 +33,7 @@ public class TicketController {
     private final Clock clock;
     private final TicketService ticketService;
     private final TicketEventService ticketEventService;
+    private final TicketQueueService ticketQueueService;
     private final CaptchaService captchaService;
 
     /**
@@ -81,6 +84,34 @@ public class TicketController {
         return ticketService.myReservationOrder(auth.getUserId(), eventId);
     }
 
+    /**
+     * 대기열 들어가기
+     * <p>티켓 이벤트 대기열에 들어가 대기 번호를 발급받습니다. 이미 들어간 경우 기존 대기 번호가 유지됩니다.</p>
+     * <p>대기열을 통과(입장)해야 티켓을 신청할 수 있습니다.</p>
+     *
+     * @param eventId 티켓 이벤트 아이디
+     * @return 대기 상태
+     */
+    @PostMapping("/queue/{eventId}")
+    @UserAuth
+    public ResponseTicketQueueDto joinQueue(AppAuthentication auth, @PathVariable Long eventId) {
+        return ticketQueueService.join(auth.getUserId(), eventId, Instant.now(clock));
+    }
+
+    /**
+     * 대기 상태 조회
+     * <p>대기열에서 입장까지 남은 사람 수와 입장 여부를 조회합니다.
+     * 입장하기 전까지 retryAfter초 간격으로 조회해주세요.</p>
+     *
+     * @param eventId 티켓 이벤트 아이디
+     * @return 대기 상태
+     */
+    @GetMapping("/queue/{eventId}")
+    @UserAuth
+    public ResponseTicketQueueDto queueStatus(AppAuthentication auth, @PathVariable Long eventId) {
+        return ticketQueueService.status(auth.getUserId(), eventId, Instant.now(clock));
+    }
+
     /**
      * captcha 인증 키 요청
      * <p>새로운 Captcha 키를 요청합니다.</p>
@@ -111,6 +142,7 @@ public class TicketController {
     /**
      * 티켓 신청하기
      * <p>티켓 이벤트에 신청합니다. Captcha는 인증 실패시 키부터 다시 요청해야합니다.</p>
+     * <p>대기열을 통과한 사용자만 신청할 수 있습니다.</p>
      * <p>신청했더라도 바로 티켓이 발급되는 것은 아닙니다.</p>
      *
      * @param dto 티켓 신청 정보
@@ -121,6 +153,7 @@ public class TicketController {
                                         @Valid @RequestBody RequestEnrollDto dto) {
         Instant now = Instant.now(clock);
 
+        ticketQueueService.checkAdmitted(auth.getUserId(), dto.getEventId(), now);
         captchaService.verifyCaptcha(dto.getCaptchaKey(), dto.getCaptchaValue());
         return ticketService.enroll(auth.getUserId(), dto.getEventId(), now);
     }
@@ -0,0 +1,11 @@
+package com.dku.council.domain.ticket.exception;
+
+import com.dku.council.global.error.exception.LocalizedMessageException;
+import org.springframework.http.HttpStatus;
+
+public class NotAdmittedTicketException extends LocalizedMessageException {
+
+    public NotAdmittedTicketException() {
+        super(HttpStatus.BAD_REQUEST, "invalid.not-admitted-ticket");
+    }
+}
@@ -0,0 +1,11 @@
+package com.dku.council.domain.ticket.exception;
+
+import com.dku.council.global.error.exception.LocalizedMessageException;
+import org.springframework.http.HttpStatus;
+
+public class SoldOutTicketException extends LocalizedMessageException {
+
+    public SoldOutTicketException() {
+        super(HttpStatus.BAD_REQUEST, "invalid.sold-out-ticket");
+    }
+}
@@ -0,0 +1,32 @@
+package com.dku.council.domain.ticket.model;
+
+import com.dku.council.domain.ticket.model.dto.TicketEventDto;
+import com.dku.council.global.util.DateUtil;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서버 메모리에 보관하는 티켓 이벤트. 신청 기간을 미리 {@link Instant}로 변환해둔다.
+ */
+@Getter
+public class CachedTicketEvent {
+
+    private final TicketEventDto event;
+    private final Instant from;
+    private final Instant to;
+
+    public CachedTicketEvent(TicketEventDto event) {
+        this.event = event;
+        this.from = DateUtil.toInstant(event.getFrom());
+        this.to = DateUtil.toInstant(event.getTo());
+    }
+
+    public Long getId() {
+        return event.getId();
+    }
+
+    public int getCapacity() {
+        return event.getCapacity();
+    }
+}
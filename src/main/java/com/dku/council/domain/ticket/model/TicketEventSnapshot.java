@@ -0,0 +1,41 @@
+package com.dku.council.domain.ticket.model;
+
+import com.dku.council.domain.ticket.model.dto.TicketEventDto;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 특정 버전의 티켓 이벤트 목록. 생성된 뒤에는 변경되지 않는다.
+ */
+public class TicketEventSnapshot {
+
+    /**
+     * Redis에 기록된 티켓 이벤트 목록의 버전
+     */
+    @Getter
+    private final long version;
+
+    @Getter
+    private final List<TicketEventDto> events;
+
+    private final Map<Long, CachedTicketEvent> eventMap;
+
+    public TicketEventSnapshot(long version, List<TicketEventDto> events) {
+        Map<Long, CachedTicketEvent> map = new LinkedHashMap<>();
+        for (TicketEventDto event : events) {
+            map.put(event.getId(), new CachedTicketEvent(event));
+        }
+        this.version = version;
+        this.events = List.copyOf(events);
+        this.eventMap = Collections.unmodifiableMap(map);
+    }
+
+    public Optional<CachedTicketEvent> findById(Long ticketEventId) {
+        return Optional.ofNullable(eventMap.get(ticketEventId));
+    }
+}
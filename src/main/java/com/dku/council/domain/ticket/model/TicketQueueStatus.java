@@ -0,0 +1,40 @@
+package com.dku.council.domain.ticket.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 티켓 이벤트 대기열에서의 사용자 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public class TicketQueueStatus {
+
+    /**
+     * 사용자의 대기 번호. 대기열에 들어오지 않았다면 -1
+     */
+    private final long number;
+
+    /**
+     * 입장한 마지막 대기 번호. 이 번호 이하의 사용자는 티켓을 신청할 수 있다.
+     */
+    private final long admitted;
+
+    public boolean isJoined() {
+        return number > 0;
+    }
+
+    public boolean isAdmitted() {
+        return isJoined() && number <= admitted;
+    }
+
+    /**
+     * @return 입장까지 남은 사람 수. 입장했거나 대기열에 들어오지 않았다면 0
+     */
+    public long getPosition() {
+        if (!isJoined()) {
+            return 0;
+        }
+        return Math.max(0, number - admitted);
+    }
+}
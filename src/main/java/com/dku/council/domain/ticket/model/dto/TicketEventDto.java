@@ -25,11 +25,15 @@ public class TicketEventDto {
     @Schema(description = "종료 시각")
     private final LocalDateTime to;
 
+    @Schema(description = "발급 가능한 티켓 수. 0이면 제한 없음")
+    private final int capacity;
+
 
     public TicketEventDto(TicketEvent e) {
         this.id = e.getId();
         this.name = e.getName();
         this.from = e.getStartAt();
         this.to = e.getEndAt();
+        this.capacity = e.getTotalTickets();
     }
 }
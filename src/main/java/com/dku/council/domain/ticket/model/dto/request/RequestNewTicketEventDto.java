@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
 import java.time.LocalDateTime;
 
 @Getter
@@ -25,12 +26,12 @@ public class RequestNewTicketEventDto {
     @Schema(description = "종료 시각")
     private final LocalDateTime endAt;
 
-    @NotNull
-    @Schema(description = "총 티켓 수량")
+    @PositiveOrZero
+    @Schema(description = "총 티켓 수량. 비워두거나 0이면 제한 없음")
     private final Integer totalTickets;
 
 
     public TicketEvent createEntity() {
-        return new TicketEvent(name, startAt, endAt, totalTickets);
+        return new TicketEvent(name, startAt, endAt, totalTickets == null ? 0 : totalTickets);
     }
 }
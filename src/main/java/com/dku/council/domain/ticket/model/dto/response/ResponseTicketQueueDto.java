@@ -0,0 +1,28 @@
+package com.dku.council.domain.ticket.model.dto.response;
+
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class ResponseTicketQueueDto {
+
+    @Schema(description = "대기 번호. 대기열에 들어오지 않았다면 -1", example = "120")
+    private final long number;
+
+    @Schema(description = "입장까지 남은 사람 수", example = "20")
+    private final long position;
+
+    @Schema(description = "입장 여부. 입장해야 티켓을 신청할 수 있습니다.", example = "false")
+    private final boolean admitted;
+
+    @Schema(description = "다음 조회까지 권장 대기 시간(초)", example = "1")
+    private final int retryAfter;
+
+    public ResponseTicketQueueDto(TicketQueueStatus status, int retryAfter) {
+        this.number = status.getNumber();
+        this.position = status.getPosition();
+        this.admitted = status.isAdmitted();
+        this.retryAfter = retryAfter;
+    }
+}
@@ -45,4 +45,18 @@ public interface TicketEventMemoryRepository {
      * @param id 티켓 이벤트 ID
      */
     void deleteById(Long id);
+
+    /**
+     * 티켓 이벤트 목록의 버전을 조회한다. 목록이 바뀔 때마다 버전이 증가한다.
+     *
+     * @return 현재 버전. 한 번도 바뀌지 않았다면 0
+     */
+    long getVersion();
+
+    /**
+     * 티켓 이벤트 목록의 버전을 올리고, 다른 서버에 목록이 바뀌었음을 알린다.
+     *
+     * @return 증가된 버전
+     */
+    long increaseVersion();
 }
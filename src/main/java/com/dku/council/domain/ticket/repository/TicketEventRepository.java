@@ -2,6 +2,19 @@ package com.dku.council.domain.ticket.repository;
 
 import com.dku.council.domain.ticket.model.entity.TicketEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
 
 public interface TicketEventRepository extends JpaRepository<TicketEvent, Long> {
+
+    /**
+     * 여러 서버에서 같은 이벤트의 티켓을 동시에 반영하지 않도록 lock을 걸고 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from TicketEvent e where e.id = :id")
+    Optional<TicketEvent> findByIdForUpdate(@Param("id") Long id);
 }
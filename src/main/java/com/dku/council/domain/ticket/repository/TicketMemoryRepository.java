@@ -1,9 +1,12 @@
 package com.dku.council.domain.ticket.repository;
 
+import com.dku.council.domain.ticket.exception.AlreadyRequestedTicketException;
+import com.dku.council.domain.ticket.exception.SoldOutTicketException;
 import com.dku.council.domain.ticket.model.dto.TicketDto;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TicketMemoryRepository {
 
@@ -12,10 +15,13 @@ public interface TicketMemoryRepository {
      *
      * @param userId              사용자 ID
      * @param ticketEventId       티켓 이벤트 ID
+     * @param capacity            발급 가능한 티켓 수. 0 이하면 제한 없음
      * @param expiresNextKeyAfter 다음 티켓 아이디 캐싱 만료 시간
-     * @return 발급된 티켓 순번. 이미 발급한 경우 -1 반환.
+     * @return 발급된 티켓 순번.
+     * @throws AlreadyRequestedTicketException 이미 발급한 경우
+     * @throws SoldOutTicketException          티켓이 모두 소진된 경우
      */
-    int enroll(Long userId, Long ticketEventId, Duration expiresNextKeyAfter);
+    int enroll(Long userId, Long ticketEventId, int capacity, Duration expiresNextKeyAfter);
 
     /**
      * 순번을 조회한다.
@@ -36,9 +42,42 @@ public interface TicketMemoryRepository {
     int saveMyTicket(Long userId, Long ticketEventId, int turn);
 
     /**
-     * 모든 티켓을 가져오고, 캐시를 비운다.
+     * DB에 반영되지 않은 티켓이 있는 이벤트 목록을 가져온다.
      *
-     * @return 티켓 목록
+     * @return 티켓 이벤트 ID 목록
      */
-    List<TicketDto> flushAllTickets();
+    List<Long> findReservedEventIds();
+
+    /**
+     * DB에 반영되지 않은 티켓 수를 가져온다.
+     *
+     * @return 티켓 수
+     */
+    long countTickets();
+
+    /**
+     * 이벤트의 티켓을 조금씩 나누어 순회한다. 한 번에 전체 티켓을 메모리에 올리지 않는다.
+     * 순회 도중 삭제된 티켓은 전달되지 않을 수 있다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param batchSize     한 번에 전달할 티켓 수
+     * @param action        티켓 목록을 처리할 action
+     */
+    void scanTickets(Long ticketEventId, int batchSize, Consumer<List<TicketDto>> action);
+
+    /**
+     * DB에 반영된 티켓을 삭제한다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param tickets       삭제할 티켓 목록
+     */
+    void deleteTickets(Long ticketEventId, List<TicketDto> tickets);
+
+    /**
+     * 남은 티켓이 없다면 이벤트를 dump 대상에서 제외한다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @return 제외되었다면 true
+     */
+    boolean releaseEvent(Long ticketEventId);
 }
@@ -0,0 +1,35 @@
+package com.dku.council.domain.ticket.repository;
+
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public interface TicketQueueMemoryRepository {
+
+    /**
+     * 대기열에 들어가고 대기 번호를 발급받는다.
+     *
+     * @param userId        사용자 ID
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param expiresAfter  대기열 데이터 만료 시간
+     * @return 대기 번호. 이미 대기열에 들어온 경우 기존 번호를 반환.
+     */
+    long join(Long userId, Long ticketEventId, Duration expiresAfter);
+
+    /**
+     * 지난 시간만큼 대기열을 입장시키고, 사용자의 대기 상태를 가져온다.
+     * 이벤트 시작 전에는 입장시키지 않으며, 시작 시각부터 입장 인원을 계산한다.
+     *
+     * @param userId        사용자 ID
+     * @param ticketEventId 티켓 이벤트 ID
+     * @param admitRate     초당 입장 인원
+     * @param burst         한 번에 입장할 수 있는 최대 인원
+     * @param from          이벤트 시작 시각
+     * @param now           현재 시각
+     * @param expiresAfter  대기열 데이터 만료 시간
+     * @return 대기 상태
+     */
+    TicketQueueStatus admit(Long userId, Long ticketEventId, double admitRate, int burst,
+                            Instant from, Instant now, Duration expiresAfter);
+}
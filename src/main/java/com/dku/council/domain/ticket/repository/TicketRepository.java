@@ -2,9 +2,20 @@ package com.dku.council.domain.ticket.repository;
 
 import com.dku.council.domain.ticket.model.entity.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
     Optional<Ticket> findByUserIdAndEventId(Long userId, Long eventId);
+
+    /**
+     * 이미 DB에 반영된 티켓의 사용자 ID를 찾는다.
+     */
+    @Query("select t.user.id from Ticket t where t.event.id = :eventId and t.user.id in :userIds")
+    List<Long> findUserIdsByEventIdAndUserIdIn(@Param("eventId") Long eventId,
+                                               @Param("userIds") Collection<Long> userIds);
 }
@@ -15,7 +15,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static com.dku.council.global.config.redis.RedisKeys.TICKET_EVENTS_KEY;
+import static com.dku.council.global.config.redis.RedisKeys.*;
 
 @Repository
 @RequiredArgsConstructor
@@ -89,4 +89,18 @@ public class TicketEventRedisRepository implements TicketEventMemoryRepository {
     public void deleteById(Long id) {
         redisTemplate.opsForHash().delete(TICKET_EVENTS_KEY, id.toString());
     }
+
+    @Override
+    public long getVersion() {
+        String value = redisTemplate.opsForValue().get(TICKET_EVENTS_VERSION_KEY);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    @Override
+    public long increaseVersion() {
+        Long version = redisTemplate.opsForValue().increment(TICKET_EVENTS_VERSION_KEY);
+        long result = version == null ? 0 : version;
+        redisTemplate.convertAndSend(TICKET_EVENTS_CHANNEL, String.valueOf(result));
+        return result;
+    }
 }
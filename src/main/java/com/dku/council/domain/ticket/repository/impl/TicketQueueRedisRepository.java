@@ -0,0 +1,62 @@
+package com.dku.council.domain.ticket.repository.impl;
+
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import com.dku.council.domain.ticket.repository.TicketQueueMemoryRepository;
+import com.dku.council.global.config.redis.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketQueueRedisRepository implements TicketQueueMemoryRepository {
+
+    private static final RedisScript<Long> JOIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ticket-queue-join.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ticket-queue-admit.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long join(Long userId, Long ticketEventId, Duration expiresAfter) {
+        List<String> keys = List.of(
+                RedisKeys.combine(TICKET_QUEUE_KEY, ticketEventId),
+                RedisKeys.combine(TICKET_QUEUE_NEXT_KEY, ticketEventId)
+        );
+
+        Long number = redisTemplate.execute(JOIN_SCRIPT, keys,
+                userId.toString(), Long.toString(expiresAfter.toMillis()));
+        if (number == null) {
+            throw new IllegalStateException("Can't execute ticket queue join script");
+        }
+        return number;
+    }
+
+    @Override
+    public TicketQueueStatus admit(Long userId, Long ticketEventId, double admitRate, int burst,
+                                   Instant from, Instant now, Duration expiresAfter) {
+        List<String> keys = List.of(
+                RedisKeys.combine(TICKET_QUEUE_KEY, ticketEventId),
+                RedisKeys.combine(TICKET_QUEUE_NEXT_KEY, ticketEventId),
+                RedisKeys.combine(TICKET_QUEUE_ADMISSION_KEY, ticketEventId)
+        );
+
+        List<?> result = redisTemplate.execute(ADMIT_SCRIPT, keys,
+                userId.toString(), Long.toString(now.toEpochMilli()), Double.toString(admitRate),
+                Integer.toString(burst), Long.toString(expiresAfter.toMillis()), Long.toString(from.toEpochMilli()));
+        if (result == null) {
+            throw new IllegalStateException("Can't execute ticket queue admit script");
+        }
+        return new TicketQueueStatus(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue());
+    }
+}
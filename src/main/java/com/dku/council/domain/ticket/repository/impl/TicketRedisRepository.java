@@ -1,13 +1,18 @@
 package com.dku.council.domain.ticket.repository.impl;
 
 import com.dku.council.domain.ticket.exception.AlreadyRequestedTicketException;
+import com.dku.council.domain.ticket.exception.SoldOutTicketException;
 import com.dku.council.domain.ticket.model.dto.TicketDto;
 import com.dku.council.domain.ticket.repository.TicketMemoryRepository;
 import com.dku.council.global.config.redis.RedisKeys;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
@@ -15,7 +20,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.dku.council.global.config.redis.RedisKeys.*;
 
@@ -23,41 +29,38 @@ import static com.dku.council.global.config.redis.RedisKeys.*;
 @RequiredArgsConstructor
 public class TicketRedisRepository implements TicketMemoryRepository {
 
-    private final StringRedisTemplate redisTemplate;
-    private final RedissonClient redissonClient;
-
-    @Override
-    public int enroll(Long userId, Long ticketEventId, Duration expiresNextKeyAfter) {
-        String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
-        RLock lock = redissonClient.getLock(key + ":lock");
-
-        try {
-            if (lock != null && !lock.tryLock(20, 3, TimeUnit.SECONDS))
-                throw new RuntimeException("It waited for 20 seconds, but can't acquire lock");
+    private static final RedisScript<Long> ENROLL_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ticket-enroll.lua"), Long.class);
 
-            String nextIdKey = RedisKeys.combine(TICKET_NEXT_KEY, ticketEventId);
-            Long size = redisTemplate.opsForValue().increment(nextIdKey);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ticket-release.lua"), Long.class);
 
-            if (size == null) {
-                size = 1L;
-                redisTemplate.opsForValue().set(nextIdKey, size.toString());
-            }
-            redisTemplate.expire(nextIdKey, expiresNextKeyAfter);
-
-            if (!redisTemplate.opsForHash().putIfAbsent(key, userId.toString(), Long.toString(size))) {
-                throw new AlreadyRequestedTicketException();
-            } else {
-                redisTemplate.opsForSet().add(TICKET_RESERVATION_SET_KEY, ticketEventId.toString());
-            }
+    private final StringRedisTemplate redisTemplate;
 
-            return size.intValue();
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (lock != null && lock.isLocked() && lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+    /**
+     * 중복 확인, 순번 발급, 저장을 하나의 스크립트로 처리하므로 lock 없이도 순번이 겹치지 않는다.
+     */
+    @Override
+    public int enroll(Long userId, Long ticketEventId, int capacity, Duration expiresNextKeyAfter) {
+        List<String> keys = List.of(
+                RedisKeys.combine(TICKET_KEY, ticketEventId),
+                RedisKeys.combine(TICKET_NEXT_KEY, ticketEventId),
+                TICKET_RESERVATION_SET_KEY
+        );
+
+        Long turn = redisTemplate.execute(ENROLL_SCRIPT, keys,
+                userId.toString(), ticketEventId.toString(), Long.toString(expiresNextKeyAfter.toMillis()),
+                Integer.toString(capacity));
+        if (turn == null) {
+            throw new IllegalStateException("Can't execute ticket enroll script");
+        }
+        if (turn == -1) {
+            throw new AlreadyRequestedTicketException();
+        }
+        if (turn == -2) {
+            throw new SoldOutTicketException();
         }
+        return turn.intValue();
     }
 
     @Override
@@ -78,26 +81,73 @@ public class TicketRedisRepository implements TicketMemoryRepository {
     }
 
     @Override
-    public List<TicketDto> flushAllTickets() {
-        List<TicketDto> tickets = new ArrayList<>();
+    public List<Long> findReservedEventIds() {
         Set<String> members = redisTemplate.opsForSet().members(TICKET_RESERVATION_SET_KEY);
-
         if (members == null) {
-            return tickets;
+            return new ArrayList<>();
         }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
 
-        for (String member : members) {
-            Long ticketEventId = Long.parseLong(member);
-            String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
-            for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(key).entrySet()) {
+    @Override
+    public long countTickets() {
+        List<Long> eventIds = findReservedEventIds();
+        List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long eventId : eventIds) {
+                conn.hLen(RedisKeys.combine(TICKET_KEY, eventId));
+            }
+            return null;
+        });
+        return sizes.stream()
+                .mapToLong(size -> (Long) size)
+                .sum();
+    }
+
+    @Override
+    public void scanTickets(Long ticketEventId, int batchSize, Consumer<List<TicketDto>> action) {
+        String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+
+        List<TicketDto> batch = new ArrayList<>(batchSize);
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(key, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
                 Long userId = Long.parseLong((String) entry.getKey());
                 int turn = Integer.parseInt((String) entry.getValue());
-                tickets.add(new TicketDto(userId, ticketEventId, turn));
+                batch.add(new TicketDto(userId, ticketEventId, turn));
+
+                if (batch.size() >= batchSize) {
+                    action.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
             }
-            redisTemplate.delete(key);
         }
 
-        redisTemplate.delete(TICKET_RESERVATION_SET_KEY);
-        return tickets;
+        if (!batch.isEmpty()) {
+            action.accept(batch);
+        }
+    }
+
+    @Override
+    public void deleteTickets(Long ticketEventId, List<TicketDto> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
+        Object[] userIds = tickets.stream()
+                .map(ticket -> ticket.getUserId().toString())
+                .toArray();
+        redisTemplate.opsForHash().delete(key, userIds);
+    }
+
+    @Override
+    public boolean releaseEvent(Long ticketEventId) {
+        List<String> keys = List.of(RedisKeys.combine(TICKET_KEY, ticketEventId), TICKET_RESERVATION_SET_KEY);
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, keys, ticketEventId.toString());
+        return released != null && released > 0;
     }
 }
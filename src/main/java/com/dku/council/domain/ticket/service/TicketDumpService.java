@@ -0,0 +1,154 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.model.dto.TicketDto;
+import com.dku.council.domain.ticket.model.entity.Ticket;
+import com.dku.council.domain.ticket.model.entity.TicketEvent;
+import com.dku.council.domain.ticket.repository.TicketEventRepository;
+import com.dku.council.domain.ticket.repository.TicketMemoryRepository;
+import com.dku.council.domain.ticket.repository.TicketRepository;
+import com.dku.council.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에 발급된 티켓을 DB로 반영한다.
+ * 이벤트마다 티켓을 조금씩 순회하면서 일정 개수(chunk) 단위로 나누어 커밋하고, 커밋이 끝난 티켓만 메모리에서 삭제한다.
+ * 도중에 실패하더라도 커밋되지 않은 티켓은 메모리에 남아있으므로 다음 dump에서 이어서 반영된다.
+ * 이미 DB에 반영된 티켓은 다시 저장하지 않으므로, 커밋 후 삭제 전에 실패하더라도 중복 저장되지 않는다.
+ * <p>
+ * 메모리의 티켓은 중복 신청 확인에도 쓰이므로, 신청 기간이 끝난 이벤트의 티켓만 반영하고 삭제한다.
+ */
+@Slf4j
+@Service
+public class TicketDumpService {
+
+    private final TicketRepository persistenceRepository;
+    private final TicketMemoryRepository memoryRepository;
+    private final TicketEventRepository ticketEventRepository;
+    private final UserRepository userRepository;
+    private final TicketSoldOutService soldOutService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final int chunkSize;
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    public TicketDumpService(TicketRepository persistenceRepository,
+                             TicketMemoryRepository memoryRepository,
+                             TicketEventRepository ticketEventRepository,
+                             UserRepository userRepository,
+                             TicketSoldOutService soldOutService,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             Clock clock,
+                             @Value("${app.ticket.dump-chunk-size:500}") int chunkSize) {
+        this.persistenceRepository = persistenceRepository;
+        this.memoryRepository = memoryRepository;
+        this.ticketEventRepository = ticketEventRepository;
+        this.userRepository = userRepository;
+        this.soldOutService = soldOutService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder("ticket.dump.backlog", backlog, AtomicLong::get)
+                .description("Number of tickets not dumped to DB yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 영속성 DB에 실제로 데이터를 반영한다.
+     *
+     * @return 새로 저장한 티켓 개수
+     */
+    public long dumpToDB() {
+        backlog.set(memoryRepository.countTickets());
+
+        long startedAt = System.nanoTime();
+        AtomicLong dumped = new AtomicLong();
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Long eventId : memoryRepository.findReservedEventIds()) {
+            if (isOpen(eventId, now)) {
+                continue;
+            }
+            memoryRepository.scanTickets(eventId, chunkSize, tickets -> {
+                dumped.addAndGet(writeChunk(eventId, tickets));
+                backlog.addAndGet(-tickets.size());
+            });
+            if (memoryRepository.releaseEvent(eventId)) {
+                soldOutService.clear(eventId);
+            }
+        }
+
+        backlog.set(memoryRepository.countTickets());
+
+        long rows = dumped.get();
+        if (rows > 0) {
+            double seconds = Math.max(System.nanoTime() - startedAt, 1) / 1e9;
+            log.info("{} tickets in memory dump to DB. ({} rows/sec, backlog: {} tickets)",
+                    rows, Math.round(rows / seconds), backlog.get());
+        }
+        return rows;
+    }
+
+    /**
+     * 아직 신청 기간이 끝나지 않은 이벤트인지 확인한다. 삭제된 이벤트는 끝난 것으로 본다.
+     */
+    private boolean isOpen(Long eventId, LocalDateTime now) {
+        return ticketEventRepository.findById(eventId)
+                .map(event -> !now.isAfter(event.getEndAt()))
+                .orElse(false);
+    }
+
+    private int writeChunk(Long eventId, List<TicketDto> tickets) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Integer saved = transactionTemplate.execute(status -> {
+            Optional<TicketEvent> event = ticketEventRepository.findByIdForUpdate(eventId);
+            if (event.isEmpty()) {
+                return 0;
+            }
+
+            Set<Long> userIds = tickets.stream()
+                    .map(TicketDto::getUserId)
+                    .collect(Collectors.toSet());
+            Set<Long> existing = new HashSet<>(
+                    persistenceRepository.findUserIdsByEventIdAndUserIdIn(eventId, userIds));
+
+            List<Ticket> newTickets = tickets.stream()
+                    .filter(ticket -> !existing.contains(ticket.getUserId()))
+                    .map(ticket -> new Ticket(userRepository.getReferenceById(ticket.getUserId()),
+                            event.get(), ticket.getTurn()))
+                    .collect(Collectors.toList());
+            persistenceRepository.saveAll(newTickets);
+            return newTickets.size();
+        });
+        sample.stop(meterRegistry.timer("ticket.dump.chunk"));
+
+        memoryRepository.deleteTickets(eventId, tickets);
+
+        int rows = saved == null ? 0 : saved;
+        Counter.builder("ticket.dump.rows")
+                .register(meterRegistry)
+                .increment(rows);
+        return rows;
+    }
+}
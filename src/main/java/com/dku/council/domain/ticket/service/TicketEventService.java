@@ -1,6 +1,7 @@
 package com.dku.council.domain.ticket.service;
 
 import com.dku.council.domain.ticket.exception.NoTicketEventException;
+import com.dku.council.domain.ticket.model.CachedTicketEvent;
 import com.dku.council.domain.ticket.model.dto.TicketEventDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestNewTicketEventDto;
 import com.dku.council.domain.ticket.model.entity.TicketEvent;
@@ -18,38 +19,57 @@ public class TicketEventService {
 
     private final TicketEventRepository persistenceRepository;
     private final TicketEventMemoryRepository memoryRepository;
+    private final TicketEventSnapshotService snapshotService;
 
     @Transactional(readOnly = true)
     public List<TicketEventDto> list() {
-        List<TicketEventDto> events = memoryRepository.findAll();
-        if (!events.isEmpty()) {
-            return events;
-        }
-
-        List<TicketEvent> eventEntities = persistenceRepository.findAll();
-        return memoryRepository.saveAll(eventEntities);
+        return snapshotService.get().getEvents();
     }
 
     @Transactional
     public Long newTicketEvent(RequestNewTicketEventDto dto) {
         TicketEvent event = persistenceRepository.save(dto.createEntity());
-        return memoryRepository.save(event).getId();
+        Long id = memoryRepository.save(event).getId();
+        notifyChanged();
+        return id;
     }
 
     @Transactional
     public void deleteTicketEvent(Long ticketEventId) {
         persistenceRepository.deleteById(ticketEventId);
         memoryRepository.deleteById(ticketEventId);
+        notifyChanged();
     }
 
     @Transactional(readOnly = true)
     public TicketEventDto findEventById(Long ticketEventId) {
-        return memoryRepository.findById(ticketEventId)
+        return findCachedEventById(ticketEventId).getEvent();
+    }
+
+    /**
+     * 서버 메모리에 보관된 티켓 이벤트를 조회한다. 보관된 목록에 없는 경우에만 Redis나 DB를 조회한다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     * @return 티켓 이벤트
+     */
+    @Transactional(readOnly = true)
+    public CachedTicketEvent findCachedEventById(Long ticketEventId) {
+        return snapshotService.get().findById(ticketEventId)
                 .orElseGet(() -> {
-                    TicketEvent entity = persistenceRepository.findById(ticketEventId)
-                            .orElseThrow(NoTicketEventException::new);
-                    return memoryRepository.save(entity);
+                    TicketEventDto event = memoryRepository.findById(ticketEventId)
+                            .orElseGet(() -> {
+                                TicketEvent entity = persistenceRepository.findById(ticketEventId)
+                                        .orElseThrow(NoTicketEventException::new);
+                                return memoryRepository.save(entity);
+                            });
+                    // 보관된 목록이 오래된 것이므로 다음 조회 때 다시 읽어온다.
+                    snapshotService.invalidate();
+                    return new CachedTicketEvent(event);
                 });
     }
 
+    private void notifyChanged() {
+        memoryRepository.increaseVersion();
+        snapshotService.invalidate();
+    }
 }
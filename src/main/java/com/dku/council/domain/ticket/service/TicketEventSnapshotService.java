@@ -0,0 +1,95 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.model.TicketEventSnapshot;
+import com.dku.council.domain.ticket.model.dto.TicketEventDto;
+import com.dku.council.domain.ticket.repository.TicketEventMemoryRepository;
+import com.dku.council.domain.ticket.repository.TicketEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dku.council.global.config.redis.RedisKeys.TICKET_EVENTS_CHANNEL;
+
+/**
+ * 티켓 이벤트 목록을 서버 메모리에 보관한다. 신청할 때마다 Redis에서 이벤트를 읽고 역직렬화하지 않도록 한다.
+ * 목록이 바뀌면 Redis pub/sub으로 알림을 받아 다음 조회 때 다시 읽어온다. 알림을 놓친 경우에는
+ * {@link #refreshIfChanged()}가 Redis의 버전과 비교해 바로잡는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketEventSnapshotService implements MessageListener {
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile TicketEventSnapshot snapshot;
+
+    private final TicketEventMemoryRepository memoryRepository;
+    private final TicketEventRepository persistenceRepository;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    private void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TICKET_EVENTS_CHANNEL));
+    }
+
+    /**
+     * 현재 티켓 이벤트 목록을 가져온다. 보관된 목록이 없으면 Redis(없으면 DB)에서 읽어온다.
+     */
+    public TicketEventSnapshot get() {
+        TicketEventSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return load();
+    }
+
+    /**
+     * 보관된 목록을 버린다. 다음 조회 때 다시 읽어온다.
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Redis의 버전이 보관된 목록의 버전과 다르면 목록을 버린다.
+     */
+    public void refreshIfChanged() {
+        TicketEventSnapshot current = snapshot;
+        if (current != null && current.getVersion() != memoryRepository.getVersion()) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidate();
+    }
+
+    private synchronized TicketEventSnapshot load() {
+        TicketEventSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        long generation = invalidations.get();
+        long version = memoryRepository.getVersion();
+        List<TicketEventDto> events = memoryRepository.findAll();
+        if (events.isEmpty()) {
+            events = memoryRepository.saveAll(persistenceRepository.findAll());
+        }
+
+        TicketEventSnapshot loaded = new TicketEventSnapshot(version, events);
+        // 읽는 도중 목록이 바뀌었다면 보관하지 않는다.
+        if (invalidations.get() == generation) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,95 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.exception.AfterTicketPeriodException;
+import com.dku.council.domain.ticket.exception.NotAdmittedTicketException;
+import com.dku.council.domain.ticket.model.CachedTicketEvent;
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
+import com.dku.council.domain.ticket.repository.TicketQueueMemoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 티켓 이벤트 대기열.
+ * 이벤트 오픈 순간에 몰리는 요청을 대기열에 세워두고, 이벤트마다 정해진 속도(token bucket)로 입장시킨다.
+ * 입장한 사용자만 티켓을 신청할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketQueueService {
+
+    private static final int MAX_RETRY_AFTER = 10;
+
+    private final TicketQueueMemoryRepository memoryRepository;
+    private final TicketEventService ticketEventService;
+
+    @Value("${app.ticket.queue.enabled:true}")
+    private final boolean enabled;
+
+    @Value("${app.ticket.queue.admit-rate:50}")
+    private final double admitRate;
+
+    @Value("${app.ticket.queue.burst:100}")
+    private final int burst;
+
+    @Value("${app.ticket.queue.expires-after:PT12H}")
+    private final Duration expiresAfter;
+
+    /**
+     * 대기열에 들어간다. 이미 들어간 경우 기존 대기 번호를 유지한다.
+     */
+    public ResponseTicketQueueDto join(Long userId, Long ticketEventId, Instant now) {
+        CachedTicketEvent event = ticketEventService.findCachedEventById(ticketEventId);
+        if (now.isAfter(event.getTo())) {
+            throw new AfterTicketPeriodException();
+        }
+
+        memoryRepository.join(userId, ticketEventId, expiresAfter);
+        TicketQueueStatus status = admit(userId, event, now);
+        return new ResponseTicketQueueDto(status, retryAfter(status));
+    }
+
+    /**
+     * 대기 상태를 조회한다. 조회할 때마다 지난 시간만큼 대기열이 입장된다. 이벤트 시작 전에는 입장되지 않는다.
+     */
+    public ResponseTicketQueueDto status(Long userId, Long ticketEventId, Instant now) {
+        CachedTicketEvent event = ticketEventService.findCachedEventById(ticketEventId);
+        TicketQueueStatus status = admit(userId, event, now);
+        return new ResponseTicketQueueDto(status, retryAfter(status));
+    }
+
+    /**
+     * 대기열을 통과한 사용자인지 확인한다.
+     *
+     * @throws NotAdmittedTicketException 아직 입장하지 않은 경우
+     */
+    public void checkAdmitted(Long userId, Long ticketEventId, Instant now) {
+        if (!enabled) {
+            return;
+        }
+        CachedTicketEvent event = ticketEventService.findCachedEventById(ticketEventId);
+        if (!admit(userId, event, now).isAdmitted()) {
+            throw new NotAdmittedTicketException();
+        }
+    }
+
+    private TicketQueueStatus admit(Long userId, CachedTicketEvent event, Instant now) {
+        return memoryRepository.admit(userId, event.getId(), admitRate, burst, event.getFrom(), now, expiresAfter);
+    }
+
+    /**
+     * 남은 인원이 입장하는데 걸리는 시간의 절반만큼 기다렸다가 다시 조회하도록 한다.
+     * 앞쪽 사용자일수록 자주, 뒤쪽 사용자일수록 드물게 조회하므로 조회 요청도 일정하게 유지된다.
+     */
+    private int retryAfter(TicketQueueStatus status) {
+        if (!status.isJoined() || status.isAdmitted()) {
+            return 0;
+        }
+        double seconds = status.getPosition() / admitRate / 2;
+        return (int) Math.max(1, Math.min(MAX_RETRY_AFTER, Math.ceil(seconds)));
+    }
+}
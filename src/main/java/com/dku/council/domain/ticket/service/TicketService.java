@@ -3,7 +3,8 @@ package com.dku.council.domain.ticket.service;
 import com.dku.council.domain.ticket.exception.AfterTicketPeriodException;
 import com.dku.council.domain.ticket.exception.BeforeTicketPeriodException;
 import com.dku.council.domain.ticket.exception.NoTicketException;
-import com.dku.council.domain.ticket.model.dto.TicketEventDto;
+import com.dku.council.domain.ticket.exception.SoldOutTicketException;
+import com.dku.council.domain.ticket.model.CachedTicketEvent;
 import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
 import com.dku.council.domain.ticket.model.entity.Ticket;
 import com.dku.council.domain.ticket.repository.TicketMemoryRepository;
@@ -12,7 +13,8 @@ import com.dku.council.domain.user.exception.NotAttendingException;
 import com.dku.council.domain.user.model.AcademicStatus;
 import com.dku.council.domain.user.model.UserInfo;
 import com.dku.council.domain.user.service.UserInfoService;
-import com.dku.council.global.util.DateUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,8 @@ public class TicketService {
     private final TicketMemoryRepository memoryRepository;
     private final TicketEventService ticketEventService;
     private final UserInfoService userInfoService;
+    private final TicketSoldOutService soldOutService;
+    private final MeterRegistry meterRegistry;
 
     @Transactional(readOnly = true)
     public ResponseTicketTurnDto myReservationOrder(Long userId, Long ticketEventId) {
@@ -43,9 +47,30 @@ public class TicketService {
     }
 
     public ResponseTicketTurnDto enroll(Long userId, Long ticketEventId, Instant now) {
-        TicketEventDto event = ticketEventService.findEventById(ticketEventId);
-        Instant eventFrom = DateUtil.toInstant(event.getFrom());
-        Instant eventTo = DateUtil.toInstant(event.getTo());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failed";
+        try {
+            // 소진된 이벤트는 Redis를 거치지 않고 거절한다. 이미 발급받은 사용자도 소진으로 응답하며, 발급 여부는 내 티켓 조회로 확인한다.
+            if (soldOutService.isSoldOut(ticketEventId)) {
+                result = "sold_out";
+                throw new SoldOutTicketException();
+            }
+
+            ResponseTicketTurnDto dto = doEnroll(userId, ticketEventId, now);
+            result = "enrolled";
+            return dto;
+        } catch (SoldOutTicketException e) {
+            result = "sold_out";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("ticket.enroll", "result", result));
+        }
+    }
+
+    private ResponseTicketTurnDto doEnroll(Long userId, Long ticketEventId, Instant now) {
+        CachedTicketEvent event = ticketEventService.findCachedEventById(ticketEventId);
+        Instant eventFrom = event.getFrom();
+        Instant eventTo = event.getTo();
 
         if (now.isBefore(eventFrom)) {
             throw new BeforeTicketPeriodException();
@@ -61,7 +86,16 @@ public class TicketService {
         }
 
         Duration expiresNextKeyAfter = Duration.between(now, eventTo).plusMinutes(30);
-        int turn = memoryRepository.enroll(userId, ticketEventId, expiresNextKeyAfter);
-        return new ResponseTicketTurnDto(turn);
+        int capacity = event.getCapacity();
+        try {
+            int turn = memoryRepository.enroll(userId, ticketEventId, capacity, expiresNextKeyAfter);
+            if (capacity > 0 && turn >= capacity) {
+                soldOutService.markSoldOut(ticketEventId);
+            }
+            return new ResponseTicketTurnDto(turn);
+        } catch (SoldOutTicketException e) {
+            soldOutService.markSoldOut(ticketEventId);
+            throw e;
+        }
     }
 }
@@ -0,0 +1,86 @@
+package com.dku.council.domain.ticket.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+
+/**
+ * 티켓이 모두 소진된 이벤트를 서버 메모리에 기록한다. 소진된 이벤트의 신청은 Redis나 DB를 거치지 않고 바로 거절할 수 있다.
+ * 한 서버에서 소진을 확인하면 Redis pub/sub으로 다른 서버에도 알린다.
+ * <p>
+ * 이벤트가 dump 대상에서 제외되면 소진 표시를 지운다. 티켓 이벤트 목록이 바뀐 경우에도 발급 가능한 티켓 수가 바뀌었을 수 있으므로
+ * 모든 소진 표시를 지운다. 지워진 이벤트가 여전히 소진 상태라면 다음 신청에서 Redis가 확인해 다시 표시한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketSoldOutService implements MessageListener {
+
+    private final Set<Long> soldOutEvents = ConcurrentHashMap.newKeySet();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    private void subscribe() {
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(TICKET_SOLD_OUT_CHANNEL),
+                new ChannelTopic(TICKET_SOLD_OUT_CLEARED_CHANNEL),
+                new ChannelTopic(TICKET_EVENTS_CHANNEL)
+        ));
+    }
+
+    public boolean isSoldOut(Long ticketEventId) {
+        return soldOutEvents.contains(ticketEventId);
+    }
+
+    /**
+     * 티켓 이벤트를 소진 상태로 표시하고, 다른 서버에 알린다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     */
+    public void markSoldOut(Long ticketEventId) {
+        if (soldOutEvents.add(ticketEventId)) {
+            redisTemplate.convertAndSend(TICKET_SOLD_OUT_CHANNEL, ticketEventId.toString());
+        }
+    }
+
+    /**
+     * 티켓 이벤트의 소진 표시를 지우고, 다른 서버에 알린다.
+     *
+     * @param ticketEventId 티켓 이벤트 ID
+     */
+    public void clear(Long ticketEventId) {
+        soldOutEvents.remove(ticketEventId);
+        redisTemplate.convertAndSend(TICKET_SOLD_OUT_CLEARED_CHANNEL, ticketEventId.toString());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        switch (channel) {
+            case TICKET_SOLD_OUT_CHANNEL:
+                soldOutEvents.add(Long.valueOf(body));
+                break;
+            case TICKET_SOLD_OUT_CLEARED_CHANNEL:
+                soldOutEvents.remove(Long.valueOf(body));
+                break;
+            default:
+                soldOutEvents.clear();
+                break;
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.dku.council.domain.user.model.entity.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,4 +51,12 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
      */
     @Query("select u from User u where u.id = :id")
     Optional<User> findByIdWithNotActive(@Param("id") Long id);
+
+    /**
+     * 여러 서버에서 같은 유저의 데이터를 동시에 반영하지 않도록 lock을 걸고 조회한다.
+     * 데드락을 피하기 위해 항상 id 순서로 lock을 건다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id in :ids order by u.id")
+    List<User> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
 }
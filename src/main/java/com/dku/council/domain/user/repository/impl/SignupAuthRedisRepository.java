@@ -1,11 +1,10 @@
 package com.dku.council.domain.user.repository.impl;
 
 import com.dku.council.domain.user.repository.SignupAuthRepository;
-import com.dku.council.global.base.AbstractKeyValueCacheRepository;
+import com.dku.council.global.base.AbstractCacheRepository;
+import com.dku.council.global.cache.CacheSupport;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
@@ -13,14 +12,13 @@ import java.time.Instant;
 import java.util.Optional;
 
 @Repository
-public class SignupAuthRedisRepository extends AbstractKeyValueCacheRepository implements SignupAuthRepository {
+public class SignupAuthRedisRepository extends AbstractCacheRepository implements SignupAuthRepository {
 
     private final Duration cacheDuration;
 
-    protected SignupAuthRedisRepository(StringRedisTemplate redisTemplate,
-                                        ObjectMapper objectMapper,
+    protected SignupAuthRedisRepository(CacheSupport support,
                                         @Value("${app.auth.signup-expires}") Duration cacheDuration) {
-        super(redisTemplate, objectMapper, RedisKeys.SIGNUP_AUTH_KEY);
+        super(support, RedisKeys.SIGNUP_AUTH_KEY);
         this.cacheDuration = cacheDuration;
     }
 
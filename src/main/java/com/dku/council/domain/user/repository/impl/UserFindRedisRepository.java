@@ -2,11 +2,10 @@ package com.dku.council.domain.user.repository.impl;
 
 import com.dku.council.domain.user.model.SMSAuth;
 import com.dku.council.domain.user.repository.UserFindRepository;
-import com.dku.council.global.base.AbstractKeyValueCacheRepository;
+import com.dku.council.global.base.AbstractCacheRepository;
+import com.dku.council.global.cache.CacheSupport;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
@@ -14,14 +13,13 @@ import java.time.Instant;
 import java.util.Optional;
 
 @Repository
-public class UserFindRedisRepository extends AbstractKeyValueCacheRepository implements UserFindRepository {
+public class UserFindRedisRepository extends AbstractCacheRepository implements UserFindRepository {
 
     private final Duration cacheDuration;
 
-    protected UserFindRedisRepository(StringRedisTemplate redisTemplate,
-                                      ObjectMapper objectMapper,
+    protected UserFindRedisRepository(CacheSupport support,
                                       @Value("${app.auth.find-expires}") Duration cacheDuration) {
-        super(redisTemplate, objectMapper, RedisKeys.USER_FIND_AUTH_KEY);
+        super(support, RedisKeys.USER_FIND_AUTH_KEY);
         this.cacheDuration = cacheDuration;
     }
 
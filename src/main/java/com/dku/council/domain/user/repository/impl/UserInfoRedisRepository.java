@@ -2,11 +2,10 @@ package com.dku.council.domain.user.repository.impl;
 
 import com.dku.council.domain.user.model.UserInfo;
 import com.dku.council.domain.user.repository.UserInfoMemoryRepository;
-import com.dku.council.global.base.AbstractKeyValueCacheRepository;
+import com.dku.council.global.base.AbstractCacheRepository;
+import com.dku.council.global.cache.CacheSupport;
 import com.dku.council.global.config.redis.RedisKeys;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
@@ -14,14 +13,15 @@ import java.time.Instant;
 import java.util.Optional;
 
 @Repository
-public class UserInfoRedisRepository extends AbstractKeyValueCacheRepository implements UserInfoMemoryRepository {
+public class UserInfoRedisRepository extends AbstractCacheRepository implements UserInfoMemoryRepository {
 
     private final Duration cacheDuration;
 
-    protected UserInfoRedisRepository(StringRedisTemplate redisTemplate,
-                                      ObjectMapper objectMapper,
-                                      @Value("${app.user.info-cache-time}") Duration cacheDuration) {
-        super(redisTemplate, objectMapper, RedisKeys.USER_INFO_CACHE_KEY);
+    protected UserInfoRedisRepository(CacheSupport support,
+                                      @Value("${app.user.info-cache-time}") Duration cacheDuration,
+                                      @Value("${app.user.info-local-cache-time:PT10S}") Duration localCacheTime,
+                                      @Value("${app.user.info-local-cache-size:10000}") int localCacheSize) {
+        super(support, RedisKeys.USER_INFO_CACHE_KEY, localCacheTime, localCacheSize);
         this.cacheDuration = cacheDuration;
     }
 
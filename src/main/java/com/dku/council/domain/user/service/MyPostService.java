@@ -5,7 +5,11 @@ import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.tag.model.dto.TagDto;
+import com.dku.council.domain.tag.service.TagService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,11 +17,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class MyPostService {
 
     private final PostRepository postRepository;
+    private final PostFileRepository fileRepository;
+    private final TagService tagService;
     private final ObjectUploadContext uploadContext;
     private final LikeService likeService;
     private final CommentRepository commentRepository;
@@ -26,18 +36,25 @@ public class MyPostService {
     @Transactional
     public Page<SummarizedGenericPostDto> listMyLikedPosts(Long userId, Pageable pageable, int bodySize) {
         Page<Long> likedPosts = likeService.getLikedElementIds(userId, pageable, LikeTarget.POST);
-        return postRepository.findPageById(likedPosts.getContent(), pageable)
-                .map(post -> mapToListDto(post, bodySize));
+        Page<Post> posts = postRepository.findPageById(likedPosts.getContent(), pageable);
+        return mapToListDtos(posts, bodySize);
     }
 
     @Transactional(readOnly = true)
     public Page<SummarizedGenericPostDto> listMyCommentedPosts(Long userId, Pageable pageable, int bodySize) {
-        return commentRepository.findAllCommentedByUserId(userId, pageable)
-                .map(post -> mapToListDto(post, bodySize));
+        Page<Post> posts = commentRepository.findAllCommentedByUserId(userId, pageable);
+        return mapToListDtos(posts, bodySize);
     }
 
-    private SummarizedGenericPostDto mapToListDto(Post post, int bodySize) {
-        return new SummarizedGenericPostDto(uploadContext, bodySize,
-                likeService.getCountOfLikes(post.getId(), LikeTarget.POST), post);
+    private Page<SummarizedGenericPostDto> mapToListDtos(Page<Post> posts, int bodySize) {
+        List<Long> ids = posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        Map<Long, Integer> likes = likeService.getCountsOfLikes(ids, LikeTarget.POST);
+        Map<Long, List<PostFile>> files = fileRepository.findAllGroupByPostIds(ids);
+        Map<Long, List<TagDto>> tags = tagService.getTagsOfPosts(ids);
+        return posts.map(post -> new SummarizedGenericPostDto(uploadContext, bodySize,
+                likes.getOrDefault(post.getId(), 0), post,
+                files.getOrDefault(post.getId(), List.of()), tags.getOrDefault(post.getId(), List.of())));
     }
 }
@@ -0,0 +1,401 @@
+package com.dku.council.global.base;
+
+import com.dku.council.global.cache.CacheCodec;
+import com.dku.council.global.cache.CacheSupport;
+import com.dku.council.global.config.redis.RedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.lang.Nullable;
+
+import javax.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Redis에 키마다 값을 저장하는 캐시 저장소. 키는 만료 시간이 지나면 Redis에서 바로 삭제된다.
+ * 값은 {@link CacheCodec}으로 변환해서 저장하며, 만료 시각을 함께 저장해두고 전달받은 현재 시각과 비교해서 만료 여부를 판단한다.
+ * <p>
+ * 서버 메모리 캐시(L1)를 사용하도록 설정하면, 크기가 제한된 메모리 캐시에 짧은 시간동안 값을 보관한다.
+ * 값이 바뀌거나 삭제되면 Redis pub/sub으로 다른 서버에 알려서 메모리 캐시에서 지우도록 한다.
+ * <p>
+ * 캐시 적중 여부와 Redis 조회 시간을 지표로 남긴다. (cache.gets, cache.remote.latency)
+ */
+public abstract class AbstractCacheRepository implements MessageListener {
+
+    /**
+     * 만료 시각이 없는 값에 저장하는 만료 시각
+     */
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final CacheCodec codec;
+    private final CacheSupport support;
+    private final String cacheName;
+    private final String channel;
+
+    @Nullable
+    private final LocalCache localCache;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Timer getTimer;
+    private final Timer setTimer;
+    private final Timer deleteTimer;
+
+    /**
+     * 메모리 캐시 없이 Redis에만 저장하는 캐시 저장소를 만든다.
+     *
+     * @param support   캐시 저장소 공통 객체
+     * @param cacheName 캐시 이름. Redis 키의 prefix로 사용된다.
+     */
+    protected AbstractCacheRepository(CacheSupport support, String cacheName) {
+        this(support, cacheName, null, 0);
+    }
+
+    /**
+     * 캐시 저장소를 만든다.
+     *
+     * @param support       캐시 저장소 공통 객체
+     * @param cacheName     캐시 이름. Redis 키의 prefix로 사용된다.
+     * @param localTtl      메모리 캐시 유지시간. null이거나 0이면 메모리 캐시를 사용하지 않는다.
+     * @param localMaxSize  메모리 캐시 최대 개수
+     */
+    protected AbstractCacheRepository(CacheSupport support, String cacheName,
+                                      @Nullable Duration localTtl, int localMaxSize) {
+        this.redisTemplate = support.getBinaryRedisTemplate();
+        this.codec = support.getCodec();
+        this.support = support;
+        this.cacheName = cacheName;
+        this.channel = RedisKeys.combine(RedisKeys.CACHE_INVALIDATION_CHANNEL, cacheName);
+
+        if (localTtl != null && !localTtl.isZero() && !localTtl.isNegative() && localMaxSize > 0) {
+            this.localCache = new LocalCache(localTtl, localMaxSize);
+        } else {
+            this.localCache = null;
+        }
+
+        MeterRegistry registry = support.getMeterRegistry();
+        this.localHits = gets(registry, "local", "hit");
+        this.localMisses = gets(registry, "local", "miss");
+        this.remoteHits = gets(registry, "remote", "hit");
+        this.remoteMisses = gets(registry, "remote", "miss");
+        this.getTimer = latency(registry, "get");
+        this.setTimer = latency(registry, "set");
+        this.deleteTimer = latency(registry, "delete");
+    }
+
+    @PostConstruct
+    private void init() {
+        // 예전에는 모든 값을 캐시 이름의 hash 하나에 저장했다. 더 이상 사용하지 않으므로 지운다.
+        redisTemplate.unlink(cacheName);
+
+        if (localCache != null) {
+            support.getListenerContainer().addMessageListener(this, new ChannelTopic(channel));
+        }
+    }
+
+    protected <T> void set(String key, T data, Instant now) {
+        set(key, data, now, null);
+    }
+
+    /**
+     * 값을 저장한다.
+     *
+     * @param key      키
+     * @param data     값
+     * @param now      현재 시각
+     * @param duration 유지시간. null이면 만료되지 않는다.
+     */
+    protected <T> void set(String key, T data, Instant now, @Nullable Duration duration) {
+        byte[] value = encode(data, now, duration);
+        setTimer.record(() -> {
+            if (duration == null) {
+                redisTemplate.opsForValue().set(redisKey(key), value);
+            } else {
+                redisTemplate.opsForValue().set(redisKey(key), value, duration);
+            }
+        });
+        putLocal(key, value, now);
+        publishInvalidation(key);
+    }
+
+    /**
+     * 여러 값을 한 번에 저장한다. 모든 값은 같은 유지시간을 가진다.
+     *
+     * @param entries  키 -> 값
+     * @param now      현재 시각
+     * @param duration 유지시간. null이면 만료되지 않는다.
+     */
+    protected <T> void setAll(Map<String, T> entries, Instant now, @Nullable Duration duration) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Map<String, byte[]> values = new LinkedHashMap<>();
+        entries.forEach((key, data) -> values.put(key, encode(data, now, duration)));
+
+        Expiration expiration = duration == null ? Expiration.persistent() : Expiration.from(duration);
+        setTimer.record(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> connection.stringCommands().set(
+                    rawKey(key), value, expiration, RedisStringCommands.SetOption.upsert()));
+            return null;
+        }));
+
+        values.forEach((key, value) -> {
+            putLocal(key, value, now);
+            publishInvalidation(key);
+        });
+    }
+
+    /**
+     * 값을 가져온다. 메모리 캐시에 없으면 Redis에서 가져온다.
+     *
+     * @param key   키
+     * @param clazz 값 타입
+     * @param now   현재 시각
+     * @return 값. 없거나 만료되었으면 empty
+     */
+    protected <T> Optional<T> get(String key, Class<T> clazz, Instant now) {
+        byte[] value = getLocal(key, now);
+        if (value == null) {
+            value = getTimer.record(() -> redisTemplate.opsForValue().get(redisKey(key)));
+            countRemote(value != null);
+            if (value != null) {
+                putLocal(key, value, now);
+            }
+        }
+        return decode(value, clazz, now);
+    }
+
+    /**
+     * 여러 값을 한 번에 가져온다. 메모리 캐시에 없는 값만 Redis에서 가져온다.
+     *
+     * @param keys  키 목록
+     * @param clazz 값 타입
+     * @param now   현재 시각
+     * @return 키 -> 값. 없거나 만료된 값은 포함되지 않는다.
+     */
+    protected <T> Map<String, T> getAll(Collection<String> keys, Class<T> clazz, Instant now) {
+        Map<String, byte[]> values = new LinkedHashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            byte[] value = getLocal(key, now);
+            if (value == null) {
+                remoteKeys.add(key);
+            } else {
+                values.put(key, value);
+            }
+        }
+
+        if (!remoteKeys.isEmpty()) {
+            List<String> redisKeys = remoteKeys.stream()
+                    .map(this::redisKey)
+                    .collect(Collectors.toList());
+            List<byte[]> remoteValues = getTimer.record(() -> redisTemplate.opsForValue().multiGet(redisKeys));
+            for (int i = 0; i < remoteKeys.size(); i++) {
+                byte[] value = remoteValues == null ? null : remoteValues.get(i);
+                countRemote(value != null);
+                if (value != null) {
+                    values.put(remoteKeys.get(i), value);
+                    putLocal(remoteKeys.get(i), value, now);
+                }
+            }
+        }
+
+        Map<String, T> result = new LinkedHashMap<>();
+        values.forEach((key, value) -> decode(value, clazz, now)
+                .ifPresent(data -> result.put(key, data)));
+        return result;
+    }
+
+    /**
+     * 값을 삭제한다.
+     *
+     * @param key 키
+     * @return 삭제된 값이 있으면 true
+     */
+    protected boolean remove(String key) {
+        if (localCache != null) {
+            localCache.remove(key);
+        }
+        Boolean deleted = deleteTimer.record(() -> redisTemplate.delete(redisKey(key)));
+        publishInvalidation(key);
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    /**
+     * 이 서버의 메모리 캐시를 비운다. Redis에 저장된 값은 그대로 남는다.
+     */
+    public void clearLocal() {
+        if (localCache != null) {
+            localCache.clear();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (localCache == null) {
+            return;
+        }
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex < 0 || body.substring(0, delimiterIndex).equals(support.getNodeId())) {
+            return;
+        }
+        localCache.remove(body.substring(delimiterIndex + 1));
+    }
+
+    private byte[] encode(Object data, Instant now, @Nullable Duration duration) {
+        long expiresAt = duration == null ? NO_EXPIRY : now.plus(duration).toEpochMilli();
+        byte[] payload = codec.encode(data);
+        return ByteBuffer.allocate(Long.BYTES + payload.length)
+                .putLong(expiresAt)
+                .put(payload)
+                .array();
+    }
+
+    private <T> Optional<T> decode(@Nullable byte[] value, Class<T> clazz, Instant now) {
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        long expiresAt = buffer.getLong();
+        if (expiresAt != NO_EXPIRY && now.toEpochMilli() > expiresAt) {
+            return Optional.empty();
+        }
+
+        byte[] payload = Arrays.copyOfRange(value, Long.BYTES, value.length);
+        return Optional.of(codec.decode(payload, clazz));
+    }
+
+    @Nullable
+    private byte[] getLocal(String key, Instant now) {
+        if (localCache == null) {
+            return null;
+        }
+        byte[] value = localCache.get(key, now);
+        if (value == null) {
+            localMisses.increment();
+        } else {
+            localHits.increment();
+        }
+        return value;
+    }
+
+    private void putLocal(String key, byte[] value, Instant now) {
+        if (localCache != null) {
+            localCache.put(key, value, now);
+        }
+    }
+
+    private void publishInvalidation(String key) {
+        if (localCache != null) {
+            String message = support.getNodeId() + MESSAGE_DELIMITER + key;
+            redisTemplate.convertAndSend(channel, message.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void countRemote(boolean hit) {
+        if (hit) {
+            remoteHits.increment();
+        } else {
+            remoteMisses.increment();
+        }
+    }
+
+    private String redisKey(String key) {
+        return RedisKeys.combine(cacheName, key);
+    }
+
+    private byte[] rawKey(String key) {
+        return redisKey(key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Counter gets(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.gets")
+                .description("Number of cache lookups")
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Timer latency(MeterRegistry registry, String operation) {
+        return Timer.builder("cache.remote.latency")
+                .description("Latency of redis cache operations")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    /**
+     * 크기가 제한된 서버 메모리 캐시. 가장 오래 사용되지 않은 값부터 지운다.
+     */
+    private static class LocalCache {
+
+        private final Duration ttl;
+        private final Map<String, LocalEntry> entries;
+
+        private LocalCache(Duration ttl, int maxSize) {
+            this.ttl = ttl;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Nullable
+        private synchronized byte[] get(String key, Instant now) {
+            LocalEntry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now.isAfter(entry.expiresAt)) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        private synchronized void put(String key, byte[] value, Instant now) {
+            entries.put(key, new LocalEntry(now.plus(ttl), value));
+        }
+
+        private synchronized void remove(String key) {
+            entries.remove(key);
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    private static class LocalEntry {
+        private final Instant expiresAt;
+        private final byte[] value;
+
+        private LocalEntry(Instant expiresAt, byte[] value) {
+            this.expiresAt = expiresAt;
+            this.value = value;
+        }
+    }
+}
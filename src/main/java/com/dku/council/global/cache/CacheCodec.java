@@ -0,0 +1,24 @@
+package com.dku.council.global.cache;
+
+/**
+ * 캐시에 저장할 값을 byte 배열로 바꾸거나 되돌린다.
+ */
+public interface CacheCodec {
+
+    /**
+     * 값을 byte 배열로 변환한다.
+     *
+     * @param value 저장할 값
+     * @return 변환된 byte 배열
+     */
+    byte[] encode(Object value);
+
+    /**
+     * byte 배열을 값으로 되돌린다.
+     *
+     * @param bytes 저장된 byte 배열
+     * @param type  값 타입
+     * @return 변환된 값
+     */
+    <T> T decode(byte[] bytes, Class<T> type);
+}
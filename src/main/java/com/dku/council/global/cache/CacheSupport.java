@@ -0,0 +1,29 @@
+package com.dku.council.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 캐시 저장소들이 함께 사용하는 객체를 모아둔다.
+ */
+@Getter
+@Component
+@RequiredArgsConstructor
+public class CacheSupport {
+
+    /**
+     * 이 서버의 식별자. 자신이 보낸 무효화 메시지를 구분하기 위해 사용한다.
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CacheCodec codec;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+}
@@ -0,0 +1,41 @@
+package com.dku.council.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jackson으로 값을 변환한다. Smile 같은 binary format의 ObjectMapper를 넘기면 JSON보다 작게 저장된다.
+ * 타입별 ObjectReader는 한 번 만들어서 재사용한다.
+ */
+@RequiredArgsConstructor
+public class JacksonCacheCodec implements CacheCodec {
+
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't encode cache value: " + value.getClass(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        ObjectReader reader = readers.computeIfAbsent(type, objectMapper::readerFor);
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't decode cache value: " + type, e);
+        }
+    }
+}
@@ -1,9 +1,24 @@
 package com.dku.council.global.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    /**
+     * 여러 엔티티를 저장할 때 insert를 JDBC batch로 묶어서 보낸다. 설정 파일에 지정된 값이 있다면 그 값을 따른다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${app.jpa.batch-size:500}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+        };
+    }
 }
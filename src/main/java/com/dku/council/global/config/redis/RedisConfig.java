@@ -1,5 +1,8 @@
 package com.dku.council.global.config.redis;
 
+import com.dku.council.global.cache.CacheCodec;
+import com.dku.council.global.cache.JacksonCacheCodec;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import lombok.RequiredArgsConstructor;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
@@ -12,7 +15,11 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import java.util.Optional;
 
@@ -57,8 +64,37 @@ public class RedisConfig {
         return lettuceConnectionFactory;
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
     @Bean
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
         return new StringRedisTemplate(redisConnectionFactory);
     }
+
+    /**
+     * 값을 byte 배열 그대로 저장하는 template. 캐시 저장소에서 binary codec과 함께 사용한다.
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    /**
+     * 캐시 값은 Smile(binary JSON)로 저장한다. 날짜 형식 등의 설정은 JSON ObjectMapper와 같다.
+     */
+    @Bean
+    public CacheCodec cacheCodec(Jackson2ObjectMapperBuilder builder) {
+        return new JacksonCacheCodec(builder.factory(new SmileFactory()).build());
+    }
 }
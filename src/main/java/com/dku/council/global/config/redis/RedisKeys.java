@@ -3,21 +3,47 @@ package com.dku.council.global.config.redis;
 public class RedisKeys {
     public static final String KEY_DELIMITER = ":";
 
+    /**
+     * 더 이상 사용하지 않는 조회자 기록 hash. 서버 시작 시 비워진다.
+     */
     public static final String POST_VIEW_COUNT_SET_KEY = "postViewSet";
+    public static final String POST_VIEWERS_KEY = "postViewers";
+    public static final String POST_VIEW_DELTA_KEY = "postViewDelta";
     public static final String POST_WRITE_KEY = "postWrite";
 
     public static final String LIKE_KEY = "like";
     public static final String LIKE_POSTS_KEY = "likePosts";
     public static final String LIKE_USERS_KEY = "likeUsers";
     public static final String LIKE_COUNT_KEY = "likeCount";
+    public static final String LIKE_STREAM_KEY = "likeStream";
+    public static final String LIKE_JOURNAL_MIGRATED_KEY = "likeJournalMigrated";
+
+    public static final String TRENDING_KEY = "trending";
+    public static final String TRENDING_BASE_KEY = "trendingBase";
+    public static final String POST_SEARCH_INDEX_CHANNEL = "postSearchIndex";
+    public static final String POST_LIST_CACHE_KEY = "postList";
+    public static final String POST_LIST_VERSION_KEY = "postListVersion";
+    public static final String POST_LIST_CHANNEL = "postListChanged";
+    public static final String POST_DETAIL_CACHE_KEY = "postDetail";
+    public static final String POST_COUNTERS_BACKFILLED_KEY = "postCountersBackfilled";
+
+    public static final String MAIN_PAGE_CHANNEL = "mainPageChanged";
 
     public static final String BUS_ARRIVAL_KEY = "busArrival";
 
     public static final String TICKET_EVENTS_KEY = "ticketEvents";
+    public static final String TICKET_EVENTS_VERSION_KEY = "ticketEventsVersion";
+    public static final String TICKET_EVENTS_CHANNEL = "ticketEventsChanged";
     public static final String TICKET_RESERVATION_SET_KEY = "ticketReservations";
     public static final String TICKET_NEXT_KEY = "ticketNextId";
     public static final String TICKET_KEY = "ticket";
+    public static final String TICKET_SOLD_OUT_CHANNEL = "ticketSoldOut";
+    public static final String TICKET_SOLD_OUT_CLEARED_CHANNEL = "ticketSoldOutCleared";
+    public static final String TICKET_QUEUE_KEY = "ticketQueue";
+    public static final String TICKET_QUEUE_NEXT_KEY = "ticketQueueNext";
+    public static final String TICKET_QUEUE_ADMISSION_KEY = "ticketQueueAdmission";
 
+    public static final String CACHE_INVALIDATION_CHANNEL = "cacheInvalidated";
     public static final String SIGNUP_AUTH_KEY = "signupAuth";
     public static final String USER_FIND_AUTH_KEY = "userFindAuth";
     public static final String USER_INFO_CACHE_KEY = "userInfo";
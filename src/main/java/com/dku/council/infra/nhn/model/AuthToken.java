@@ -0,0 +1,19 @@
+package com.dku.council.infra.nhn.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+
+@Getter
+@RequiredArgsConstructor
+public class AuthToken {
+    private final String id;
+
+    /**
+     * 토큰 만료 시각. 응답에 만료 시각이 없으면 null이다.
+     */
+    @Nullable
+    private final Instant expiresAt;
+}
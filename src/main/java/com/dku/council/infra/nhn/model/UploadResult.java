@@ -0,0 +1,35 @@
+package com.dku.council.infra.nhn.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 파일을 한 번에 업로드한 결과. 성공한 파일과 실패한 파일을 함께 담는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UploadResult {
+
+    /**
+     * 업로드에 성공한 파일. 요청한 순서를 유지한다.
+     */
+    private final List<UploadedFile> uploadedFiles;
+
+    /**
+     * 업로드에 실패한 파일과 원인
+     */
+    private final List<Failure> failures;
+
+    public boolean isAllSucceeded() {
+        return failures.isEmpty();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Failure {
+        private final FileRequest file;
+        private final Throwable cause;
+    }
+}
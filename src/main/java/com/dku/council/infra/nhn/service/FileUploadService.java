@@ -1,26 +1,35 @@
 package com.dku.council.infra.nhn.service;
 
 import com.dku.council.infra.nhn.exception.AlreadyInStorageException;
-import com.dku.council.infra.nhn.exception.InvalidAccessObjectStorageException;
 import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadResult;
 import com.dku.council.infra.nhn.model.UploadedFile;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @Service
 @RequiredArgsConstructor
 public class FileUploadService {
 
-    private final NHNAuthService nhnAuthService;
+    private final NHNTokenManager tokenManager;
     private final ObjectStorageService s3service;
     private final ObjectUploadContext uploadContext;
 
+    @Value("${nhn.os.upload-concurrency:4}")
+    private final int concurrency;
+
 
     public Context newContext() {
-        String token = nhnAuthService.requestToken();
+        String token = tokenManager.getToken();
         return new Context(token);
     }
 
@@ -31,40 +40,69 @@ public class FileUploadService {
             this.token = token;
         }
 
-        public ArrayList<UploadedFile> uploadFiles(List<FileRequest> files, String prefix) {
-            ArrayList<UploadedFile> postFiles = new ArrayList<>();
-            for (FileRequest req : files) {
-                postFiles.add(uploadFile(req, prefix));
+        /**
+         * 여러 파일을 동시에 업로드한다. 동시에 진행되는 업로드 수는 {@code nhn.os.upload-concurrency}로 제한된다.
+         * 일부 파일이 실패해도 나머지 파일은 계속 업로드하며, 실패한 파일은 결과에 함께 담긴다.
+         *
+         * @param files  업로드할 파일 목록
+         * @param prefix 오브젝트 이름 prefix
+         * @return 업로드 결과
+         */
+        public UploadResult uploadFiles(List<FileRequest> files, String prefix) {
+            AtomicReferenceArray<UploadedFile> uploaded = new AtomicReferenceArray<>(files.size());
+            Queue<UploadResult.Failure> failures = new ConcurrentLinkedQueue<>();
+
+            Flux.range(0, files.size())
+                    .flatMap(i -> uploadFileAsync(files.get(i), prefix)
+                            .doOnNext(file -> uploaded.set(i, file))
+                            .onErrorResume(e -> {
+                                failures.add(new UploadResult.Failure(files.get(i), e));
+                                return Mono.empty();
+                            }), concurrency)
+                    .then()
+                    .block();
+
+            List<UploadedFile> uploadedFiles = new ArrayList<>(files.size());
+            for (int i = 0; i < uploaded.length(); i++) {
+                UploadedFile file = uploaded.get(i);
+                if (file != null) {
+                    uploadedFiles.add(file);
+                }
             }
-            return postFiles;
+            return new UploadResult(uploadedFiles, new ArrayList<>(failures));
         }
 
         public UploadedFile uploadFile(FileRequest file, String prefix) {
-            String originName = file.getOriginalFilename();
-            if (originName == null) originName = "";
-
-            String ext = originName.substring(originName.lastIndexOf(".") + 1);
-            String fileId;
-            do {
-                fileId = uploadContext.makeObjectId(prefix, ext);
-            } while (s3service.isInObject(fileId));
-            return upload(file, fileId);
+            return uploadFileAsync(file, prefix).block();
+        }
+
+        /**
+         * 파일을 업로드한다. 오브젝트 이름은 UUID로 만들기 때문에 이미 있는지 확인하지 않는다.
+         *
+         * @param file   업로드할 파일
+         * @param prefix 오브젝트 이름 prefix
+         * @return 업로드가 끝나면 업로드된 파일을 반환하는 Mono
+         */
+        public Mono<UploadedFile> uploadFileAsync(FileRequest file, String prefix) {
+            return Mono.defer(() -> {
+                String originName = file.getOriginalFilename();
+                if (originName == null) originName = "";
+
+                String ext = originName.substring(originName.lastIndexOf(".") + 1);
+                return upload(file, uploadContext.makeObjectId(prefix, ext));
+            });
         }
 
         public UploadedFile uploadFileWithName(FileRequest file, String objectName) {
             if (s3service.isInObject(objectName)) {
                 throw new AlreadyInStorageException();
             }
-            return upload(file, objectName);
+            return upload(file, objectName).block();
         }
 
-        private UploadedFile upload(FileRequest file, String objectName) {
-            try {
-                s3service.uploadObject(token, objectName, file.getInputStream(), file.getContentType());
-                return new UploadedFile(objectName, file);
-            } catch (Throwable e) {
-                throw new InvalidAccessObjectStorageException(e);
-            }
+        private Mono<UploadedFile> upload(FileRequest file, String objectName) {
+            return s3service.putObject(token, objectName, file.getInStreamSupplier(), file.getContentType())
+                    .thenReturn(new UploadedFile(objectName, file));
         }
 
         public void deleteFile(String fileId) {
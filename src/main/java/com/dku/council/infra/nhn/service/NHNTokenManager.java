@@ -0,0 +1,142 @@
+package com.dku.council.infra.nhn.service;
+
+import com.dku.council.infra.nhn.exception.CannotGetTokenException;
+import com.dku.council.infra.nhn.model.AuthToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * NHN 인증 토큰을 만료 시각까지 캐싱한다.
+ * 토큰은 몇 시간동안 유효하므로, 업로드할 때마다 토큰을 발급받지 않고 캐싱된 토큰을 사용한다.
+ * 만료가 가까워지면 {@link #refreshIfExpiring()}이 미리 갱신하므로, 요청 스레드가 토큰을 기다리는 일은 거의 없다.
+ * 여러 스레드가 동시에 갱신하려고 해도 토큰 발급 요청은 한 번만 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NHNTokenManager {
+
+    /**
+     * 서버 간 시간 차이나 요청 지연으로 사용 중에 만료되지 않도록, 만료 시각보다 조금 일찍 만료된 것으로 본다.
+     */
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+
+    private final NHNAuthService authService;
+    private final Clock clock;
+
+    /**
+     * 만료되기 얼마 전부터 미리 갱신할지
+     */
+    @Value("${nhn.auth.token.refresh-before:PT10M}")
+    private final Duration refreshBefore;
+
+    /**
+     * 응답에 만료 시각이 없을 때 사용할 토큰 유효시간
+     */
+    @Value("${nhn.auth.token.default-lifetime:PT1H}")
+    private final Duration defaultLifetime;
+
+    @Value("${nhn.auth.token.max-attempts:3}")
+    private final int maxAttempts;
+
+    @Value("${nhn.auth.token.initial-backoff:PT0.2S}")
+    private final Duration initialBackoff;
+
+    private volatile CachedToken cached;
+
+
+    /**
+     * 유효한 토큰을 반환한다. 캐싱된 토큰이 없거나 만료되었을 때만 새로 발급받는다.
+     *
+     * @return 토큰
+     */
+    public String getToken() {
+        CachedToken token = cached;
+        if (token != null && token.isValidAt(Instant.now(clock))) {
+            return token.id;
+        }
+        return refresh(token).id;
+    }
+
+    /**
+     * 토큰이 곧 만료된다면 미리 갱신한다. 갱신에 실패해도 기존 토큰이 유효하다면 그대로 사용한다.
+     */
+    public void refreshIfExpiring() {
+        CachedToken token = cached;
+        Instant now = Instant.now(clock);
+        if (token != null && !token.isExpiringAt(now, refreshBefore)) {
+            return;
+        }
+
+        try {
+            refresh(token);
+        } catch (CannotGetTokenException e) {
+            log.warn("Failed to refresh NHN auth token in advance", e);
+        }
+    }
+
+    /**
+     * 토큰을 갱신한다. 다른 스레드가 먼저 갱신했다면 요청하지 않고 그 토큰을 반환한다.
+     *
+     * @param expected 갱신하려고 확인했던 토큰
+     * @return 갱신된 토큰
+     */
+    private synchronized CachedToken refresh(CachedToken expected) {
+        CachedToken current = cached;
+        if (current != expected && current != null && current.isValidAt(Instant.now(clock))) {
+            return current;
+        }
+
+        AuthToken token = requestWithRetry();
+        Instant expiresAt = Objects.requireNonNullElseGet(token.getExpiresAt(),
+                () -> Instant.now(clock).plus(defaultLifetime));
+
+        CachedToken refreshed = new CachedToken(token.getId(), expiresAt);
+        cached = refreshed;
+        return refreshed;
+    }
+
+    private AuthToken requestWithRetry() {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return authService.requestAuthToken();
+            } catch (CannotGetTokenException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("Failed to get NHN auth token. Retry after {}ms. ({}/{})",
+                        backoff.toMillis(), attempt, maxAttempts);
+            }
+
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CannotGetTokenException(e);
+            }
+            backoff = backoff.multipliedBy(2);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class CachedToken {
+        private final String id;
+        private final Instant expiresAt;
+
+        private boolean isValidAt(Instant now) {
+            return now.isBefore(expiresAt.minus(EXPIRY_SKEW));
+        }
+
+        private boolean isExpiringAt(Instant now, Duration refreshBefore) {
+            return !now.isBefore(expiresAt.minus(refreshBefore));
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.dku.council.infra.nhn.service;
 
 import com.dku.council.infra.nhn.exception.InvalidAccessObjectStorageException;
+import com.dku.council.infra.nhn.model.FileRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
@@ -10,6 +13,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.InputStream;
 
@@ -17,16 +23,21 @@ import java.io.InputStream;
 @RequiredArgsConstructor
 public class ObjectStorageService {
 
+    private static final int BUFFER_SIZE = 16 * 1024;
+
     private final WebClient webClient;
     private final ObjectUploadContext uploadContext;
 
 
+    /**
+     * 오브젝트가 있는지 확인한다. 본문은 받지 않도록 HEAD 요청을 사용한다.
+     */
     public boolean isInObject(String objectName) {
         try {
-            webClient.get()
+            webClient.head()
                     .uri(uploadContext.getObjectUrl(objectName))
                     .retrieve()
-                    .bodyToMono(byte[].class)
+                    .toBodilessEntity()
                     .block();
         } catch (WebClientResponseException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
@@ -37,22 +48,37 @@ public class ObjectStorageService {
     }
 
     public void uploadObject(String tokenId, String objectName, final InputStream inputStream, @Nullable MediaType contentType) {
-        try {
-            WebClient.RequestBodySpec spec = webClient.put()
-                    .uri(uploadContext.getObjectUrl(objectName))
-                    .header("X-Auth-Token", tokenId);
+        putObject(tokenId, objectName, () -> inputStream, contentType).block();
+    }
 
-            if (contentType != null) {
-                spec = spec.header("Content-Type", contentType.toString());
-            }
+    /**
+     * 오브젝트를 업로드한다. 본문은 전체를 메모리에 올리지 않고 일정 크기씩 읽어서 보낸다.
+     * 스트림을 읽는 작업은 블로킹이므로 이벤트 루프가 아닌 별도 스케줄러에서 진행한다.
+     *
+     * @param tokenId     인증 토큰
+     * @param objectName  오브젝트 이름
+     * @param body        업로드할 본문. 구독할 때 스트림을 열고, 다 보내면 닫는다.
+     * @param contentType 본문 타입
+     * @return 업로드가 끝나면 완료되는 Mono. 실패하면 {@link InvalidAccessObjectStorageException}으로 끝난다.
+     */
+    public Mono<Void> putObject(String tokenId, String objectName, FileRequest.InputStreamSupplier body,
+                                @Nullable MediaType contentType) {
+        Flux<DataBuffer> buffers = DataBufferUtils.readInputStream(body::get, DefaultDataBufferFactory.sharedInstance, BUFFER_SIZE)
+                .subscribeOn(Schedulers.boundedElastic());
 
-            spec.body(BodyInserters.fromResource(new InputStreamResource(inputStream)))
-                    .retrieve()
-                    .bodyToMono(Void.class)
-                    .block();
-        } catch (Throwable e) {
-            throw new InvalidAccessObjectStorageException(e);
+        WebClient.RequestBodySpec spec = webClient.put()
+                .uri(uploadContext.getObjectUrl(objectName))
+                .header("X-Auth-Token", tokenId);
+
+        if (contentType != null) {
+            spec = spec.header("Content-Type", contentType.toString());
         }
+
+        return spec.body(BodyInserters.fromDataBuffers(buffers))
+                .retrieve()
+                .bodyToMono(Void.class)
+                .onErrorMap(e -> !(e instanceof InvalidAccessObjectStorageException),
+                        InvalidAccessObjectStorageException::new);
     }
 
     public void deleteObject(String tokenId, String objectName) {
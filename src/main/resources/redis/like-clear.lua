@@ -0,0 +1,15 @@
+-- DB에 반영된 '좋아요' 항목만 메모리에서 삭제한다.
+-- 반영하는 동안 상태가 바뀐 항목은 남겨두어 다음 dump에서 다시 반영한다.
+-- KEYS[1]: like (dump 대기 항목), KEYS[2]: likeUsers
+-- ARGV[1]: userId, ARGV[2..]: (elementId, 반영한 상태) 쌍
+
+for i = 2, #ARGV, 2 do
+    if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+        redis.call('HDEL', KEYS[1], ARGV[i])
+    end
+end
+
+if redis.call('HLEN', KEYS[1]) == 0 then
+    redis.call('SREM', KEYS[2], ARGV[1])
+end
+return 0
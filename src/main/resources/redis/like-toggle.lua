@@ -0,0 +1,39 @@
+-- '좋아요' 상태를 원자적으로 변경한다.
+-- 변경된 경우 dump를 위해 stream에 변경 기록을 남긴다. stream이 없다면 consumer group과 함께 만든다.
+-- KEYS[1]: likePosts (좋아요 여부 캐시), KEYS[2]: like (dump 대기 항목), KEYS[3]: likeUsers, KEYS[4]: likeCount,
+-- KEYS[5]: likeStream (변경 기록)
+-- ARGV[1]: elementId, ARGV[2]: userId, ARGV[3]: 변경할 상태, ARGV[4]: 캐시가 없을 때 사용할 현재 상태 (없으면 빈 문자열),
+-- ARGV[5]: dump consumer group
+-- return: {code, count}. code는 -1(캐시 없음), 0(변경 없음), 1(변경됨). count는 캐싱된 좋아요 개수 (없으면 -1)
+
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if not current then
+    if ARGV[4] == '' then
+        return {-1, -1}
+    end
+    current = ARGV[4]
+    redis.call('HSET', KEYS[1], ARGV[1], current)
+end
+
+local count = tonumber(redis.call('GET', KEYS[4]) or '-1')
+if current == ARGV[3] then
+    return {0, count}
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+redis.call('SADD', KEYS[3], ARGV[2])
+
+if redis.call('EXISTS', KEYS[5]) == 0 then
+    redis.call('XGROUP', 'CREATE', KEYS[5], ARGV[5], '0', 'MKSTREAM')
+end
+redis.call('XADD', KEYS[5], '*', 'elementId', ARGV[1], 'userId', ARGV[2], 'state', ARGV[3])
+
+if count ~= -1 then
+    if ARGV[3] == 'LIKED' then
+        count = redis.call('INCR', KEYS[4])
+    else
+        count = redis.call('DECR', KEYS[4])
+    end
+end
+return {1, count}
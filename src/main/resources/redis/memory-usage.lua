@@ -0,0 +1,11 @@
+-- 키들이 차지하는 메모리 크기(byte)의 합을 구한다.
+-- KEYS: 크기를 잴 키 목록
+
+local total = 0
+for i = 1, #KEYS do
+    local usage = redis.call('MEMORY', 'USAGE', KEYS[i])
+    if usage then
+        total = total + usage
+    end
+end
+return total
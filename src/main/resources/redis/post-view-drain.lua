@@ -0,0 +1,6 @@
+-- 쌓인 조회수 증가분을 모두 가져오고 삭제한다. 여러 서버에서 동시에 실행해도 같은 증가분을 두 번 가져가지 않는다.
+-- KEYS[1]: postViewDelta
+
+local views = redis.call('HGETALL', KEYS[1])
+redis.call('DEL', KEYS[1])
+return views
@@ -0,0 +1,12 @@
+-- 게시글 조회자를 기록하고, 이번 구간(window)에서 처음 조회한 경우에만 조회수 증가분을 올린다.
+-- 조회자 셋은 구간이 끝나면 통째로 만료된다.
+-- KEYS[1]: postViewers:<구간>:<postId>, KEYS[2]: postViewDelta
+-- ARGV[1]: 사용자 식별자, ARGV[2]: postId, ARGV[3]: 조회자 셋 만료 시각 (epoch seconds)
+
+if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+
+redis.call('EXPIREAT', KEYS[1], ARGV[3])
+redis.call('HINCRBY', KEYS[2], ARGV[2], 1)
+return 1
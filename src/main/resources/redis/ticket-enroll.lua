@@ -0,0 +1,18 @@
+-- 티켓을 원자적으로 발급한다. 이미 발급받은 사용자라면 순번을 증가시키지 않는다.
+-- KEYS[1]: ticket (사용자별 순번 hash), KEYS[2]: ticketNextId (다음 순번), KEYS[3]: ticketReservations
+-- ARGV[1]: userId, ARGV[2]: ticketEventId, ARGV[3]: 다음 순번 만료 시간(ms), ARGV[4]: 발급 가능한 티켓 수 (0이면 제한 없음)
+-- return: 발급된 순번. 이미 발급한 경우 -1, 티켓이 모두 소진된 경우 -2
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+    return -1
+end
+
+local capacity = tonumber(ARGV[4])
+if capacity > 0 and tonumber(redis.call('GET', KEYS[2]) or '0') >= capacity then
+    return -2
+end
+
+local turn = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[3])
+redis.call('HSET', KEYS[1], ARGV[1], turn)
+redis.call('SADD', KEYS[3], ARGV[2])
+return turn
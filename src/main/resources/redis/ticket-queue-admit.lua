@@ -0,0 +1,39 @@
+-- token bucket으로 대기열을 입장시키고, 사용자의 대기 번호와 입장한 마지막 번호를 돌려준다.
+-- 토큰은 초당 rate개씩 최대 burst개까지 쌓이며, 대기 중인 사용자 수만큼만 소비된다.
+-- 별도의 스케줄러 없이 조회할 때마다 지난 시간만큼 토큰을 채운다.
+-- 이벤트 시작 전에는 아무도 입장시키지 않고, 토큰도 시작 시각부터 채운다.
+-- KEYS[1]: ticketQueue (사용자별 대기 번호 hash), KEYS[2]: ticketQueueNext (마지막 대기 번호),
+-- KEYS[3]: ticketQueueAdmission (입장 상태 hash)
+-- ARGV[1]: userId, ARGV[2]: 현재 시각(ms), ARGV[3]: 초당 입장 수, ARGV[4]: burst, ARGV[5]: 만료 시간(ms),
+-- ARGV[6]: 이벤트 시작 시각(ms)
+-- return: {대기 번호 (없으면 -1), 입장한 마지막 번호}
+local now = tonumber(ARGV[2])
+local rate = tonumber(ARGV[3])
+local burst = tonumber(ARGV[4])
+local from = tonumber(ARGV[6])
+
+local state = redis.call('HMGET', KEYS[3], 'admitted', 'tokens', 'refilledAt')
+local admitted = tonumber(state[1]) or 0
+local tokens = tonumber(state[2]) or burst
+local refilledAt = math.max(tonumber(state[3]) or now, from)
+
+if now > refilledAt then
+    tokens = math.min(burst, tokens + (now - refilledAt) * rate / 1000)
+    refilledAt = now
+end
+
+local admit = 0
+if now >= from then
+    local waiting = tonumber(redis.call('GET', KEYS[2]) or '0') - admitted
+    admit = math.min(math.floor(tokens), waiting)
+end
+if admit > 0 then
+    admitted = admitted + admit
+    tokens = tokens - admit
+end
+
+redis.call('HSET', KEYS[3], 'admitted', admitted, 'tokens', tostring(tokens), 'refilledAt', refilledAt)
+redis.call('PEXPIRE', KEYS[3], ARGV[5])
+
+local number = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '-1')
+return {number, admitted}
@@ -0,0 +1,14 @@
+-- 대기열 번호를 발급한다. 이미 대기열에 들어온 사용자라면 기존 번호를 그대로 돌려준다.
+-- KEYS[1]: ticketQueue (사용자별 대기 번호 hash), KEYS[2]: ticketQueueNext (마지막 대기 번호)
+-- ARGV[1]: userId, ARGV[2]: 만료 시간(ms)
+-- return: 대기 번호
+local number = redis.call('HGET', KEYS[1], ARGV[1])
+if number then
+    return tonumber(number)
+end
+
+number = redis.call('INCR', KEYS[2])
+redis.call('HSET', KEYS[1], ARGV[1], number)
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[2])
+return number
@@ -0,0 +1,9 @@
+-- 남은 티켓이 없는 이벤트를 dump 대상에서 제외한다.
+-- 확인과 제외 사이에 새 티켓이 발급되어 dump 대상에서 빠지는 일이 없도록 원자적으로 처리한다.
+-- KEYS[1]: ticket (사용자별 순번 hash), KEYS[2]: ticketReservations
+-- ARGV[1]: ticketEventId
+-- return: 제외되었다면 1, 아니면 0
+if redis.call('HLEN', KEYS[1]) == 0 then
+    return redis.call('SREM', KEYS[2], ARGV[1])
+end
+return 0
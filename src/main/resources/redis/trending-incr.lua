@@ -0,0 +1,14 @@
+-- 트렌딩 점수를 시간 감쇠를 적용해 증가시킨다.
+-- 점수는 기준 시각(base)으로부터 흐른 시간만큼 가중치를 키워서 더하므로, 기존 점수를 매번 줄이지 않아도
+-- 최근 이벤트일수록 큰 비중을 갖는다. 기준 시각은 rebase 스크립트가 주기적으로 당긴다.
+-- KEYS[1]: 랭킹 zset, KEYS[2]: 기준 시각
+-- ARGV[1]: postId, ARGV[2]: 가중치, ARGV[3]: 현재 시각(초), ARGV[4]: 반감기(초)
+local now = tonumber(ARGV[3])
+local base = tonumber(redis.call('GET', KEYS[2]))
+if base == nil then
+    base = now
+    redis.call('SET', KEYS[2], ARGV[3])
+end
+
+local score = tonumber(ARGV[2]) * math.pow(2, (now - base) / tonumber(ARGV[4]))
+return redis.call('ZINCRBY', KEYS[1], score, ARGV[1])
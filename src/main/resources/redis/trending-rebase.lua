@@ -0,0 +1,23 @@
+-- 기준 시각을 현재로 옮기고, 그만큼 모든 점수를 감쇠시킨다.
+-- 감쇠된 점수가 최소 점수보다 작은 항목과 최대 크기를 넘는 하위 항목은 삭제한다.
+-- KEYS[1]: 랭킹 zset, KEYS[2]: 기준 시각
+-- ARGV[1]: 현재 시각(초), ARGV[2]: 반감기(초), ARGV[3]: 최소 점수, ARGV[4]: 최대 크기
+local now = tonumber(ARGV[1])
+local base = tonumber(redis.call('GET', KEYS[2]))
+if base == nil then
+    redis.call('SET', KEYS[2], ARGV[1])
+elseif base < now then
+    local factor = math.pow(2, -(now - base) / tonumber(ARGV[2]))
+    local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+    for i = 1, #entries, 2 do
+        redis.call('ZADD', KEYS[1], tonumber(entries[i + 1]) * factor, entries[i])
+    end
+    redis.call('SET', KEYS[2], ARGV[1])
+end
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+local maxSize = tonumber(ARGV[4])
+if maxSize > 0 then
+    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(maxSize + 1))
+end
+return redis.call('ZCARD', KEYS[1])
@@ -0,0 +1,96 @@
+package com.dku.council.domain.batch;
+
+import com.dku.council.domain.comment.model.dto.CommentCount;
+import com.dku.council.domain.comment.repository.CommentRepository;
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.model.dto.LikeCount;
+import com.dku.council.domain.like.repository.LikePersistenceRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.dku.council.global.config.redis.RedisKeys.POST_COUNTERS_BACKFILLED_KEY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterInitializerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikePersistenceRepository likeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PostCounterInitializer initializer;
+
+
+    @BeforeEach
+    public void setup() {
+        initializer = new PostCounterInitializer(postRepository, commentRepository, likeRepository,
+                new TransactionTemplate(transactionManager), redisTemplate);
+    }
+
+    @Test
+    @DisplayName("게시글에 lock을 건 뒤 댓글과 좋아요 테이블에서 다시 세어 채우고, 끝났다고 기록한다.")
+    void backfillCounters() {
+        // given
+        when(redisTemplate.hasKey(POST_COUNTERS_BACKFILLED_KEY)).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(commentRepository.countAllActiveGroupByPost()).thenReturn(List.of(new CommentCount(1L, 3L)));
+        when(commentRepository.countActiveByPostId(1L)).thenReturn(4L);
+        when(likeRepository.countAllByTarget(LikeTarget.POST)).thenReturn(List.of(new LikeCount(1L, 5L)));
+        when(likeRepository.countAllByTarget(LikeTarget.COMMENT)).thenReturn(List.of(new LikeCount(10L, 2L)));
+
+        // when
+        initializer.backfillCounters();
+
+        // then
+        InOrder inOrder = inOrder(postRepository, commentRepository);
+        inOrder.verify(postRepository).findByIdForUpdate(1L);
+        inOrder.verify(commentRepository).countActiveByPostId(1L);
+        inOrder.verify(postRepository).updateCommentCount(1L, 4);
+        verify(postRepository).updateLikeCount(1L, 5);
+        verify(commentRepository).updateLikeCount(10L, 2);
+        verify(valueOperations).set(eq(POST_COUNTERS_BACKFILLED_KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 채웠다면 다시 실행하지 않는다.")
+    void skipIfAlreadyDone() {
+        // given
+        when(redisTemplate.hasKey(POST_COUNTERS_BACKFILLED_KEY)).thenReturn(true);
+
+        // when
+        initializer.backfillCounters();
+
+        // then
+        verify(commentRepository, never()).countAllActiveGroupByPost();
+        verify(postRepository, never()).updateCommentCount(any(), anyInt());
+    }
+}
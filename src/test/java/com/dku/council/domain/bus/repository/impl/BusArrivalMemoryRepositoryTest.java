@@ -2,21 +2,14 @@ package com.dku.council.domain.bus.repository.impl;
 
 import com.dku.council.domain.bus.model.CachedBusArrivals;
 import com.dku.council.domain.bus.repository.BusArrivalRepository;
-import com.dku.council.global.config.redis.RedisKeys;
-import com.dku.council.global.model.CacheObject;
 import com.dku.council.infra.bus.model.BusArrival;
 import com.dku.council.mock.BusArrivalMock;
 import com.dku.council.util.base.AbstractContainerRedisTest;
 import com.dku.council.util.test.FullIntegrationTest;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.time.Instant;
 import java.util.List;
@@ -31,12 +24,6 @@ class BusArrivalMemoryRepositoryTest extends AbstractContainerRedisTest {
     @Autowired
     private BusArrivalRepository repository;
 
-    @Autowired
-    private StringRedisTemplate redisTemplate;
-
-    @Autowired
-    private ObjectMapper objectMapper;
-
 
     @Test
     @DisplayName("도착 정보를 잘 가져올 수 있는가")
@@ -107,27 +94,10 @@ class BusArrivalMemoryRepositoryTest extends AbstractContainerRedisTest {
     }
 
     public CachedBusArrivals get(String stationId) {
-        try {
-            Object value = redisTemplate.opsForHash().get(RedisKeys.BUS_ARRIVAL_KEY, stationId);
-
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            JavaType type = typeFactory.constructParametricType(CacheObject.class, CachedBusArrivals.class);
-
-            CacheObject<CachedBusArrivals> obj = objectMapper.readValue((String) value, type);
-            return obj.getValue();
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        return repository.getArrivals(stationId, Instant.now()).orElseThrow();
     }
 
     public void put(String stationId, List<BusArrival> cache, Instant now) {
-        try {
-            CachedBusArrivals arrivals = new CachedBusArrivals(now, cache);
-            CacheObject<CachedBusArrivals> obj = new CacheObject<>(Instant.MAX, arrivals);
-            String value = objectMapper.writeValueAsString(obj);
-            redisTemplate.opsForHash().put(RedisKeys.BUS_ARRIVAL_KEY, stationId, value);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        repository.cacheArrivals(stationId, cache, now);
     }
-}
\ No newline at end of file
+}
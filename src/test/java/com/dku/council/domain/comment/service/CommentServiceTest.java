@@ -10,7 +10,9 @@ import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.model.TrendingEvent;
 import com.dku.council.domain.post.service.DummyPage;
+import com.dku.council.domain.post.service.TrendingService;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.error.exception.NotGrantedException;
@@ -27,11 +29,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +58,8 @@ class CommentServiceTest {
     private CommentLogRepository commentLogRepository;
     @Mock
     private LikeService likeService;
+    @Mock
+    private TrendingService trendingService;
 
 
     @Test
@@ -72,6 +78,8 @@ class CommentServiceTest {
 
         // then
         assertThat(created).isEqualTo(comment.getId());
+        verify(postRepository).increaseCommentCount(1L, 1);
+        verify(trendingService).record(post, TrendingEvent.COMMENT);
     }
 
     @Test
@@ -126,6 +134,7 @@ class CommentServiceTest {
         // then
         assertThat(deleted).isEqualTo(comment.getId());
         assertThat(comment.getStatus()).isEqualTo(CommentStatus.DELETED);
+        verify(postRepository).increaseCommentCount(comment.getPost().getId(), -1);
     }
 
     @Test
@@ -144,6 +153,23 @@ class CommentServiceTest {
         assertThat(comment.getStatus()).isEqualTo(CommentStatus.DELETED_BY_ADMIN);
     }
 
+    @Test
+    @DisplayName("이미 삭제된 댓글을 다시 삭제하면 댓글 수를 바꾸지 않는다.")
+    void deleteAlreadyDeleted() {
+        // given
+        User user = UserMock.createDummyMajor(10L);
+        Comment comment = CommentMock.createWithId(user);
+        comment.updateStatus(CommentStatus.DELETED);
+        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
+
+        // when
+        service.delete(comment.getId(), 10L, true);
+
+        // then
+        assertThat(comment.getStatus()).isEqualTo(CommentStatus.DELETED_BY_ADMIN);
+        verify(postRepository, never()).increaseCommentCount(any(), anyInt());
+    }
+
     @Test
     @DisplayName("댓글 삭제 실패 - 권한 없는 경우")
     void failedDeleteByNotGranted() {
@@ -170,8 +196,10 @@ class CommentServiceTest {
 
         when(commentRepository.findAllByPostId(11L, Pageable.unpaged())).thenReturn(comments);
         when(postRepository.findById(11L)).thenReturn(Optional.ofNullable(post));
-        when(likeService.getCountOfLikes(comment.getId(), LikeTarget.COMMENT)).thenReturn(10);
-        when(likeService.isLiked(any(), any(), eq(LikeTarget.COMMENT))).thenReturn(eq(true));
+        when(likeService.getCountsOfLikes(List.of(comment.getId()), LikeTarget.COMMENT))
+                .thenReturn(Map.of(comment.getId(), 10));
+        when(likeService.areLiked(any(), any(), eq(LikeTarget.COMMENT)))
+                .thenReturn(Map.of(comment.getId(), true));
 
         // when
         Page<CommentDto> list = service.list(11L, 1L, Pageable.unpaged(),
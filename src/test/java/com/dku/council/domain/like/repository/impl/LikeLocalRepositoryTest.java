@@ -0,0 +1,293 @@
+package com.dku.council.domain.like.repository.impl;
+
+import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeJournalEntry;
+import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.LikeToggleResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.dku.council.domain.like.model.LikeTarget.COMMENT;
+import static com.dku.council.domain.like.model.LikeTarget.POST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeLocalRepositoryTest {
+
+    private static final Duration LIKED_CACHE_TIME = Duration.ofMinutes(10);
+
+    private final MutableClock clock = new MutableClock();
+    private LikeLocalRepository repository;
+
+
+    @BeforeEach
+    public void setup() {
+        repository = new LikeLocalRepository(clock, LIKED_CACHE_TIME);
+    }
+
+    @Test
+    @DisplayName("like 엔티디가 잘 추가되는가?")
+    void like() {
+        // when
+        repository.like(10L, 1L, POST);
+
+        // then
+        assertThat(repository.isLiked(10L, 1L, POST)).isTrue();
+        assertThat(repository.isLiked(10L, 1L, COMMENT)).isNull();
+        assertThat(repository.getLikes(List.of(1L), POST).get(1L))
+                .containsExactly(new LikeEntry(10L, LikeState.LIKED));
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 변경 - 캐싱된 경우 상태와 개수가 함께 변경된다.")
+    void toggleLike() {
+        // given
+        repository.setIsLiked(10L, 1L, POST, false);
+        repository.setLikeCount(10L, 3, POST, Duration.ofMinutes(1));
+
+        // when
+        LikeToggleResult result = repository.toggleLike(10L, 1L, POST, LikeState.LIKED, null);
+
+        // then
+        assertThat(result.isCached()).isTrue();
+        assertThat(result.isChanged()).isTrue();
+        assertThat(result.getCount()).isEqualTo(4);
+        assertThat(repository.isLiked(10L, 1L, POST)).isTrue();
+        assertThat(repository.getCachedLikeCount(10L, POST)).isEqualTo(4);
+        assertThat(repository.countJournal(POST)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 변경 - 이미 같은 상태라면 변경하지 않는다.")
+    void toggleLikeSameState() {
+        // given
+        repository.setIsLiked(10L, 1L, POST, true);
+        repository.setLikeCount(10L, 3, POST, Duration.ofMinutes(1));
+
+        // when
+        LikeToggleResult result = repository.toggleLike(10L, 1L, POST, LikeState.LIKED, null);
+
+        // then
+        assertThat(result.isChanged()).isFalse();
+        assertThat(result.getCount()).isEqualTo(3);
+        assertThat(repository.countJournal(POST)).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 변경 - 캐싱되지 않았다면 아무것도 변경하지 않는다.")
+    void toggleLikeNoCached() {
+        // when
+        LikeToggleResult result = repository.toggleLike(10L, 1L, POST, LikeState.LIKED, null);
+
+        // then
+        assertThat(result.isCached()).isFalse();
+        assertThat(repository.isLiked(10L, 1L, POST)).isNull();
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 변경 - 현재 상태를 알려주면 캐싱 후 변경한다. 개수가 캐싱되지 않았다면 개수는 건드리지 않는다.")
+    void toggleLikeWithCurrentState() {
+        // when
+        LikeToggleResult result = repository.toggleLike(10L, 1L, POST, LikeState.CANCELLED, true);
+
+        // then
+        assertThat(result.isChanged()).isTrue();
+        assertThat(result.getCount()).isEqualTo(-1);
+        assertThat(repository.isLiked(10L, 1L, POST)).isFalse();
+        assertThat(repository.getCachedLikeCount(10L, POST)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 캐시는 만료되지만, dump되지 않은 상태는 유지된다.")
+    void likedCacheExpires() {
+        // given
+        repository.setIsLiked(10L, 1L, POST, true);
+        repository.toggleLike(20L, 1L, POST, LikeState.LIKED, false);
+
+        // when
+        clock.advance(LIKED_CACHE_TIME.plusSeconds(1));
+
+        // then
+        assertThat(repository.isLiked(10L, 1L, POST)).isNull();
+        assertThat(repository.isLiked(20L, 1L, POST)).isTrue();
+    }
+
+    @Test
+    @DisplayName("좋아요 수 캐시는 만료된다.")
+    void likeCountExpires() {
+        // given
+        repository.setLikeCounts(Map.of(10L, 3, 20L, 5), POST, Duration.ofMinutes(1));
+
+        // when
+        clock.advance(Duration.ofMinutes(2));
+        repository.evictExpired();
+
+        // then
+        assertThat(repository.getCachedLikeCounts(List.of(10L, 20L), POST)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 요소의 좋아요 여부를 캐싱할 때 이미 캐싱된 요소는 덮어쓰지 않는다.")
+    void setIsLikedBulk() {
+        // given
+        repository.setIsLiked(10L, 1L, POST, true);
+
+        // when
+        repository.setIsLiked(Map.of(10L, false, 20L, false), 1L, POST);
+
+        // then
+        Map<Long, Boolean> liked = repository.getCachedIsLiked(List.of(10L, 20L, 30L), 1L, POST);
+        assertThat(liked).containsOnly(Map.entry(10L, true), Map.entry(20L, false));
+    }
+
+    @Test
+    @DisplayName("특정 유저의 캐싱된 모든 좋아요 가져오고 삭제가 잘 되는지?")
+    void getAllLikesAndClearForUser() {
+        // given
+        repository.like(10L, 1L, POST);
+        repository.cancelLike(20L, 1L, POST);
+        repository.like(10L, 2L, POST);
+
+        // when
+        List<LikeEntry> entries = repository.getAllLikesAndClear(1L, POST);
+
+        // then
+        assertThat(entries).containsExactlyInAnyOrder(
+                new LikeEntry(10L, LikeState.LIKED),
+                new LikeEntry(20L, LikeState.CANCELLED));
+        assertThat(repository.getAllLikesAndClear(1L, POST)).isEmpty();
+        assertThat(repository.countJournal(POST)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐싱된 모든 좋아요 가져오고 삭제가 잘 되는지?")
+    void getAllLikesAndClear() {
+        // given
+        repository.like(10L, 1L, POST);
+        repository.like(10L, 2L, POST);
+        repository.like(10L, 3L, COMMENT);
+
+        // when
+        Map<Long, List<LikeEntry>> entries = repository.getAllLikesAndClear(POST);
+
+        // then
+        assertThat(entries).containsOnlyKeys(1L, 2L);
+        assertThat(repository.countJournal(POST)).isZero();
+        assertThat(repository.countJournal(COMMENT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("dump한 항목만 삭제하고, 그 사이에 바뀐 항목은 남겨둔다.")
+    void clearDumpedLikes() {
+        // given
+        repository.like(10L, 1L, POST);
+        repository.like(20L, 1L, POST);
+        List<LikeEntry> dumped = repository.getLikes(List.of(1L), POST).get(1L);
+        repository.cancelLike(20L, 1L, POST);
+
+        // when
+        repository.clearDumpedLikes(1L, POST, dumped);
+
+        // then
+        assertThat(repository.getLikes(List.of(1L), POST).get(1L))
+                .containsExactly(new LikeEntry(20L, LikeState.CANCELLED));
+    }
+
+    @Test
+    @DisplayName("변경 기록을 나누어 읽고, 확인한 기록만 삭제한다.")
+    void readJournalAndAcknowledge() {
+        // given
+        for (long userId = 0; userId < 25; userId++) {
+            repository.like(10L, userId, POST);
+        }
+
+        // when
+        List<LikeJournalEntry> entries = repository.readJournal(POST, "consumer", 10, Duration.ZERO);
+        repository.acknowledge(POST, entries);
+
+        // then
+        assertThat(entries).hasSize(10)
+                .allMatch(entry -> entry.getElementId() == 10L && entry.getState() == LikeState.LIKED);
+        assertThat(repository.countJournal(POST)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 상태가 바뀐 기록은 확인해도 삭제되지 않는다.")
+    void acknowledgeChangedEntry() {
+        // given
+        repository.like(10L, 1L, POST);
+        List<LikeJournalEntry> entries = repository.readJournal(POST, "consumer", 10, Duration.ZERO);
+        repository.cancelLike(10L, 1L, POST);
+
+        // when
+        repository.acknowledge(POST, entries);
+
+        // then
+        assertThat(repository.readJournal(POST, "consumer", 10, Duration.ZERO))
+                .extracting(LikeJournalEntry::getState)
+                .containsExactly(LikeState.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("동시에 좋아요를 눌러도 개수가 정확하게 집계된다.")
+    void concurrentToggle() throws Exception {
+        // given
+        int users = 300;
+        repository.setLikeCount(10L, 0, POST, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (long userId = 0; userId < users; userId++) {
+            long id = userId;
+            futures.add(executor.submit(() -> {
+                repository.toggleLike(10L, id, POST, LikeState.LIKED, false);
+                repository.toggleLike(10L, id, POST, LikeState.LIKED, false);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(repository.getCachedLikeCount(10L, POST)).isEqualTo(users);
+        assertThat(repository.countJournal(POST)).isEqualTo(users);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.ofEpochSecond(1_000_000_000);
+
+        public void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.dku.council.domain.like.repository.impl;
+
+import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.LikeToggleResult;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dku.council.domain.like.model.LikeTarget.POST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@FullIntegrationTest
+class LikeRedisRepositoryConcurrencyTest extends AbstractContainerRedisTest {
+
+    private static final int USER_COUNT = 300;
+    private static final int THREAD_COUNT = 32;
+    private static final Long ELEMENT_ID = 1L;
+
+    @Autowired
+    private LikeRedisRepository repository;
+
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 좋아요를 연타해도 사용자 수만큼만 증가해야 한다.")
+    void toggleLikeDoubleTap() throws InterruptedException {
+        // given
+        repository.setLikeCount(ELEMENT_ID, 0, POST, Duration.ofHours(1));
+        AtomicInteger changed = new AtomicInteger();
+
+        // when
+        runConcurrently(USER_COUNT * 2, i -> {
+            long userId = i % USER_COUNT;
+            LikeToggleResult result = repository.toggleLike(ELEMENT_ID, userId, POST, LikeState.LIKED, false);
+            if (result.isChanged()) {
+                changed.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(changed.get()).isEqualTo(USER_COUNT);
+        assertThat(repository.getCachedLikeCount(ELEMENT_ID, POST)).isEqualTo(USER_COUNT);
+
+        Map<Long, List<LikeEntry>> likes = repository.getAllLikesAndClear(POST);
+        assertThat(likes.size()).isEqualTo(USER_COUNT);
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소가 동시에 섞여도 최종 좋아요 상태와 개수가 일치해야 한다.")
+    void toggleLikeAndCancel() throws InterruptedException {
+        // given
+        repository.setLikeCount(ELEMENT_ID, 0, POST, Duration.ofHours(1));
+
+        // when
+        runConcurrently(USER_COUNT * 4, i -> {
+            long userId = i % USER_COUNT;
+            LikeState state = (i / USER_COUNT) % 2 == 0 ? LikeState.LIKED : LikeState.CANCELLED;
+            repository.toggleLike(ELEMENT_ID, userId, POST, state, false);
+        });
+
+        // then
+        int liked = 0;
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            if (Boolean.TRUE.equals(repository.isLiked(ELEMENT_ID, userId, POST))) {
+                liked++;
+            }
+        }
+        assertThat(repository.getCachedLikeCount(ELEMENT_ID, POST)).isEqualTo(liked);
+    }
+
+    private static void runConcurrently(int count, IndexedTask task) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            pool.execute(() -> {
+                try {
+                    task.run(index);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        pool.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+}
@@ -1,7 +1,9 @@
 package com.dku.council.domain.like.repository.impl;
 
 import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeJournalEntry;
 import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.LikeToggleResult;
 import com.dku.council.domain.like.repository.impl.LikeRedisRepository;
 import com.dku.council.global.config.redis.RedisKeys;
 import com.dku.council.util.base.AbstractContainerRedisTest;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.stream.StreamInfo;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.time.Duration;
@@ -19,6 +22,7 @@ import java.util.Random;
 import static com.dku.council.domain.like.model.LikeTarget.POST;
 import static com.dku.council.global.config.redis.RedisKeys.combine;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 //@FullIntegrationTest
@@ -89,6 +93,75 @@ class LikeRedisRepositoryTest extends AbstractContainerRedisTest {
         assertThat(key.isLiked(redisTemplate)).isEqualTo(false);
     }
 
+    @Test
+    @DisplayName("좋아요 상태 변경 - 캐싱된 경우 상태와 개수가 함께 변경된다.")
+    void toggleLike() {
+        // given
+        PostLikeKey key = new PostLikeKey();
+        key.setLiked(redisTemplate, false);
+        key.setCount(redisTemplate, "3");
+
+        // when
+        LikeToggleResult result = repository.toggleLike(key.elementId, key.userId, POST, LikeState.LIKED, null);
+
+        // then
+        assertThat(result.isCached()).isTrue();
+        assertThat(result.isChanged()).isTrue();
+        assertThat(result.getCount()).isEqualTo(4);
+        assertThat(key.getLike(redisTemplate)).isEqualTo(LikeState.LIKED.name());
+        assertThat(key.isLiked(redisTemplate)).isEqualTo(true);
+        assertThat(key.getCount(redisTemplate)).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 변경 - 이미 같은 상태라면 변경하지 않는다.")
+    void toggleLikeSameState() {
+        // given
+        PostLikeKey key = new PostLikeKey();
+        key.setLiked(redisTemplate, true);
+        key.setCount(redisTemplate, "3");
+
+        // when
+        LikeToggleResult result = repository.toggleLike(key.elementId, key.userId, POST, LikeState.LIKED, null);
+
+        // then
+        assertThat(result.isChanged()).isFalse();
+        assertThat(result.getCount()).isEqualTo(3);
+        assertThat(key.getLike(redisTemplate)).isNull();
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 변경 - 캐싱되지 않았다면 아무것도 변경하지 않는다.")
+    void toggleLikeNoCached() {
+        // given
+        PostLikeKey key = new PostLikeKey();
+
+        // when
+        LikeToggleResult result = repository.toggleLike(key.elementId, key.userId, POST, LikeState.LIKED, null);
+
+        // then
+        assertThat(result.isCached()).isFalse();
+        assertThat(key.getLike(redisTemplate)).isNull();
+        assertThat(key.isLiked(redisTemplate)).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("좋아요 상태 변경 - 현재 상태를 알려주면 캐싱 후 변경한다. 개수가 캐싱되지 않았다면 개수는 건드리지 않는다.")
+    void toggleLikeWithCurrentState() {
+        // given
+        PostLikeKey key = new PostLikeKey();
+
+        // when
+        LikeToggleResult result = repository.toggleLike(key.elementId, key.userId, POST, LikeState.CANCELLED, true);
+
+        // then
+        assertThat(result.isChanged()).isTrue();
+        assertThat(result.getCount()).isEqualTo(-1);
+        assertThat(key.getLike(redisTemplate)).isEqualTo(LikeState.CANCELLED.name());
+        assertThat(key.isLiked(redisTemplate)).isEqualTo(false);
+        assertThat(key.getCount(redisTemplate)).isNull();
+    }
+
     @Test
     @DisplayName("좋아요 Entity가 존재하는지? - 있는 경우")
     void isPostLiked() {
@@ -250,6 +323,108 @@ class LikeRedisRepositoryTest extends AbstractContainerRedisTest {
         assertThat(likes.size()).isEqualTo(count);
     }
 
+    @Test
+    @DisplayName("상태가 변경되면 변경 기록이 남고, acknowledge 하면 삭제된다.")
+    void readJournalAndAcknowledge() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            repository.toggleLike(10L, i + 100L, POST, LikeState.LIKED, false);
+        }
+        repository.toggleLike(10L, 100L, POST, LikeState.LIKED, false);
+
+        // when
+        List<LikeJournalEntry> entries = repository.readJournal(POST, "consumer", 10, Duration.ofHours(1));
+
+        // then
+        assertThat(entries).extracting(LikeJournalEntry::getUserId).containsExactly(100L, 101L, 102L);
+        assertThat(repository.readJournal(POST, "consumer", 10, Duration.ofHours(1))).isEmpty();
+
+        repository.acknowledge(POST, entries);
+        assertThat(repository.countJournal(POST)).isZero();
+    }
+
+    @Test
+    @DisplayName("오랫동안 acknowledge 되지 않은 변경 기록은 다른 consumer가 가져간다.")
+    void readJournalClaimsIdleEntries() {
+        // given
+        repository.toggleLike(10L, 100L, POST, LikeState.LIKED, false);
+        List<LikeJournalEntry> entries = repository.readJournal(POST, "dead", 10, Duration.ofHours(1));
+
+        // when
+        List<LikeJournalEntry> claimed = repository.readJournal(POST, "alive", 10, Duration.ZERO);
+
+        // then
+        assertThat(claimed).isEqualTo(entries);
+        assertThat(repository.countJournal(POST)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("앞쪽의 대기 기록이 최근에 전달되었더라도 뒤쪽의 오래된 기록을 가져간다.")
+    void readJournalClaimsIdleEntriesBeyondFirstPage() throws InterruptedException {
+        // given
+        for (int i = 0; i < 4; i++) {
+            repository.toggleLike(10L, i + 100L, POST, LikeState.LIKED, false);
+        }
+        repository.readJournal(POST, "dead1", 2, Duration.ofHours(1));
+        List<LikeJournalEntry> old = repository.readJournal(POST, "dead2", 2, Duration.ofHours(1));
+        Thread.sleep(300);
+        repository.readJournal(POST, "alive1", 2, Duration.ofMillis(200));
+
+        // when
+        List<LikeJournalEntry> claimed = repository.readJournal(POST, "alive2", 2, Duration.ofMillis(200));
+
+        // then
+        assertThat(claimed).isEqualTo(old);
+    }
+
+    @Test
+    @DisplayName("변경 기록 도입 이전에 캐싱된 좋아요를 변경 기록으로 한 번만 옮긴다.")
+    void journalLegacyLikes() {
+        // given
+        new PostLikeKey(10L, 100L).putLike(redisTemplate, LikeState.LIKED.name());
+        new PostLikeKey(11L, 100L).putLike(redisTemplate, LikeState.CANCELLED.name());
+        new PostLikeKey(10L, 101L).putLike(redisTemplate, LikeState.LIKED.name());
+        redisTemplate.opsForSet().add(combine(RedisKeys.LIKE_USERS_KEY, POST), "100", "101");
+
+        // when
+        long journaled = repository.journalLegacyLikes(POST);
+
+        // then
+        assertThat(journaled).isEqualTo(3);
+        assertThat(repository.journalLegacyLikes(POST)).isZero();
+
+        List<LikeJournalEntry> entries = repository.readJournal(POST, "consumer", 10, Duration.ofHours(1));
+        assertThat(entries).extracting(LikeJournalEntry::getUserId, LikeJournalEntry::getElementId,
+                        LikeJournalEntry::getState)
+                .containsExactlyInAnyOrder(
+                        tuple(100L, 10L, LikeState.LIKED),
+                        tuple(100L, 11L, LikeState.CANCELLED),
+                        tuple(101L, 10L, LikeState.LIKED));
+    }
+
+    @Test
+    @DisplayName("대기 중인 기록이 없는 오래된 consumer만 삭제한다.")
+    void removeIdleConsumers() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            repository.toggleLike(10L, i + 100L, POST, LikeState.LIKED, false);
+        }
+        List<LikeJournalEntry> acked = repository.readJournal(POST, "acked", 1, Duration.ofHours(1));
+        repository.acknowledge(POST, acked);
+        repository.readJournal(POST, "pending", 1, Duration.ofHours(1));
+        repository.readJournal(POST, "self", 1, Duration.ofHours(1));
+
+        // when
+        int removed = repository.removeIdleConsumers(POST, "self", Duration.ZERO);
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        String key = combine(RedisKeys.LIKE_STREAM_KEY, POST);
+        assertThat(redisTemplate.opsForStream().consumers(key, LikeRedisRepository.DUMP_GROUP).stream())
+                .extracting(StreamInfo.XInfoConsumer::consumerName)
+                .containsExactlyInAnyOrder("pending", "self");
+    }
+
     private static class PostLikeKey {
         private static final Random RAND = new Random();
         private final Long elementId;
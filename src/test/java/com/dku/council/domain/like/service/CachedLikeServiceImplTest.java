@@ -2,6 +2,7 @@ package com.dku.council.domain.like.service;
 
 import com.dku.council.domain.like.model.LikeEntry;
 import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.LikeToggleResult;
 import com.dku.council.domain.like.model.entity.LikeElement;
 import com.dku.council.domain.like.repository.LikeMemoryRepository;
 import com.dku.council.domain.like.repository.LikePersistenceRepository;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -56,55 +58,68 @@ class CachedLikeServiceImplTest {
 
     @Test
     @DisplayName("좋아요")
-    void likeNoCached() {
+    void likeCached() {
+        // given
+        when(memoryRepository.toggleLike(10L, 10L, POST, LikeState.LIKED, null))
+                .thenReturn(LikeToggleResult.of(true, LikeState.LIKED, 5));
+
         // when
         service.like(10L, 10L, POST);
 
         // then
-        verify(memoryRepository).like(10L, 10L, POST);
-        verify(memoryRepository).increaseLikeCount(10L, POST);
+        verify(memoryRepository).toggleLike(10L, 10L, POST, LikeState.LIKED, null);
+        verify(persistenceRepository, never()).findByElementIdAndUserId(10L, 10L, POST);
     }
 
     @Test
-    @DisplayName("좋아요 - 이미 좋아요한 경우 무시")
-    void likeAlready() {
+    @DisplayName("좋아요 - 좋아요 여부가 캐싱되지 않은 경우 DB 상태로 다시 요청")
+    void likeNoCached() {
         // given
-        when(memoryRepository.isLiked(10L, 10L, POST)).thenReturn(true);
+        when(memoryRepository.toggleLike(10L, 10L, POST, LikeState.LIKED, null))
+                .thenReturn(LikeToggleResult.notCached());
+        when(persistenceRepository.findByElementIdAndUserId(10L, 10L, POST))
+                .thenReturn(Optional.empty());
+        when(memoryRepository.toggleLike(10L, 10L, POST, LikeState.LIKED, false))
+                .thenReturn(LikeToggleResult.of(true, LikeState.LIKED, 5));
 
         // when
         service.like(10L, 10L, POST);
 
         // then
-        verify(memoryRepository, never()).like(10L, 10L, POST);
-        verify(memoryRepository, never()).setLikeCount(any(), eq(5), eq(POST), eq(cacheTime));
+        verify(memoryRepository).toggleLike(10L, 10L, POST, LikeState.LIKED, false);
     }
 
     @Test
     @DisplayName("좋아요 취소")
-    void cancelLikeNoCached() {
+    void cancelLikeCached() {
         // given
-        when(memoryRepository.isLiked(10L, 10L, POST)).thenReturn(true);
+        when(memoryRepository.toggleLike(10L, 10L, POST, LikeState.CANCELLED, null))
+                .thenReturn(LikeToggleResult.of(true, LikeState.CANCELLED, 4));
 
         // when
         service.cancelLike(10L, 10L, POST);
 
         // then
-        verify(memoryRepository).cancelLike(10L, 10L, POST);
-        verify(memoryRepository).decreaseLikeCount(10L, POST);
+        verify(memoryRepository).toggleLike(10L, 10L, POST, LikeState.CANCELLED, null);
+        verify(persistenceRepository, never()).findByElementIdAndUserId(10L, 10L, POST);
     }
 
     @Test
-    @DisplayName("좋아요 - 좋아요를 안한경우 무시")
-    void cancelLikeAlready() {
+    @DisplayName("좋아요 취소 - 좋아요 여부가 캐싱되지 않은 경우 DB 상태로 다시 요청")
+    void cancelLikeNoCached() {
         // given
-        when(memoryRepository.isLiked(10L, 10L, POST)).thenReturn(false);
+        Optional<LikeElement> result = Optional.of(new LikeElement(UserMock.createDummyMajor(), 10L, POST));
+        when(memoryRepository.toggleLike(10L, 10L, POST, LikeState.CANCELLED, null))
+                .thenReturn(LikeToggleResult.notCached());
+        when(persistenceRepository.findByElementIdAndUserId(10L, 10L, POST)).thenReturn(result);
+        when(memoryRepository.toggleLike(10L, 10L, POST, LikeState.CANCELLED, true))
+                .thenReturn(LikeToggleResult.of(true, LikeState.CANCELLED, 4));
 
         // when
         service.cancelLike(10L, 10L, POST);
 
         // then
-        verify(memoryRepository, never()).cancelLike(10L, 10L, POST);
-        verify(memoryRepository, never()).setLikeCount(any(), eq(5), eq(POST), eq(cacheTime));
+        verify(memoryRepository).toggleLike(10L, 10L, POST, LikeState.CANCELLED, true);
     }
 
     @Test
@@ -190,7 +205,8 @@ class CachedLikeServiceImplTest {
 
         when(persistenceRepository.findAllByUserId(6L, POST, Pageable.unpaged()))
                 .thenReturn(new PageImpl<>(likes));
-        when(memoryRepository.getAllLikesAndClear(6L, POST)).thenReturn(likeEntries);
+        when(memoryRepository.getLikes(List.of(6L), POST)).thenReturn(Map.of(6L, likeEntries));
+        when(persistenceRepository.findLikedElementIds(any(), eq(6L), eq(POST))).thenReturn(List.of(0L));
         when(userRepository.getReferenceById(any()))
                 .thenAnswer(inv -> UserMock.createDummyMajor(inv.getArgument(0)));
 
@@ -199,12 +215,7 @@ class CachedLikeServiceImplTest {
 
         // then
         assertThat(actual.getTotalElements()).isEqualTo(10);
-        verify(persistenceRepository, times(10)).save(any(LikeElement.class));
-
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 6L, POST);
-        }
+        verifyDumped(likeEntries);
     }
 
     @Test
@@ -214,7 +225,8 @@ class CachedLikeServiceImplTest {
         List<LikeEntry> likeEntries = makeLikeEntryList();
 
         when(persistenceRepository.countPostByUserId(6L, POST)).thenReturn(10L);
-        when(memoryRepository.getAllLikesAndClear(6L, POST)).thenReturn(likeEntries);
+        when(memoryRepository.getLikes(List.of(6L), POST)).thenReturn(Map.of(6L, likeEntries));
+        when(persistenceRepository.findLikedElementIds(any(), eq(6L), eq(POST))).thenReturn(List.of(0L));
         when(userRepository.getReferenceById(any()))
                 .thenAnswer(inv -> UserMock.createDummyMajor(inv.getArgument(0)));
 
@@ -223,39 +235,35 @@ class CachedLikeServiceImplTest {
 
         // then
         assertThat(size).isEqualTo(10);
-        verify(persistenceRepository, times(10)).save(any(LikeElement.class));
-
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 6L, POST);
-        }
+        verifyDumped(likeEntries);
     }
 
     @Test
-    @DisplayName("Memory에 캐시된 좋아요를 DB로 dump")
-    void dumpToDB() {
+    @DisplayName("DB에 반영할 좋아요가 없으면 아무것도 하지 않는다.")
+    void getLikedElementIdsWithoutMemoryLikes() {
         // given
-        List<LikeEntry> likes = makeLikeEntryList();
-
-        when(memoryRepository.getAllLikesAndClear(POST)).thenReturn(Map.of(6L, likes, 7L, likes));
-        when(userRepository.getReferenceById(any()))
-                .thenAnswer(inv -> UserMock.createDummyMajor(inv.getArgument(0)));
+        when(memoryRepository.getLikes(List.of(6L), POST)).thenReturn(Map.of());
+        when(persistenceRepository.countPostByUserId(6L, POST)).thenReturn(0L);
 
         // when
-        service.dumpToDB(POST);
+        service.getCountOfLikedElements(6L, POST);
 
         // then
-        verify(persistenceRepository, times(20)).save(any(LikeElement.class));
-
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 6L, POST);
-        }
+        verify(persistenceRepository, never()).saveAll(any());
+        verify(memoryRepository, never()).clearDumpedLikes(any(), any(), any());
+    }
 
-        for (int i = 10; i < 20; i++) {
-            Long l = (long) i;
-            verify(persistenceRepository).deleteByElementIdAndUserId(l, 7L, POST);
-        }
+    @SuppressWarnings("unchecked")
+    private void verifyDumped(List<LikeEntry> likeEntries) {
+        ArgumentCaptor<List<LikeElement>> saved = ArgumentCaptor.forClass(List.class);
+        verify(persistenceRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(LikeElement::getElementId)
+                .containsExactlyElementsOf(LongStream.range(1, 10).boxed().collect(Collectors.toList()));
+
+        List<Long> cancelled = LongStream.range(10, 20).boxed().collect(Collectors.toList());
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(cancelled, 6L, POST);
+        verify(memoryRepository).clearDumpedLikes(6L, POST, likeEntries);
+        verify(memoryRepository, never()).getAllLikesAndClear(6L, POST);
     }
 
     private static List<LikeEntry> makeLikeEntryList() {
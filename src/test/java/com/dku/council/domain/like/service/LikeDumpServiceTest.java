@@ -0,0 +1,200 @@
+package com.dku.council.domain.like.service;
+
+import com.dku.council.domain.comment.repository.CommentRepository;
+import com.dku.council.domain.like.model.LikeEntry;
+import com.dku.council.domain.like.model.LikeJournalEntry;
+import com.dku.council.domain.like.model.LikeState;
+import com.dku.council.domain.like.model.dto.LikeCount;
+import com.dku.council.domain.like.repository.LikeMemoryRepository;
+import com.dku.council.domain.like.repository.LikePersistenceRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.mock.UserMock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.dku.council.domain.like.model.LikeTarget.POST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeDumpServiceTest {
+
+    @Mock
+    private LikeMemoryRepository memoryRepository;
+
+    @Mock
+    private LikePersistenceRepository persistenceRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<LikeEntry> likes = makeLikeEntryList();
+    private final List<LikeJournalEntry> journal = makeJournal(List.of(6L, 7L), likes);
+
+
+    @BeforeEach
+    public void beforeEach() {
+        when(userRepository.findAllByIdInForUpdate(any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream().map(UserMock::createDummyMajor).collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    @DisplayName("Memory에 캐시된 좋아요를 DB로 dump")
+    void dumpToDB() {
+        // given
+        LikeDumpService service = createService(100);
+        when(memoryRepository.readJournal(eq(POST), anyString(), eq(100), any())).thenReturn(journal);
+        when(persistenceRepository.findLikedElementIds(any(), any(), eq(POST)))
+                .thenAnswer(inv -> inv.getArgument(1).equals(6L) ? List.of(0L, 1L) : List.of());
+
+        // when
+        long dumped = service.dumpToDB(POST);
+
+        // then
+        assertThat(dumped).isEqualTo(40);
+
+        List<Long> cancelled = LongStream.range(10, 20).boxed().collect(Collectors.toList());
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(cancelled, 6L, POST);
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(cancelled, 7L, POST);
+        verify(persistenceRepository).saveAll(argThat(list -> ((List<?>) list).size() == 8));
+        verify(persistenceRepository).saveAll(argThat(list -> ((List<?>) list).size() == 10));
+
+        verify(memoryRepository).acknowledge(POST, journal);
+        verify(memoryRepository).clearDumpedLikes(6L, POST, likes);
+        verify(memoryRepository).clearDumpedLikes(7L, POST, likes);
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(meterRegistry.counter("like.dump.rows", "target", "POST").count()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("같은 요소의 기록이 여러 개라면 캐싱된 좋아요 여부, 없다면 마지막 기록을 반영")
+    void dumpToDBLatestState() {
+        // given
+        LikeDumpService service = createService(100);
+        List<LikeJournalEntry> entries = List.of(
+                new LikeJournalEntry("1-0", 10L, 6L, LikeState.LIKED),
+                new LikeJournalEntry("2-0", 10L, 6L, LikeState.CANCELLED),
+                new LikeJournalEntry("3-0", 20L, 6L, LikeState.LIKED));
+        when(memoryRepository.readJournal(eq(POST), anyString(), eq(100), any())).thenReturn(entries);
+        when(memoryRepository.getCachedIsLiked(Set.of(10L, 20L), 6L, POST)).thenReturn(Map.of(20L, false));
+
+        // when
+        long dumped = service.dumpToDB(POST);
+
+        // then
+        assertThat(dumped).isEqualTo(2);
+        verify(persistenceRepository).deleteAllByElementIdsAndUserId(
+                argThat(ids -> Set.copyOf(ids).equals(Set.of(10L, 20L))), eq(6L), eq(POST));
+        verify(persistenceRepository, never()).saveAll(any());
+        verify(memoryRepository).acknowledge(POST, entries);
+    }
+
+    @Test
+    @DisplayName("dump한 요소의 좋아요 수를 게시글에 반영")
+    void dumpToDBUpdatesLikeCounts() {
+        // given
+        LikeDumpService service = createService(100);
+        when(memoryRepository.readJournal(eq(POST), anyString(), eq(100), any())).thenReturn(journal);
+        when(persistenceRepository.countAllByElementIds(any(), eq(POST)))
+                .thenReturn(List.of(new LikeCount(3L, 2L)));
+
+        // when
+        service.dumpToDB(POST);
+
+        // then
+        verify(postRepository).updateLikeCount(3L, 2);
+        verify(postRepository).updateLikeCount(15L, 0);
+        verify(postRepository, times(20)).updateLikeCount(any(), anyInt());
+        verify(commentRepository, never()).updateLikeCount(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("chunk 크기만큼 나누어 읽고 커밋한다.")
+    void dumpToDBWithChunks() {
+        // given
+        LikeDumpService service = createService(20);
+        when(memoryRepository.readJournal(eq(POST), anyString(), eq(20), any()))
+                .thenReturn(journal.subList(0, 20), journal.subList(20, 40), List.of());
+
+        // when
+        service.dumpToDB(POST);
+
+        // then
+        verify(transactionManager, times(2)).commit(any());
+        verify(memoryRepository, times(3)).readJournal(eq(POST), anyString(), eq(20), any());
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 acknowledge 하지 않는다.")
+    void dumpToDBFailed() {
+        // given
+        LikeDumpService service = createService(100);
+        when(memoryRepository.readJournal(eq(POST), anyString(), eq(100), any())).thenReturn(journal);
+        when(persistenceRepository.deleteAllByElementIdsAndUserId(any(), any(), eq(POST)))
+                .thenThrow(new IllegalStateException());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> service.dumpToDB(POST));
+
+        // then
+        verify(memoryRepository, never()).acknowledge(any(), any());
+        verify(memoryRepository, never()).clearDumpedLikes(any(), any(), any());
+    }
+
+    private LikeDumpService createService(int chunkSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return new LikeDumpService(memoryRepository, persistenceRepository, userRepository,
+                postRepository, commentRepository, transactionTemplate, meterRegistry, chunkSize,
+                Duration.ofMinutes(5));
+    }
+
+    private static List<LikeJournalEntry> makeJournal(List<Long> userIds, List<LikeEntry> likes) {
+        List<LikeJournalEntry> result = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (LikeEntry like : likes) {
+                String id = (result.size() + 1) + "-0";
+                result.add(new LikeJournalEntry(id, like.getElementId(), userId, like.getState()));
+            }
+        }
+        return result;
+    }
+
+    private static List<LikeEntry> makeLikeEntryList() {
+        Stream<LikeEntry> likeStream = LongStream.range(0, 10)
+                .mapToObj(i -> new LikeEntry(i, LikeState.LIKED));
+        Stream<LikeEntry> cancelledStream = LongStream.range(10, 20)
+                .mapToObj(i -> new LikeEntry(i, LikeState.CANCELLED));
+        return Stream.concat(likeStream, cancelledStream)
+                .collect(Collectors.toList());
+    }
+}
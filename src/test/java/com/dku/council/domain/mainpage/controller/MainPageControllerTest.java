@@ -0,0 +1,77 @@
+package com.dku.council.domain.mainpage.controller;
+
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
+import com.dku.council.domain.mainpage.service.MainPageService;
+import com.dku.council.domain.mainpage.service.MainPageSnapshotService;
+import com.dku.council.domain.mainpage.service.ScheduleService;
+import com.dku.council.util.base.AbstractAuthControllerTest;
+import com.dku.council.util.test.ImportsForMvc;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MainPageController.class)
+@ImportsForMvc
+class MainPageControllerTest extends AbstractAuthControllerTest {
+
+    @MockBean
+    private MainPageService mainPageService;
+
+    @MockBean
+    private MainPageSnapshotService mainPageSnapshotService;
+
+    @MockBean
+    private ScheduleService scheduleService;
+
+    private final MainPageSnapshot snapshot = new MainPageSnapshot(
+            "{\"news\":[]}".getBytes(StandardCharsets.UTF_8), Instant.EPOCH);
+
+    @BeforeEach
+    void setUpSnapshot() {
+        when(mainPageSnapshotService.get()).thenReturn(snapshot);
+    }
+
+
+    @Test
+    @DisplayName("메인 페이지 조회 - 본문과 ETag를 함께 반환")
+    void index() throws Exception {
+        // when & then
+        mvc.perform(get("/main"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(snapshot.getBody()));
+    }
+
+    @Test
+    @DisplayName("메인 페이지 조회 - ETag가 같으면 본문 없이 304 반환")
+    void indexNotModified() throws Exception {
+        // when & then
+        mvc.perform(get("/main").header(HttpHeaders.IF_NONE_MATCH, snapshot.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("메인 페이지 조회 - ETag가 다르면 본문을 다시 반환")
+    void indexModified() throws Exception {
+        // when & then
+        mvc.perform(get("/main").header(HttpHeaders.IF_NONE_MATCH, "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(content().bytes(snapshot.getBody()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.dku.council.domain.mainpage.service;
+
+import com.dku.council.domain.mainpage.model.CarouselChangedEvent;
+import com.dku.council.domain.mainpage.model.MainPageSnapshot;
+import com.dku.council.domain.mainpage.model.dto.response.MainPageResponseDto;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
+import com.dku.council.util.ClockUtil;
+import com.dku.council.util.ObjectMapperGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static com.dku.council.global.config.redis.RedisKeys.MAIN_PAGE_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MainPageSnapshotServiceTest {
+
+    @Mock
+    private MainPageService mainPageService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private MainPageSnapshotService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new MainPageSnapshotService(mainPageService, ObjectMapperGenerator.create(),
+                redisTemplate, listenerContainer, ClockUtil.create());
+    }
+
+    @Test
+    @DisplayName("만들어 둔 응답이 있으면 DB를 조회하지 않는다.")
+    void getCached() {
+        // given
+        when(mainPageService.mainPageInfo()).thenReturn(emptyPage());
+
+        // when
+        MainPageSnapshot first = service.get();
+        MainPageSnapshot second = service.get();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.getBody())).contains("recentNews");
+        verify(mainPageService, times(1)).mainPageInfo();
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 다시 만들어도 ETag가 바뀌지 않는다.")
+    void refreshSameContent() {
+        // given
+        when(mainPageService.mainPageInfo()).thenReturn(emptyPage());
+        MainPageSnapshot before = service.get();
+
+        // when
+        MainPageSnapshot after = service.refresh();
+
+        // then
+        assertThat(after.getEtag()).isEqualTo(before.getEtag());
+        assertThat(after.matches(before.getEtag())).isTrue();
+        assertThat(after.matches("W/" + before.getEtag())).isTrue();
+        assertThat(after.matches("\"other\"")).isFalse();
+        assertThat(after.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("메인 페이지 게시판의 글이 바뀌면 다시 만들고 다른 서버에 알린다.")
+    void refreshOnPostChanged() {
+        // given
+        when(mainPageService.mainPageInfo()).thenReturn(emptyPage());
+        service.get();
+
+        // when
+        service.onPostChanged(new PostChangedEvent(Petition.class));
+
+        // then
+        verify(mainPageService, timeout(1000).times(2)).mainPageInfo();
+        verify(redisTemplate).convertAndSend(eq(MAIN_PAGE_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("캐러셀이 바뀌면 다시 만든다.")
+    void refreshOnCarouselChanged() {
+        // given
+        when(mainPageService.mainPageInfo()).thenReturn(emptyPage());
+        service.get();
+
+        // when
+        service.onCarouselChanged(new CarouselChangedEvent());
+
+        // then
+        verify(mainPageService, timeout(1000).times(2)).mainPageInfo();
+    }
+
+    @Test
+    @DisplayName("메인 페이지에 없는 게시판의 글이 바뀌면 다시 만들지 않는다.")
+    void ignoreOtherBoard() {
+        // when
+        service.onPostChanged(new PostChangedEvent(GeneralForum.class));
+
+        // then
+        verifyNoInteractions(mainPageService, redisTemplate);
+    }
+
+    private static MainPageResponseDto emptyPage() {
+        return new MainPageResponseDto(List.of(), List.of(), List.of(), List.of());
+    }
+}
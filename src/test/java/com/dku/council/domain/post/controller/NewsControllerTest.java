@@ -1,7 +1,10 @@
 package com.dku.council.domain.post.controller;
 
+import com.dku.council.domain.post.model.PostSearchDocument;
 import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.repository.PostSearchIndex;
 import com.dku.council.domain.post.repository.post.GenericPostRepository;
+import com.dku.council.domain.post.service.PostListCacheService;
 import com.dku.council.domain.tag.model.entity.Tag;
 import com.dku.council.domain.tag.repository.TagRepository;
 import com.dku.council.domain.tag.service.TagService;
@@ -20,6 +23,7 @@ import com.dku.council.util.MvcMockResponse;
 import com.dku.council.util.base.AbstractContainerRedisTest;
 import com.dku.council.util.test.FullIntegrationTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -72,6 +76,12 @@ class NewsControllerTest extends AbstractContainerRedisTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PostSearchIndex searchIndex;
+
+    @Autowired
+    private PostListCacheService listCache;
+
     private Major major;
     private User user;
     private List<News> allNews;
@@ -95,6 +105,13 @@ class NewsControllerTest extends AbstractContainerRedisTest {
 
         postRepository.saveAll(allNews);
         postRepository.saveAll(NewsMock.createList("ews", user, 3, false));
+        allNews.forEach(news -> searchIndex.save(PostSearchDocument.of(news)));
+        listCache.invalidate(News.class);
+    }
+
+    @AfterEach
+    void clearSearchIndex() {
+        searchIndex.clear();
     }
 
 
@@ -4,6 +4,7 @@ import com.dku.council.domain.post.model.PetitionStatus;
 import com.dku.council.domain.post.model.dto.request.RequestCreateReplyDto;
 import com.dku.council.domain.post.model.entity.posttype.Petition;
 import com.dku.council.domain.post.repository.post.GenericPostRepository;
+import com.dku.council.domain.post.service.PostListCacheService;
 import com.dku.council.domain.statistic.model.entity.PetitionStatistic;
 import com.dku.council.domain.statistic.repository.PetitionStatisticRepository;
 import com.dku.council.domain.user.model.entity.Major;
@@ -70,6 +71,9 @@ class PetitionControllerTest extends AbstractContainerRedisTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PostListCacheService listCache;
+
     @Value("${app.post.petition.expires}")
     private Duration expiresTime;
 
@@ -92,6 +96,7 @@ class PetitionControllerTest extends AbstractContainerRedisTest {
 
         petition = PetitionMock.create(user, "title", "body");
         petition = postRepository.save(petition);
+        listCache.invalidate(Petition.class);
 
         UserAuth.withUser(user.getId());
     }
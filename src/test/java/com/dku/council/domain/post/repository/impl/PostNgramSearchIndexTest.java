@@ -0,0 +1,114 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.PostSearchDocument;
+import com.dku.council.domain.post.model.PostStatus;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostNgramSearchIndexTest {
+
+    private PostNgramSearchIndex index;
+
+
+    @BeforeEach
+    public void setup() {
+        index = new PostNgramSearchIndex();
+    }
+
+    @Test
+    @DisplayName("한글 키워드의 일부만으로도 게시글을 찾는다.")
+    void searchKorean() {
+        // given
+        save(1L, News.class, "총학생회 공지사항", "축제 일정을 안내합니다.");
+        save(2L, News.class, "학생 식당 메뉴", "이번 주 메뉴입니다.");
+
+        // when
+        // then
+        assertThat(index.search("학생회", null, null, 10)).containsExactly(1L);
+        assertThat(index.search("축제", null, null, 10)).containsExactly(1L);
+        assertThat(index.search("학생", null, null, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("동아리", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 단어가 포함된 게시글만 찾는다.")
+    void searchAllTokens() {
+        // given
+        save(1L, News.class, "축제 공지", "축제 일정");
+        save(2L, News.class, "축제 후기", "재미있었다");
+
+        // when
+        // then
+        assertThat(index.search("축제 일정", null, null, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목에 키워드가 있는 게시글이 본문에만 있는 게시글보다 앞에 온다.")
+    void rankTitleFirst() {
+        // given
+        save(1L, News.class, "공지사항", "장학금 신청 안내");
+        save(2L, News.class, "장학금 신청 안내", "공지사항");
+
+        // when
+        // then
+        assertThat(index.search("장학금", null, null, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("게시판 종류와 상태로 걸러내고 개수를 제한한다.")
+    void searchWithFilter() {
+        // given
+        save(1L, News.class, "news1", "body");
+        save(2L, GeneralForum.class, "news2", "body");
+        index.save(new PostSearchDocument(3L, News.class, PostStatus.BLINDED, "news3", "body"));
+        save(4L, News.class, "news4", "body");
+
+        // when
+        // then
+        assertThat(index.search("news", News.class, PostStatus.ACTIVE, 10)).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(index.search("news", Post.class, null, 10)).hasSize(4);
+        assertThat(index.search("news", null, null, 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("상태 변경과 삭제가 검색 결과에 반영된다.")
+    void updateStatusAndDelete() {
+        // given
+        save(1L, News.class, "news1", "body");
+        save(2L, News.class, "news2", "body");
+
+        // when
+        index.updateStatus(1L, PostStatus.DELETED);
+        index.delete(2L);
+
+        // then
+        assertThat(index.search("news", null, PostStatus.ACTIVE, 10)).isEmpty();
+        assertThat(index.search("news", null, PostStatus.DELETED, 10)).containsExactly(1L);
+        assertThat(index.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 게시글을 다시 저장하면 이전 내용은 지워진다.")
+    void saveReplaces() {
+        // given
+        save(1L, News.class, "old title", "body");
+
+        // when
+        save(1L, News.class, "new title", "body");
+
+        // then
+        assertThat(index.search("old", null, null, 10)).isEmpty();
+        assertThat(index.search("new", null, null, 10)).containsExactly(1L);
+        assertThat(index.count()).isEqualTo(1);
+    }
+
+    private void save(Long id, Class<? extends Post> type, String title, String body) {
+        index.save(new PostSearchDocument(id, type, PostStatus.ACTIVE, title, body));
+    }
+}
@@ -0,0 +1,125 @@
+package com.dku.council.domain.post.repository.impl;
+
+import com.dku.council.domain.post.model.TrendingBoard;
+import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.dku.council.domain.post.model.TrendingBoard.GENERAL_FORUM;
+import static com.dku.council.domain.post.model.TrendingBoard.NEWS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@FullIntegrationTest
+class TrendingRedisRepositoryTest extends AbstractContainerRedisTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(1);
+
+    @Autowired
+    private TrendingRedisRepository repository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+
+    @Test
+    @DisplayName("점수가 높은 순서대로 가져오는지")
+    void getRanking() {
+        // given
+        Instant now = Instant.now();
+        repository.increase(GENERAL_FORUM, 1L, 1, now, HALF_LIFE);
+        repository.increase(GENERAL_FORUM, 2L, 5, now, HALF_LIFE);
+        repository.increase(GENERAL_FORUM, 3L, 3, now, HALF_LIFE);
+        repository.increase(NEWS, 4L, 10, now, HALF_LIFE);
+
+        // when
+        List<Long> first = repository.getRanking(GENERAL_FORUM, 0, 2);
+        List<Long> second = repository.getRanking(GENERAL_FORUM, 2, 2);
+
+        // then
+        assertThat(first).containsExactly(2L, 3L);
+        assertThat(second).containsExactly(1L);
+        assertThat(repository.count(GENERAL_FORUM)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("제거한 게시글은 랭킹과 개수에서 빠지는지")
+    void remove() {
+        // given
+        Instant now = Instant.now();
+        repository.increase(GENERAL_FORUM, 1L, 1, now, HALF_LIFE);
+        repository.increase(GENERAL_FORUM, 2L, 5, now, HALF_LIFE);
+        repository.increase(GENERAL_FORUM, 3L, 3, now, HALF_LIFE);
+
+        // when
+        repository.remove(GENERAL_FORUM, List.of(2L, 3L));
+
+        // then
+        assertThat(repository.getRanking(GENERAL_FORUM, 0, 3)).containsExactly(1L);
+        assertThat(repository.count(GENERAL_FORUM)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근 이벤트일수록 큰 점수가 반영되는지")
+    void increaseWithDecay() {
+        // given
+        Instant now = Instant.now();
+        repository.increase(GENERAL_FORUM, 1L, 5, now, HALF_LIFE);
+
+        // when
+        repository.increase(GENERAL_FORUM, 2L, 3, now.plus(HALF_LIFE), HALF_LIFE);
+
+        // then
+        assertThat(score(GENERAL_FORUM, 2L)).isCloseTo(6, within(0.0001));
+        assertThat(repository.getRanking(GENERAL_FORUM, 0, 2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("rebase하면 점수가 감쇠되고 최소 점수보다 작은 게시글은 제거되는지")
+    void rebase() {
+        // given
+        Instant now = Instant.now();
+        repository.increase(GENERAL_FORUM, 1L, 8, now, HALF_LIFE);
+        repository.increase(GENERAL_FORUM, 2L, 1, now, HALF_LIFE);
+
+        // when
+        long count = repository.rebase(GENERAL_FORUM, now.plus(HALF_LIFE.multipliedBy(2)), HALF_LIFE, 0.5, 100);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(score(GENERAL_FORUM, 1L)).isCloseTo(2, within(0.0001));
+        assertThat(score(GENERAL_FORUM, 2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("rebase하면 최대 크기를 넘는 하위 게시글이 제거되는지")
+    void rebaseWithMaxSize() {
+        // given
+        Instant now = Instant.now();
+        for (long i = 1; i <= 5; i++) {
+            repository.increase(GENERAL_FORUM, i, i, now, HALF_LIFE);
+        }
+
+        // when
+        long count = repository.rebase(GENERAL_FORUM, now, HALF_LIFE, 0, 3);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(repository.getRanking(GENERAL_FORUM, 0, 5)).containsExactly(5L, 4L, 3L);
+    }
+
+    private Double score(TrendingBoard board, Long postId) {
+        String key = RedisKeys.combine(RedisKeys.TRENDING_KEY, board);
+        return redisTemplate.opsForZSet().score(key, postId.toString());
+    }
+}
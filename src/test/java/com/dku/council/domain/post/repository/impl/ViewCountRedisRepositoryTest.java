@@ -1,8 +1,8 @@
 package com.dku.council.domain.post.repository.impl;
 
-import com.dku.council.domain.post.repository.impl.ViewCountRedisRepository;
 import com.dku.council.util.base.AbstractContainerRedisTest;
 import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -18,68 +19,79 @@ import static org.assertj.core.api.Assertions.assertThat;
 @FullIntegrationTest
 class ViewCountRedisRepositoryTest extends AbstractContainerRedisTest {
 
+    private static final Duration WINDOW = Duration.of(100, ChronoUnit.MINUTES);
+
     @Autowired
     private ViewCountRedisRepository repository;
 
 
+    @BeforeEach
+    public void setup() {
+        repository.drainViews();
+    }
+
     @Test
-    @DisplayName("조회수 카운팅 캐시에 잘 입력되는가?")
-    void addPostLike() {
+    @DisplayName("처음 조회한 유저는 조회자로 기록된다.")
+    void addViewer() {
         // given
-        String userIdentifier = "User";
         Instant now = Instant.now();
-        Duration expiresAfter = Duration.of(100, ChronoUnit.MINUTES);
 
         // when
-        repository.put(10L, userIdentifier, expiresAfter, now);
+        boolean result = repository.addViewer(10L, "User", WINDOW, now);
 
         // then
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now);
         assertThat(result).isTrue();
+        assertThat(repository.drainViews()).isEqualTo(Map.of(10L, 1L));
     }
 
     @Test
-    @DisplayName("유저가 이미 조회한 적 있는지? - 없는 경우")
-    void isAlreadyContainsNoCached() {
+    @DisplayName("같은 구간에서 다시 조회하면 조회수가 오르지 않는다.")
+    void addViewerTwice() {
         // given
-        String userIdentifier = "User";
         Instant now = Instant.now();
+        repository.addViewer(20L, "User", WINDOW, now);
 
         // when
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now);
+        boolean result = repository.addViewer(20L, "User", WINDOW, now);
 
         // then
-        assertThat(result).isEqualTo(false);
+        assertThat(result).isFalse();
+        assertThat(repository.drainViews()).isEqualTo(Map.of(20L, 1L));
     }
 
     @Test
-    @DisplayName("유저가 이미 조회한 적 있는지? - 있는 경우")
-    void isAlreadyContainsCached() {
+    @DisplayName("구간이 지나면 다시 조회수가 오른다.")
+    void addViewerNextWindow() {
         // given
-        String userIdentifier = "User";
         Instant now = Instant.now();
+        repository.addViewer(30L, "User", WINDOW, now);
 
         // when
-        repository.put(10L, userIdentifier, Duration.of(10, ChronoUnit.MINUTES), now);
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now);
+        boolean result = repository.addViewer(30L, "User", WINDOW, now.plus(WINDOW));
 
         // then
-        assertThat(result).isEqualTo(true);
+        assertThat(result).isTrue();
+        assertThat(repository.drainViews()).isEqualTo(Map.of(30L, 2L));
     }
 
     @Test
-    @DisplayName("유저가 이미 조회한 적 있는지? - 있지만 만료된 경우")
-    void isAlreadyContainsExpired() {
+    @DisplayName("가져간 조회수는 삭제되고, 되돌리면 다시 쌓인다.")
+    void drainAndRestore() {
         // given
-        String userIdentifier = "User";
         Instant now = Instant.now();
-        Duration expiresAfter = Duration.of(100, ChronoUnit.MINUTES);
+        repository.addViewer(40L, "User1", WINDOW, now);
+        repository.addViewer(40L, "User2", WINDOW, now);
+        repository.addViewer(41L, "User1", WINDOW, now);
 
         // when
-        repository.put(10L, userIdentifier, expiresAfter, now);
-        boolean result = repository.isAlreadyContains(10L, userIdentifier, now.plus(expiresAfter).plusSeconds(60));
+        Map<Long, Long> views = repository.drainViews();
+        Map<Long, Long> afterDrain = repository.drainViews();
+        repository.restoreViews(views);
+        repository.addViewer(41L, "User2", WINDOW, now);
 
         // then
-        assertThat(result).isEqualTo(false);
+        assertThat(views).isEqualTo(Map.of(40L, 2L, 41L, 1L));
+        assertThat(afterDrain).isEmpty();
+        assertThat(repository.drainViews()).isEqualTo(Map.of(40L, 2L, 41L, 2L));
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.dku.council.domain.post.repository.post;
 
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
 import com.dku.council.domain.post.repository.post.GeneralForumRepository;
 import com.dku.council.domain.post.repository.post.PetitionRepository;
 import com.dku.council.domain.post.repository.post.PostRepository;
@@ -17,11 +18,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,6 +49,7 @@ class PostRepositoryTest {
     private PostRepository repository;
 
     private User user1, user2;
+    private List<Long> forumIds;
 
     @BeforeEach
     public void setup() {
@@ -58,7 +64,9 @@ class PostRepositoryTest {
 
         LocalDateTime baseTime = LocalDateTime.of(2022, 2, 2, 2, 2);
         petitionRepository.saveAll(newPosts(user -> PetitionMock.create(user, baseTime)));
-        generalForumRepository.saveAll(newPosts(GeneralForumMock::create));
+        forumIds = generalForumRepository.saveAll(newPosts(GeneralForumMock::create)).stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
     }
 
     private <T extends Post> List<T> newPosts(Function<User, T> postFactory) {
@@ -89,4 +97,23 @@ class PostRepositoryTest {
         // then
         assertThat(counts).isEqualTo(10L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("좋아요 수 컬럼으로 정렬할 수 있는지")
+    void sortByLikes() {
+        // given
+        repository.updateLikeCount(forumIds.get(3), 10);
+        repository.updateLikeCount(forumIds.get(7), 30);
+        repository.updateLikeCount(forumIds.get(1), 20);
+
+        // when
+        Page<GeneralForum> page = generalForumRepository.findAll(
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "likes")));
+
+        // then
+        List<Long> ids = page.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        assertThat(ids).containsExactly(forumIds.get(7), forumIds.get(1), forumIds.get(3));
+    }
+}
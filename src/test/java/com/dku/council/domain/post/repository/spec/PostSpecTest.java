@@ -1,5 +1,6 @@
 package com.dku.council.domain.post.repository.spec;
 
+import com.dku.council.domain.post.model.PostCursor;
 import com.dku.council.domain.post.model.entity.posttype.News;
 import com.dku.council.domain.post.repository.post.NewsRepository;
 import com.dku.council.domain.post.repository.spec.PostSpec;
@@ -19,9 +20,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -91,6 +96,18 @@ class PostSpecTest {
         assertThat(all.size()).isEqualTo(5);
     }
 
+    @Test
+    void findByAllWords() {
+        // given
+        Specification<News> spec = PostSpec.withAllWords("ews-1  3");
+
+        // when
+        List<News> all = postRepository.findAll(spec);
+
+        // then
+        assertThat(all).extracting(News::getTitle).containsExactly("news-1-3");
+    }
+
     @Test
     void findBySingleTags() {
         // given
@@ -126,4 +143,31 @@ class PostSpecTest {
         // then
         assertThat(all.size()).isEqualTo(11);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByCursor() {
+        // given
+        Specification<News> spec = PostSpec.withAuthor(user1.getId());
+        List<News> expected = postRepository.findAll(spec, Sort.by(
+                Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        // when
+        List<News> all = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        PostCursor cursor = null;
+        Slice<News> slice;
+        do {
+            slice = postRepository.findAllByCursor(News.class, spec, cursor, 5);
+            all.addAll(slice.getContent());
+            sizes.add(slice.getNumberOfElements());
+            if (slice.hasContent()) {
+                cursor = PostCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1));
+            }
+        } while (slice.hasNext());
+
+        // then
+        assertThat(sizes).containsExactly(5, 5, 1);
+        assertThat(all).extracting(News::getId)
+                .containsExactlyElementsOf(expected.stream().map(News::getId).collect(Collectors.toList()));
+    }
+}
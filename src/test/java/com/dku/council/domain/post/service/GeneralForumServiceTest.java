@@ -9,6 +9,7 @@ import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
 import com.dku.council.domain.post.repository.post.GeneralForumRepository;
 import com.dku.council.domain.post.service.post.GeneralForumService;
 import com.dku.council.domain.post.service.post.GenericPostService;
+import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import com.dku.council.mock.GeneralForumMock;
 import com.dku.council.util.ClockUtil;
 import org.junit.jupiter.api.Assertions;
@@ -45,12 +46,18 @@ class GeneralForumServiceTest {
     @Mock
     private GeneralForumRepository repository;
 
+    @Mock
+    private ObjectUploadContext uploadContext;
+
+    @Mock
+    private PostSearchService searchService;
+
     private GeneralForumService generalForumService;
 
     @BeforeEach
     public void setup() {
         generalForumService = new GeneralForumService(postService, postTimeMemoryRepository, repository,
-                clock, writeCooltime);
+                searchService, clock, writeCooltime);
     }
 
     @Test
@@ -118,6 +125,11 @@ class GeneralForumServiceTest {
         Page<GeneralForum> allPost = new DummyPage<>(allPostList, 20);
 
         when(repository.findAllByUserId(eq(1L), any())).thenReturn(allPost);
+        when(postService.makeListDtos(allPost, 100)).thenAnswer(inv -> {
+            Page<GeneralForum> page = inv.getArgument(0);
+            return page.map(post -> new SummarizedGenericPostDto(uploadContext, 100, 0, post,
+                    List.of(), List.of()));
+        });
 
         // when
         Page<SummarizedGenericPostDto> allPage = generalForumService.listMyPosts(1L, Pageable.unpaged(), 100);
@@ -2,41 +2,60 @@ package com.dku.council.domain.post.service;
 
 import com.dku.council.domain.like.service.impl.CachedLikeServiceImpl;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.CachedPostDetail;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.PostCursor;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreateNewsDto;
+import com.dku.council.domain.post.model.dto.response.ResponseCursorPage;
 import com.dku.council.domain.post.model.dto.response.ResponseSingleGenericPostDto;
+import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
 import com.dku.council.domain.post.repository.post.GenericPostRepository;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
 import com.dku.council.domain.post.service.post.GenericPostService;
 import com.dku.council.domain.tag.service.TagService;
 import com.dku.council.domain.user.model.entity.User;
 import com.dku.council.domain.user.repository.UserRepository;
 import com.dku.council.global.auth.role.UserRole;
+import com.dku.council.global.error.exception.BadRequestException;
 import com.dku.council.global.error.exception.NotGrantedException;
+import com.dku.council.global.error.exception.OutOfRangeException;
 import com.dku.council.global.error.exception.UserNotFoundException;
-import com.dku.council.infra.nhn.service.FileUploadService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import com.dku.council.mock.MultipartFileMock;
 import com.dku.council.mock.NewsMock;
+import com.dku.council.mock.PetitionMock;
 import com.dku.council.mock.UserMock;
+import com.dku.council.util.EntityUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.dku.council.domain.like.model.LikeTarget.POST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,19 +75,25 @@ class GenericPostServiceTest {
     private ViewCountService viewCountService;
 
     @Mock
-    private FileUploadService fileUploadService;
+    private ObjectUploadContext uploadContext;
 
     @Mock
-    private FileUploadService.Context fileUploadContext;
+    private PostAttachmentService attachmentService;
 
     @Mock
-    private ObjectUploadContext uploadContext;
+    private CachedLikeServiceImpl postLikeService;
 
     @Mock
-    private ThumbnailService thumbnailService;
+    private PostSearchService searchService;
 
     @Mock
-    private CachedLikeServiceImpl postLikeService;
+    private PostFileRepository fileRepository;
+
+    @Mock
+    private PostDetailCacheService detailCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private GenericPostService<News> newsService;
@@ -82,7 +107,12 @@ class GenericPostServiceTest {
         Page<News> allNews = new DummyPage<>(allNewsList, 20);
 
         when(newsRepository.findAll((Specification<News>) any(), (Pageable) any())).thenReturn(allNews);
-        when(postLikeService.getCountOfLikes(any(), eq(POST))).thenReturn(15);
+        when(postLikeService.getCountsOfLikes(any(), eq(POST))).thenAnswer(inv -> {
+            Map<Long, Integer> likes = new HashMap<>();
+            Collection<Long> ids = inv.getArgument(0);
+            ids.forEach(id -> likes.put(id, 15));
+            return likes;
+        });
 
         // when
         Page<SummarizedGenericPostDto> allPage = newsService.list(newsRepository, null, Pageable.unpaged(),
@@ -101,6 +131,59 @@ class GenericPostServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("커서 방식 list가 잘 동작하는지?")
+    public void listByCursor() {
+        // given
+        List<News> newsList = NewsMock.createListDummy("cursor-", 3);
+        for (int i = 0; i < newsList.size(); i++) {
+            EntityUtil.injectId(Post.class, newsList.get(i), 30L - i);
+        }
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2023, 1, 1, 0, 0), 40L);
+
+        when(newsRepository.findAllByCursor(eq(News.class), any(), eq(cursor), eq(3)))
+                .thenReturn(new SliceImpl<>(newsList, PageRequest.of(0, 3), true));
+        when(postLikeService.getCountsOfLikes(any(), eq(POST))).thenReturn(Map.of(30L, 5));
+
+        // when
+        ResponseCursorPage<SummarizedGenericPostDto> page = newsService.listByCursor(newsRepository, News.class,
+                null, cursor.encode(), 3, 500);
+
+        // then
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getContent()).extracting(SummarizedGenericPostDto::getId)
+                .containsExactly(30L, 29L, 28L);
+        assertThat(page.getContent()).extracting(SummarizedGenericPostDto::getLikes)
+                .containsExactly(5, 0, 0);
+        assertThat(PostCursor.decode(page.getNextCursor())).isEqualTo(PostCursor.of(newsList.get(2)));
+    }
+
+    @Test
+    @DisplayName("커서 방식 list - 마지막 페이지라면 다음 커서가 없다.")
+    public void listByCursorLastPage() {
+        // given
+        when(newsRepository.findAllByCursor(eq(News.class), any(), isNull(), eq(20)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        // when
+        ResponseCursorPage<SummarizedGenericPostDto> page = newsService.listByCursor(newsRepository, News.class,
+                null, null, 20, 500);
+
+        // then
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 방식 list - 잘못된 커서나 크기는 오류")
+    public void failedListByCursor() {
+        // when & then
+        assertThrows(BadRequestException.class, () ->
+                newsService.listByCursor(newsRepository, News.class, null, "invalid-cursor", 20, 500));
+        assertThrows(OutOfRangeException.class, () ->
+                newsService.listByCursor(newsRepository, News.class, null, null, 0, 500));
+    }
+
     @Test
     @DisplayName("새롭게 잘 생성되는지?")
     public void create() {
@@ -113,7 +196,6 @@ class GenericPostServiceTest {
 
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
         when(newsRepository.save(any())).thenReturn(news);
-        when(fileUploadService.newContext()).thenReturn(fileUploadContext);
 
         // when
         Long newsId = newsService.create(newsRepository, 2L, dto);
@@ -121,18 +203,14 @@ class GenericPostServiceTest {
         // then
         assertThat(newsId).isEqualTo(3L);
 
-        verify(fileUploadContext).uploadFiles(argThat(fileList -> {
-            assertThat(fileList).hasSize(files.size());
-            for (int i = 0; i < files.size(); i++) {
-                assertThat(fileList.get(i).getOriginalFilename()).isEqualTo(files.get(i).getOriginalFilename());
-            }
-            return true;
-        }), any());
+        verify(attachmentService).stage(any(), eq(files));
 
         verify(newsRepository).save(argThat(entity -> {
             assertThat(entity.getUser()).isEqualTo(user);
             return true;
         }));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                ((PostChangedEvent) event).getType() == News.class));
     }
 
     @Test
@@ -146,7 +224,6 @@ class GenericPostServiceTest {
         RequestCreateNewsDto dto = new RequestCreateNewsDto("title", "body", tagIds, List.of());
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
         when(newsRepository.save(any())).thenReturn(news);
-        when(fileUploadService.newContext()).thenReturn(fileUploadContext);
 
         // when
         Long newsId = newsService.create(newsRepository, 2L, dto);
@@ -181,32 +258,71 @@ class GenericPostServiceTest {
         News news = NewsMock.createDummy(4L);
         when(newsRepository.findById(any())).thenReturn(Optional.of(news));
         when(postLikeService.isLiked(any(), any(), eq(POST))).thenReturn(false);
+        mockDetailCacheMiss();
 
         // when
-        ResponseSingleGenericPostDto dto = newsService.findOne(newsRepository, 4L,
+        ResponseSingleGenericPostDto dto = newsService.findOne(newsRepository, News.class, 4L,
                 news.getUser().getId(), news.getUser().getUserRole(), "Addr");
 
         // then
-        verify(viewCountService).increasePostViews(argThat(post -> {
-            assertThat(post.getId()).isEqualTo(news.getId());
-            return true;
-        }), eq("Addr"));
+        verify(viewCountService).increasePostViews(News.class, 4L, "Addr");
 
         assertThat(dto.getId()).isEqualTo(4L);
         assertThat(dto.isLiked()).isEqualTo(false);
         assertThat(dto.isMine()).isEqualTo(true);
     }
 
+    @Test
+    @DisplayName("캐시된 게시글은 DB에서 다시 가져오지 않고, 사용자별 정보만 계산한다.")
+    public void findOneCached() {
+        // given
+        News news = NewsMock.createDummy(4L);
+        CachedPostDetail detail = new CachedPostDetail(uploadContext, news);
+        when(detailCache.get(eq(4L), any())).thenReturn(detail);
+        when(postLikeService.getCountOfLikes(4L, POST)).thenReturn(7);
+        when(postLikeService.isLiked(4L, 100L, POST)).thenReturn(true);
+
+        // when
+        ResponseSingleGenericPostDto dto = newsService.findOne(newsRepository, News.class, 4L,
+                100L, UserRole.USER, "Addr");
+
+        // then
+        verify(newsRepository, never()).findById(any());
+        assertThat(dto.getTitle()).isEqualTo(news.getTitle());
+        assertThat(dto.getLikes()).isEqualTo(7);
+        assertThat(dto.isLiked()).isEqualTo(true);
+        assertThat(dto.isMine()).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("다른 게시판의 게시글 단건 조회시 오류")
+    public void failedFindOneByOtherBoard() {
+        // given
+        Petition petition = PetitionMock.createWithDummy();
+        when(detailCache.get(any(), any())).thenReturn(new CachedPostDetail(uploadContext, petition));
+
+        // when & then
+        assertThrows(PostNotFoundException.class, () ->
+                newsService.findOne(newsRepository, News.class, petition.getId(), 4L, UserRole.USER, "Addr"));
+    }
 
     @Test
     @DisplayName("없는 게시글 단건 조회시 오류")
     public void failedFindOneByNotFound() {
         // given
         when(newsRepository.findById(any())).thenReturn(Optional.empty());
+        mockDetailCacheMiss();
 
         // when & then
         assertThrows(PostNotFoundException.class, () ->
-                newsService.findOne(newsRepository, 0L, 4L, UserRole.USER, "Addr"));
+                newsService.findOne(newsRepository, News.class, 0L, 4L, UserRole.USER, "Addr"));
+    }
+
+    private void mockDetailCacheMiss() {
+        when(detailCache.get(any(), any())).thenAnswer(inv -> {
+            Supplier<CachedPostDetail> loader = inv.getArgument(1);
+            return loader.get();
+        });
     }
 
     @Test
@@ -0,0 +1,139 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.ImageDerivatives;
+import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadedFile;
+import com.dku.council.infra.nhn.service.FileUploadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+
+    @Mock
+    private FileUploadService.Context uploadContext;
+
+    private ImageDerivativeService service;
+
+    private final Map<String, BufferedImage> uploadedImages = new HashMap<>();
+
+
+    @BeforeEach
+    public void setup() {
+        service = new ImageDerivativeService(100, 400, 0.8f, 1, 10, DataSize.ofMegabytes(8));
+    }
+
+    @Test
+    @DisplayName("썸네일과 미리보기를 JPEG로 만들어 업로드한다.")
+    void create() throws IOException {
+        // given
+        mockUpload();
+        UploadedFile file = uploadedImage(3000, 2000, BufferedImage.TYPE_INT_ARGB);
+
+        // when
+        ImageDerivatives derivatives = service.create(uploadContext, file);
+
+        // then
+        assertThat(derivatives.getThumbnailId()).isEqualTo("thumb-id");
+        assertThat(derivatives.getPreviewId()).isEqualTo("preview-id");
+
+        BufferedImage thumbnail = uploadedImages.get("thumb");
+        assertThat(thumbnail.getWidth()).isEqualTo(100);
+        assertThat(thumbnail.getHeight()).isBetween(66, 67);
+
+        BufferedImage preview = uploadedImages.get("preview");
+        assertThat(preview.getWidth()).isEqualTo(400);
+        assertThat(preview.getHeight()).isBetween(266, 267);
+    }
+
+    @Test
+    @DisplayName("원본보다 크게 만들지 않는다.")
+    void notUpscale() throws IOException {
+        // given
+        mockUpload();
+        UploadedFile file = uploadedImage(200, 50, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        service.create(uploadContext, file);
+
+        // then
+        assertThat(uploadedImages.get("thumb").getWidth()).isEqualTo(100);
+        assertThat(uploadedImages.get("preview").getWidth()).isEqualTo(200);
+        assertThat(uploadedImages.get("preview").getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 만들지 않는다.")
+    void notImage() {
+        // given
+        FileRequest request = new FileRequest("file.txt", MediaType.TEXT_PLAIN, InputStream::nullInputStream);
+        UploadedFile file = new UploadedFile("fileId", request);
+
+        // when
+        ImageDerivatives derivatives = service.create(uploadContext, file);
+
+        // then
+        assertThat(derivatives.getThumbnailId()).isNull();
+        assertThat(derivatives.getPreviewId()).isNull();
+        verify(uploadContext, never()).uploadFile(any(), any());
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 이미지면 만들지 않는다.")
+    void invalidImage() {
+        // given
+        FileRequest request = new FileRequest("file.png", MediaType.IMAGE_PNG, InputStream::nullInputStream);
+        UploadedFile file = new UploadedFile("fileId", request);
+
+        // when
+        ImageDerivatives derivatives = service.create(uploadContext, file);
+
+        // then
+        assertThat(derivatives).isSameAs(ImageDerivatives.NONE);
+        verify(uploadContext, never()).uploadFile(any(), any());
+    }
+
+    private void mockUpload() {
+        when(uploadContext.uploadFile(any(), any())).thenAnswer(invocation -> {
+            FileRequest request = invocation.getArgument(0);
+            String prefix = invocation.getArgument(1);
+            assertThat(request.getContentType()).isEqualTo(MediaType.IMAGE_JPEG);
+            try (InputStream in = request.getInputStream()) {
+                uploadedImages.put(prefix, ImageIO.read(in));
+            }
+            return new UploadedFile(prefix + "-id", request);
+        });
+    }
+
+    private static UploadedFile uploadedImage(int width, int height, int type) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        byte[] bytes = out.toByteArray();
+
+        FileRequest request = new FileRequest("image.png", MediaType.IMAGE_PNG,
+                () -> new ByteArrayInputStream(bytes));
+        return new UploadedFile("fileId", request);
+    }
+}
@@ -2,6 +2,7 @@ package com.dku.council.domain.post.service;
 
 import com.dku.council.domain.post.exception.PostCooltimeException;
 import com.dku.council.domain.post.exception.PostNotFoundException;
+import com.dku.council.domain.post.model.CachedPostDetail;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.dto.list.SummarizedPetitionDto;
 import com.dku.council.domain.post.model.dto.request.RequestCreatePetitionDto;
@@ -11,6 +12,7 @@ import com.dku.council.domain.post.model.entity.posttype.Petition;
 import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
 import com.dku.council.domain.post.repository.post.PetitionRepository;
 import com.dku.council.domain.post.service.post.GenericPostService;
+import com.dku.council.domain.post.service.post.GenericPostService.PostDetailMapper;
 import com.dku.council.domain.post.service.post.GenericPostService.PostResultMapper;
 import com.dku.council.domain.post.service.post.PetitionService;
 import com.dku.council.domain.statistic.model.dto.PetitionStatisticDto;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -61,14 +64,26 @@ public class PetitionServiceTest {
     @Mock
     private PetitionRepository repository;
 
+    @Mock
+    private PostSearchService searchService;
+
+    @Mock
+    private PostListCacheService listCache;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PetitionService petitionService;
 
 
     @BeforeEach
     public void setup() {
         petitionService = new PetitionService(postService, petitionStatisticService,
-                postTimeMemoryRepository, repository, clock, 150,
-                Duration.ofDays(30), writeCooltime);
+                postTimeMemoryRepository, repository, searchService, listCache, trendingService, eventPublisher,
+                clock, 150, Duration.ofDays(30), writeCooltime);
     }
 
     @Test
@@ -81,7 +96,8 @@ public class PetitionServiceTest {
 
         // when
         Page<SummarizedPetitionDto> allPage = allPost.map((ent) -> {
-            SummarizedGenericPostDto dto = new SummarizedGenericPostDto(uploadContext, 100, 15, ent);
+            SummarizedGenericPostDto dto = new SummarizedGenericPostDto(uploadContext, 100, 15, ent,
+                    List.of(), List.of());
             return new SummarizedPetitionDto(dto, ent, expiresTime, 10);
         });
 
@@ -110,14 +126,13 @@ public class PetitionServiceTest {
 
         when(petitionStatisticService.findTop4Department(petition.getId())).thenReturn(top4);
         when(petitionStatisticService.count(petition.getId())).thenReturn(list.size());
-        when(postService.findOne(eq(repository), eq(petition.getId()), eq(0L), eq(UserRole.USER),
-                eq("Addr"), any()))
+        when(postService.findOne(eq(repository), eq(Petition.class), eq(petition.getId()), eq(0L),
+                eq(UserRole.USER), eq("Addr"), any()))
                 .thenAnswer(ino -> {
-                    ResponseSingleGenericPostDto dto =
-                            new ResponseSingleGenericPostDto(uploadContext, 0, false, true, petition);
-                    PostResultMapper<ResponsePetitionDto, ResponseSingleGenericPostDto, Petition> mapper =
-                            ino.getArgument(5);
-                    return mapper.map(dto, petition);
+                    CachedPostDetail detail = new CachedPostDetail(uploadContext, petition);
+                    ResponseSingleGenericPostDto dto = new ResponseSingleGenericPostDto(detail, 0, false, true);
+                    PostDetailMapper<ResponsePetitionDto> mapper = ino.getArgument(6);
+                    return mapper.map(dto, detail);
                 });
 
         // when
@@ -202,9 +217,13 @@ public class PetitionServiceTest {
         List<Petition> allPostList = PetitionMock.createListDummy("petition-", 20);
         Page<Petition> allPost = new DummyPage<>(allPostList, 20);
 
-        when(postService.makeListDto(eq(100), any(Petition.class))).thenAnswer(ino -> {
-            Petition petition = ino.getArgument(1);
-            return new SummarizedGenericPostDto(uploadContext, 100, 0, petition);
+        when(postService.makeListDtos(any(), eq(100), any())).thenAnswer(ino -> {
+            Page<Petition> page = ino.getArgument(0);
+            PostResultMapper<SummarizedPetitionDto, SummarizedGenericPostDto, Petition> mapper =
+                    ino.getArgument(2);
+            return page.map(petition ->
+                    mapper.map(new SummarizedGenericPostDto(uploadContext, 100, 0, petition,
+                            List.of(), List.of()), petition));
         });
         when(repository.findAllByUserId(eq(1L), any())).thenReturn(allPost);
 
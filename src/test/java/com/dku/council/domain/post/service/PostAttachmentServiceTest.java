@@ -0,0 +1,240 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.ImageDerivatives;
+import com.dku.council.domain.post.model.PostFileStatus;
+import com.dku.council.domain.post.model.PostFilesStagedEvent;
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
+import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadResult;
+import com.dku.council.infra.nhn.model.UploadedFile;
+import com.dku.council.infra.nhn.service.FileUploadService;
+import com.dku.council.mock.MultipartFileMock;
+import com.dku.council.mock.NewsMock;
+import com.dku.council.util.EntityUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostAttachmentServiceTest {
+
+    private static final String NODE_NAME = "node-1";
+
+    @Mock
+    private PostFileRepository fileRepository;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private FileUploadService.Context uploadContext;
+
+    @Mock
+    private ImageDerivativeService derivativeService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path stagingDir;
+
+    private PostAttachmentService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new PostAttachmentService(fileRepository, fileUploadService, derivativeService,
+                eventPublisher, transactionManager, stagingDir.toString(), NODE_NAME, 1, 10, 2);
+    }
+
+    @Test
+    @DisplayName("첨부파일을 임시 저장하고 업로드 대기 상태로 첨부한다.")
+    void stage() {
+        // given
+        News news = NewsMock.createDummy();
+
+        // when
+        service.stage(news, MultipartFileMock.createList(2));
+
+        // then
+        assertThat(news.getFiles()).hasSize(2);
+        for (PostFile file : news.getFiles()) {
+            assertThat(file.getStatus()).isEqualTo(PostFileStatus.PENDING);
+            assertThat(file.isReady()).isFalse();
+            assertThat(Path.of(file.getStagedPath())).exists().hasParent(stagingDir);
+            assertThat(file.getOwnerNode()).isEqualTo(NODE_NAME);
+        }
+        verify(eventPublisher).publishEvent(any(PostFilesStagedEvent.class));
+    }
+
+    @Test
+    @DisplayName("업로드가 끝나면 READY 상태로 바꾸고 임시 파일을 지운다.")
+    void upload() throws IOException {
+        // given
+        PostFile file = stagedFile();
+        when(fileRepository.findWithPostById(1L)).thenReturn(Optional.of(file));
+        when(fileUploadService.newContext()).thenReturn(uploadContext);
+        when(uploadContext.uploadFiles(any(), eq("News"))).thenAnswer(invocation -> {
+            List<FileRequest> requests = invocation.getArgument(0);
+            return new UploadResult(List.of(new UploadedFile("fileId", requests.get(0))), List.of());
+        });
+        when(derivativeService.create(eq(uploadContext), any()))
+                .thenReturn(new ImageDerivatives("thumbnailId", "previewId"));
+        Path staged = Path.of(file.getStagedPath());
+
+        // when
+        service.upload(1L);
+
+        // then
+        assertThat(file.getStatus()).isEqualTo(PostFileStatus.READY);
+        assertThat(file.getFileId()).isEqualTo("fileId");
+        assertThat(file.getThumbnailId()).isEqualTo("thumbnailId");
+        assertThat(file.getPreviewId()).isEqualTo("previewId");
+        assertThat(staged).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("게시글의 파일들을 한 번에 업로드하고, 실패한 파일만 실패 횟수를 올린다.")
+    void uploadPartiallyFailed() throws IOException {
+        // given
+        PostFile succeeded = stagedFile(1L);
+        PostFile failed = stagedFile(2L);
+        when(fileRepository.findWithPostById(1L)).thenReturn(Optional.of(succeeded));
+        when(fileRepository.findWithPostById(2L)).thenReturn(Optional.of(failed));
+        when(fileRepository.findById(2L)).thenReturn(Optional.of(failed));
+        when(fileUploadService.newContext()).thenReturn(uploadContext);
+        when(uploadContext.uploadFiles(any(), eq("News"))).thenAnswer(invocation -> {
+            List<FileRequest> requests = invocation.getArgument(0);
+            return new UploadResult(List.of(new UploadedFile("fileId", requests.get(0))),
+                    List.of(new UploadResult.Failure(requests.get(1), new IllegalStateException())));
+        });
+        when(derivativeService.create(eq(uploadContext), any())).thenReturn(ImageDerivatives.NONE);
+        Path failedStaged = Path.of(failed.getStagedPath());
+
+        // when
+        service.upload(List.of(1L, 2L));
+
+        // then
+        verify(fileUploadService).newContext();
+        assertThat(succeeded.getStatus()).isEqualTo(PostFileStatus.READY);
+        assertThat(failed.getStatus()).isEqualTo(PostFileStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failedStaged).exists();
+    }
+
+    @Test
+    @DisplayName("업로드에 계속 실패하면 FAILED 상태로 바꾸고 임시 파일을 지운다.")
+    void uploadFailed() throws IOException {
+        // given
+        PostFile file = stagedFile();
+        when(fileRepository.findWithPostById(1L)).thenReturn(Optional.of(file));
+        when(fileRepository.findById(1L)).thenReturn(Optional.of(file));
+        when(fileUploadService.newContext()).thenThrow(new IllegalStateException());
+        Path staged = Path.of(file.getStagedPath());
+
+        // when
+        service.upload(1L);
+        PostFileStatus afterFirst = file.getStatus();
+        boolean stagedAfterFirst = Files.exists(staged);
+        service.upload(1L);
+
+        // then
+        assertThat(afterFirst).isEqualTo(PostFileStatus.PENDING);
+        assertThat(stagedAfterFirst).isTrue();
+        assertThat(file.getStatus()).isEqualTo(PostFileStatus.FAILED);
+        assertThat(file.getAttempts()).isEqualTo(2);
+        assertThat(staged).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("게시글이 저장되지 않으면 임시 파일을 지운다.")
+    void deleteStagedOnRollback() throws IOException {
+        // given
+        PostFile file = stagedFile();
+        Path staged = Path.of(file.getStagedPath());
+
+        // when
+        service.onRollback(new PostFilesStagedEvent(List.of(file)));
+
+        // then
+        assertThat(staged).doesNotExist();
+        verify(fileRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("이 서버에 임시 저장된 파일만 다시 업로드한다.")
+    void retryPending() throws IOException {
+        // given
+        PostFile file = stagedFile();
+        when(fileRepository.findAllByStatusAndOwnerNode(PostFileStatus.PENDING, NODE_NAME))
+                .thenReturn(List.of(file));
+
+        // when
+        int submitted = service.retryPending();
+
+        // then
+        assertThat(submitted).isEqualTo(1);
+        assertThat(file.getStatus()).isEqualTo(PostFileStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("임시 파일이 사라졌다면 다시 시도하지 않고 FAILED 상태로 바꾼다.")
+    void retryPendingMissingStaged() throws IOException {
+        // given
+        PostFile file = stagedFile();
+        Files.delete(Path.of(file.getStagedPath()));
+        when(fileRepository.findAllByStatusAndOwnerNode(PostFileStatus.PENDING, NODE_NAME))
+                .thenReturn(List.of(file));
+        when(fileRepository.findById(1L)).thenReturn(Optional.of(file));
+
+        // when
+        int submitted = service.retryPending();
+
+        // then
+        assertThat(submitted).isZero();
+        assertThat(file.getStatus()).isEqualTo(PostFileStatus.FAILED);
+        assertThat(file.getStagedPath()).isNull();
+    }
+
+    private PostFile stagedFile() throws IOException {
+        return stagedFile(1L);
+    }
+
+    private PostFile stagedFile(Long id) throws IOException {
+        Path path = Files.createFile(stagingDir.resolve("staged-" + id));
+        PostFile file = PostFile.builder()
+                .fileName("image.png")
+                .mimeType("image/png")
+                .status(PostFileStatus.PENDING)
+                .stagedPath(path.toString())
+                .ownerNode(NODE_NAME)
+                .build();
+        file.changePost(NewsMock.createDummy());
+        EntityUtil.injectId(PostFile.class, file, id);
+        return file;
+    }
+}
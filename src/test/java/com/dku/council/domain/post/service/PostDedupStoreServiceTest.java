@@ -0,0 +1,93 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.repository.PostTimeMemoryRepository;
+import com.dku.council.domain.post.repository.ViewCountMemoryRepository;
+import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.global.model.CacheObject;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@FullIntegrationTest
+class PostDedupStoreServiceTest extends AbstractContainerRedisTest {
+
+    @Autowired
+    private PostDedupStoreService service;
+
+    @Autowired
+    private PostTimeMemoryRepository postTimeMemoryRepository;
+
+    @Autowired
+    private ViewCountMemoryRepository viewCountMemoryRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+
+    @Test
+    @DisplayName("예전 hash의 만료되지 않은 글 작성 기록만 옮기고 hash를 지운다.")
+    void migrateLegacyStores() throws Exception {
+        // given
+        Instant now = Instant.now();
+        putLegacy(POST_WRITE_KEY, RedisKeys.combine(POST_WRITE_KEY, "Petition", 1L), now.plusSeconds(600));
+        putLegacy(POST_WRITE_KEY, RedisKeys.combine(POST_WRITE_KEY, "Petition", 2L), now.minusSeconds(600));
+        putLegacy(POST_VIEW_COUNT_SET_KEY, RedisKeys.combine(10L, "User"), now.plusSeconds(600));
+
+        // when
+        long migrated = service.migrateLegacyStores();
+
+        // then
+        assertThat(migrated).isEqualTo(1);
+        assertThat(postTimeMemoryRepository.isAlreadyContains("Petition", 1L, now)).isTrue();
+        assertThat(postTimeMemoryRepository.isAlreadyContains("Petition", 2L, now)).isFalse();
+        assertThat(redisTemplate.hasKey(POST_WRITE_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(POST_VIEW_COUNT_SET_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("중복 방지 기록의 메모리 크기와 키 개수를 측정한다.")
+    void measure() {
+        // given
+        Instant now = Instant.now();
+        postTimeMemoryRepository.put("Petition", 1L, Duration.ofMinutes(10), now);
+        viewCountMemoryRepository.addViewer(10L, "User1", Duration.ofMinutes(10), now);
+        viewCountMemoryRepository.addViewer(11L, "User1", Duration.ofMinutes(10), now);
+
+        // when
+        service.measure();
+
+        // then
+        assertThat(gauge("post.dedup.keys", POST_WRITE_KEY)).isEqualTo(1);
+        assertThat(gauge("post.dedup.keys", POST_VIEWERS_KEY)).isEqualTo(2);
+        assertThat(gauge("post.dedup.memory", POST_WRITE_KEY)).isPositive();
+        assertThat(gauge("post.dedup.memory", POST_VIEWERS_KEY)).isPositive();
+    }
+
+    private void putLegacy(String key, String field, Instant expiresAt) throws Exception {
+        String value = objectMapper.writeValueAsString(new CacheObject<>(expiresAt, ""));
+        redisTemplate.opsForHash().put(key, field, value);
+    }
+
+    private double gauge(String name, String store) {
+        return meterRegistry.get(name).tag("store", store).gauge().value();
+    }
+}
@@ -0,0 +1,93 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.CachedPostDetail;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.model.entity.posttype.Petition;
+import com.dku.council.domain.post.repository.PostDetailMemoryRepository;
+import com.dku.council.infra.nhn.service.ObjectUploadContext;
+import com.dku.council.mock.NewsMock;
+import com.dku.council.util.ClockUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostDetailCacheServiceTest {
+
+    private final Clock clock = ClockUtil.create();
+    private final ObjectUploadContext uploadContext = new ObjectUploadContext("", "");
+
+    @Mock
+    private PostDetailMemoryRepository memoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostDetailCacheService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new PostDetailCacheService(memoryRepository, transactionManager, clock);
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면 게시글을 다시 가져오지 않는다.")
+    void cached() {
+        // given
+        Instant now = Instant.now(clock);
+        CachedPostDetail detail = new CachedPostDetail(uploadContext, NewsMock.createDummy(4L));
+        when(memoryRepository.get(4L, now)).thenReturn(Optional.of(detail));
+
+        // when
+        CachedPostDetail result = service.get(4L, () -> {
+            throw new AssertionError("loader should not be called");
+        });
+
+        // then
+        assertThat(result).isSameAs(detail);
+        verify(memoryRepository, never()).set(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 게시글을 가져와서 캐싱한다.")
+    void notCached() {
+        // given
+        Instant now = Instant.now(clock);
+        CachedPostDetail detail = new CachedPostDetail(uploadContext, NewsMock.createDummy(4L));
+        when(memoryRepository.get(4L, now)).thenReturn(Optional.empty());
+
+        // when
+        CachedPostDetail result = service.get(4L, () -> detail);
+
+        // then
+        assertThat(result).isSameAs(detail);
+        verify(memoryRepository).set(4L, detail, now);
+    }
+
+    @Test
+    @DisplayName("게시글이 바뀌면 해당 게시글의 캐시를 지운다.")
+    void onPostChanged() {
+        // when
+        service.onPostChanged(new PostChangedEvent(News.class, 4L));
+        service.onPostChanged(new PostChangedEvent(Petition.class));
+
+        // then
+        verify(memoryRepository).remove(eq(4L));
+        verifyNoMoreInteractions(memoryRepository);
+    }
+}
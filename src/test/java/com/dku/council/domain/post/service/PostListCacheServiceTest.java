@@ -0,0 +1,127 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.service.LikeService;
+import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.infra.nhn.service.ObjectUploadContext;
+import com.dku.council.mock.NewsMock;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@FullIntegrationTest
+class PostListCacheServiceTest extends AbstractContainerRedisTest {
+
+    private final ObjectUploadContext uploadContext = new ObjectUploadContext("", "");
+
+    @Autowired
+    private PostListCacheService listCache;
+
+    @MockBean
+    private LikeService likeService;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+
+    @BeforeEach
+    public void setup() {
+        listCache.invalidate(News.class);
+        loadCount.set(0);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 목록은 한 번만 조회한다.")
+    void cached() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        list("keyword", pageable);
+        Page<SummarizedGenericPostDto> page = list("keyword", pageable);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).extracting(SummarizedGenericPostDto::getId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("조건이 다르거나 뒤쪽 페이지면 캐시를 사용하지 않는다.")
+    void notCached() {
+        // when
+        list("keyword", PageRequest.of(0, 10));
+        list("other", PageRequest.of(0, 10));
+        list("keyword", PageRequest.of(100, 10));
+        list("keyword", PageRequest.of(100, 10));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("무효화하면 목록을 다시 조회한다.")
+    void invalidate() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        list("keyword", pageable);
+
+        // when
+        listCache.invalidate(News.class);
+        list("keyword", pageable);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시된 목록에는 최신 좋아요 수를 덮어쓴다.")
+    void overlayLikes() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        list("keyword", pageable);
+        when(likeService.getCountsOfLikes(any(), eq(LikeTarget.POST)))
+                .thenReturn(Map.of(1L, 5, 3L, 7));
+
+        // when
+        Page<SummarizedGenericPostDto> page = list("keyword", pageable);
+
+        // then
+        assertThat(page.getContent()).extracting(SummarizedGenericPostDto::getLikes)
+                .containsExactly(5, 0, 7);
+    }
+
+    private Page<SummarizedGenericPostDto> list(String keyword, Pageable pageable) {
+        return listCache.list(News.class, keyword, null, null, pageable, 100,
+                SummarizedGenericPostDto.class, () -> {
+                    loadCount.incrementAndGet();
+                    List<SummarizedGenericPostDto> content = List.of(dto(1L), dto(2L), dto(3L));
+                    return new PageImpl<>(content, pageable, 30);
+                });
+    }
+
+    private SummarizedGenericPostDto dto(Long id) {
+        News news = NewsMock.createDummy(id);
+        return new SummarizedGenericPostDto(uploadContext, 100, 1, news, List.of(), List.of());
+    }
+}
@@ -0,0 +1,138 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.entity.PostFile;
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.repository.post.NewsRepository;
+import com.dku.council.domain.post.service.post.NewsService;
+import com.dku.council.domain.tag.model.entity.Tag;
+import com.dku.council.domain.tag.repository.TagRepository;
+import com.dku.council.domain.tag.service.TagService;
+import com.dku.council.domain.user.model.entity.Major;
+import com.dku.council.domain.user.model.entity.User;
+import com.dku.council.domain.user.repository.MajorRepository;
+import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.mock.MajorMock;
+import com.dku.council.mock.NewsMock;
+import com.dku.council.mock.TagMock;
+import com.dku.council.mock.UserMock;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회가 페이지 크기와 상관없이 일정한 수의 쿼리로 끝나는지 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@FullIntegrationTest
+class PostListQueryCountTest extends AbstractContainerRedisTest {
+
+    private static final int POSTS = 50;
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MajorRepository majorRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private PostListCacheService listCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+
+    @BeforeEach
+    void setup() {
+        Major major = majorRepository.save(MajorMock.create());
+        User user = userRepository.save(UserMock.create(0L, major));
+        List<Long> tagIds = tagRepository.saveAll(TagMock.createList(2)).stream()
+                .map(Tag::getId)
+                .collect(Collectors.toList());
+
+        List<News> news = NewsMock.createList("news", user, POSTS);
+        for (News post : news) {
+            for (int i = 0; i < 2; i++) {
+                PostFile file = PostFile.builder()
+                        .fileId("file" + i)
+                        .fileName("file" + i + ".png")
+                        .mimeType("image/png")
+                        .build();
+                file.changePost(post);
+            }
+        }
+        newsRepository.saveAll(news);
+        news.forEach(post -> tagService.addTagsToPost(post, tagIds));
+
+        listCache.invalidate(News.class);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 달라도 목록 조회 쿼리 수는 같다.")
+    void fixedQueryCount() {
+        // when
+        long small = countQueries(PageRequest.of(0, 5));
+        long large = countQueries(PageRequest.of(1, 20));
+
+        // then
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("목록에 파일과 태그가 함께 담긴다.")
+    void listWithFilesAndTags() {
+        // when
+        Page<SummarizedGenericPostDto> page = newsService.list(null, null, PageRequest.of(0, 20), 50);
+
+        // then
+        assertThat(page.getContent()).hasSize(20)
+                .allMatch(dto -> dto.getFiles().size() == 2 && dto.getTag().size() == 2);
+    }
+
+    private long countQueries(Pageable pageable) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<SummarizedGenericPostDto> page = newsService.list(null, null, pageable, 50);
+        assertThat(page.getContent()).hasSize(pageable.getPageSize());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,120 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.post.model.entity.posttype.News;
+import com.dku.council.domain.post.repository.impl.PostNgramSearchIndex;
+import com.dku.council.domain.post.repository.post.NewsRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.post.repository.spec.PostSpec;
+import com.dku.council.domain.tag.model.entity.PostTag;
+import com.dku.council.domain.tag.model.entity.Tag;
+import com.dku.council.domain.tag.repository.PostTagRepository;
+import com.dku.council.domain.tag.repository.TagRepository;
+import com.dku.council.domain.user.model.entity.Major;
+import com.dku.council.domain.user.model.entity.User;
+import com.dku.council.domain.user.repository.MajorRepository;
+import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.mock.MajorMock;
+import com.dku.council.mock.NewsMock;
+import com.dku.council.mock.TagMock;
+import com.dku.council.mock.UserMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+class PostSearchServiceTest {
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MajorRepository majorRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Tag tag;
+
+    @BeforeEach
+    void setup() {
+        Major major = majorRepository.save(MajorMock.create());
+        User user = userRepository.save(UserMock.create(major));
+
+        newsRepository.saveAll(NewsMock.createList("news-1-", user, 5));
+
+        tag = tagRepository.save(TagMock.create());
+        for (News news : newsRepository.saveAll(NewsMock.createList("news-2-", user, 6))) {
+            PostTag relation = new PostTag(tag);
+            relation.changePost(news);
+            postTagRepository.save(relation);
+        }
+    }
+
+    @Test
+    @DisplayName("검색 결과가 최대 개수 이하라면 색인 결과로 다른 조건과 함께 조회한다.")
+    void withKeyword() {
+        // given
+        PostSearchService service = createService(100);
+
+        // when
+        Page<News> page = search(service, "news");
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("검색 결과가 최대 개수보다 많아도 다른 조건과 전체 개수가 잘리지 않는다.")
+    void withKeywordTooManyResults() {
+        // given
+        PostSearchService service = createService(3);
+
+        // when
+        Page<News> page = search(service, "news");
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent()).allMatch(news -> news.getTitle().startsWith("news-2-"));
+    }
+
+    private Page<News> search(PostSearchService service, String keyword) {
+        Specification<News> spec = service.withKeyword(keyword, News.class);
+        spec = spec.and(PostSpec.withTag(tag.getId()));
+        return newsRepository.findAll(spec, PageRequest.of(0, 2));
+    }
+
+    private PostSearchService createService(int maxResults) {
+        PostSearchService service = new PostSearchService(new PostNgramSearchIndex(), postRepository,
+                new TransactionTemplate(transactionManager), mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), maxResults, 500);
+        service.rebuild();
+        return service;
+    }
+}
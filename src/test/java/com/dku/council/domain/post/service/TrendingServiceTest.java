@@ -0,0 +1,155 @@
+package com.dku.council.domain.post.service;
+
+import com.dku.council.domain.like.model.LikeTarget;
+import com.dku.council.domain.like.service.LikeService;
+import com.dku.council.domain.post.model.PostChangedEvent;
+import com.dku.council.domain.post.model.TrendingEvent;
+import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
+import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
+import com.dku.council.domain.post.repository.TrendingMemoryRepository;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
+import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.tag.service.TagService;
+import com.dku.council.infra.nhn.service.ObjectUploadContext;
+import com.dku.council.mock.GeneralForumMock;
+import com.dku.council.mock.NewsMock;
+import com.dku.council.mock.UserMock;
+import com.dku.council.util.ClockUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.dku.council.domain.post.model.TrendingBoard.GENERAL_FORUM;
+import static com.dku.council.domain.post.model.TrendingBoard.NEWS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    private final Clock clock = ClockUtil.create();
+    private final Duration halfLife = Duration.ofHours(6);
+    private final ObjectUploadContext uploadContext = new ObjectUploadContext("", "");
+
+    @Mock
+    private TrendingMemoryRepository memoryRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostFileRepository fileRepository;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private TagService tagService;
+
+    private TrendingService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new TrendingService(memoryRepository, postRepository, fileRepository, likeService, tagService,
+                uploadContext,
+                clock, halfLife, 0.1, 1000);
+    }
+
+    @Test
+    @DisplayName("게시판에 맞게 이벤트가 기록되는지")
+    void record() {
+        // given
+        Post post = NewsMock.createDummy(3L);
+
+        // when
+        service.record(post, TrendingEvent.LIKE);
+
+        // then
+        verify(memoryRepository).increase(NEWS, 3L, TrendingEvent.LIKE.getWeight(), Instant.now(clock), halfLife);
+    }
+
+    @Test
+    @DisplayName("랭킹 순서대로 게시글을 가져오고, 없어진 게시글은 랭킹과 전체 개수에서 제외하는지")
+    void list() {
+        // given
+        List<Post> posts = List.of(
+                GeneralForumMock.create(UserMock.createDummyMajor(), 1L),
+                GeneralForumMock.create(UserMock.createDummyMajor(), 2L),
+                GeneralForumMock.create(UserMock.createDummyMajor(), 3L)
+        );
+        when(memoryRepository.getRanking(GENERAL_FORUM, 0, 4)).thenReturn(List.of(3L, 4L, 1L, 2L));
+        when(memoryRepository.count(GENERAL_FORUM)).thenReturn(10L);
+        when(postRepository.findAllActiveByIds(List.of(3L, 4L, 1L, 2L))).thenReturn(posts);
+        when(likeService.getCountsOfLikes(any(), eq(LikeTarget.POST))).thenReturn(Map.of(3L, 7));
+
+        // when
+        Page<SummarizedGenericPostDto> page = service.list(GENERAL_FORUM, PageRequest.of(0, 4), 50);
+
+        // then
+        List<Long> ids = page.stream()
+                .map(SummarizedGenericPostDto::getId)
+                .collect(Collectors.toList());
+        assertThat(ids).containsExactly(3L, 1L, 2L);
+        assertThat(page.getContent().get(0).getLikes()).isEqualTo(7);
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        verify(memoryRepository).remove(GENERAL_FORUM, List.of(4L));
+    }
+
+    @Test
+    @DisplayName("랭킹이 비어있으면 게시글을 조회하지 않는지")
+    void listEmpty() {
+        // given
+        when(memoryRepository.getRanking(GENERAL_FORUM, 0, 4)).thenReturn(List.of());
+
+        // when
+        Page<SummarizedGenericPostDto> page = service.list(GENERAL_FORUM, PageRequest.of(0, 4), 50);
+
+        // then
+        assertThat(page.getContent()).isEmpty();
+        verify(postRepository, never()).findAllActiveByIds(any());
+    }
+
+    @Test
+    @DisplayName("게시글이 삭제되거나 블라인드되면 랭킹에서 제거하는지")
+    void removeOnPostDeleted() {
+        // given
+        when(postRepository.findById(3L)).thenReturn(Optional.empty());
+
+        // when
+        service.onPostChanged(new PostChangedEvent(GeneralForum.class, 3L));
+
+        // then
+        verify(memoryRepository).remove(GENERAL_FORUM, List.of(3L));
+    }
+
+    @Test
+    @DisplayName("게시글이 아직 활성 상태이면 랭킹에 남겨두는지")
+    void keepOnPostStillActive() {
+        // given
+        Post post = GeneralForumMock.create(UserMock.createDummyMajor(), 3L);
+        when(postRepository.findById(3L)).thenReturn(Optional.of(post));
+
+        // when
+        service.onPostChanged(new PostChangedEvent(GeneralForum.class, 3L));
+
+        // then
+        verify(memoryRepository, never()).remove(any(), any());
+    }
+}
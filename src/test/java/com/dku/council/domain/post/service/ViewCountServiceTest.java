@@ -1,8 +1,9 @@
 package com.dku.council.domain.post.service;
 
+import com.dku.council.domain.post.model.TrendingEvent;
 import com.dku.council.domain.post.model.entity.Post;
 import com.dku.council.domain.post.repository.ViewCountMemoryRepository;
-import com.dku.council.domain.post.service.ViewCountService;
+import com.dku.council.domain.post.repository.post.PostRepository;
 import com.dku.council.util.ClockUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +11,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,38 +35,94 @@ class ViewCountServiceTest {
     @Mock
     private ViewCountMemoryRepository memoryRepository;
 
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @Mock
     private Post post;
 
 
     @BeforeEach
     public void setup() {
-        this.service = new ViewCountService(memoryRepository, clock, Duration.of(10, ChronoUnit.MINUTES));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        this.service = new ViewCountService(memoryRepository, postRepository, trendingService, transactionTemplate,
+                clock, Duration.of(10, ChronoUnit.MINUTES), 2);
     }
 
     @Test
     @DisplayName("조회수가 잘 올라가는지? - 최근에 조회한 적 없는 경우")
     void increasePostViewsNoCached() {
         // given
-        when(memoryRepository.isAlreadyContains(any(), any(), any())).thenReturn(false);
+        when(memoryRepository.addViewer(any(), any(), any(), any())).thenReturn(true);
 
         // when
         service.increasePostViews(post, "Address");
 
         // then
-        verify(post).increaseViewCount();
+        verify(trendingService).record(post, TrendingEvent.VIEW);
     }
 
     @Test
     @DisplayName("조회수가 잘 올라가는지? - 최근에 조회한 적 있는 경우")
     void increasePostViewsCached() {
         // given
-        when(memoryRepository.isAlreadyContains(any(), any(), any())).thenReturn(true);
+        when(memoryRepository.addViewer(any(), any(), any(), any())).thenReturn(false);
 
         // when
         service.increasePostViews(post, "Address");
 
         // then
-        verify(post, never()).increaseViewCount();
+        verify(trendingService, never()).record(any(Post.class), any());
+    }
+
+    @Test
+    @DisplayName("쌓인 조회수를 증가분이 같은 게시글끼리 묶어서 반영한다.")
+    void flushToDB() {
+        // given
+        when(memoryRepository.drainViews()).thenReturn(Map.of(1L, 1L, 2L, 1L, 3L, 1L, 4L, 5L));
+
+        // when
+        int flushed = service.flushToDB();
+
+        // then
+        assertThat(flushed).isEqualTo(4);
+        verify(postRepository, times(2)).increaseViews(argThat(ids -> ids.size() <= 2), eq(1));
+        verify(postRepository).increaseViews(List.of(4L), 5);
+        verify(memoryRepository, never()).restoreViews(any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 조회수 증가분을 되돌린다.")
+    void flushToDBFailed() {
+        // given
+        Map<Long, Long> views = Map.of(1L, 3L);
+        when(memoryRepository.drainViews()).thenReturn(views);
+        when(postRepository.increaseViews(any(), anyInt())).thenThrow(new IllegalStateException());
+
+        // when
+        // then
+        assertThatThrownBy(() -> service.flushToDB()).isInstanceOf(IllegalStateException.class);
+        verify(memoryRepository).restoreViews(views);
+    }
+
+    @Test
+    @DisplayName("쌓인 조회수가 없으면 DB를 갱신하지 않는다.")
+    void flushToDBEmpty() {
+        // given
+        when(memoryRepository.drainViews()).thenReturn(Map.of());
+
+        // when
+        int flushed = service.flushToDB();
+
+        // then
+        assertThat(flushed).isEqualTo(0);
+        verify(transactionManager, never()).getTransaction(any());
+        verify(postRepository, never()).increaseViews(any(), anyInt());
     }
-}
\ No newline at end of file
+}
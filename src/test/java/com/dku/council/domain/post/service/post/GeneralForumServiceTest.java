@@ -4,13 +4,14 @@ import com.dku.council.domain.like.service.impl.CachedLikeServiceImpl;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.entity.posttype.GeneralForum;
 import com.dku.council.domain.post.repository.post.GeneralForumRepository;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
 import com.dku.council.domain.post.service.DummyPage;
-import com.dku.council.domain.post.service.ThumbnailService;
+import com.dku.council.domain.post.service.PostAttachmentService;
+import com.dku.council.domain.post.service.PostSearchService;
 import com.dku.council.domain.post.service.ViewCountService;
 import com.dku.council.domain.post.service.post.GenericPostService;
 import com.dku.council.domain.tag.service.TagService;
 import com.dku.council.domain.user.repository.UserRepository;
-import com.dku.council.infra.nhn.service.FileUploadService;
 import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import com.dku.council.mock.GeneralForumMock;
 import org.junit.jupiter.api.DisplayName;
@@ -19,11 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.dku.council.domain.like.model.LikeTarget.POST;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,18 +48,24 @@ class GeneralForumServiceTest {
     @Mock
     private ViewCountService viewCountService;
 
-    @Mock
-    private FileUploadService fileUploadService;
-
     @Mock
     private ObjectUploadContext uploadContext;
 
     @Mock
-    private ThumbnailService thumbnailService;
+    private PostAttachmentService attachmentService;
 
     @Mock
     private CachedLikeServiceImpl postLikeService;
 
+    @Mock
+    private PostSearchService searchService;
+
+    @Mock
+    private PostFileRepository fileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private GeneralForumRepository generalForumRepository;
 
@@ -70,7 +81,12 @@ class GeneralForumServiceTest {
         Page<GeneralForum> allGeneralForum = new DummyPage<>(allForumList, 20);
 
         when(generalForumRepository.findAll((Specification<GeneralForum>) any(), (Pageable) any())).thenReturn(allGeneralForum);
-        when(postLikeService.getCountOfLikes(any(), eq(POST))).thenReturn(15);
+        when(postLikeService.getCountsOfLikes(any(), eq(POST))).thenAnswer(inv -> {
+            Map<Long, Integer> likes = new HashMap<>();
+            Collection<Long> ids = inv.getArgument(0);
+            ids.forEach(id -> likes.put(id, 15));
+            return likes;
+        });
 
         // when
         Page<SummarizedGenericPostDto> allPage = generalForumService.list(generalForumRepository, null,
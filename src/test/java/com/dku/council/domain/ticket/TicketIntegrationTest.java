@@ -133,6 +133,19 @@ public class TicketIntegrationTest extends AbstractContainerRedisTest {
         mvc.perform(get("/ticket/reservation/" + event.getId()))
                 .andExpect(status().isNotFound());
 
+        mvc.perform(post("/ticket")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(dto)))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(post("/ticket/queue/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.number").value(1))
+                .andExpect(jsonPath("$.admitted").value(true));
+
+        mvc.perform(post("/ticket/queue/" + event2.getId()))
+                .andExpect(status().isOk());
+
         mvc.perform(post("/ticket")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsBytes(dto)))
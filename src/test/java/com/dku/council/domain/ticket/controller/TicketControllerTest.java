@@ -1,11 +1,14 @@
 package com.dku.council.domain.ticket.controller;
 
 import com.dku.council.domain.ticket.controller.TicketController;
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
 import com.dku.council.domain.ticket.model.dto.TicketEventDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestEnrollDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestNewTicketEventDto;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
 import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
 import com.dku.council.domain.ticket.service.TicketEventService;
+import com.dku.council.domain.ticket.service.TicketQueueService;
 import com.dku.council.domain.ticket.service.TicketService;
 import com.dku.council.infra.naver.service.CaptchaService;
 import com.dku.council.mock.TicketEventMock;
@@ -44,6 +47,9 @@ class TicketControllerTest extends AbstractAuthControllerTest {
     @MockBean
     private TicketEventService ticketEventService;
 
+    @MockBean
+    private TicketQueueService ticketQueueService;
+
     @MockBean
     private CaptchaService captchaService;
 
@@ -124,6 +130,42 @@ class TicketControllerTest extends AbstractAuthControllerTest {
                 .andExpect(jsonPath("$.turn").value(5));
     }
 
+    @Test
+    @DisplayName("대기열 들어가기")
+    void joinQueue() throws Exception {
+        // given
+        ResponseTicketQueueDto dto = new ResponseTicketQueueDto(new TicketQueueStatus(120, 100), 1);
+
+        when(ticketQueueService.join(eq(USER_ID), eq(5L), any())).thenReturn(dto);
+
+        // when
+        ResultActions actions = mvc.perform(post("/ticket/queue/5").with(csrf()));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.number").value(120))
+                .andExpect(jsonPath("$.position").value(20))
+                .andExpect(jsonPath("$.admitted").value(false))
+                .andExpect(jsonPath("$.retryAfter").value(1));
+    }
+
+    @Test
+    @DisplayName("대기 상태 조회")
+    void queueStatus() throws Exception {
+        // given
+        ResponseTicketQueueDto dto = new ResponseTicketQueueDto(new TicketQueueStatus(120, 150), 0);
+
+        when(ticketQueueService.status(eq(USER_ID), eq(5L), any())).thenReturn(dto);
+
+        // when
+        ResultActions actions = mvc.perform(get("/ticket/queue/5"));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value(0))
+                .andExpect(jsonPath("$.admitted").value(true));
+    }
+
     @Test
     @DisplayName("Captcha 인증 요청")
     void captchaKey() throws Exception {
@@ -173,6 +215,7 @@ class TicketControllerTest extends AbstractAuthControllerTest {
         // then
         actions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.turn").value(5));
+        verify(ticketQueueService).checkAdmitted(eq(USER_ID), eq(5L), any());
         verify(captchaService).verifyCaptcha("KEY", "VALUE");
     }
 }
\ No newline at end of file
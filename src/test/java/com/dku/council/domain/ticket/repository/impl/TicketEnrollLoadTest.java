@@ -0,0 +1,133 @@
+package com.dku.council.domain.ticket.repository.impl;
+
+import com.dku.council.global.config.redis.RedisKeys;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * 티켓 오픈 순간처럼 많은 사용자가 동시에 티켓을 발급받을 때의 처리량을 측정한다.
+ * 이전 방식(Redisson lock + 명령 여러 번)과 스크립트 방식을 같은 조건에서 실행해 비교한다.
+ */
+@SpringBootTest
+@FullIntegrationTest
+class TicketEnrollLoadTest extends AbstractContainerRedisTest {
+
+    private static final Logger log = getLogger(TicketEnrollLoadTest.class);
+    private static final int VIRTUAL_USERS = 5000;
+    private static final int THREADS = 500;
+    private static final Duration EXPIRES = Duration.ofHours(1);
+
+    @Autowired
+    private TicketRedisRepository repository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+
+    @Test
+    @DisplayName("동시에 5000명이 티켓팅해도 순번이 겹치지 않는다. (lock 방식과 처리 시간 비교)")
+    void enrollLoad() throws Exception {
+        // when
+        LoadResult locked = run(1L, userId -> lockedEnroll(userId, 1L));
+        LoadResult scripted = run(2L, userId -> repository.enroll(userId, 2L, 0, EXPIRES));
+
+        // then
+        log.info("Ticket enroll {} users: lock={}ms, script={}ms",
+                VIRTUAL_USERS, locked.elapsedMillis, scripted.elapsedMillis);
+        assertThat(locked.turns).isEqualTo(expectedTurns());
+        assertThat(scripted.turns).isEqualTo(expectedTurns());
+    }
+
+    private LoadResult run(Long ticketEventId, EnrollAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= VIRTUAL_USERS; userId++) {
+            long id = userId;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return action.enroll(id);
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        Set<Integer> turns = ConcurrentHashMap.newKeySet();
+        for (Future<Integer> future : futures) {
+            turns.add(future.get());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return new LoadResult(turns, elapsedMillis);
+    }
+
+    /**
+     * 스크립트로 바꾸기 전의 발급 방식. 비교를 위해서만 사용한다.
+     */
+    private int lockedEnroll(Long userId, Long ticketEventId) throws InterruptedException {
+        String key = RedisKeys.combine(TICKET_KEY, ticketEventId);
+        RLock lock = redissonClient.getLock(key + ":lock");
+        if (!lock.tryLock(20, 3, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("It waited for 20 seconds, but can't acquire lock");
+        }
+
+        try {
+            String nextIdKey = RedisKeys.combine(TICKET_NEXT_KEY, ticketEventId);
+            Long turn = redisTemplate.opsForValue().increment(nextIdKey);
+            redisTemplate.expire(nextIdKey, EXPIRES);
+            redisTemplate.opsForHash().putIfAbsent(key, userId.toString(), String.valueOf(turn));
+            redisTemplate.opsForSet().add(TICKET_RESERVATION_SET_KEY, ticketEventId.toString());
+            return turn == null ? -1 : turn.intValue();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static Set<Integer> expectedTurns() {
+        return IntStream.rangeClosed(1, VIRTUAL_USERS)
+                .boxed()
+                .collect(Collectors.toSet());
+    }
+
+    private interface EnrollAction {
+        int enroll(Long userId) throws Exception;
+    }
+
+    private static class LoadResult {
+        private final Set<Integer> turns;
+        private final long elapsedMillis;
+
+        private LoadResult(Set<Integer> turns, long elapsedMillis) {
+            this.turns = turns;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+}
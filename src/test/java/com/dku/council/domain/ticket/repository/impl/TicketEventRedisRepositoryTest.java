@@ -67,4 +67,18 @@ class TicketEventRedisRepositoryTest extends AbstractContainerRedisTest {
         assertThat(found).isNull();
         assertThat(found2).isEqualTo(saved.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("목록 버전 증가")
+    void increaseVersion() {
+        // when
+        long prevVersion = repository.getVersion();
+        long increased = repository.increaseVersion();
+        long version = repository.getVersion();
+
+        // then
+        assertThat(prevVersion).isEqualTo(0);
+        assertThat(increased).isEqualTo(1);
+        assertThat(version).isEqualTo(1);
+    }
+}
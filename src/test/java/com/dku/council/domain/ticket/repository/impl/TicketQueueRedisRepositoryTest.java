@@ -0,0 +1,112 @@
+package com.dku.council.domain.ticket.repository.impl;
+
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@FullIntegrationTest
+class TicketQueueRedisRepositoryTest extends AbstractContainerRedisTest {
+
+    private static final Duration EXPIRES = Duration.ofHours(1);
+
+    @Autowired
+    private TicketQueueRedisRepository repository;
+
+    private final Instant now = Instant.ofEpochSecond(1_000_000_000);
+
+
+    @Test
+    @DisplayName("대기 번호는 순서대로 발급되고, 다시 들어와도 유지된다.")
+    void join() {
+        // when
+        long[] numbers = {
+                repository.join(1L, 1L, EXPIRES),
+                repository.join(2L, 1L, EXPIRES),
+                repository.join(1L, 1L, EXPIRES),
+                repository.join(3L, 2L, EXPIRES)
+        };
+
+        // then
+        assertThat(numbers).containsExactly(1, 2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("처음에는 burst만큼 입장하고, 이후에는 초당 입장 인원만큼 입장한다.")
+    void admit() {
+        // given
+        for (long userId = 1; userId <= 30; userId++) {
+            repository.join(userId, 1L, EXPIRES);
+        }
+
+        // when
+        TicketQueueStatus first = repository.admit(15L, 1L, 5, 10, now, now, EXPIRES);
+        TicketQueueStatus same = repository.admit(15L, 1L, 5, 10, now, now, EXPIRES);
+        TicketQueueStatus later = repository.admit(15L, 1L, 5, 10, now, now.plusSeconds(1), EXPIRES);
+
+        // then
+        assertThat(first.getAdmitted()).isEqualTo(10);
+        assertThat(first.getPosition()).isEqualTo(5);
+        assertThat(same.getAdmitted()).isEqualTo(10);
+        assertThat(later.getAdmitted()).isEqualTo(15);
+        assertThat(later.isAdmitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 중인 사용자가 없으면 토큰이 burst까지만 쌓인다.")
+    void admitLimitedByBurst() {
+        // given
+        repository.join(1L, 1L, EXPIRES);
+        repository.admit(1L, 1L, 5, 10, now, now, EXPIRES);
+        for (long userId = 2; userId <= 30; userId++) {
+            repository.join(userId, 1L, EXPIRES);
+        }
+
+        // when
+        TicketQueueStatus status = repository.admit(1L, 1L, 5, 10, now, now.plusSeconds(60), EXPIRES);
+
+        // then
+        assertThat(status.getAdmitted()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("대기열에 들어오지 않은 사용자는 입장할 수 없다.")
+    void admitNotJoined() {
+        // when
+        TicketQueueStatus status = repository.admit(1L, 1L, 5, 10, now, now, EXPIRES);
+
+        // then
+        assertThat(status.isJoined()).isFalse();
+        assertThat(status.isAdmitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이벤트 시작 전에는 입장시키지 않고, 시작 시각부터 입장 인원을 계산한다.")
+    void admitBeforeFrom() {
+        // given
+        Instant from = now.plusSeconds(60);
+        for (long userId = 1; userId <= 30; userId++) {
+            repository.join(userId, 1L, EXPIRES);
+        }
+
+        // when
+        TicketQueueStatus before = repository.admit(1L, 1L, 5, 10, from, now, EXPIRES);
+        TicketQueueStatus opened = repository.admit(1L, 1L, 5, 10, from, from, EXPIRES);
+        TicketQueueStatus later = repository.admit(1L, 1L, 5, 10, from, from.plusSeconds(1), EXPIRES);
+
+        // then
+        assertThat(before.getAdmitted()).isZero();
+        assertThat(before.isAdmitted()).isFalse();
+        assertThat(opened.getAdmitted()).isEqualTo(10);
+        assertThat(later.getAdmitted()).isEqualTo(15);
+    }
+}
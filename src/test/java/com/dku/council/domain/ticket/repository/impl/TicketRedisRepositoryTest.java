@@ -1,6 +1,7 @@
 package com.dku.council.domain.ticket.repository.impl;
 
 import com.dku.council.domain.ticket.exception.AlreadyRequestedTicketException;
+import com.dku.council.domain.ticket.exception.SoldOutTicketException;
 import com.dku.council.domain.ticket.model.dto.TicketDto;
 import com.dku.council.domain.ticket.repository.impl.TicketRedisRepository;
 import com.dku.council.util.base.AbstractContainerRedisTest;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,9 +33,9 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
         // when
         int[] enrollResults = {
                 repository.getMyTicket(1L, 1L),
-                repository.enroll(1L, 1L, dummyDuration),
-                repository.enroll(2L, 1L, dummyDuration),
-                repository.enroll(3L, 1L, dummyDuration),
+                repository.enroll(1L, 1L, 0, dummyDuration),
+                repository.enroll(2L, 1L, 0, dummyDuration),
+                repository.enroll(3L, 1L, 0, dummyDuration),
                 repository.getMyTicket(1L, 1L),
                 repository.getMyTicket(2L, 1L),
                 repository.getMyTicket(3L, 1L),
@@ -49,11 +51,26 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
     @DisplayName("중복 티켓팅 오류")
     void enrollDuplicated() {
         // given
-        repository.enroll(1L, 1L, dummyDuration);
+        repository.enroll(1L, 1L, 0, dummyDuration);
 
         // when & then
         assertThrows(AlreadyRequestedTicketException.class, () ->
-                repository.enroll(1L, 1L, dummyDuration));
+                repository.enroll(1L, 1L, 0, dummyDuration));
+    }
+
+    @Test
+    @DisplayName("티켓이 모두 소진되면 더 이상 발급하지 않는다.")
+    void enrollSoldOut() {
+        // given
+        repository.enroll(1L, 1L, 2, dummyDuration);
+        repository.enroll(2L, 1L, 2, dummyDuration);
+
+        // when & then
+        assertThrows(SoldOutTicketException.class, () ->
+                repository.enroll(3L, 1L, 2, dummyDuration));
+        assertThrows(AlreadyRequestedTicketException.class, () ->
+                repository.enroll(1L, 1L, 2, dummyDuration));
+        assertThat(repository.getMyTicket(3L, 1L)).isEqualTo(-1);
     }
 
     @Test
@@ -71,8 +88,8 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
     }
 
     @Test
-    @DisplayName("티켓팅 데이터 모두 flush")
-    void flushAllTickets() {
+    @DisplayName("티켓팅 데이터 나누어 순회")
+    void scanTickets() {
         // given
         List<TicketDto> expected = List.of(
                 new TicketDto(1L, 1L, 1),
@@ -83,39 +100,55 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
                 new TicketDto(3L, 3L, 1)
         );
         for (TicketDto ticket : expected) {
-            repository.enroll(ticket.getUserId(), ticket.getEventId(), dummyDuration);
+            repository.enroll(ticket.getUserId(), ticket.getEventId(), 0, dummyDuration);
         }
 
         // when
-        List<TicketDto> tickets = repository.flushAllTickets();
+        List<TicketDto> tickets = new ArrayList<>();
+        for (Long eventId : repository.findReservedEventIds()) {
+            repository.scanTickets(eventId, 2, tickets::addAll);
+        }
 
         // then
-        for (TicketDto ticket : tickets) {
-            int getResult = repository.getMyTicket(ticket.getUserId(), ticket.getEventId());
-            assertThat(getResult).isEqualTo(-1);
-        }
+        assertThat(repository.findReservedEventIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(repository.countTickets()).isEqualTo(6);
         assertThat(tickets).containsExactlyInAnyOrderElementsOf(expected);
     }
 
     @Test
-    @DisplayName("티켓팅 데이터 flush이후 티켓팅하면 turn은 이어서 계속")
-    void flushAllTicketsWithNextId() {
+    @DisplayName("반영된 티켓만 삭제하고, 남은 티켓이 없는 이벤트만 dump 대상에서 제외")
+    void deleteTicketsAndReleaseEvent() {
         // given
-        List<TicketDto> expected = List.of(
-                new TicketDto(1L, 1L, 1),
-                new TicketDto(1L, 2L, 1),
-                new TicketDto(2L, 1L, 2),
-                new TicketDto(2L, 2L, 2),
-                new TicketDto(3L, 1L, 3),
-                new TicketDto(3L, 3L, 1)
-        );
-        for (TicketDto ticket : expected) {
-            repository.enroll(ticket.getUserId(), ticket.getEventId(), dummyDuration);
-        }
-        repository.flushAllTickets();
+        repository.enroll(1L, 1L, 0, dummyDuration);
+        repository.enroll(2L, 1L, 0, dummyDuration);
+        repository.enroll(1L, 2L, 0, dummyDuration);
+
+        // when
+        repository.deleteTickets(1L, List.of(new TicketDto(1L, 1L, 1), new TicketDto(2L, 1L, 2)));
+        repository.deleteTickets(2L, List.of());
+        boolean released = repository.releaseEvent(1L);
+        boolean notReleased = repository.releaseEvent(2L);
+
+        // then
+        assertThat(released).isTrue();
+        assertThat(notReleased).isFalse();
+        assertThat(repository.getMyTicket(1L, 1L)).isEqualTo(-1);
+        assertThat(repository.getMyTicket(1L, 2L)).isEqualTo(1);
+        assertThat(repository.findReservedEventIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("티켓팅 데이터 삭제 이후 티켓팅하면 turn은 이어서 계속")
+    void deleteTicketsWithNextId() {
+        // given
+        repository.enroll(1L, 1L, 0, dummyDuration);
+        repository.enroll(2L, 1L, 0, dummyDuration);
+        repository.enroll(3L, 1L, 0, dummyDuration);
+        repository.deleteTickets(1L, List.of(
+                new TicketDto(1L, 1L, 1), new TicketDto(2L, 1L, 2), new TicketDto(3L, 1L, 3)));
 
         // when
-        int turn = repository.enroll(1L, 1L, dummyDuration);
+        int turn = repository.enroll(1L, 1L, 0, dummyDuration);
 
         // then
         assertThat(turn).isEqualTo(4);
@@ -134,12 +167,12 @@ class TicketRedisRepositoryTest extends AbstractContainerRedisTest {
                 new TicketDto(3L, 3L, 1)
         );
         for (TicketDto ticket : expected) {
-            repository.enroll(ticket.getUserId(), ticket.getEventId(), dummyDuration);
+            repository.enroll(ticket.getUserId(), ticket.getEventId(), 0, dummyDuration);
         }
 
         // when
-        int turn1 = repository.enroll(4L, 1L, Duration.ZERO);
-        int turn2 = repository.enroll(5L, 1L, Duration.ZERO);
+        int turn1 = repository.enroll(4L, 1L, 0, Duration.ZERO);
+        int turn2 = repository.enroll(5L, 1L, 0, Duration.ZERO);
 
         // then
         assertThat(turn1).isEqualTo(4);
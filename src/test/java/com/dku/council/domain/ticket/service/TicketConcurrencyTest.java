@@ -1,5 +1,6 @@
 package com.dku.council.domain.ticket.service;
 
+import com.dku.council.domain.ticket.exception.AlreadyRequestedTicketException;
 import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
 import com.dku.council.domain.ticket.model.entity.TicketEvent;
 import com.dku.council.domain.ticket.repository.TicketEventRepository;
@@ -28,6 +29,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 @FullIntegrationTest
@@ -38,6 +40,9 @@ public class TicketConcurrencyTest extends AbstractContainerRedisTest {
     @Autowired
     private TicketService service;
 
+    @Autowired
+    private TicketDumpService dumpService;
+
     @Autowired
     private TicketEventRepository eventRepository;
 
@@ -100,4 +105,23 @@ public class TicketConcurrencyTest extends AbstractContainerRedisTest {
             assertThat(map.containsKey(i)).isNotNull();
         }
     }
+
+    @Test
+    @DisplayName("신청 기간 중에 dump가 실행되어도 다시 신청할 수 없다.")
+    public void enrollAfterDump() {
+        // given
+        LocalDateTime current = LocalDateTime.now();
+        TicketEvent openEvent = eventRepository.save(
+                new TicketEvent("open", current.minusMinutes(1), current.plusHours(1), 1000));
+        User user = users.get(0);
+        Instant now = DateUtil.toInstant(current);
+        service.enroll(user.getId(), openEvent.getId(), now);
+
+        // when
+        dumpService.dumpToDB();
+
+        // then
+        assertThrows(AlreadyRequestedTicketException.class,
+                () -> service.enroll(user.getId(), openEvent.getId(), now));
+    }
 }
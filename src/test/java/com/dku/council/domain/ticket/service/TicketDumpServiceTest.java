@@ -0,0 +1,170 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.model.dto.TicketDto;
+import com.dku.council.domain.ticket.model.entity.Ticket;
+import com.dku.council.domain.ticket.model.entity.TicketEvent;
+import com.dku.council.domain.ticket.repository.TicketEventRepository;
+import com.dku.council.domain.ticket.repository.TicketMemoryRepository;
+import com.dku.council.domain.ticket.repository.TicketRepository;
+import com.dku.council.domain.user.repository.UserRepository;
+import com.dku.council.mock.TicketEventMock;
+import com.dku.council.mock.UserMock;
+import com.dku.council.util.ClockUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketDumpServiceTest {
+
+    @Mock
+    private TicketRepository persistenceRepository;
+
+    @Mock
+    private TicketMemoryRepository memoryRepository;
+
+    @Mock
+    private TicketEventRepository ticketEventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TicketSoldOutService soldOutService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TicketEvent event = TicketEventMock.createDummy(1L, "name");
+
+    private final List<TicketDto> tickets = List.of(
+            new TicketDto(1L, 1L, 1),
+            new TicketDto(2L, 1L, 2),
+            new TicketDto(3L, 1L, 3));
+
+    private TicketDumpService service;
+    private TransactionTemplate transactionTemplate;
+
+
+    @BeforeEach
+    public void setup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        service = createService(LocalDateTime.of(2021, 3, 2, 0, 0));
+
+        when(memoryRepository.findReservedEventIds()).thenReturn(List.of(1L));
+        lenient().doAnswer(inv -> {
+            Consumer<List<TicketDto>> action = inv.getArgument(2);
+            action.accept(tickets.subList(0, 2));
+            action.accept(tickets.subList(2, 3));
+            return null;
+        }).when(memoryRepository).scanTickets(eq(1L), eq(2), any());
+    }
+
+    @Test
+    @DisplayName("메모리에 저장된 티켓을 chunk 단위로 DB에 저장")
+    void dumpToDB() {
+        // given
+        when(ticketEventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(ticketEventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event));
+        when(userRepository.getReferenceById(any()))
+                .thenAnswer(inv -> UserMock.createDummyMajor(inv.getArgument(0)));
+        when(memoryRepository.releaseEvent(1L)).thenReturn(true);
+
+        // when
+        long dumped = service.dumpToDB();
+
+        // then
+        assertThat(dumped).isEqualTo(3);
+        verify(persistenceRepository).saveAll(argThat(list -> hasTurns(list, 1, 2)));
+        verify(persistenceRepository).saveAll(argThat(list -> hasTurns(list, 3)));
+        verify(transactionManager, times(2)).commit(any());
+        verify(memoryRepository).deleteTickets(1L, tickets.subList(0, 2));
+        verify(memoryRepository).deleteTickets(1L, tickets.subList(2, 3));
+        verify(memoryRepository).releaseEvent(1L);
+        verify(soldOutService).clear(1L);
+        assertThat(meterRegistry.counter("ticket.dump.rows").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 DB에 저장된 티켓은 다시 저장하지 않는다.")
+    void dumpToDBSkipsExisting() {
+        // given
+        when(ticketEventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event));
+        when(persistenceRepository.findUserIdsByEventIdAndUserIdIn(eq(1L), any()))
+                .thenAnswer(inv -> inv.<Collection<Long>>getArgument(1).contains(1L)
+                        ? List.of(1L) : List.of());
+        when(userRepository.getReferenceById(any()))
+                .thenAnswer(inv -> UserMock.createDummyMajor(inv.getArgument(0)));
+
+        // when
+        long dumped = service.dumpToDB();
+
+        // then
+        assertThat(dumped).isEqualTo(2);
+        verify(persistenceRepository).saveAll(argThat(list -> hasTurns(list, 2)));
+        verify(memoryRepository).deleteTickets(1L, tickets.subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 메모리에서 삭제하지 않는다.")
+    void dumpToDBFailed() {
+        // given
+        when(ticketEventRepository.findByIdForUpdate(1L)).thenThrow(new IllegalStateException());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> service.dumpToDB());
+
+        // then
+        verify(memoryRepository, never()).deleteTickets(any(), any());
+        verify(memoryRepository, never()).releaseEvent(any());
+    }
+
+    @Test
+    @DisplayName("신청 기간이 끝나지 않은 이벤트의 티켓은 반영하지 않고 메모리에 남겨둔다.")
+    void dumpToDBSkipsOpenEvent() {
+        // given
+        service = createService(LocalDateTime.of(2021, 2, 1, 0, 0));
+        when(ticketEventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        // when
+        long dumped = service.dumpToDB();
+
+        // then
+        assertThat(dumped).isZero();
+        verify(memoryRepository, never()).scanTickets(any(), anyInt(), any());
+        verify(memoryRepository, never()).deleteTickets(any(), any());
+        verify(memoryRepository, never()).releaseEvent(any());
+    }
+
+    private TicketDumpService createService(LocalDateTime now) {
+        return new TicketDumpService(persistenceRepository, memoryRepository, ticketEventRepository,
+                userRepository, soldOutService, transactionTemplate, meterRegistry, ClockUtil.create(now), 2);
+    }
+
+    private static boolean hasTurns(Iterable<?> tickets, Integer... turns) {
+        List<Integer> actual = new ArrayList<>();
+        tickets.forEach(ticket -> actual.add(((Ticket) ticket).getTurn()));
+        return actual.equals(List.of(turns));
+    }
+}
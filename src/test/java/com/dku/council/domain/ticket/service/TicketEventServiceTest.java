@@ -1,11 +1,14 @@
 package com.dku.council.domain.ticket.service;
 
+import com.dku.council.domain.ticket.model.CachedTicketEvent;
+import com.dku.council.domain.ticket.model.TicketEventSnapshot;
 import com.dku.council.domain.ticket.model.dto.TicketEventDto;
 import com.dku.council.domain.ticket.model.dto.request.RequestNewTicketEventDto;
 import com.dku.council.domain.ticket.model.entity.TicketEvent;
 import com.dku.council.domain.ticket.repository.TicketEventMemoryRepository;
 import com.dku.council.domain.ticket.repository.TicketEventRepository;
 import com.dku.council.domain.ticket.service.TicketEventService;
+import com.dku.council.global.util.DateUtil;
 import com.dku.council.mock.TicketEventMock;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +34,9 @@ class TicketEventServiceTest {
     @Mock
     private TicketEventMemoryRepository memoryRepository;
 
+    @Mock
+    private TicketEventSnapshotService snapshotService;
+
     @InjectMocks
     private TicketEventService service;
 
@@ -40,26 +46,10 @@ class TicketEventServiceTest {
 
 
     @Test
-    @DisplayName("티켓 이벤트 목록 조회 - 캐싱된 경우")
+    @DisplayName("티켓 이벤트 목록 조회")
     void list() {
         // given
-        when(memoryRepository.findAll()).thenReturn(List.of(testDto));
-
-        // when
-        List<TicketEventDto> result = service.list();
-
-        // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0)).isEqualTo(testDto);
-    }
-
-    @Test
-    @DisplayName("티켓 이벤트 목록 조회 - 캐싱안된 경우")
-    void listNoCached() {
-        // given
-        when(memoryRepository.findAll()).thenReturn(List.of());
-        when(memoryRepository.saveAll(any())).thenReturn(List.of(testDto));
-        when(persistenceRepository.findAll()).thenReturn(List.of(testEntity));
+        when(snapshotService.get()).thenReturn(new TicketEventSnapshot(1, List.of(testDto)));
 
         // when
         List<TicketEventDto> result = service.list();
@@ -89,6 +79,8 @@ class TicketEventServiceTest {
         assertThat(id).isEqualTo(testDto.getId());
         verify(persistenceRepository, times(1))
                 .save(argThat(argument -> isSameTicketRequest(dto, argument)));
+        verify(memoryRepository).increaseVersion();
+        verify(snapshotService).invalidate();
     }
 
     private boolean isSameTicketRequest(RequestNewTicketEventDto dto, TicketEvent ticketEvent) {
@@ -111,25 +103,45 @@ class TicketEventServiceTest {
         // then
         verify(persistenceRepository, times(1)).deleteById(ticketEventId);
         verify(memoryRepository, times(1)).deleteById(ticketEventId);
+        verify(memoryRepository).increaseVersion();
+        verify(snapshotService).invalidate();
     }
 
     @Test
-    @DisplayName("ID로 티켓 이벤트 조회 - 캐싱된 경우")
+    @DisplayName("ID로 티켓 이벤트 조회 - 서버 메모리에 있는 경우")
     void findEventById() {
         // given
-        when(memoryRepository.findById(1L)).thenReturn(Optional.of(testDto));
+        when(snapshotService.get()).thenReturn(new TicketEventSnapshot(1, List.of(testDto)));
 
         // when
-        TicketEventDto result = service.findEventById(1L);
+        TicketEventDto result = service.findEventById(testDto.getId());
 
         // then
         assertThat(result).isEqualTo(testDto);
+        verifyNoInteractions(memoryRepository, persistenceRepository);
+    }
+
+    @Test
+    @DisplayName("ID로 티켓 이벤트 조회 - Redis에만 캐싱된 경우")
+    void findEventByIdNotInSnapshot() {
+        // given
+        when(snapshotService.get()).thenReturn(new TicketEventSnapshot(1, List.of()));
+        when(memoryRepository.findById(1L)).thenReturn(Optional.of(testDto));
+
+        // when
+        CachedTicketEvent result = service.findCachedEventById(1L);
+
+        // then
+        assertThat(result.getEvent()).isEqualTo(testDto);
+        assertThat(result.getTo()).isEqualTo(DateUtil.toInstant(testDto.getTo()));
+        verify(snapshotService).invalidate();
     }
 
     @Test
     @DisplayName("ID로 티켓 이벤트 조회 - 캐싱안된 경우")
     void findEventByIdNoCached() {
         // given
+        when(snapshotService.get()).thenReturn(new TicketEventSnapshot(1, List.of()));
         when(memoryRepository.findById(1L)).thenReturn(Optional.empty());
         when(memoryRepository.save(any())).thenReturn(testDto);
         when(persistenceRepository.findById(1L)).thenReturn(Optional.of(testEntity));
@@ -140,4 +152,4 @@ class TicketEventServiceTest {
         // then
         assertThat(result).isEqualTo(testDto);
     }
-}
\ No newline at end of file
+}
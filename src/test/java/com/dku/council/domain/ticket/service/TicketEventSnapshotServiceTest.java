@@ -0,0 +1,110 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.model.TicketEventSnapshot;
+import com.dku.council.domain.ticket.model.dto.TicketEventDto;
+import com.dku.council.domain.ticket.model.entity.TicketEvent;
+import com.dku.council.domain.ticket.repository.TicketEventMemoryRepository;
+import com.dku.council.domain.ticket.repository.TicketEventRepository;
+import com.dku.council.mock.TicketEventMock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketEventSnapshotServiceTest {
+
+    @Mock
+    private TicketEventMemoryRepository memoryRepository;
+
+    @Mock
+    private TicketEventRepository persistenceRepository;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private TicketEventSnapshotService service;
+
+    private final TicketEvent testEntity = TicketEventMock.createDummy(1L, "name");
+
+    private final TicketEventDto testDto = new TicketEventDto(testEntity);
+
+
+    @Test
+    @DisplayName("한 번 읽어온 목록은 다시 조회하지 않는다.")
+    void get() {
+        // given
+        when(memoryRepository.getVersion()).thenReturn(3L);
+        when(memoryRepository.findAll()).thenReturn(List.of(testDto));
+
+        // when
+        TicketEventSnapshot first = service.get();
+        TicketEventSnapshot second = service.get();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getVersion()).isEqualTo(3L);
+        assertThat(first.getEvents()).containsExactly(testDto);
+        assertThat(first.findById(1L)).get()
+                .satisfies(event -> assertThat(event.getEvent()).isEqualTo(testDto));
+        verify(memoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Redis에 캐싱된 목록이 없다면 DB에서 읽어온다.")
+    void getNoCached() {
+        // given
+        when(memoryRepository.findAll()).thenReturn(List.of());
+        when(persistenceRepository.findAll()).thenReturn(List.of(testEntity));
+        when(memoryRepository.saveAll(List.of(testEntity))).thenReturn(List.of(testDto));
+
+        // when
+        TicketEventSnapshot snapshot = service.get();
+
+        // then
+        assertThat(snapshot.getEvents()).containsExactly(testDto);
+    }
+
+    @Test
+    @DisplayName("변경 알림을 받으면 다음 조회 때 다시 읽어온다.")
+    void reloadAfterMessage() {
+        // given
+        when(memoryRepository.findAll()).thenReturn(List.of(testDto));
+        service.get();
+
+        // when
+        service.onMessage(null, null);
+        service.get();
+
+        // then
+        verify(memoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Redis의 버전이 바뀌었다면 다음 조회 때 다시 읽어온다.")
+    void refreshIfChanged() {
+        // given
+        when(memoryRepository.getVersion()).thenReturn(1L, 2L);
+        when(memoryRepository.findAll()).thenReturn(List.of(testDto));
+        service.get();
+
+        // when
+        service.refreshIfChanged();
+        TicketEventSnapshot reloaded = service.get();
+        service.refreshIfChanged();
+
+        // then
+        assertThat(reloaded.getVersion()).isEqualTo(2L);
+        assertThat(service.get()).isSameAs(reloaded);
+        verify(memoryRepository, times(2)).findAll();
+    }
+}
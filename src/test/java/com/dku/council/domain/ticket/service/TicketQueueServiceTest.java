@@ -0,0 +1,163 @@
+package com.dku.council.domain.ticket.service;
+
+import com.dku.council.domain.ticket.exception.AfterTicketPeriodException;
+import com.dku.council.domain.ticket.exception.NotAdmittedTicketException;
+import com.dku.council.domain.ticket.model.CachedTicketEvent;
+import com.dku.council.domain.ticket.model.TicketQueueStatus;
+import com.dku.council.domain.ticket.model.dto.TicketEventDto;
+import com.dku.council.domain.ticket.model.dto.response.ResponseTicketQueueDto;
+import com.dku.council.domain.ticket.repository.TicketQueueMemoryRepository;
+import com.dku.council.global.util.DateUtil;
+import com.dku.council.util.ClockUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketQueueServiceTest {
+
+    private static final Clock clock = ClockUtil.create();
+    private static final Duration EXPIRES = Duration.ofHours(12);
+
+    @Mock
+    private TicketQueueMemoryRepository memoryRepository;
+
+    @Mock
+    private TicketEventService ticketEventService;
+
+    private TicketQueueService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new TicketQueueService(memoryRepository, ticketEventService, true, 10, 20, EXPIRES);
+    }
+
+    @Test
+    @DisplayName("대기열에 들어가면 대기 상태를 알려준다.")
+    void join() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        Instant instant = DateUtil.toInstant(now);
+        when(ticketEventService.findCachedEventById(1L))
+                .thenReturn(new CachedTicketEvent(
+                        new TicketEventDto(1L, "test", now.minusMinutes(1), now.plusHours(1), 0)));
+        when(memoryRepository.admit(1L, 1L, 10, 20, DateUtil.toInstant(now.minusMinutes(1)), instant, EXPIRES))
+                .thenReturn(new TicketQueueStatus(150, 50));
+
+        // when
+        ResponseTicketQueueDto dto = service.join(1L, 1L, instant);
+
+        // then
+        verify(memoryRepository).join(1L, 1L, EXPIRES);
+        assertThat(dto.getNumber()).isEqualTo(150);
+        assertThat(dto.getPosition()).isEqualTo(100);
+        assertThat(dto.isAdmitted()).isFalse();
+        assertThat(dto.getRetryAfter()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이벤트가 끝났다면 대기열에 들어갈 수 없다.")
+    void joinAfterPeriod() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        when(ticketEventService.findCachedEventById(1L))
+                .thenReturn(new CachedTicketEvent(
+                        new TicketEventDto(1L, "test", now.minusHours(2), now.minusHours(1), 0)));
+
+        // when & then
+        assertThrows(AfterTicketPeriodException.class,
+                () -> service.join(1L, 1L, DateUtil.toInstant(now)));
+        verify(memoryRepository, never()).join(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("입장한 경우 바로 다시 조회할 필요가 없다.")
+    void statusAdmitted() {
+        // given
+        Instant now = Instant.now(clock);
+        CachedTicketEvent event = openedEvent();
+        when(ticketEventService.findCachedEventById(1L)).thenReturn(event);
+        when(memoryRepository.admit(1L, 1L, 10, 20, event.getFrom(), now, EXPIRES))
+                .thenReturn(new TicketQueueStatus(30, 50));
+
+        // when
+        ResponseTicketQueueDto dto = service.status(1L, 1L, now);
+
+        // then
+        assertThat(dto.isAdmitted()).isTrue();
+        assertThat(dto.getPosition()).isZero();
+        assertThat(dto.getRetryAfter()).isZero();
+    }
+
+    @Test
+    @DisplayName("입장하지 않은 사용자는 티켓을 신청할 수 없다.")
+    void checkAdmitted() {
+        // given
+        Instant now = Instant.now(clock);
+        when(ticketEventService.findCachedEventById(1L)).thenReturn(openedEvent());
+        when(memoryRepository.admit(eq(1L), eq(1L), anyDouble(), anyInt(), any(), eq(now), any()))
+                .thenReturn(new TicketQueueStatus(51, 50));
+        when(memoryRepository.admit(eq(2L), eq(1L), anyDouble(), anyInt(), any(), eq(now), any()))
+                .thenReturn(new TicketQueueStatus(-1, 50));
+        when(memoryRepository.admit(eq(3L), eq(1L), anyDouble(), anyInt(), any(), eq(now), any()))
+                .thenReturn(new TicketQueueStatus(50, 50));
+
+        // when & then
+        assertThrows(NotAdmittedTicketException.class, () -> service.checkAdmitted(1L, 1L, now));
+        assertThrows(NotAdmittedTicketException.class, () -> service.checkAdmitted(2L, 1L, now));
+        service.checkAdmitted(3L, 1L, now);
+    }
+
+    @Test
+    @DisplayName("대기열을 사용하지 않는다면 입장 여부를 확인하지 않는다.")
+    void checkAdmittedDisabled() {
+        // given
+        service = new TicketQueueService(memoryRepository, ticketEventService, false, 10, 20, EXPIRES);
+
+        // when
+        service.checkAdmitted(1L, 1L, Instant.now(clock));
+
+        // then
+        verifyNoInteractions(memoryRepository);
+    }
+
+    @Test
+    @DisplayName("이벤트 시작 시각을 기준으로 입장시킨다.")
+    void statusBeforeFrom() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        Instant instant = DateUtil.toInstant(now);
+        Instant from = DateUtil.toInstant(now.plusMinutes(1));
+        when(ticketEventService.findCachedEventById(1L))
+                .thenReturn(new CachedTicketEvent(
+                        new TicketEventDto(1L, "test", now.plusMinutes(1), now.plusHours(1), 0)));
+        when(memoryRepository.admit(1L, 1L, 10, 20, from, instant, EXPIRES))
+                .thenReturn(new TicketQueueStatus(1, 0));
+
+        // when
+        ResponseTicketQueueDto dto = service.status(1L, 1L, instant);
+
+        // then
+        assertThat(dto.isAdmitted()).isFalse();
+        assertThat(dto.getPosition()).isEqualTo(1);
+    }
+
+    private static CachedTicketEvent openedEvent() {
+        LocalDateTime time = LocalDateTime.now(clock);
+        return new CachedTicketEvent(new TicketEventDto(1L, "test", time.minusMinutes(1), time.plusHours(1), 0));
+    }
+}
@@ -1,6 +1,8 @@
 package com.dku.council.domain.ticket.service;
 
 import com.dku.council.domain.ticket.exception.BeforeTicketPeriodException;
+import com.dku.council.domain.ticket.exception.SoldOutTicketException;
+import com.dku.council.domain.ticket.model.CachedTicketEvent;
 import com.dku.council.domain.ticket.model.dto.TicketEventDto;
 import com.dku.council.domain.ticket.model.dto.response.ResponseTicketTurnDto;
 import com.dku.council.domain.ticket.model.entity.Ticket;
@@ -17,22 +19,25 @@ import com.dku.council.mock.TicketEventMock;
 import com.dku.council.mock.UserInfoMock;
 import com.dku.council.mock.UserMock;
 import com.dku.council.util.ClockUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TicketServiceTest {
@@ -51,6 +56,12 @@ class TicketServiceTest {
     @Mock
     private UserInfoService infoCacheService;
 
+    @Mock
+    private TicketSoldOutService soldOutService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TicketService service;
 
@@ -93,9 +104,9 @@ class TicketServiceTest {
         // given
         LocalDateTime now = LocalDateTime.now(clock);
         TicketEventDto event = new TicketEventDto(1L, "test",
-                now.minusSeconds(1), now.plusSeconds(1));
+                now.minusSeconds(1), now.plusSeconds(1), 0);
 
-        when(ticketEventService.findEventById(1L)).thenReturn(event);
+        when(ticketEventService.findCachedEventById(1L)).thenReturn(new CachedTicketEvent(event));
         when(infoCacheService.getUserInfo(eq(1L)))
                 .thenReturn(UserInfoMock.create("졸업"));
 
@@ -110,9 +121,9 @@ class TicketServiceTest {
         // given
         LocalDateTime now = LocalDateTime.now(clock);
         TicketEventDto event = new TicketEventDto(1L, "test",
-                now.plusSeconds(1), now.plusSeconds(2));
+                now.plusSeconds(1), now.plusSeconds(2), 0);
 
-        when(ticketEventService.findEventById(1L)).thenReturn(event);
+        when(ticketEventService.findCachedEventById(1L)).thenReturn(new CachedTicketEvent(event));
 
         // when & then
         Assertions.assertThrows(BeforeTicketPeriodException.class,
@@ -125,12 +136,12 @@ class TicketServiceTest {
         // given
         LocalDateTime now = LocalDateTime.now(clock);
         TicketEventDto event = new TicketEventDto(1L, "test",
-                now.minusNanos(1), now.plusNanos(1));
+                now.minusNanos(1), now.plusNanos(1), 0);
 
-        when(ticketEventService.findEventById(1L)).thenReturn(event);
+        when(ticketEventService.findCachedEventById(1L)).thenReturn(new CachedTicketEvent(event));
         when(infoCacheService.getUserInfo(eq(1L)))
                 .thenReturn(UserInfoMock.create());
-        when(memoryRepository.enroll(eq(1L), eq(1L), any())).thenReturn(5);
+        when(memoryRepository.enroll(eq(1L), eq(1L), eq(0), any())).thenReturn(5);
 
         // when
         ResponseTicketTurnDto result = service.enroll(1L, 1L, DateUtil.toInstant(now));
@@ -138,4 +149,62 @@ class TicketServiceTest {
         // then
         assertThat(result.getTurn()).isEqualTo(5);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("티켓 발급 - 마지막 티켓을 발급하면 소진 상태로 표시한다.")
+    void enrollLastTicket() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        TicketEventDto event = new TicketEventDto(1L, "test",
+                now.minusNanos(1), now.plusNanos(1), 5);
+
+        when(ticketEventService.findCachedEventById(1L)).thenReturn(new CachedTicketEvent(event));
+        when(infoCacheService.getUserInfo(eq(1L)))
+                .thenReturn(UserInfoMock.create());
+        when(memoryRepository.enroll(eq(1L), eq(1L), eq(5), any())).thenReturn(5);
+
+        // when
+        service.enroll(1L, 1L, DateUtil.toInstant(now));
+
+        // then
+        verify(soldOutService).markSoldOut(1L);
+    }
+
+    @Test
+    @DisplayName("티켓 발급 실패 - 소진된 경우 Redis에서 확인하면 소진 상태로 표시한다.")
+    void failedEnrollBySoldOut() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        TicketEventDto event = new TicketEventDto(1L, "test",
+                now.minusNanos(1), now.plusNanos(1), 5);
+
+        when(ticketEventService.findCachedEventById(1L)).thenReturn(new CachedTicketEvent(event));
+        when(infoCacheService.getUserInfo(eq(1L)))
+                .thenReturn(UserInfoMock.create());
+        when(memoryRepository.enroll(eq(1L), eq(1L), eq(5), any())).thenThrow(new SoldOutTicketException());
+
+        // when
+        Assertions.assertThrows(SoldOutTicketException.class,
+                () -> service.enroll(1L, 1L, DateUtil.toInstant(now)));
+
+        // then
+        verify(soldOutService).markSoldOut(1L);
+        assertThat(meterRegistry.timer("ticket.enroll", "result", "sold_out").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("티켓 발급 실패 - 소진 상태로 표시된 경우 Redis를 거치지 않고 바로 거절한다.")
+    void failedEnrollBySoldOutFlag() {
+        // given
+        when(soldOutService.isSoldOut(1L)).thenReturn(true);
+
+        // when
+        Assertions.assertThrows(SoldOutTicketException.class,
+                () -> service.enroll(1L, 1L, Instant.now(clock)));
+
+        // then
+        verify(ticketEventService, never()).findCachedEventById(any());
+        verifyNoInteractions(memoryRepository);
+        assertThat(meterRegistry.timer("ticket.enroll", "result", "sold_out").count()).isEqualTo(1);
+    }
+}
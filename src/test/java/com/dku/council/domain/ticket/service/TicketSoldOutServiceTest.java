@@ -0,0 +1,81 @@
+package com.dku.council.domain.ticket.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.dku.council.global.config.redis.RedisKeys.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TicketSoldOutServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TicketSoldOutService service;
+
+
+    @BeforeEach
+    public void setup() {
+        service = new TicketSoldOutService(redisTemplate, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("소진 표시를 지우면 다른 서버에도 알린다.")
+    void clear() {
+        // given
+        service.markSoldOut(1L);
+
+        // when
+        service.clear(1L);
+
+        // then
+        assertThat(service.isSoldOut(1L)).isFalse();
+        verify(redisTemplate).convertAndSend(TICKET_SOLD_OUT_CLEARED_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 소진/해제 알림을 반영한다.")
+    void onMessage() {
+        // when
+        service.onMessage(message(TICKET_SOLD_OUT_CHANNEL, "1"), null);
+        service.onMessage(message(TICKET_SOLD_OUT_CHANNEL, "2"), null);
+        service.onMessage(message(TICKET_SOLD_OUT_CLEARED_CHANNEL, "1"), null);
+
+        // then
+        assertThat(service.isSoldOut(1L)).isFalse();
+        assertThat(service.isSoldOut(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("티켓 이벤트 목록이 바뀌면 모든 소진 표시를 지운다.")
+    void clearAllWhenEventsChanged() {
+        // given
+        service.markSoldOut(1L);
+        service.markSoldOut(2L);
+
+        // when
+        service.onMessage(message(TICKET_EVENTS_CHANNEL, "3"), null);
+
+        // then
+        assertThat(service.isSoldOut(1L)).isFalse();
+        assertThat(service.isSoldOut(2L)).isFalse();
+    }
+
+    private static DefaultMessage message(String channel, String body) {
+        return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,7 +5,9 @@ import com.dku.council.domain.like.model.LikeTarget;
 import com.dku.council.domain.like.service.LikeService;
 import com.dku.council.domain.post.model.dto.list.SummarizedGenericPostDto;
 import com.dku.council.domain.post.model.entity.Post;
+import com.dku.council.domain.post.repository.post.PostFileRepository;
 import com.dku.council.domain.post.repository.post.PostRepository;
+import com.dku.council.domain.tag.service.TagService;
 import com.dku.council.domain.user.service.MyPostService;
 import com.dku.council.mock.NewsMock;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +21,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +34,12 @@ class MyPostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostFileRepository fileRepository;
+
+    @Mock
+    private TagService tagService;
+
     @Mock
     private LikeService likeService;
 
@@ -54,8 +63,8 @@ class MyPostServiceTest {
                 .thenReturn(likedIds);
         when(postRepository.findPageById(likedIds.getContent(), pageable))
                 .thenReturn(dtos);
-        when(likeService.getCountOfLikes(any(), eq(LikeTarget.POST)))
-                .thenReturn(5);
+        when(likeService.getCountsOfLikes(any(), eq(LikeTarget.POST)))
+                .thenReturn(Map.of());
 
         // when
         Page<SummarizedGenericPostDto> posts = myPostService.listMyLikedPosts(1L, pageable, 100);
@@ -0,0 +1,179 @@
+package com.dku.council.global.base;
+
+import com.dku.council.global.cache.CacheSupport;
+import com.dku.council.util.base.AbstractContainerRedisTest;
+import com.dku.council.util.test.FullIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@FullIntegrationTest
+class AbstractCacheRepositoryTest extends AbstractContainerRedisTest {
+
+    private static final String CACHE_NAME = "testCache";
+
+    @Autowired
+    private CacheSupport support;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TestCacheRepository repository;
+    private final Instant now = Instant.now();
+
+
+    @BeforeEach
+    public void setup() {
+        repository = new TestCacheRepository(support, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("값을 저장하고 가져온다. 유지시간이 지나면 가져오지 않는다.")
+    void setAndGet() {
+        // given
+        TestValue value = new TestValue("name", 3);
+
+        // when
+        repository.set("key", value, now, Duration.ofMinutes(1));
+
+        // then
+        assertThat(repository.get("key", TestValue.class, now)).contains(value);
+        assertThat(repository.get("key", TestValue.class, now.plusSeconds(120))).isEmpty();
+        assertThat(redisTemplate.getExpire(CACHE_NAME + ":key")).isPositive();
+    }
+
+    @Test
+    @DisplayName("메모리 캐시에 있으면 Redis를 조회하지 않는다.")
+    void getFromLocal() {
+        // given
+        TestValue value = new TestValue("name", 3);
+        repository.set("key", value, now, Duration.ofMinutes(1));
+        redisTemplate.delete(CACHE_NAME + ":key");
+
+        // when
+        Optional<TestValue> local = repository.get("key", TestValue.class, now);
+        Optional<TestValue> expired = repository.get("key", TestValue.class, now.plusSeconds(20));
+
+        // then
+        assertThat(local).contains(value);
+        assertThat(expired).isEmpty();
+        assertThat(meterRegistry.get("cache.gets")
+                .tags("cache", CACHE_NAME, "tier", "local", "result", "hit")
+                .counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 바뀐 값은 메모리 캐시에서 지운다.")
+    void invalidateFromOtherNode() {
+        // given
+        repository.set("key", new TestValue("old", 1), now, Duration.ofMinutes(1));
+        TestCacheRepository otherNode = new TestCacheRepository(support, Duration.ofSeconds(10));
+        otherNode.set("key", new TestValue("new", 2), now, Duration.ofMinutes(1));
+
+        // when
+        byte[] body = ("otherNode\nkey").getBytes(StandardCharsets.UTF_8);
+        repository.onMessage(new DefaultMessage(new byte[0], body), null);
+
+        // then
+        assertThat(repository.get("key", TestValue.class, now)).contains(new TestValue("new", 2));
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 무효화 메시지는 무시한다.")
+    void ignoreOwnMessage() {
+        // given
+        repository.set("key", new TestValue("name", 1), now, Duration.ofMinutes(1));
+        redisTemplate.delete(CACHE_NAME + ":key");
+
+        // when
+        byte[] body = (support.getNodeId() + "\nkey").getBytes(StandardCharsets.UTF_8);
+        repository.onMessage(new DefaultMessage(new byte[0], body), null);
+
+        // then
+        assertThat(repository.get("key", TestValue.class, now)).isPresent();
+    }
+
+    @Test
+    @DisplayName("여러 값을 한 번에 저장하고 가져온다.")
+    void setAllAndGetAll() {
+        // given
+        Map<String, TestValue> values = Map.of(
+                "a", new TestValue("a", 1),
+                "b", new TestValue("b", 2)
+        );
+
+        // when
+        repository.setAll(values, now, Duration.ofMinutes(1));
+        repository.clearLocal();
+        Map<String, TestValue> result = repository.getAll(List.of("a", "b", "c"), TestValue.class, now);
+
+        // then
+        assertThat(result).isEqualTo(values);
+        assertThat(redisTemplate.getExpire(CACHE_NAME + ":a")).isPositive();
+    }
+
+    @Test
+    @DisplayName("값을 삭제한다.")
+    void remove() {
+        // given
+        repository.set("key", new TestValue("name", 1), now, null);
+
+        // when
+        boolean removed = repository.remove("key");
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(repository.get("key", TestValue.class, now)).isEmpty();
+    }
+
+    private static class TestCacheRepository extends AbstractCacheRepository {
+        private TestCacheRepository(CacheSupport support, Duration localTtl) {
+            super(support, CACHE_NAME, localTtl, 100);
+        }
+    }
+
+    private static class TestValue {
+        public String name;
+        public int count;
+
+        public TestValue() {
+        }
+
+        public TestValue(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TestValue testValue = (TestValue) o;
+            return count == testValue.count && Objects.equals(name, testValue.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, count);
+        }
+    }
+}
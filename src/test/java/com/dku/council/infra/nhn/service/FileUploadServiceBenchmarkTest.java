@@ -0,0 +1,98 @@
+package com.dku.council.infra.nhn.service;
+
+import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadResult;
+import com.dku.council.util.base.AbstractMockServerTest;
+import com.dku.council.util.test.BenchmarkTest;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * 응답이 느린 object storage를 흉내내서 파일을 하나씩 업로드할 때와 동시에 업로드할 때의 시간을 비교한다.
+ */
+@BenchmarkTest
+class FileUploadServiceBenchmarkTest extends AbstractMockServerTest {
+
+    private static final Logger log = getLogger(FileUploadServiceBenchmarkTest.class);
+
+    private static final int TOTAL_FILES = 16;
+    private static final int FILE_SIZE = 256 * 1024;
+    private static final long RESPONSE_DELAY_MILLIS = 100;
+
+    private NHNTokenManager tokenManager;
+    private ObjectStorageService storageService;
+    private ObjectUploadContext uploadContext;
+
+
+    @BeforeEach
+    public void beforeEach() {
+        String apiPath = "http://localhost:" + mockServer.getPort() + "/%s";
+        this.tokenManager = mock(NHNTokenManager.class);
+        this.uploadContext = new ObjectUploadContext(apiPath, "default");
+        this.storageService = new ObjectStorageService(WebClient.create(), uploadContext);
+        when(tokenManager.getToken()).thenReturn("token");
+    }
+
+    @Test
+    @DisplayName("동시에 업로드하면 하나씩 업로드할 때보다 빠르고, 업로드 외의 요청은 보내지 않는다.")
+    void compareSequentialAndParallel() throws InterruptedException {
+        // given
+        byte[] content = new byte[FILE_SIZE];
+        List<FileRequest> files = new ArrayList<>(TOTAL_FILES);
+        for (int i = 0; i < TOTAL_FILES; i++) {
+            files.add(new FileRequest("file" + i + ".jpg", MediaType.IMAGE_JPEG,
+                    () -> new ByteArrayInputStream(content)));
+        }
+
+        // when
+        long sequential = measure(1, files);
+        long parallel = measure(8, files);
+        log.info("Uploaded {} files ({} KiB each): sequential={}ms, parallel={}ms",
+                TOTAL_FILES, FILE_SIZE / 1024, sequential, parallel);
+
+        // then
+        assertThat(sequential).isGreaterThanOrEqualTo(TOTAL_FILES * RESPONSE_DELAY_MILLIS);
+        assertThat(parallel).isLessThan(sequential / 2);
+    }
+
+    private long measure(int concurrency, List<FileRequest> files) throws InterruptedException {
+        for (int i = 0; i < files.size(); i++) {
+            mockServer.enqueue(new MockResponse()
+                    .setResponseCode(201)
+                    .setHeadersDelay(RESPONSE_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        }
+
+        FileUploadService service = new FileUploadService(tokenManager, storageService, uploadContext, concurrency);
+        FileUploadService.Context context = service.newContext();
+
+        long start = System.nanoTime();
+        UploadResult result = context.uploadFiles(files, "benchmark");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(result.isAllSucceeded()).isTrue();
+        assertThat(result.getUploadedFiles()).hasSize(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            RecordedRequest request = mockServer.takeRequest(1, TimeUnit.SECONDS);
+            assertThat(request).isNotNull();
+            assertThat(request.getMethod()).isEqualTo("PUT");
+            assertThat(request.getBodySize()).isEqualTo(FILE_SIZE);
+        }
+        return elapsed;
+    }
+}
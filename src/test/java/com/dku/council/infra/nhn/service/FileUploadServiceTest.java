@@ -1,24 +1,23 @@
 package com.dku.council.infra.nhn.service;
 
+import com.dku.council.infra.nhn.exception.AlreadyInStorageException;
+import com.dku.council.infra.nhn.exception.InvalidAccessObjectStorageException;
 import com.dku.council.infra.nhn.model.FileRequest;
+import com.dku.council.infra.nhn.model.UploadResult;
 import com.dku.council.infra.nhn.model.UploadedFile;
-import com.dku.council.infra.nhn.service.FileUploadService;
-import com.dku.council.infra.nhn.service.NHNAuthService;
-import com.dku.council.infra.nhn.service.ObjectStorageService;
-import com.dku.council.infra.nhn.service.ObjectUploadContext;
 import com.dku.council.mock.MultipartFileMock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,10 +27,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class FileUploadServiceTest {
 
-    private static final Pattern UUID_PATTERN = Pattern.compile("^[0-9a-f]{8}\\b-[0-9a-f]{4}\\b-[0-9a-f]{4}\\b-[0-9a-f]{4}\\b-[0-9a-f]{12}$");
-
     @Mock
-    private NHNAuthService authService;
+    private NHNTokenManager tokenManager;
 
     @Mock
     private ObjectStorageService storageService;
@@ -39,10 +36,14 @@ class FileUploadServiceTest {
     @Mock
     private ObjectUploadContext uploadContext;
 
-    @InjectMocks
     private FileUploadService service;
 
 
+    @BeforeEach
+    public void setup() {
+        service = new FileUploadService(tokenManager, storageService, uploadContext, 4);
+    }
+
     @Test
     @DisplayName("upload 로직 검증")
     public void uploadFiles() {
@@ -52,14 +53,17 @@ class FileUploadServiceTest {
         final int totalFiles = 10;
 
         List<MultipartFile> files = MultipartFileMock.createList(totalFiles, ext);
-        when(authService.requestToken()).thenReturn("token");
-        when(storageService.isInObject(any())).thenReturn(false);
+        when(tokenManager.getToken()).thenReturn("token");
         when(uploadContext.makeObjectId(any(), any())).thenReturn("fileId");
+        when(storageService.putObject(any(), any(), any(), any())).thenReturn(Mono.empty());
 
         // when
-        ArrayList<UploadedFile> uploadedFiles = service.newContext().uploadFiles(FileRequest.ofList(files), prefix);
+        UploadResult result = service.newContext().uploadFiles(FileRequest.ofList(files), prefix);
 
         // then
+        List<UploadedFile> uploadedFiles = result.getUploadedFiles();
+        assertThat(result.isAllSucceeded()).isTrue();
+        assertThat(uploadedFiles).hasSize(totalFiles);
         for (int i = 1; i <= totalFiles; i++) {
             UploadedFile file = uploadedFiles.get(i - 1);
             assertThat(file.getFileId()).isEqualTo("fileId");
@@ -68,6 +72,29 @@ class FileUploadServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("일부 파일이 실패해도 나머지 파일은 업로드하고 실패한 파일을 반환한다.")
+    public void uploadFilesWithFailure() {
+        // given
+        List<MultipartFile> files = MultipartFileMock.createList(3, "txt");
+        when(tokenManager.getToken()).thenReturn("token");
+        when(uploadContext.makeObjectId(any(), any())).thenReturn("ok1", "bad", "ok2");
+        when(storageService.putObject(any(), any(), any(), any())).thenReturn(Mono.empty());
+        when(storageService.putObject(any(), eq("bad"), any(), any()))
+                .thenReturn(Mono.error(new InvalidAccessObjectStorageException()));
+
+        // when
+        UploadResult result = service.newContext().uploadFiles(FileRequest.ofList(files), "prefix");
+
+        // then
+        assertThat(result.isAllSucceeded()).isFalse();
+        assertThat(result.getUploadedFiles()).extracting(UploadedFile::getFileId).containsExactly("ok1", "ok2");
+        assertThat(result.getFailures()).hasSize(1);
+        UploadResult.Failure failure = result.getFailures().get(0);
+        assertThat(failure.getFile().getOriginalFilename()).isEqualTo("myFile2.txt");
+        assertThat(failure.getCause()).isInstanceOf(InvalidAccessObjectStorageException.class);
+    }
+
     @Test
     @DisplayName("upload 로직 검증 - 단일")
     public void uploadFile() {
@@ -76,8 +103,9 @@ class FileUploadServiceTest {
         String ext = "txt";
         MultipartFile file = MultipartFileMock.create(title, ext);
 
-        when(authService.requestToken()).thenReturn("token");
+        when(tokenManager.getToken()).thenReturn("token");
         when(uploadContext.makeObjectId(any(), any())).thenReturn("fileId");
+        when(storageService.putObject(any(), any(), any(), any())).thenReturn(Mono.empty());
 
         //when
         UploadedFile uploadedFile = service.newContext().uploadFile(new FileRequest(file), "test");
@@ -93,22 +121,38 @@ class FileUploadServiceTest {
         // given
         final int totalFiles = 10;
         List<MultipartFile> files = MultipartFileMock.createList(totalFiles, "txt");
-        when(authService.requestToken()).thenReturn("token");
-        when(storageService.isInObject(any())).thenReturn(false);
+        when(tokenManager.getToken()).thenReturn("token");
         when(uploadContext.makeObjectId(any(), any())).thenReturn("fileId");
+        when(storageService.putObject(any(), any(), any(), any())).thenReturn(Mono.empty());
 
         // when
         service.newContext().uploadFiles(FileRequest.ofList(files), "prefix");
 
         // then
-        verify(storageService, times(totalFiles)).uploadObject(eq("token"), any(), any(), eq(MediaType.TEXT_PLAIN));
+        verify(storageService, times(totalFiles)).putObject(eq("token"), any(), any(), eq(MediaType.TEXT_PLAIN));
+        verify(storageService, never()).isInObject(any());
+    }
+
+    @Test
+    @DisplayName("이름을 지정한 upload시 이미 있는 파일이면 오류")
+    public void uploadFileWithNameAlreadyExists() {
+        // given
+        MultipartFile file = MultipartFileMock.create("test", "txt");
+        when(tokenManager.getToken()).thenReturn("token");
+        when(storageService.isInObject("name")).thenReturn(true);
+
+        // when & then
+        FileUploadService.Context context = service.newContext();
+        Assertions.assertThrows(AlreadyInStorageException.class, () ->
+                context.uploadFileWithName(new FileRequest(file), "name"));
+        verify(storageService, never()).putObject(any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("delete시 object storage 호출이 정확한가?")
     public void deleteFilesCallProperly() {
         // given
-        when(authService.requestToken()).thenReturn("token");
+        when(tokenManager.getToken()).thenReturn("token");
 
         // when
         service.newContext().deleteFile("fileId");
@@ -116,4 +160,4 @@ class FileUploadServiceTest {
         // then
         verify(storageService).deleteObject("token", "fileId");
     }
-}
\ No newline at end of file
+}
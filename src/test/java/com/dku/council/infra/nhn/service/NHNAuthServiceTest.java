@@ -2,6 +2,7 @@ package com.dku.council.infra.nhn.service;
 
 import com.dku.council.infra.nhn.exception.CannotGetTokenException;
 import com.dku.council.infra.nhn.exception.NotInitializedException;
+import com.dku.council.infra.nhn.model.AuthToken;
 import com.dku.council.infra.nhn.service.NHNAuthService;
 import com.dku.council.util.base.AbstractMockServerTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +13,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Instant;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class NHNAuthServiceTest extends AbstractMockServerTest {
@@ -49,6 +52,20 @@ class NHNAuthServiceTest extends AbstractMockServerTest {
         service.requestToken();
     }
 
+    @Test
+    @DisplayName("성공 응답 - 만료 시각을 함께 반환")
+    public void requestAuthTokenWithExpires() {
+        // given
+        mockJson("nhn/auth/response-success");
+
+        // when
+        AuthToken token = service.requestAuthToken();
+
+        // then
+        assertThat(token.getId()).startsWith("idid");
+        assertThat(token.getExpiresAt()).isEqualTo(Instant.parse("2023-02-20T13:42:09Z"));
+    }
+
     @Test
     @DisplayName("실패 응답 - 실패 status code")
     public void failedByBadRequest() {
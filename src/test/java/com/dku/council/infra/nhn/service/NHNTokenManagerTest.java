@@ -0,0 +1,197 @@
+package com.dku.council.infra.nhn.service;
+
+import com.dku.council.infra.nhn.exception.CannotGetTokenException;
+import com.dku.council.infra.nhn.model.AuthToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NHNTokenManagerTest {
+
+    private final Instant now = Instant.ofEpochSecond(1_000_000_000);
+
+    @Mock
+    private NHNAuthService authService;
+
+    @Mock
+    private Clock clock;
+
+    private NHNTokenManager manager;
+
+
+    @BeforeEach
+    public void setup() {
+        manager = new NHNTokenManager(authService, clock, Duration.ofMinutes(10), Duration.ofHours(1),
+                3, Duration.ofMillis(1));
+        lenient().when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    @DisplayName("만료되기 전까지는 캐싱된 토큰을 사용한다.")
+    void getCachedToken() {
+        // given
+        when(authService.requestAuthToken()).thenReturn(new AuthToken("token", now.plusSeconds(3600)));
+
+        // when
+        String first = manager.getToken();
+        String second = manager.getToken();
+
+        // then
+        assertThat(first).isEqualTo("token");
+        assertThat(second).isEqualTo("token");
+        verify(authService, times(1)).requestAuthToken();
+    }
+
+    @Test
+    @DisplayName("토큰이 만료되면 새로 발급받는다.")
+    void getTokenAfterExpired() {
+        // given
+        when(authService.requestAuthToken()).thenReturn(
+                new AuthToken("old", now.plusSeconds(3600)),
+                new AuthToken("new", now.plusSeconds(7200)));
+        manager.getToken();
+        when(clock.instant()).thenReturn(now.plusSeconds(3600));
+
+        // when
+        String token = manager.getToken();
+
+        // then
+        assertThat(token).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없으면 기본 유효시간을 사용한다.")
+    void useDefaultLifetime() {
+        // given
+        when(authService.requestAuthToken()).thenReturn(
+                new AuthToken("old", null),
+                new AuthToken("new", null));
+        manager.getToken();
+
+        // when
+        when(clock.instant()).thenReturn(now.plusSeconds(1800));
+        String beforeExpired = manager.getToken();
+        when(clock.instant()).thenReturn(now.plusSeconds(3600));
+        String afterExpired = manager.getToken();
+
+        // then
+        assertThat(beforeExpired).isEqualTo("old");
+        assertThat(afterExpired).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("만료가 가까워진 토큰만 미리 갱신한다.")
+    void refreshIfExpiring() {
+        // given
+        when(authService.requestAuthToken()).thenReturn(
+                new AuthToken("old", now.plusSeconds(3600)),
+                new AuthToken("new", now.plusSeconds(7200)));
+        manager.getToken();
+
+        // when
+        manager.refreshIfExpiring();
+        String notExpiring = manager.getToken();
+        when(clock.instant()).thenReturn(now.plusSeconds(3600 - 300));
+        manager.refreshIfExpiring();
+        String expiring = manager.getToken();
+
+        // then
+        assertThat(notExpiring).isEqualTo("old");
+        assertThat(expiring).isEqualTo("new");
+        verify(authService, times(2)).requestAuthToken();
+    }
+
+    @Test
+    @DisplayName("미리 갱신하다 실패해도 기존 토큰을 계속 사용한다.")
+    void keepTokenWhenRefreshFailed() {
+        // given
+        when(authService.requestAuthToken())
+                .thenReturn(new AuthToken("old", now.plusSeconds(3600)))
+                .thenThrow(new CannotGetTokenException());
+        manager.getToken();
+        when(clock.instant()).thenReturn(now.plusSeconds(3600 - 300));
+
+        // when
+        manager.refreshIfExpiring();
+
+        // then
+        assertThat(manager.getToken()).isEqualTo("old");
+        verify(authService, times(4)).requestAuthToken();
+    }
+
+    @Test
+    @DisplayName("발급에 실패하면 다시 시도한다.")
+    void retry() {
+        // given
+        when(authService.requestAuthToken())
+                .thenThrow(new CannotGetTokenException())
+                .thenThrow(new CannotGetTokenException())
+                .thenReturn(new AuthToken("token", now.plusSeconds(3600)));
+
+        // when
+        String token = manager.getToken();
+
+        // then
+        assertThat(token).isEqualTo("token");
+        verify(authService, times(3)).requestAuthToken();
+    }
+
+    @Test
+    @DisplayName("최대 횟수까지 실패하면 오류")
+    void failedAfterMaxAttempts() {
+        // given
+        when(authService.requestAuthToken()).thenThrow(new CannotGetTokenException());
+
+        // when & then
+        assertThrows(CannotGetTokenException.class, () -> manager.getToken());
+        verify(authService, times(3)).requestAuthToken();
+    }
+
+    @Test
+    @DisplayName("동시에 토큰을 요청해도 한 번만 발급받는다.")
+    void singleFlight() throws Exception {
+        // given
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(authService.requestAuthToken()).thenAnswer(invocation -> {
+            requested.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new AuthToken("token", now.plusSeconds(3600));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            Future<String> first = executor.submit(manager::getToken);
+            requested.await(5, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(manager::getToken);
+            Future<String> third = executor.submit(manager::getToken);
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("token");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("token");
+            assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("token");
+            verify(authService, times(1)).requestAuthToken();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
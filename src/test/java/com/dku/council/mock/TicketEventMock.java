@@ -11,7 +11,8 @@ public class TicketEventMock {
     public static TicketEventDto createDummyDto(Long id) {
         return new TicketEventDto(id, "name",
                 LocalDateTime.of(2021, 1, 1, 0, 0),
-                LocalDateTime.of(2021, 3, 1, 0, 0));
+                LocalDateTime.of(2021, 3, 1, 0, 0),
+                1000);
     }
 
     public static TicketEvent createDummy() {
@@ -1,5 +1,6 @@
 package com.dku.council.util.base;
 
+import com.dku.council.global.base.AbstractCacheRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -7,6 +8,7 @@ import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
 
+import java.util.List;
 import java.util.Set;
 
 public abstract class AbstractContainerRedisTest {
@@ -16,6 +18,9 @@ public abstract class AbstractContainerRedisTest {
     @Autowired
     private StringRedisTemplate redisTemplate;
 
+    @Autowired
+    private List<AbstractCacheRepository> cacheRepositories;
+
     static {
         REDIS_CONTAINER = new GenericContainer<>(REDIS_IMAGE)
                 .withExposedPorts(6379)
@@ -31,6 +36,7 @@ public abstract class AbstractContainerRedisTest {
                 redisTemplate.delete(key);
             }
         }
+        cacheRepositories.forEach(AbstractCacheRepository::clearLocal);
     }
 
     @DynamicPropertySource
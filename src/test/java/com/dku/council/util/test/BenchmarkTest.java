@@ -0,0 +1,16 @@
+package com.dku.council.util.test;
+
+import org.junit.jupiter.api.Tag;
+
+import java.lang.annotation.*;
+
+/**
+ * 처리 시간을 측정하는 테스트임을 명시합니다. 실행 환경에 따라 결과가 달라지므로 기본 test task에서는 제외되며,
+ * {@code ./gradlew benchmarkTest}로 따로 실행합니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Tag("benchmark")
+public @interface BenchmarkTest {
+}